@@ -36,7 +36,7 @@ public class AOSAdapter extends BaseDriverAdapter<Op, AOSSpace> {
 
     @Override
     public Function<String, ? extends AOSSpace> getSpaceInitializer(NBConfiguration cfg) {
-        return (String spaceName) -> new AOSSpace(cfg);
+        return (String spaceName) -> new AOSSpace(this, cfg);
     }
 
     @Override
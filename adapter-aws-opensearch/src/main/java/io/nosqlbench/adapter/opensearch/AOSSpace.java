@@ -16,11 +16,17 @@
 
 package io.nosqlbench.adapter.opensearch;
 
-
+import io.nosqlbench.adapter.opensearch.bulk.AOSBulkCoalescer;
+import io.nosqlbench.nb.api.components.core.NBComponent;
 import io.nosqlbench.nb.api.config.standard.ConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfiguration;
 import io.nosqlbench.nb.api.config.standard.Param;
+import io.nosqlbench.nb.api.engine.util.Unit;
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.InfoResponse;
 import org.opensearch.client.transport.aws.AwsSdk2Transport;
@@ -31,14 +37,39 @@ import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 
 import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 public class AOSSpace implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(AOSSpace.class);
 
+    private final NBComponent parent;
     private final NBConfiguration cfg;
     protected OpenSearchClient client;
-
-    public AOSSpace(NBConfiguration cfg) {
+    private AwsSdk2Transport transport;
+    private OpenSearchAsyncClient asyncClient;
+
+    // Bulk coalescing of index, update and delete ops, when bulk_docs is set
+    private final int bulkDocs;
+    private final long bulkBytes;
+    private final long bulkLingerMs;
+    private final int bulkInflight;
+    private final Semaphore inflightBulks;
+    private AOSBulkCoalescer bulkCoalescer;
+
+    public AOSSpace(NBComponent parent, NBConfiguration cfg) {
+        this.parent = parent;
         this.cfg = cfg;
+        this.bulkDocs = cfg.get("bulk_docs", Integer.class);
+        this.bulkBytes = Unit.bytesFor(cfg.get("bulk_bytes"))
+            .orElseThrow(() -> new OpConfigError("Unable to parse bulk_bytes '" + cfg.get("bulk_bytes") + "'"))
+            .longValue();
+        this.bulkLingerMs = cfg.get("bulk_linger_ms", Long.class);
+        this.bulkInflight = cfg.get("bulk_inflight", Integer.class);
+        if (bulkDocs > 0 && (bulkBytes < 1 || bulkLingerMs < 1 || bulkInflight < 1)) {
+            throw new OpConfigError("bulk_bytes, bulk_linger_ms and bulk_inflight must be positive when bulk_docs is set");
+        }
+        this.inflightBulks = new Semaphore(Math.max(bulkInflight, 1));
     }
 
     public synchronized OpenSearchClient getClient() {
@@ -48,6 +79,40 @@ public class AOSSpace implements AutoCloseable {
         return client;
     }
 
+    /**
+     * @return An async client which shares the transport of {@link #getClient()}
+     */
+    public synchronized OpenSearchAsyncClient getAsyncClient() {
+        if (asyncClient == null) {
+            getClient();
+            asyncClient = new OpenSearchAsyncClient(transport);
+        }
+        return asyncClient;
+    }
+
+    public boolean isBulkCoalescing() {
+        return bulkDocs > 0;
+    }
+
+    public synchronized AOSBulkCoalescer getBulkCoalescer() {
+        if (bulkCoalescer == null) {
+            bulkCoalescer = new AOSBulkCoalescer(parent, this, bulkDocs, bulkBytes, bulkLingerMs);
+        }
+        return bulkCoalescer;
+    }
+
+    /**
+     * Wait until another bulk request can be sent within the bulk_inflight limit of this space.
+     * Each call must be matched by one call to {@link #releaseInflightBulk()} when the request completes.
+     */
+    public void acquireInflightBulk() {
+        inflightBulks.acquireUninterruptibly();
+    }
+
+    public void releaseInflightBulk() {
+        inflightBulks.release();
+    }
+
     private OpenSearchClient createClient() {
         String region = cfg.get("region");
         Region selectedRegion = Region.of(region);
@@ -81,6 +146,7 @@ public class AOSSpace implements AutoCloseable {
                         transportOptions
                 );
 
+        this.transport = awsSdk2Transport;
         OpenSearchClient client = new OpenSearchClient(awsSdk2Transport);
 
         if (cfg.get("getinfo").equals("true")) {
@@ -107,11 +173,34 @@ public class AOSSpace implements AutoCloseable {
                         .setDescription("one of es or aoss, defaults to es for OpenSearch domains"))
                 .add(Param.defaultTo("diag", "false")
                         .setDescription("enable payload diagnostics or not"))
+                .add(Param.defaultTo("bulk_docs", 0)
+                        .setDescription("When positive, index, update and delete ops from many cycles are sent together " +
+                                "in bulk requests of at most this many documents. Defaults to 0 (each op is sent by itself)"))
+                .add(Param.defaultTo("bulk_bytes", "5MB")
+                        .setDescription("The most estimated document bytes in one coalesced bulk request"))
+                .add(Param.defaultTo("bulk_linger_ms", 5L)
+                        .setDescription("How long the first op of a coalesced bulk request may wait for more ops " +
+                                "before the request is sent as it is"))
+                .add(Param.defaultTo("bulk_inflight", 4)
+                        .setDescription("The most coalesced bulk requests which may be awaiting a response at once"))
                 .asReadOnly();
     }
 
     @Override
     public void close() throws Exception {
+        AOSBulkCoalescer coalescer;
+        synchronized (this) {
+            coalescer = bulkCoalescer;
+        }
+        if (coalescer != null) {
+            coalescer.close();
+            // Wait for the responses to all sent bulk requests
+            if (inflightBulks.tryAcquire(bulkInflight, 30, TimeUnit.SECONDS)) {
+                inflightBulks.release(bulkInflight);
+            } else {
+                logger.warn("Not all coalesced bulk requests completed within 30 seconds");
+            }
+        }
         if (client != null) {
             client.shutdown();
         }
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.opensearch.bulk;
+
+import com.google.gson.Gson;
+import io.nosqlbench.adapter.opensearch.AOSSpace;
+import io.nosqlbench.adapter.opensearch.ops.AOSBulkItemOp;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricHistogram;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Gathers the index, update and delete ops of many cycles into bulk requests. A bulk request is sent
+ * when it has bulk_docs operations, when adding another op would take its estimated size over bulk_bytes,
+ * or when its first op has waited for bulk_linger_ms, whichever comes first.</p>
+ *
+ * <p>Bulk requests are sent with the async client, with at most bulk_inflight awaiting a response for each
+ * space. The thread which fills a request waits for a free slot before sending it, so that the ops in flight
+ * are bounded. The items of each response are matched to the ops in the request by position. Each op completes
+ * with its own item, or fails with an {@link AOSBulkItemException} for its item, so that per-item failures are
+ * handled for the cycle which produced them.</p>
+ */
+public class AOSBulkCoalescer implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(AOSBulkCoalescer.class);
+    private final static Gson gson = new Gson();
+    // The approximate size of the action line of each bulk operation
+    private final static int ACTION_BYTES = 64;
+    // The typical length of a float or double in JSON, such as -0.123456789
+    private final static int FLOAT_BYTES = 12;
+
+    private final AOSSpace space;
+    private final int maxDocs;
+    private final long maxBytes;
+    private final long lingerNanos;
+
+    private final NBMetricTimer bulkTimer;
+    private final NBMetricTimer docWaitTimer;
+    private final NBMetricHistogram bulkDocsHistogram;
+    private final NBMetricHistogram bulkBytesHistogram;
+
+    // The open bulk request, guarded by the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch open;
+    private boolean closed;
+
+    private final ScheduledExecutorService lingerTimer;
+
+    private record Item(AOSBulkItemOp op, CompletableFuture<Object> future, long addedNanos) {
+    }
+
+    private static final class Batch {
+        private final List<Item> items = new ArrayList<>();
+        private long bytes;
+        private ScheduledFuture<?> lingerTask;
+    }
+
+    public AOSBulkCoalescer(NBComponent parent, AOSSpace space, int maxDocs, long maxBytes, long lingerMs) {
+        this.space = space;
+        this.maxDocs = maxDocs;
+        this.maxBytes = maxBytes;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+
+        this.bulkTimer = parent.create().timer(
+            "aos_bulk",
+            MetricCategory.Driver,
+            "OpenSearch coalesced bulk request latency, from when a request is sent to its response"
+        );
+        this.docWaitTimer = parent.create().timer(
+            "aos_bulk_doc_wait",
+            MetricCategory.Driver,
+            "OpenSearch time each op waited for its coalesced bulk request to be sent"
+        );
+        this.bulkDocsHistogram = parent.create().histogram(
+            "aos_bulk_docs",
+            MetricCategory.Driver,
+            "OpenSearch number of operations in each coalesced bulk request"
+        );
+        this.bulkBytesHistogram = parent.create().histogram(
+            "aos_bulk_bytes",
+            MetricCategory.Driver,
+            "OpenSearch estimated document bytes in each coalesced bulk request"
+        );
+
+        this.lingerTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "aos-bulk-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Coalescing bulk requests with bulk_docs: {}, bulk_bytes: {}, bulk_linger_ms: {}",
+            maxDocs, maxBytes, lingerMs);
+    }
+
+    /**
+     * <p>Estimate the number of bytes a document adds to a bulk request, without serializing it. Maps,
+     * collections, arrays, strings, numbers and booleans are measured as the UTF-8 length of their JSON
+     * form. Floating point numbers are counted at a typical length, and escapes in strings are not counted.
+     * Any other object is serialized once to measure it.</p>
+     *
+     * @return The approximate number of bytes a document adds to a bulk request
+     */
+    public static long estimateBytes(Object document) {
+        return ACTION_BYTES + (document == null ? 0 : jsonBytes(document));
+    }
+
+    private static long jsonBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence cs) {
+            return 2 + utf8Length(cs);
+        }
+        if (value instanceof Boolean b) {
+            return b ? 4 : 5;
+        }
+        if (value instanceof Float || value instanceof Double) {
+            return FLOAT_BYTES;
+        }
+        if (value instanceof Number n) {
+            return integerBytes(n.longValue());
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 1 + Math.max(1, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += 3 + utf8Length(String.valueOf(entry.getKey())) + jsonBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 1 + Math.max(1, collection.size());
+            for (Object element : collection) {
+                bytes += jsonBytes(element);
+            }
+            return bytes;
+        }
+        if (value instanceof float[] floats) {
+            return 1 + Math.max(1, floats.length) + (long) floats.length * FLOAT_BYTES;
+        }
+        if (value instanceof double[] doubles) {
+            return 1 + Math.max(1, doubles.length) + (long) doubles.length * FLOAT_BYTES;
+        }
+        if (value instanceof Object[] objects) {
+            return jsonBytes(Arrays.asList(objects));
+        }
+        return utf8Length(gson.toJson(value));
+    }
+
+    private static int integerBytes(long value) {
+        int bytes = value < 0 ? 2 : 1;
+        for (long v = Math.abs(value / 10); v > 0; v /= 10) {
+            bytes++;
+        }
+        return bytes;
+    }
+
+    private static long utf8Length(CharSequence cs) {
+        long bytes = cs.length();
+        for (int i = 0; i < cs.length(); i++) {
+            char c = cs.charAt(i);
+            if (c >= 0x800) {
+                // Surrogate pairs are 4 bytes for 2 chars, and others are 3 bytes for 1 char
+                bytes += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                bytes += 1;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Add an op to the open bulk request.
+     *
+     * @return A future which is completed with the response item for the op, or failed
+     */
+    public CompletableFuture<Object> add(AOSBulkItemOp op) {
+        Item item = new Item(op, new CompletableFuture<>(), System.nanoTime());
+        List<Batch> ready = new ArrayList<>(2);
+
+        lock.lock();
+        try {
+            if (closed) {
+                item.future.completeExceptionally(new RuntimeException("The bulk coalescer is already closed"));
+                return item.future;
+            }
+            if (open != null && open.bytes + op.getEstimatedBytes() > maxBytes) {
+                ready.add(detach());
+            }
+            if (open == null) {
+                Batch batch = new Batch();
+                batch.lingerTask = lingerTimer.schedule(() -> sendLingering(batch), lingerNanos, TimeUnit.NANOSECONDS);
+                open = batch;
+            }
+            open.items.add(item);
+            open.bytes += op.getEstimatedBytes();
+            if (open.items.size() >= maxDocs) {
+                ready.add(detach());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Batch batch : ready) {
+            send(batch);
+        }
+        return item.future;
+    }
+
+    // Must be called with the lock held
+    private Batch detach() {
+        Batch batch = open;
+        open = null;
+        batch.lingerTask.cancel(false);
+        return batch;
+    }
+
+    private void sendLingering(Batch batch) {
+        lock.lock();
+        try {
+            // The batch may have been filled and sent already
+            if (open != batch) {
+                return;
+            }
+            open = null;
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        List<Item> items = batch.items;
+        space.acquireInflightBulk();
+
+        long startNanos = System.nanoTime();
+        List<BulkOperation> operations = new ArrayList<>(items.size());
+        for (Item item : items) {
+            docWaitTimer.update(startNanos - item.addedNanos, TimeUnit.NANOSECONDS);
+            operations.add(item.op.getOperation());
+        }
+
+        CompletableFuture<BulkResponse> response;
+        try {
+            response = space.getAsyncClient().bulk(new BulkRequest.Builder().operations(operations).build());
+        } catch (Exception e) {
+            space.releaseInflightBulk();
+            fail(items, e);
+            return;
+        }
+
+        response.whenComplete((rs, error) -> {
+            space.releaseInflightBulk();
+            if (error != null) {
+                fail(items, error instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : error);
+                return;
+            }
+            bulkTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            bulkDocsHistogram.update(items.size());
+            bulkBytesHistogram.update(batch.bytes);
+            complete(items, rs);
+        });
+    }
+
+    private void complete(List<Item> items, BulkResponse response) {
+        List<BulkResponseItem> responseItems = response.items();
+        if (responseItems.size() != items.size()) {
+            fail(items, new RuntimeException("A bulk response had " + responseItems.size() + " items for a request of " +
+                items.size() + " operations"));
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem responseItem = responseItems.get(i);
+            if (responseItem.error() != null) {
+                items.get(i).future.completeExceptionally(new AOSBulkItemException(responseItem));
+            } else {
+                items.get(i).future.complete(responseItem);
+            }
+        }
+    }
+
+    private void fail(List<Item> items, Throwable error) {
+        RuntimeException rte = (error instanceof RuntimeException re) ? re : new RuntimeException(error);
+        for (Item item : items) {
+            item.future.completeExceptionally(rte);
+        }
+    }
+
+    /**
+     * Send the open bulk request, if any. The space waits for responses to all sent requests.
+     */
+    @Override
+    public void close() {
+        Batch remaining;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = (open != null) ? detach() : null;
+        } finally {
+            lock.unlock();
+        }
+        lingerTimer.shutdownNow();
+        if (remaining != null) {
+            send(remaining);
+        }
+    }
+}
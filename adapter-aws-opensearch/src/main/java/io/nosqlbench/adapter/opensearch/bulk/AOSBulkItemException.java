@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.opensearch.bulk;
+
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+
+/**
+ * The error for one op which was sent as part of a coalesced bulk request, when the bulk request
+ * succeeded but the item for this op did not. This is reported for the cycle of the op, so that it is
+ * handled by the error handler like any other op error.
+ */
+public class AOSBulkItemException extends RuntimeException {
+    private final int status;
+    private final String errorType;
+
+    public AOSBulkItemException(BulkResponseItem item) {
+        super("Bulk " + item.operationType() + " of id '" + item.id() + "' in index '" + item.index() +
+            "' failed with status " + item.status() + ": " + item.error().type() + ": " + item.error().reason());
+        this.status = item.status();
+        this.errorType = item.error().type();
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getErrorType() {
+        return errorType;
+    }
+}
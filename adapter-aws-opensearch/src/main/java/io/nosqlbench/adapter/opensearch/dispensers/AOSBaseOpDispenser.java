@@ -43,6 +43,14 @@ public abstract class AOSBaseOpDispenser extends BaseOpDispenser<Op,Object> {
         LongFunction<String> targetF
     );
 
+    /**
+     * @return true if the single document ops of this op template should be coalesced into bulk requests,
+     * as set with bulk_docs for the space
+     */
+    protected boolean isBulkCoalescing() {
+        return spaceF.apply(0L).isBulkCoalescing();
+    }
+
     @Override
     public Op getOp(long value) {
         return opF.apply(value);
@@ -17,10 +17,14 @@
 package io.nosqlbench.adapter.opensearch.dispensers;
 
 import io.nosqlbench.adapter.opensearch.AOSAdapter;
+import io.nosqlbench.adapter.opensearch.bulk.AOSBulkCoalescer;
+import io.nosqlbench.adapter.opensearch.ops.AOSBulkItemOp;
 import io.nosqlbench.adapter.opensearch.ops.AOSDeleteOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.DeleteRequest;
+import org.opensearch.client.opensearch.core.bulk.DeleteOperation;
 
 import java.util.function.LongFunction;
 
@@ -31,7 +35,14 @@ public class AOSDeleteOpDispenser extends AOSBaseOpDispenser {
     }
 
     @Override
-    public LongFunction<AOSDeleteOp> createOpFunc(LongFunction<OpenSearchClient> clientF, ParsedOp op, LongFunction<String> targetF) {
+    public LongFunction<? extends Op> createOpFunc(LongFunction<OpenSearchClient> clientF, ParsedOp op, LongFunction<String> targetF) {
+        if (isBulkCoalescing()) {
+            LongFunction<DeleteOperation.Builder> bopF = AOSRequests.bulkDelete(op, targetF);
+            return l -> new AOSBulkItemOp(
+                spaceF.apply(l).getBulkCoalescer(),
+                bopF.apply(l).build()._toBulkOperation(),
+                AOSBulkCoalescer.estimateBytes(null));
+        }
         DeleteRequest.Builder eb = new DeleteRequest.Builder();
         LongFunction<DeleteRequest.Builder> bfunc = l -> new DeleteRequest.Builder().index(targetF.apply(l));
         return (long l) -> new AOSDeleteOp(clientF.apply(l), bfunc.apply(l).build());
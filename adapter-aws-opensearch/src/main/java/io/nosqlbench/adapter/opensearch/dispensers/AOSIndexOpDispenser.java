@@ -19,6 +19,8 @@ package io.nosqlbench.adapter.opensearch.dispensers;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.nosqlbench.adapter.opensearch.AOSAdapter;
+import io.nosqlbench.adapter.opensearch.bulk.AOSBulkCoalescer;
+import io.nosqlbench.adapter.opensearch.ops.AOSBulkItemOp;
 import io.nosqlbench.adapter.opensearch.ops.AOSIndexOp;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
@@ -26,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 
 import java.util.function.LongFunction;
 
@@ -41,6 +44,17 @@ public class AOSIndexOpDispenser extends AOSBaseOpDispenser {
 
     @Override
     public LongFunction<? extends Op> createOpFunc(LongFunction<OpenSearchClient> clientF, ParsedOp op, LongFunction<String> targetF) {
+        if (isBulkCoalescing()) {
+            LongFunction<IndexOperation.Builder<Object>> bopF = AOSRequests.bulkIndex(op, targetF);
+            LongFunction<Object> documentF = op.getAsRequiredFunction("document", Object.class);
+            return l -> {
+                Object document = documentF.apply(l);
+                return new AOSBulkItemOp(
+                    spaceF.apply(l).getBulkCoalescer(),
+                    bopF.apply(l).document(document).build()._toBulkOperation(),
+                    AOSBulkCoalescer.estimateBytes(document));
+            };
+        }
         LongFunction<IndexRequest> irqF = AOSRequests.index(op);
         return l -> new AOSIndexOp(clientF.apply(l), irqF.apply(l));
     }
@@ -19,6 +19,7 @@ package io.nosqlbench.adapter.opensearch.dispensers;
 import io.nosqlbench.adapter.opensearch.AOSAdapter;
 import io.nosqlbench.adapter.opensearch.ops.AOSKnnSearchOp;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -51,8 +52,13 @@ public class AOSKnnSearchOpDispenser extends AOSBaseOpDispenser {
         knnfunc = op.enhanceFuncOptionally(knnfunc, "vector", List.class, this::convertVector);
         knnfunc = op.enhanceFuncOptionally(knnfunc, "field",String.class, KnnQuery.Builder::field);
 
+        Optional<FieldLayout> filterLayout = op.getAsOptionalFieldLayout("filter");
         Optional<LongFunction<Map>> filterFunction = op.getAsOptionalFunction("filter", Map.class);
-        if (filterFunction.isPresent()) {
+        if (filterLayout.isPresent()) {
+            LongFunction<KnnQuery.Builder> finalFunc = knnfunc;
+            LongFunction<Query> builtFilter = buildFilterQuery(filterLayout.get());
+            knnfunc = l -> finalFunc.apply(l).filter(builtFilter.apply(l));
+        } else if (filterFunction.isPresent()) {
             LongFunction<KnnQuery.Builder> finalFunc = knnfunc;
             LongFunction<Query> builtFilter = buildFilterQuery(filterFunction.get());
             knnfunc = l -> finalFunc.apply(l).filter(builtFilter.apply(l));
@@ -66,33 +72,51 @@ public class AOSKnnSearchOpDispenser extends AOSBaseOpDispenser {
         return (long l) -> new AOSKnnSearchOp(clientF.apply(l), bfunc.apply(l).build(), schemaClass);
     }
 
+    /**
+     * Read only the filter fields from the layout for each cycle, without building the filter map.
+     */
+    private LongFunction<Query> buildFilterQuery(FieldLayout filterLayout) {
+        int fieldIdx = filterLayout.indexOf("field");
+        int comparatorIdx = filterLayout.indexOf("comparator");
+        int valueIdx = filterLayout.indexOf("value");
+        return l -> {
+            FieldLayout.Fields filterFields = filterLayout.apply(l);
+            return filterQuery(
+                fieldIdx < 0 ? null : filterFields.<String>get(fieldIdx),
+                comparatorIdx < 0 ? null : filterFields.<String>get(comparatorIdx),
+                valueIdx < 0 ? null : filterFields.<String>get(valueIdx)
+            );
+        };
+    }
+
     private LongFunction<Query> buildFilterQuery(LongFunction<Map> mapLongFunction) {
         return l -> {
             Map<String,String> filterFields = mapLongFunction.apply(l);
-            String field = filterFields.get("field");
-            String comparator = filterFields.get("comparator");
-            String value = filterFields.get("value");
-            return switch (comparator) {
-                case "gte" -> Query.of(f -> f
-                        .bool(b -> b
-                                .must(m -> m
-                                        .range(r -> r
-                                                .field(field)
-                                                .gte(JsonData.of(Integer.valueOf(value)))))));
-                case "lte" -> Query.of(f -> f
-                        .bool(b -> b
-                                .must(m -> m
-                                        .range(r -> r
-                                                .field(field)
-                                                .lte(JsonData.of(Integer.valueOf(value)))))));
-                case "eq" -> Query.of(f -> f
-                        .bool(b -> b
-                                .must(m -> m
-                                        .term(t -> t
-                                                .field(field)
-                                                .value(FieldValue.of(value))))));
-                default -> throw new RuntimeException("Invalid comparator specified");
-            };
+            return filterQuery(filterFields.get("field"), filterFields.get("comparator"), filterFields.get("value"));
+        };
+    }
+
+    private Query filterQuery(String field, String comparator, String value) {
+        return switch (comparator) {
+            case "gte" -> Query.of(f -> f
+                    .bool(b -> b
+                            .must(m -> m
+                                    .range(r -> r
+                                            .field(field)
+                                            .gte(JsonData.of(Integer.valueOf(value)))))));
+            case "lte" -> Query.of(f -> f
+                    .bool(b -> b
+                            .must(m -> m
+                                    .range(r -> r
+                                            .field(field)
+                                            .lte(JsonData.of(Integer.valueOf(value)))))));
+            case "eq" -> Query.of(f -> f
+                    .bool(b -> b
+                            .must(m -> m
+                                    .term(t -> t
+                                            .field(field)
+                                            .value(FieldValue.of(value))))));
+            default -> throw new RuntimeException("Invalid comparator specified");
         };
     }
 
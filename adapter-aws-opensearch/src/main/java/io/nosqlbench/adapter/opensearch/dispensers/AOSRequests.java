@@ -31,7 +31,9 @@ import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkOperationVariant;
 import org.opensearch.client.opensearch.core.bulk.CreateOperation;
+import org.opensearch.client.opensearch.core.bulk.DeleteOperation;
 import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -119,6 +121,40 @@ public class AOSRequests {
         return l -> finalFunc1.apply(l).build();
     }
 
+    /**
+     * The index operation of an index op template, as it is sent in a coalesced bulk request.
+     * The document is added by the caller, so that its size can be estimated without binding it twice.
+     */
+    public static LongFunction<IndexOperation.Builder<Object>> bulkIndex(ParsedOp op, LongFunction<String> targetF) {
+        LongFunction<IndexOperation.Builder<Object>> func = l -> new IndexOperation.Builder<Object>().index(targetF.apply(l));
+        func = op.enhanceFuncOptionally(func, "id", String.class, (b, v) -> b.id(v));
+        func = op.enhanceFuncOptionally(func, "routing", String.class, (b, v) -> b.routing(v));
+        return func;
+    }
+
+    /**
+     * The update operation of an update op template, as it is sent in a coalesced bulk request.
+     * The partial document is added by the caller.
+     */
+    public static LongFunction<UpdateOperation.Builder<Object>> bulkUpdate(ParsedOp op, LongFunction<String> targetF) {
+        LongFunction<String> idF = op.getAsRequiredFunction("id", String.class);
+        LongFunction<UpdateOperation.Builder<Object>> func =
+            l -> new UpdateOperation.Builder<Object>().index(targetF.apply(l)).id(idF.apply(l));
+        func = op.enhanceFuncOptionally(func, "routing", String.class, (b, v) -> b.routing(v));
+        func = op.enhanceFuncOptionally(func, "docAsUpsert", boolean.class, (b, v) -> b.docAsUpsert(v));
+        return func;
+    }
+
+    /**
+     * The delete operation of a delete op template, as it is sent in a coalesced bulk request.
+     */
+    public static LongFunction<DeleteOperation.Builder> bulkDelete(ParsedOp op, LongFunction<String> targetF) {
+        LongFunction<String> idF = op.getAsRequiredFunction("id", String.class);
+        LongFunction<DeleteOperation.Builder> func =
+            l -> new DeleteOperation.Builder().index(targetF.apply(l)).id(idF.apply(l));
+        func = op.enhanceFuncOptionally(func, "routing", String.class, (b, v) -> b.routing(v));
+        return func;
+    }
 
     private static <T> IndexRequest.Builder<T> bindDocument(IndexRequest.Builder<T> builder, T docdata) {
         String document = gson.toJson(docdata);
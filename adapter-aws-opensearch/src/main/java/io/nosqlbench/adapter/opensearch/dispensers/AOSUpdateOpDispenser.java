@@ -17,10 +17,14 @@
 package io.nosqlbench.adapter.opensearch.dispensers;
 
 import io.nosqlbench.adapter.opensearch.AOSAdapter;
+import io.nosqlbench.adapter.opensearch.bulk.AOSBulkCoalescer;
+import io.nosqlbench.adapter.opensearch.ops.AOSBulkItemOp;
 import io.nosqlbench.adapter.opensearch.ops.AOSUpdateOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
 
 import java.util.function.LongFunction;
 
@@ -31,7 +35,18 @@ public class AOSUpdateOpDispenser extends AOSBaseOpDispenser {
     }
 
     @Override
-    public LongFunction<AOSUpdateOp> createOpFunc(LongFunction<OpenSearchClient> clientF, ParsedOp op, LongFunction<String> targetF) {
+    public LongFunction<? extends Op> createOpFunc(LongFunction<OpenSearchClient> clientF, ParsedOp op, LongFunction<String> targetF) {
+        if (isBulkCoalescing()) {
+            LongFunction<UpdateOperation.Builder<Object>> bopF = AOSRequests.bulkUpdate(op, targetF);
+            LongFunction<Object> documentF = op.getAsRequiredFunction("document", Object.class);
+            return l -> {
+                Object document = documentF.apply(l);
+                return new AOSBulkItemOp(
+                    spaceF.apply(l).getBulkCoalescer(),
+                    bopF.apply(l).document(document).build()._toBulkOperation(),
+                    AOSBulkCoalescer.estimateBytes(document));
+            };
+        }
         LongFunction<UpdateRequest.Builder> bfunc = l -> new UpdateRequest.Builder().index(targetF.apply(l));
         // TODO: add details here
         return l -> new AOSUpdateOp(clientF.apply(l),bfunc.apply(l).build(),Object.class);
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.opensearch.ops;
+
+import io.nosqlbench.adapter.opensearch.bulk.AOSBulkCoalescer;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An index, update or delete op which is sent as one operation of a coalesced bulk request.
+ * The result is the bulk response item for this operation.
+ */
+public class AOSBulkItemOp implements AsyncCycleOp<Object> {
+    private final AOSBulkCoalescer coalescer;
+    private final BulkOperation operation;
+    private final long estimatedBytes;
+
+    public AOSBulkItemOp(AOSBulkCoalescer coalescer, BulkOperation operation, long estimatedBytes) {
+        this.coalescer = coalescer;
+        this.operation = operation;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        return coalescer.add(this);
+    }
+
+    public BulkOperation getOperation() {
+        return operation;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.opensearch.bulk;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.nosqlbench.adapter.opensearch.AOSSpace;
+import io.nosqlbench.adapter.opensearch.ops.AOSBulkItemOp;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the bulk coalescer against a local HTTP server which answers bulk requests like OpenSearch does.
+ * Documents with an id starting with 'bad' fail with a mapping error, and all others are created.
+ */
+public class AOSBulkCoalescerTest {
+
+    private final TestComponent parent = new TestComponent("coalescer", "test");
+    private final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    private HttpServer server;
+    private OpenSearchTransport transport;
+    private OpenSearchAsyncClient bulkClient;
+    private AOSSpace space;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/_bulk", this::bulk);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        transport = ApacheHttpClient5TransportBuilder
+            .builder(new HttpHost("http", "127.0.0.1", server.getAddress().getPort()))
+            .setMapper(new JacksonJsonpMapper())
+            .build();
+        bulkClient = new OpenSearchAsyncClient(transport);
+    }
+
+    @AfterEach
+    public void stopServer() throws Exception {
+        gate.countDown();
+        if (space != null) {
+            space.close();
+        }
+        transport.close();
+        server.stop(0);
+    }
+
+    private void bulk(HttpExchange exchange) throws IOException {
+        int now = active.incrementAndGet();
+        maxActive.accumulateAndGet(now, Math::max);
+        try {
+            String[] lines = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            StringJoiner items = new StringJoiner(",");
+            boolean errors = false;
+            for (int i = 0; i < lines.length; i++) {
+                if (lines[i].isBlank()) {
+                    continue;
+                }
+                JsonObject action = JsonParser.parseString(lines[i]).getAsJsonObject();
+                String type = action.keySet().iterator().next();
+                if (!type.equals("delete")) {
+                    i++;
+                }
+                String id = action.getAsJsonObject(type).get("_id").getAsString();
+                String index = action.getAsJsonObject(type).get("_index").getAsString();
+                if (id.startsWith("bad")) {
+                    errors = true;
+                    items.add("{\"" + type + "\":{\"_index\":\"" + index + "\",\"_id\":\"" + id + "\",\"status\":400," +
+                        "\"error\":{\"type\":\"mapper_parsing_exception\",\"reason\":\"failed to parse\"}}}");
+                } else {
+                    items.add("{\"" + type + "\":{\"_index\":\"" + index + "\",\"_id\":\"" + id + "\",\"status\":201," +
+                        "\"result\":\"created\",\"_version\":1,\"_seq_no\":0,\"_primary_term\":1," +
+                        "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0}}}");
+                }
+            }
+            requestSizes.add(lines.length / 2);
+            gate.await();
+
+            byte[] body = ("{\"took\":1,\"errors\":" + errors + ",\"items\":[" + items + "]}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private AOSBulkCoalescer coalescer(String docs, String bytes, String lingerMs, String inflight) {
+        space = new AOSSpace(parent, AOSSpace.getConfigModel().apply(Map.of(
+            "region", "us-east-1",
+            "host", "localhost",
+            "bulk_docs", docs,
+            "bulk_bytes", bytes,
+            "bulk_linger_ms", lingerMs,
+            "bulk_inflight", inflight
+        ))) {
+            @Override
+            public synchronized OpenSearchAsyncClient getAsyncClient() {
+                return bulkClient;
+            }
+        };
+        return space.getBulkCoalescer();
+    }
+
+    private static CompletableFuture<Object> index(AOSBulkCoalescer coalescer, String id, Object document) {
+        AOSBulkItemOp op = new AOSBulkItemOp(
+            coalescer,
+            new IndexOperation.Builder<Object>().index("docs").id(id).document(document).build()._toBulkOperation(),
+            AOSBulkCoalescer.estimateBytes(document));
+        return op.applyAsync(0L).toCompletableFuture();
+    }
+
+    private static CompletableFuture<Object> index(AOSBulkCoalescer coalescer, String id) {
+        return index(coalescer, id, Map.of("field", "value"));
+    }
+
+    @Test
+    public void testFailedItemsFailOnlyTheirOwnOps() throws Exception {
+        AOSBulkCoalescer coalescer = coalescer("3", "5MB", "60000", "4");
+        CompletableFuture<Object> first = index(coalescer, "1");
+        CompletableFuture<Object> bad = index(coalescer, "bad2");
+        CompletableFuture<Object> third = index(coalescer, "3");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isInstanceOf(BulkResponseItem.class);
+        assertThat(((BulkResponseItem) third.get(5, TimeUnit.SECONDS)).id()).isEqualTo("3");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+            .cause()
+            .isInstanceOf(AOSBulkItemException.class)
+            .hasMessageContaining("bad2")
+            .hasMessageContaining("mapper_parsing_exception");
+        AOSBulkItemException error = (AOSBulkItemException) bad.handle((r, e) -> e).get();
+        assertThat(error.getStatus()).isEqualTo(400);
+        assertThat(requestSizes).containsExactly(3);
+    }
+
+    @Test
+    public void testFullRequestsAreSentAndTheRestOnClose() throws Exception {
+        AOSBulkCoalescer coalescer = coalescer("3", "5MB", "60000", "4");
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            futures.add(index(coalescer, String.valueOf(i)));
+        }
+        CompletableFuture.allOf(futures.subList(0, 6).toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(requestSizes).containsExactly(3, 3);
+        assertThat(futures.get(6)).isNotDone();
+
+        space.close();
+        assertThat(futures.get(6).get(5, TimeUnit.SECONDS)).isInstanceOf(BulkResponseItem.class);
+        assertThat(requestSizes).containsExactly(3, 3, 1);
+    }
+
+    @Test
+    public void testRequestsAreSentAtTheByteLimit() throws Exception {
+        Map<String, Object> document = Map.of("field", "x".repeat(100));
+        long docBytes = AOSBulkCoalescer.estimateBytes(document);
+        AOSBulkCoalescer coalescer = coalescer("100", String.valueOf(docBytes * 2), "60000", "4");
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(index(coalescer, String.valueOf(i), document));
+        }
+        CompletableFuture.allOf(futures.subList(0, 4).toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(requestSizes).containsExactly(2, 2);
+    }
+
+    @Test
+    public void testLingeringRequestIsSent() throws Exception {
+        AOSBulkCoalescer coalescer = coalescer("100", "5MB", "20", "4");
+        CompletableFuture<Object> first = index(coalescer, "1");
+        CompletableFuture<Object> second = index(coalescer, "2");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isInstanceOf(BulkResponseItem.class);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isInstanceOf(BulkResponseItem.class);
+        assertThat(requestSizes).containsExactly(2);
+    }
+
+    @Test
+    public void testRequestsInFlightAreBounded() throws Exception {
+        gate = new CountDownLatch(1);
+        AOSBulkCoalescer coalescer = coalescer("1", "5MB", "60000", "2");
+
+        // Each op fills a request, which is sent by the thread which added it
+        ExecutorService senders = Executors.newFixedThreadPool(4);
+        List<Future<CompletableFuture<Object>>> sent = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String id = String.valueOf(i);
+            sent.add(senders.submit(() -> index(coalescer, id)));
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requestSizes.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        assertThat(requestSizes).hasSize(2);
+        assertThat(sent.stream().filter(Future::isDone).count()).isEqualTo(2);
+
+        gate.countDown();
+        for (Future<CompletableFuture<Object>> future : sent) {
+            assertThat(future.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isInstanceOf(BulkResponseItem.class);
+        }
+        assertThat(requestSizes).hasSize(4);
+        assertThat(maxActive.get()).isEqualTo(2);
+        senders.shutdown();
+    }
+
+    @Test
+    public void testEstimatesCountUtf8BytesWithoutSerializing() {
+        long ascii = AOSBulkCoalescer.estimateBytes("abc");
+        assertThat(AOSBulkCoalescer.estimateBytes("ééé")).isEqualTo(ascii + 3);
+        assertThat(AOSBulkCoalescer.estimateBytes("€€€")).isEqualTo(ascii + 6);
+        assertThat(AOSBulkCoalescer.estimateBytes("😀")).isEqualTo(AOSBulkCoalescer.estimateBytes("abcd"));
+
+        // {"key":"abc","n":[1,-22]} is 25 bytes, and {} is 2
+        long empty = AOSBulkCoalescer.estimateBytes(Map.of());
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("key", "abc");
+        document.put("n", List.of(1, -22));
+        assertThat(AOSBulkCoalescer.estimateBytes(document) - empty).isEqualTo(23);
+        assertThat(AOSBulkCoalescer.estimateBytes(new float[1000]))
+            .isEqualTo(AOSBulkCoalescer.estimateBytes(new double[1000]))
+            .isGreaterThan(12_000);
+    }
+}
@@ -33,9 +33,10 @@ public class Cqld4CqlReboundStatement extends Cqld4CqlOp {
         int lwtRetryCount,
         BoundStatement rebound,
         RSProcessors processors,
-        CqlOpMetrics metrics
+        CqlOpMetrics metrics,
+        boolean materializeRows
     ) {
-        super(session,maxPages,retryReplace,maxLwtRetries,lwtRetryCount, processors, metrics);
+        super(session,maxPages,retryReplace,maxLwtRetries,lwtRetryCount, processors, metrics, materializeRows);
         this.stmt = rebound;
     }
 
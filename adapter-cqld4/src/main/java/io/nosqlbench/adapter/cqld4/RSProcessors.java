@@ -42,6 +42,10 @@ public class RSProcessors implements ResultProcessor<AsyncResultSet,Row>, Suppli
         return suppliers;
     }
 
+    public boolean isEmpty() {
+        return suppliers.isEmpty();
+    }
+
     public RSProcessors add(Supplier<ResultSetProcessor> processor) {
         suppliers.add(processor);
         return this;
@@ -91,7 +91,8 @@ public class CqlD4BatchStmtDispenser extends Cqld4BaseOpDispenser {
             getMaxPages(),
             getMaxLwtRetries(),
             isRetryReplace(),
-            this
+            this,
+            isMaterializingRows()
         );
     }
 }
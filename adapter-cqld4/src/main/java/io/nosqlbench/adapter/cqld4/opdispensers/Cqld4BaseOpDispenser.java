@@ -48,6 +48,7 @@ public abstract class Cqld4BaseOpDispenser extends BaseOpDispenser<Cqld4CqlOp, C
     private final LongFunction<CqlSession> sessionFunc;
     private final boolean isRetryReplace;
     private final int maxLwtRetries;
+    private final boolean streamRows;
     private final Histogram rowsHistogram;
     private final Histogram pagesHistogram;
     private final Histogram payloadBytesHistogram;
@@ -58,6 +59,7 @@ public abstract class Cqld4BaseOpDispenser extends BaseOpDispenser<Cqld4CqlOp, C
         this.maxpages = op.getStaticConfigOr("maxpages", 1);
         this.isRetryReplace = op.getStaticConfigOr("retryreplace", false);
         this.maxLwtRetries = op.getStaticConfigOr("maxlwtretries", 1);
+        this.streamRows = op.getStaticConfigOr("stream_rows", false);
         this.rowsHistogram = create().histogram(
             "rows",
             op.getStaticConfigOr("hdr_digits", 3),
@@ -90,6 +92,15 @@ public abstract class Cqld4BaseOpDispenser extends BaseOpDispenser<Cqld4CqlOp, C
         return maxLwtRetries;
     }
 
+    /**
+     * Rows are only kept as the op result when rows are not streamed, or when a verifier needs them.
+     * Otherwise, each page of rows is given to the result processors and metrics as it arrives,
+     * and is not retained.
+     */
+    public boolean isMaterializingRows() {
+        return !streamRows || hasVerifier();
+    }
+
 
     public LongFunction<CqlSession> getSessionFunc() {
         return sessionFunc;
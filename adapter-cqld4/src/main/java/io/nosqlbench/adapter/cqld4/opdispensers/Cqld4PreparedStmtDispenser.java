@@ -97,7 +97,8 @@ public class Cqld4PreparedStmtDispenser extends Cqld4BaseOpDispenser {
                 isRetryReplace(),
                 getMaxLwtRetries(),
                 processors,
-                this
+                this,
+                isMaterializingRows()
             );
         } catch (Exception exception) {
             return CQLD4PreparedStmtDiagnostics.rebindWithDiagnostics(
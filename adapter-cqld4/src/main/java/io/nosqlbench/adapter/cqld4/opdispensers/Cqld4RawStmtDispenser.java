@@ -51,7 +51,8 @@ public class Cqld4RawStmtDispenser extends Cqld4BaseOpDispenser {
             getMaxPages(),
             isRetryReplace(),
             getMaxLwtRetries(),
-            this
+            this,
+            isMaterializingRows()
         );
     }
 
@@ -48,7 +48,8 @@ public class Cqld4SimpleCqlStmtDispenser extends Cqld4BaseOpDispenser {
             getMaxPages(),
             isRetryReplace(),
             getMaxLwtRetries(),
-            this
+            this,
+            isMaterializingRows()
         );
     }
 
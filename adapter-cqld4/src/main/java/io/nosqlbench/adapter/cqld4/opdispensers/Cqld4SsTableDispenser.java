@@ -16,38 +16,95 @@
 
 package io.nosqlbench.adapter.cqld4.opdispensers;
 
-import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.cql.Statement;
-import io.nosqlbench.adapter.cqld4.Cqld4DriverAdapter;
-import io.nosqlbench.adapter.cqld4.optypes.Cqld4CqlOp;
+import com.codahale.metrics.Meter;
+import io.nosqlbench.adapter.cqld4.Cqld4Space;
+import io.nosqlbench.adapter.cqld4.optypes.Cqld4SsTableOp;
+import io.nosqlbench.adapter.cqld4.sstable.Cqld4SsTableWriter;
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.LongFunction;
 
-public class Cqld4SsTableDispenser extends Cqld4BaseOpDispenser {
+/**
+ * Write rows into SSTables on local disk instead of sending them to a cluster. Each thread
+ * has its own writer, in its own directory under {@code <directory>/<op name>-<n>/<keyspace>/<table>},
+ * so that threads write in parallel and each directory can be bulk-loaded on its own.
+ * The writers are closed, and their last SSTables finished, when the activity is closed.
+ */
+public class Cqld4SsTableDispenser extends BaseOpDispenser<Cqld4SsTableOp, Cqld4Space> {
+    private final static Logger logger = LogManager.getLogger(Cqld4SsTableDispenser.class);
 
-//    private final LongFunction<Statement> stmtFunc;
-//    private final LongFunction<String> targetFunction;
+    private final String schema;
+    private final String insert;
+    private final Path baseDirectory;
+    private final Path tableDirectory;
+    private final int bufferMB;
+    private final LongFunction<Object[]> fieldsF;
+    private final AtomicInteger writerCount = new AtomicInteger();
+    private final List<Cqld4SsTableWriter> writers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Cqld4SsTableWriter> threadWriter = ThreadLocal.withInitial(this::newWriter);
+    private final Meter rowsMeter;
 
-    public Cqld4SsTableDispenser(Cqld4DriverAdapter adapter, LongFunction<CqlSession> sessionFunc, LongFunction<String> targetFunction, ParsedOp cmd) {
-        super(adapter,sessionFunc,cmd);
-//        this.targetFunction=targetFunction;
-//        this.tableFunc =createTableFunc(cmd);
+    public Cqld4SsTableDispenser(DriverAdapter adapter, ParsedOp op, ParsedTemplateString stmtTpl) {
+        super(adapter, op);
+        this.schema = op.getOptionalStaticValue("schema", String.class).orElseThrow(
+            () -> new OpConfigError("The sstable op type requires a static 'schema' field with the CREATE TABLE statement for the table.")
+        );
+        this.insert = stmtTpl.getPositionalStatement(s -> "?");
+        this.tableDirectory = Cqld4SsTableWriter.tablePath(schema);
+        this.bufferMB = op.getStaticConfigOr("buffer_mb", 128);
+        if (bufferMB < 1) {
+            throw new OpConfigError("buffer_mb for the sstable op type must be at least 1, but it was " + bufferMB);
+        }
+        this.baseDirectory = Path.of(op.getStaticConfigOr("directory", "sstables")).resolve(op.getName());
+        this.fieldsF = op.newArrayBinderFromBindPoints(stmtTpl.getBindPoints());
+        this.rowsMeter = create().meter(
+            "sstable_rows",
+            MetricCategory.Driver,
+            "The number of rows written into SSTables"
+        );
+        create().gauge(
+            "sstable_bytes",
+            () -> (double) writers.stream().mapToLong(Cqld4SsTableWriter::getBytesWritten).sum(),
+            MetricCategory.Driver,
+            "The number of bytes written into SSTable files on local disk"
+        );
+        logger.info(() -> "writing SSTables for '" + op.getName() + "' under " + baseDirectory + ", with one directory per thread");
     }
 
-    protected LongFunction<Statement> createTableFunc(ParsedOp op) {
-        return null;
+    private Cqld4SsTableWriter newWriter() {
+        Path writerDirectory = Path.of(baseDirectory + "-" + writerCount.getAndIncrement()).resolve(tableDirectory);
+        Cqld4SsTableWriter writer = new Cqld4SsTableWriter(writerDirectory, schema, insert, bufferMB);
+        writers.add(writer);
+        return writer;
     }
 
     @Override
-    public Cqld4CqlOp getOp(long cycle) {
-//        return new CqlD4SsTable(
-//            getSessionFunc().apply(value),
-//            (SsTable) stmtFunc.apply(value),
-//            getMaxPages(),
-//            isRetryReplace()
-//        );
-        return null;
+    public Cqld4SsTableOp getOp(long cycle) {
+        return new Cqld4SsTableOp(threadWriter.get(), fieldsF.apply(cycle), rowsMeter);
     }
 
+    @Override
+    protected void teardown() {
+        for (Cqld4SsTableWriter writer : writers) {
+            try {
+                writer.close();
+                logger.info(() -> "wrote " + writer.getRows() + " rows, " + writer.getBytesWritten() + " bytes of SSTables in " + writer.getDirectory());
+            } catch (Exception e) {
+                logger.error("Unable to close the SSTable writer in " + writer.getDirectory() + ": " + e, e);
+            }
+        }
+        writers.clear();
+        super.teardown();
+    }
 }
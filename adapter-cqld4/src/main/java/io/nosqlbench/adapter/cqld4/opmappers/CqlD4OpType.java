@@ -77,8 +77,11 @@ public enum CqlD4OpType {
      * reserved for future use
      */
     rainbow,
-//    /**
-//     * reserved for future use
-//     */
-//    sst
+    /**
+     * Writes rows into SSTables on local disk, with the Cassandra server library's
+     * CQLSSTableWriter, rather than sending them to a cluster. The target is an INSERT
+     * statement with bindings, and the 'schema' field holds the CREATE TABLE statement.
+     * The written files can then be bulk-loaded with sstableloader.
+     */
+    sstable
 }
@@ -24,6 +24,7 @@ import com.datastax.oss.driver.api.core.cql.Statement;
 import io.nosqlbench.adapter.cqld4.Cqld4CqlReboundStatement;
 import io.nosqlbench.adapter.cqld4.LWTRebinder;
 import io.nosqlbench.adapter.cqld4.RSProcessors;
+import io.nosqlbench.adapter.cqld4.ResultSetProcessor;
 import io.nosqlbench.adapter.cqld4.exceptions.ChangeUnappliedCycleException;
 import io.nosqlbench.adapter.cqld4.exceptions.ExceededRetryReplaceException;
 import io.nosqlbench.adapter.cqld4.exceptions.UnexpectedPagingException;
@@ -49,7 +50,7 @@ import java.util.concurrent.*;
 // TODO: add rows histogram resultSetSizeHisto
 
 
-public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture, OpGenerator, OpResultSize {
+public abstract class Cqld4CqlOp implements AsyncCycleOp<List<Row>>, VariableCapture, OpGenerator, OpResultSize {
     private final static Logger logger = LogManager.getLogger(Cqld4CqlOp.class);
 
     private final CqlSession session;
@@ -58,6 +59,8 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
     private final int maxLwtRetries;
     private final RSProcessors processors;
     private final CqlOpMetrics metrics;
+    private final boolean materializeRows;
+    private volatile List<ResultSetProcessor> activeProcessors = List.of();
     private int retryReplaceCount = 0;
     private Cqld4CqlOp nextOp;
     private int fetchedPages = 0;
@@ -71,7 +74,8 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         boolean retryReplace,
         int maxLwtRetries,
         RSProcessors processors,
-        CqlOpMetrics metrics
+        CqlOpMetrics metrics,
+        boolean materializeRows
     ) {
         this.session = session;
         this.maxPages = maxPages;
@@ -79,6 +83,7 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         this.maxLwtRetries = maxLwtRetries;
         this.processors = processors;
         this.metrics = metrics;
+        this.materializeRows = materializeRows;
     }
 
     protected Cqld4CqlOp(
@@ -88,7 +93,8 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         int maxLwtRetries,
         int retryReplaceCount,
         RSProcessors processors,
-        CqlOpMetrics metrics
+        CqlOpMetrics metrics,
+        boolean materializeRows
     ) {
         this.session = session;
         this.maxPages = maxPages;
@@ -97,25 +103,12 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         this.retryReplaceCount = retryReplaceCount;
         this.processors = processors;
         this.metrics = metrics;
+        this.materializeRows = materializeRows;
     }
 
     public final ArrayList<Row> apply(long cycle) {
 
-        Statement<?> statement = getStmt();
-        logger.trace(() -> "apply() invoked, statement obtained, executing async with page size: " + statement.getPageSize() + " thread local rows: ");
-        CompletionStage<AsyncResultSet> statementStage = session.executeAsync(statement);
-
-        CompletionStage<List<Row>> rowsStage = statementStage.thenCompose((rs) -> {
-            processors.start(cycle, rs);
-            ArrayList<Row> completeRowSet = new ArrayList<>();
-            if (!rs.wasApplied()) {
-                handleRebindLWT(rs, statement);
-            }
-            return collect(rs, completeRowSet, cycle);
-        }).exceptionally(throwable -> {
-            if (throwable instanceof RuntimeException tre) throw tre;
-            throw new RuntimeException(throwable);
-        });
+        CompletionStage<List<Row>> rowsStage = rowsStage(cycle);
 
         try {
             return new PrintableRowList(rowsStage.toCompletableFuture().get(300, TimeUnit.SECONDS));
@@ -129,10 +122,7 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         } catch (TimeoutException e) {
             throw new NBTimeoutException(e);
         } finally {
-            processors.flush();
-            metrics.recordFetchedPages(fetchedPages);
-            metrics.recordFetchedRows(fetchedRows);
-            metrics.recordFetchedBytes(fetchedBytes);
+            recordFetchMetrics();
         }
 
 //            logger.trace(() -> "\n\n--- Rows collected for cycle: " + cycle + " count: "
@@ -142,6 +132,51 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
 //            processors.flush();
     }
 
+    /**
+     * Submit the statement without waiting for it. All pages are still fetched before the
+     * returned stage completes, and the result processors and fetch metrics are handled on
+     * whichever driver thread completes the last page.
+     */
+    @Override
+    public final CompletionStage<List<Row>> applyAsync(long cycle) {
+        return rowsStage(cycle)
+            .whenComplete((rows, throwable) -> recordFetchMetrics())
+            .<List<Row>>thenApply(PrintableRowList::new);
+    }
+
+    private CompletionStage<List<Row>> rowsStage(long cycle) {
+        Statement<?> statement = getStmt();
+        logger.trace(() -> "apply() invoked, statement obtained, executing async with page size: " + statement.getPageSize() + " thread local rows: ");
+        CompletionStage<AsyncResultSet> statementStage = session.executeAsync(statement);
+
+        return statementStage.thenCompose((rs) -> {
+            // One set of processor instances for this result, since pages may arrive on any driver thread
+            activeProcessors = processors.get();
+            for (ResultSetProcessor processor : activeProcessors) {
+                processor.start(cycle, rs);
+            }
+            // When rows are not materialized, each page is only seen by the processors, and is
+            // released once the next page is requested
+            ArrayList<Row> completeRowSet = materializeRows ? new ArrayList<>() : null;
+            if (!rs.wasApplied()) {
+                handleRebindLWT(rs, statement);
+            }
+            return collect(rs, completeRowSet, cycle);
+        }).exceptionally(throwable -> {
+            if (throwable instanceof RuntimeException tre) throw tre;
+            throw new RuntimeException(throwable);
+        });
+    }
+
+    private void recordFetchMetrics() {
+        for (ResultSetProcessor processor : activeProcessors) {
+            processor.flush();
+        }
+        metrics.recordFetchedPages(fetchedPages);
+        metrics.recordFetchedRows(fetchedRows);
+        metrics.recordFetchedBytes(fetchedBytes);
+    }
+
     private static class PrintableRowList extends ArrayList<Row> {
         public PrintableRowList(List<Row> values) {
             super(values);
@@ -165,6 +200,14 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         return next;
     }
 
+    /**
+     * @return The number of rows which were fetched for this op, whether they were materialized or not
+     */
+    @Override
+    public long getResultSize() {
+        return fetchedRows;
+    }
+
     public Map<String, ?> capture() {
         throw new NotImplementedException("Not implemented for Cqld4CqlOp");
     }
@@ -175,9 +218,14 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
 
     private Cqld4CqlOp rebindLwt(Statement<?> stmt, Row row) {
         BoundStatement rebound = LWTRebinder.rebindUnappliedStatement(stmt, row);
-        return new Cqld4CqlReboundStatement(session, maxPages, retryReplace, maxLwtRetries, retryReplaceCount, rebound, processors, metrics);
+        return new Cqld4CqlReboundStatement(session, maxPages, retryReplace, maxLwtRetries, retryReplaceCount, rebound, processors, metrics, materializeRows);
     }
 
+    /**
+     * Consume each page as it arrives. Rows are only added to the row list if it is not null, so that
+     * rows which are not materialized can be released page by page. When there are no processors either,
+     * the rows of a page are not visited at all.
+     */
     private CompletionStage<List<Row>> collect(AsyncResultSet resultSet, ArrayList<Row> rowList, final long cycle) {
         fetchedBytes+=resultSet.getExecutionInfo().getResponseSizeInBytes();
         if (++fetchedPages > maxPages) {
@@ -185,16 +233,23 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
         }
         int remaining = resultSet.remaining();
         fetchedRows += remaining;
-        rowList.ensureCapacity(rowList.size() + remaining);
-        for (Row row : resultSet.currentPage()) {
-            rowList.add(row);
-            processors.buffer(row);
+        if (rowList != null) {
+            rowList.ensureCapacity(rowList.size() + remaining);
+        }
+        if (rowList != null || !activeProcessors.isEmpty()) {
+            for (Row row : resultSet.currentPage()) {
+                if (rowList != null) {
+                    rowList.add(row);
+                }
+                for (ResultSetProcessor processor : activeProcessors) {
+                    processor.buffer(row);
+                }
+            }
         }
         if (resultSet.hasMorePages()) {
             return resultSet.fetchNextPage().thenCompose(rs -> collect(rs, rowList, cycle));
         } else {
-            processors.start(cycle, resultSet);
-            return CompletableFuture.completedStage(rowList);
+            return CompletableFuture.completedStage(rowList != null ? rowList : List.of());
         }
     }
 
@@ -210,7 +265,9 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
                 throw new ExceededRetryReplaceException(resultSet, getQueryString(), retryReplaceCount);
             }
             Row one = resultSet.one();
-            processors.buffer(one);
+            for (ResultSetProcessor processor : activeProcessors) {
+                processor.buffer(one);
+            }
             nextOp = this.rebindLwt(statement, one);
         }
     }
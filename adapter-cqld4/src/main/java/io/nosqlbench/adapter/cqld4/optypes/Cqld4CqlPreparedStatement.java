@@ -26,8 +26,9 @@ public class Cqld4CqlPreparedStatement extends Cqld4CqlOp {
     private final BoundStatement stmt;
 
     public Cqld4CqlPreparedStatement(CqlSession session, BoundStatement stmt, int maxPages,
-                                     boolean retryReplace, int maxLwtRetries, RSProcessors processors, CqlOpMetrics metrics) {
-        super(session, maxPages, retryReplace, maxLwtRetries, processors, metrics);
+                                     boolean retryReplace, int maxLwtRetries, RSProcessors processors, CqlOpMetrics metrics,
+                                     boolean materializeRows) {
+        super(session, maxPages, retryReplace, maxLwtRetries, processors, metrics, materializeRows);
         this.stmt = stmt;
     }
 
@@ -24,8 +24,8 @@ import io.nosqlbench.adapter.cqld4.instruments.CqlOpMetrics;
 public class Cqld4CqlSimpleStatement extends Cqld4CqlOp {
     private final SimpleStatement stmt;
 
-    public Cqld4CqlSimpleStatement(CqlSession session, SimpleStatement stmt, int maxPages, boolean retryReplace, int maxLwtRetries, CqlOpMetrics metrics) {
-        super(session, maxPages,retryReplace, maxLwtRetries, new RSProcessors(), metrics);
+    public Cqld4CqlSimpleStatement(CqlSession session, SimpleStatement stmt, int maxPages, boolean retryReplace, int maxLwtRetries, CqlOpMetrics metrics, boolean materializeRows) {
+        super(session, maxPages,retryReplace, maxLwtRetries, new RSProcessors(), metrics, materializeRows);
         this.stmt = stmt;
     }
 
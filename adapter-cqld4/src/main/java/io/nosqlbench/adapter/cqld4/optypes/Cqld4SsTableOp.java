@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.cqld4.optypes;
+
+import com.codahale.metrics.Meter;
+import io.nosqlbench.adapter.cqld4.sstable.Cqld4SsTableWriter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+
+/**
+ * Write one row into the SSTable writer of the current thread.
+ */
+public class Cqld4SsTableOp implements CycleOp<Object[]> {
+
+    private final Cqld4SsTableWriter writer;
+    private final Object[] values;
+    private final Meter rowsMeter;
+
+    public Cqld4SsTableOp(Cqld4SsTableWriter writer, Object[] values, Meter rowsMeter) {
+        this.writer = writer;
+        this.values = values;
+        this.rowsMeter = rowsMeter;
+    }
+
+    @Override
+    public Object[] apply(long cycle) {
+        writer.addRow(values);
+        rowsMeter.mark();
+        return values;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.cqld4.sstable;
+
+import io.nosqlbench.nb.api.errors.OpConfigError;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * <p>Writes rows into SSTables in a local directory, using the {@code CQLSSTableWriter} from the
+ * Cassandra server library. The server library is not bundled, since it brings its own versions
+ * of many of the libraries which the driver also uses. It must be added to the classpath when
+ * the sstable op type is used, in a version which matches the target cluster.</p>
+ *
+ * <p>A writer is not thread-safe. Each thread should have its own writer and directory.</p>
+ */
+public class Cqld4SsTableWriter implements AutoCloseable {
+
+    public final static String WRITER_CLASS = "org.apache.cassandra.io.sstable.CQLSSTableWriter";
+    private final static long SCAN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private final static Pattern CREATE_TABLE = Pattern.compile(
+        "^\\s*create\\s+(?:column\\s*family|table)\\s+(?:if\\s+not\\s+exists\\s+)?(?:(\"[^\"]+\"|\\w+)\\s*\\.\\s*)?(\"[^\"]+\"|\\w+)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final Path directory;
+    private final Object writer;
+    private final Method addRow;
+    private final Method close;
+    private long rows;
+    private volatile long bytesWritten;
+    private volatile long nextScanAt = System.nanoTime();
+
+    /**
+     * @param directory The directory to write SSTables into, which is created if needed
+     * @param schema The CREATE TABLE statement for the table, with a keyspace
+     * @param insert The INSERT statement, with a positional marker for each value
+     * @param bufferMB The amount of row data which is buffered before each SSTable is written
+     */
+    public Cqld4SsTableWriter(Path directory, String schema, String insert, int bufferMB) {
+        this.directory = directory;
+        Class<?> writerClass = writerClass();
+        try {
+            Files.createDirectories(directory);
+            Object builder = writerClass.getMethod("builder").invoke(null);
+            Class<?> builderClass = builder.getClass();
+            builder = builderClass.getMethod("inDirectory", File.class).invoke(builder, directory.toFile());
+            builder = builderClass.getMethod("forTable", String.class).invoke(builder, schema);
+            builder = builderClass.getMethod("using", String.class).invoke(builder, insert);
+            builder = bufferSizeMethod(builderClass).invoke(builder, bufferMB);
+            this.writer = builderClass.getMethod("build").invoke(builder);
+            this.addRow = writerClass.getMethod("addRow", Object[].class);
+            this.close = writerClass.getMethod("close");
+        } catch (InvocationTargetException e) {
+            throw new OpConfigError("Unable to create an SSTable writer in '" + directory + "': " + e.getCause(), e.getCause());
+        } catch (IOException | ReflectiveOperationException e) {
+            throw new OpConfigError("Unable to create an SSTable writer in '" + directory + "': " + e, e);
+        }
+    }
+
+    public void addRow(Object[] values) {
+        try {
+            addRow.invoke(writer, (Object) values);
+            rows++;
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new RuntimeException("While writing a row to an SSTable in '" + directory + "': " + cause, cause);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory is scanned at most once every {@link #SCAN_INTERVAL_NANOS}, so that metrics
+     * reporters can poll this often without walking the directory each time.
+     *
+     * @return The size of all files which had been written into the directory as of the last scan
+     */
+    public long getBytesWritten() {
+        if (System.nanoTime() - nextScanAt >= 0L) {
+            scanBytesWritten();
+        }
+        return bytesWritten;
+    }
+
+    private void scanBytesWritten() {
+        nextScanAt = System.nanoTime() + SCAN_INTERVAL_NANOS;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            bytesWritten = files.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        } catch (IOException | UncheckedIOException ignored) {
+        }
+    }
+
+    /**
+     * Flush any buffered rows, and finish the last SSTable. The size of the written files is
+     * scanned again afterwards, so that it is exact once the writer is closed.
+     */
+    @Override
+    public void close() {
+        try {
+            close.invoke(writer);
+            scanBytesWritten();
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("While closing the SSTable writer in '" + directory + "': " + e.getCause(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Determine the path under which SSTables for a table are written, as {@code keyspace/table}.
+     * This is the layout which sstableloader expects for the directory it is given.
+     *
+     * @param schema The CREATE TABLE statement
+     * @return The relative path for the table
+     */
+    public static Path tablePath(String schema) {
+        Matcher matcher = CREATE_TABLE.matcher(schema);
+        if (!matcher.find()) {
+            throw new OpConfigError("The schema for an sstable op must be a CREATE TABLE statement, but it was '" + schema + "'");
+        }
+        if (matcher.group(1) == null) {
+            throw new OpConfigError("The CREATE TABLE statement for an sstable op must include the keyspace, as in 'keyspace.table'");
+        }
+        return Path.of(unquote(matcher.group(1)), unquote(matcher.group(2)));
+    }
+
+    private static String unquote(String name) {
+        if (name.startsWith("\"")) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Class<?> writerClass() {
+        try {
+            return Class.forName(WRITER_CLASS);
+        } catch (ClassNotFoundException e) {
+            throw new OpConfigError("The sstable op type requires " + WRITER_CLASS + " from the Cassandra server " +
+                "library (org.apache.cassandra:cassandra-all) on the classpath, in the version of the target cluster.");
+        }
+    }
+
+    /**
+     * The buffer size option was renamed in Cassandra 4.1, and the older name was later removed.
+     */
+    private static Method bufferSizeMethod(Class<?> builderClass) throws NoSuchMethodException {
+        try {
+            return builderClass.getMethod("withBufferSizeInMiB", int.class);
+        } catch (NoSuchMethodException e) {
+            return builderClass.getMethod("withBufferSizeInMB", int.class);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.cqld4.optypes;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import io.nosqlbench.adapter.cqld4.RSProcessors;
+import io.nosqlbench.adapter.cqld4.ResultSetProcessor;
+import io.nosqlbench.adapter.cqld4.instruments.CqlOpMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Run a CQL op against a stubbed session which returns many large pages, and compare the rows
+ * which are still reachable after the op completes, with and without materializing the rows.
+ * This measures the heap retained once the op is done, not the peak heap while it runs.
+ */
+public class Cqld4CqlOpStreamingTest {
+    private final static Logger logger = LogManager.getLogger(Cqld4CqlOpStreamingTest.class);
+
+    private final static int PAGES = 16;
+    private final static int ROWS_PER_PAGE = 32;
+    private final static int ROW_BYTES = 64 * 1024;
+
+    private ExecutorService pageFetcher;
+    private List<WeakReference<byte[]>> payloads;
+
+    @BeforeEach
+    public void setup() {
+        pageFetcher = Executors.newSingleThreadExecutor();
+        payloads = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void teardown() {
+        pageFetcher.shutdownNow();
+    }
+
+    @Test
+    public void testMaterializedRowsAreRetained() {
+        CountingMetrics metrics = new CountingMetrics();
+        CountingProcessor processor = new CountingProcessor();
+        Cqld4CqlOp op = newOp(metrics, processor, true);
+
+        List<Row> rows = op.apply(1L);
+        long retained = retainedPayloads();
+        logger.info("materialized: retained rows={}, heap used after completion={} bytes", retained, heapUsed());
+
+        assertThat(rows).hasSize(PAGES * ROWS_PER_PAGE);
+        assertThat(retained).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(processor.rows).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(metrics.rows.get()).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(metrics.pages.get()).isEqualTo(PAGES);
+    }
+
+    @Test
+    public void testStreamedRowsAreReleased() {
+        CountingMetrics metrics = new CountingMetrics();
+        CountingProcessor processor = new CountingProcessor();
+        Cqld4CqlOp op = newOp(metrics, processor, false);
+
+        List<Row> rows = op.apply(1L);
+        long retained = retainedPayloads();
+        logger.info("streamed: retained rows={}, heap used after completion={} bytes", retained, heapUsed());
+
+        assertThat(rows).isEmpty();
+        assertThat(retained).isLessThanOrEqualTo(ROWS_PER_PAGE);
+        assertThat(processor.rows).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(op.getResultSize()).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(metrics.rows.get()).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(metrics.pages.get()).isEqualTo(PAGES);
+    }
+
+    @Test
+    public void testStreamedAsyncRowsAreReleased() {
+        CountingMetrics metrics = new CountingMetrics();
+        CountingProcessor processor = new CountingProcessor();
+        Cqld4CqlOp op = newOp(metrics, processor, false);
+
+        List<Row> rows = op.applyAsync(1L).toCompletableFuture().join();
+
+        assertThat(rows).isEmpty();
+        assertThat(retainedPayloads()).isLessThanOrEqualTo(ROWS_PER_PAGE);
+        assertThat(processor.rows).isEqualTo(PAGES * ROWS_PER_PAGE);
+        assertThat(metrics.rows.get()).isEqualTo(PAGES * ROWS_PER_PAGE);
+    }
+
+    private Cqld4CqlOp newOp(CqlOpMetrics metrics, ResultSetProcessor processor, boolean materializeRows) {
+        CqlSession session = stub(CqlSession.class, Map.of(
+            "executeAsync", args -> CompletableFuture.completedFuture(page(0))
+        ));
+        BoundStatement statement = stub(BoundStatement.class, Map.of(
+            "getPageSize", args -> ROWS_PER_PAGE
+        ));
+        RSProcessors processors = new RSProcessors().add(() -> processor);
+        return new Cqld4CqlPreparedStatement(session, statement, PAGES, false, 1, processors, metrics, materializeRows);
+    }
+
+    /**
+     * Each page has its own rows, and the next page is completed on another thread, as it would be
+     * by the driver, so that no earlier page is held on the stack of the thread which fetches the next.
+     */
+    private AsyncResultSet page(int index) {
+        List<Row> rows = new ArrayList<>(ROWS_PER_PAGE);
+        for (int i = 0; i < ROWS_PER_PAGE; i++) {
+            byte[] payload = new byte[ROW_BYTES];
+            payloads.add(new WeakReference<>(payload));
+            rows.add(stub(Row.class, Map.of("getByteBuffer", args -> java.nio.ByteBuffer.wrap(payload))));
+        }
+        ExecutionInfo info = stub(ExecutionInfo.class, Map.of(
+            "getResponseSizeInBytes", args -> ROWS_PER_PAGE * ROW_BYTES
+        ));
+        boolean last = index == PAGES - 1;
+        return stub(AsyncResultSet.class, Map.of(
+            "wasApplied", args -> true,
+            "getExecutionInfo", args -> info,
+            "remaining", args -> rows.size(),
+            "currentPage", args -> rows,
+            "hasMorePages", args -> !last,
+            "fetchNextPage", args -> CompletableFuture.supplyAsync(() -> page(index + 1), pageFetcher)
+        ));
+    }
+
+    private long retainedPayloads() {
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            if (payloads.stream().filter(r -> r.get() != null).count() <= ROWS_PER_PAGE) {
+                break;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return payloads.stream().filter(r -> r.get() != null).count();
+    }
+
+    private static long heapUsed() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> impl = methods.get(method.getName());
+            if (impl != null) {
+                return impl.apply(args);
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + "@" + System.identityHashCode(proxy);
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    private static class CountingProcessor implements ResultSetProcessor {
+        private long rows;
+
+        @Override
+        public void start(long cycle, AsyncResultSet container) {
+            rows = 0;
+        }
+
+        @Override
+        public void buffer(Row element) {
+            rows++;
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    private static class CountingMetrics implements CqlOpMetrics {
+        private final AtomicLong pages = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+
+        @Override
+        public void recordFetchedPages(int fetchedPages) {
+            pages.addAndGet(fetchedPages);
+        }
+
+        @Override
+        public void recordFetchedRows(int fetchedRows) {
+            rows.addAndGet(fetchedRows);
+        }
+
+        @Override
+        public void recordFetchedBytes(int fetchedBytes) {
+        }
+    }
+}
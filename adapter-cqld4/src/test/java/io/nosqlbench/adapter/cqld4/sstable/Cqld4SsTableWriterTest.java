@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.cqld4.sstable;
+
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class Cqld4SsTableWriterTest {
+
+    @Test
+    public void testTablePathFromSchema() {
+        assertThat(Cqld4SsTableWriter.tablePath("create table baselines.keyvalue (key text primary key, value text)"))
+            .isEqualTo(Path.of("baselines", "keyvalue"));
+        assertThat(Cqld4SsTableWriter.tablePath("\n  CREATE TABLE IF NOT EXISTS Baselines . KeyValue (key text primary key)"))
+            .isEqualTo(Path.of("baselines", "keyvalue"));
+        assertThat(Cqld4SsTableWriter.tablePath("create table \"Baselines\".\"KeyValue\" (key text primary key)"))
+            .isEqualTo(Path.of("Baselines", "KeyValue"));
+    }
+
+    @Test
+    public void testSchemaRequiresKeyspace() {
+        assertThatThrownBy(() -> Cqld4SsTableWriter.tablePath("create table keyvalue (key text primary key)"))
+            .isInstanceOf(OpConfigError.class)
+            .hasMessageContaining("keyspace");
+        assertThatThrownBy(() -> Cqld4SsTableWriter.tablePath("insert into baselines.keyvalue (key) values (?)"))
+            .isInstanceOf(OpConfigError.class)
+            .hasMessageContaining("CREATE TABLE");
+    }
+
+    @Test
+    public void testWriterRequiresServerLibrary() {
+        assertThatThrownBy(() -> new Cqld4SsTableWriter(Path.of("target", "sstables"), "create table ks.t (k int primary key)", "insert into ks.t (k) values (?)", 1))
+            .isInstanceOf(OpConfigError.class)
+            .hasMessageContaining(Cqld4SsTableWriter.WRITER_CLASS);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.diag;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultsSegment;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityapi.output.Output;
+import io.nosqlbench.engine.api.activityimpl.input.InputInterval;
+import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardAction;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run the diag noop op through a single {@link CoreMotor} and {@link StandardAction}, to measure the
+ * per-cycle overhead of the motor loop. Use the gc.alloc.rate.norm figure from the GC profiler to see
+ * the bytes allocated per cycle, with and without a result output.
+ */
+@State(Scope.Benchmark)
+public class DiagNoopMotorJMHTest {
+
+    private final static int CYCLES = 1_000_000;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(DiagNoopMotorJMHTest.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"1", "100"})
+    public int stride;
+
+    @Param({"false", "true"})
+    public boolean output;
+
+    private StandardActivity<?, ?> activity;
+    private StandardAction<?, ?> action;
+    private StrideInput input;
+    private CoreMotor<?> motor;
+    private int slot;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The default configuration on the test classpath logs everything, which would dominate the measurement
+        Configurator.setRootLevel(org.apache.logging.log4j.Level.WARN);
+        ActivityDef activityDef = ActivityDef.parseActivityDef(
+            "driver=diag;alias=diagnoop;op=noop:noop;stride=" + stride + ";cycles=" + CYCLES
+        );
+        activity = new StandardActivity<>(new TestComponent("benchmark", "diagnoop"), activityDef);
+        action = new StandardAction<>(activity, 0);
+        input = new StrideInput(CYCLES);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupMotor() {
+        input.reset();
+        motor = output
+            ? new CoreMotor<>(activity, slot++, input, action, new CountingOutput())
+            : new CoreMotor<>(activity, slot++, input, action);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(CYCLES)
+    @Warmup(iterations = 3, timeUnit = TimeUnit.SECONDS, time = 5)
+    @Measurement(iterations = 5, timeUnit = TimeUnit.SECONDS, time = 5)
+    public void runNoopCycles() {
+        motor.run();
+    }
+
+    /**
+     * A resettable input over a fixed cycle range, so the same range can be run for each invocation.
+     */
+    private static class StrideInput implements Input {
+        private final long cycles;
+        private long next;
+
+        private StrideInput(long cycles) {
+            this.cycles = cycles;
+        }
+
+        private void reset() {
+            next = 0L;
+        }
+
+        @Override
+        public CycleSegment getInputSegment(int segmentLength) {
+            if (next >= cycles) {
+                return null;
+            }
+            long start = next;
+            next = Math.min(cycles, next + segmentLength);
+            return new InputInterval.Segment(0L, start, next);
+        }
+    }
+
+    /**
+     * An output which only counts results, so that the cost of buffering them in the motor is measured
+     * rather than the cost of any particular output.
+     */
+    private static class CountingOutput implements Output {
+        private long count;
+
+        @Override
+        public boolean onCycleResult(long completedCycle, int result) {
+            count++;
+            return true;
+        }
+
+        @Override
+        public void onCycleResultSegment(CycleResultsSegment segment) {
+            count += segment.getCount();
+        }
+    }
+}
@@ -60,6 +60,9 @@ public class DynamoDBOpMapper implements OpMapper<DynamoDBOp> {
                 case PutItem -> new DDBPutItemOpDispenser(adapter, ddb, op, cmdType.targetFunction);
                 case GetItem -> new DDBGetItemOpDispenser(adapter, ddb, op, cmdType.targetFunction);
                 case Query -> new DDBQueryOpDispenser(adapter,ddb, op, cmdType.targetFunction);
+                case BatchWriteItem -> new DDBBatchWriteItemOpDispenser(adapter, ddb, op, cmdType.targetFunction);
+                case BatchGetItem -> new DDBBatchGetItemOpDispenser(adapter, ddb, op, cmdType.targetFunction);
+                case Scan -> new DDBScanOpDispenser(adapter, ddb, op, cmdType.targetFunction);
             };
         }
 
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.batching;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricHistogram;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Gathers the items of many cycles into DynamoDB batch requests. A batch is sent when it has as many
+ * items as the current chunk size, when it already has an item with the same key, which DynamoDB would
+ * reject, or when its first item has waited for batch_linger_ms.</p>
+ *
+ * <p>Batches are sent by batch_inflight sender threads. The thread which fills a batch waits for a free
+ * sender before handing it off, so that the items in flight are bounded. Items which DynamoDB returns as
+ * unprocessed are sent again with exponential backoff, up to batch_retries times, after which their ops
+ * fail. Each op completes with the result for its own item.</p>
+ *
+ * <p>The chunk size adapts to throttling: when a request comes back with unprocessed items, it is halved,
+ * but not below an eighth of batch_size or 2 items, and it grows by one item after each request which is
+ * processed in full, up to batch_size. This keeps requests near the size the table can absorb when capacity
+ * is exceeded, rather than having most of each request sent again, and a request with no processed items
+ * does not shrink batches to single items.</p>
+ */
+public abstract class DDBBatcher implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(DDBBatcher.class);
+    private final static long MAX_BACKOFF_MS = 2000L;
+
+    private final String name;
+    private final int maxItems;
+    private final int minChunkSize;
+    private final long lingerNanos;
+    private final int retries;
+    private final long backoffMs;
+    private volatile int chunkSize;
+
+    private final NBMetricTimer batchTimer;
+    private final NBMetricTimer itemWaitTimer;
+    private final NBMetricHistogram batchItemsHistogram;
+    private final NBMetricHistogram batchRetriesHistogram;
+
+    // The open batch, guarded by the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch open;
+    private boolean closed;
+
+    private final ExecutorService senders;
+    private final Semaphore freeSenders;
+    private final ScheduledExecutorService lingerTimer;
+
+    /**
+     * An item of a batch, with the key which identifies it in the results of the batch request.
+     */
+    protected record Entry(TableKey key, Map<String, AttributeValue> attributes, CompletableFuture<Object> future,
+                           long addedNanos) {
+    }
+
+    /**
+     * The table and primary key attributes of an item.
+     */
+    public record TableKey(String table, Map<String, AttributeValue> key) {
+    }
+
+    private static final class Batch {
+        private final List<Entry> entries = new ArrayList<>();
+        private final Set<TableKey> keys = new HashSet<>();
+        private ScheduledFuture<?> lingerTask;
+    }
+
+    protected DDBBatcher(NBComponent parent, String name, int maxItems, int apiLimit, long lingerMs, int inflight,
+                         int retries, long backoffMs) {
+        if (maxItems < 1 || maxItems > apiLimit) {
+            throw new OpConfigError("batch_size for " + name + " must be between 1 and " + apiLimit + ", but it was " + maxItems);
+        }
+        if (lingerMs < 1 || inflight < 1 || retries < 0 || backoffMs < 1) {
+            throw new OpConfigError("batch_linger_ms, batch_inflight and batch_backoff_ms must be positive, and batch_retries" +
+                " must not be negative, for " + name);
+        }
+        this.name = name;
+        this.maxItems = maxItems;
+        this.chunkSize = maxItems;
+        this.minChunkSize = Math.min(maxItems, Math.max(2, maxItems / 8));
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.retries = retries;
+        this.backoffMs = backoffMs;
+
+        this.batchTimer = parent.create().timer(
+            "ddb_batch",
+            MetricCategory.Driver,
+            "DynamoDB " + name + " batch latency, from when a batch is sent until all of its items are processed"
+        );
+        this.itemWaitTimer = parent.create().timer(
+            "ddb_batch_item_wait",
+            MetricCategory.Driver,
+            "DynamoDB time each item waited for its " + name + " batch to be sent"
+        );
+        this.batchItemsHistogram = parent.create().histogram(
+            "ddb_batch_items",
+            MetricCategory.Driver,
+            "DynamoDB number of items in each " + name + " batch"
+        );
+        this.batchRetriesHistogram = parent.create().histogram(
+            "ddb_batch_retries",
+            MetricCategory.Driver,
+            "DynamoDB number of times unprocessed items of each " + name + " batch were sent again"
+        );
+        parent.create().gauge(
+            "ddb_batch_chunk",
+            () -> (double) chunkSize,
+            MetricCategory.Driver,
+            "DynamoDB current number of items which fill a " + name + " batch"
+        );
+
+        this.freeSenders = new Semaphore(inflight);
+        this.senders = Executors.newFixedThreadPool(inflight, r -> {
+            Thread thread = new Thread(r, "ddb-batch-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lingerTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ddb-batch-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Batching {} with batch_size: {}, batch_linger_ms: {}, batch_inflight: {}, batch_retries: {}",
+            name, maxItems, lingerMs, inflight, retries);
+    }
+
+    /**
+     * Send one request for the given items, and complete the futures of those which were processed.
+     *
+     * @param entries The items to send, with no two items having the same key
+     * @return The items which were not processed, and which should be sent again
+     */
+    protected abstract List<Entry> submit(List<Entry> entries);
+
+    /**
+     * Add an item to the open batch.
+     *
+     * @return A future which is completed with the result for the item, or failed
+     */
+    public CompletableFuture<Object> add(TableKey key, Map<String, AttributeValue> attributes) {
+        Entry entry = new Entry(key, attributes, new CompletableFuture<>(), System.nanoTime());
+        List<Batch> ready = new ArrayList<>(2);
+
+        lock.lock();
+        try {
+            if (closed) {
+                entry.future.completeExceptionally(new RuntimeException("The " + name + " batcher is already closed"));
+                return entry.future;
+            }
+            if (open != null && open.keys.contains(key)) {
+                ready.add(detach());
+            }
+            if (open == null) {
+                Batch batch = new Batch();
+                batch.lingerTask = lingerTimer.schedule(() -> sendLingering(batch), lingerNanos, TimeUnit.NANOSECONDS);
+                open = batch;
+            }
+            open.entries.add(entry);
+            open.keys.add(key);
+            if (open.entries.size() >= chunkSize) {
+                ready.add(detach());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Batch batch : ready) {
+            send(batch);
+        }
+        return entry.future;
+    }
+
+    // Must be called with the lock held
+    private Batch detach() {
+        Batch batch = open;
+        open = null;
+        batch.lingerTask.cancel(false);
+        return batch;
+    }
+
+    private void sendLingering(Batch batch) {
+        lock.lock();
+        try {
+            // The batch may have been filled and sent already
+            if (open != batch) {
+                return;
+            }
+            open = null;
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        freeSenders.acquireUninterruptibly();
+        try {
+            senders.execute(() -> {
+                try {
+                    process(batch.entries);
+                } finally {
+                    freeSenders.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            freeSenders.release();
+            fail(batch.entries, new RuntimeException("The " + name + " batcher is already closed"));
+        }
+    }
+
+    private void process(List<Entry> entries) {
+        long startNanos = System.nanoTime();
+        for (Entry entry : entries) {
+            itemWaitTimer.update(startNanos - entry.addedNanos, TimeUnit.NANOSECONDS);
+        }
+        batchItemsHistogram.update(entries.size());
+
+        List<Entry> pending = entries;
+        int attempt = 0;
+        try {
+            while (true) {
+                int sent = pending.size();
+                pending = submit(pending);
+                if (attempt == 0) {
+                    adaptChunkSize(sent, sent - pending.size());
+                }
+                if (pending.isEmpty()) {
+                    break;
+                }
+                if (attempt == retries) {
+                    fail(pending, new RuntimeException(pending.size() + " items of a " + name + " batch were still " +
+                        "unprocessed after " + retries + " retries"));
+                    break;
+                }
+                Thread.sleep(backoff(attempt++));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(pending, new RuntimeException("Interrupted while retrying unprocessed items of a " + name + " batch"));
+        } catch (Exception e) {
+            fail(pending, e);
+        }
+        batchRetriesHistogram.update(attempt);
+        batchTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void adaptChunkSize(int sent, int processed) {
+        if (processed == sent) {
+            chunkSize = Math.min(maxItems, chunkSize + 1);
+        } else {
+            chunkSize = Math.max(minChunkSize, chunkSize / 2);
+        }
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return A delay which doubles with each attempt, of which the upper half is randomized
+     */
+    private long backoff(int attempt) {
+        long delay = Math.min(MAX_BACKOFF_MS, backoffMs << Math.min(attempt, 20));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private void fail(List<Entry> entries, Throwable error) {
+        RuntimeException rte = (error instanceof RuntimeException re) ? re : new RuntimeException(error);
+        for (Entry entry : entries) {
+            entry.future.completeExceptionally(rte);
+        }
+    }
+
+    /**
+     * Send the open batch, if any, and wait for all sent batches to complete.
+     */
+    @Override
+    public void close() {
+        Batch remaining;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = (open != null) ? detach() : null;
+        } finally {
+            lock.unlock();
+        }
+        lingerTimer.shutdownNow();
+        if (remaining != null) {
+            send(remaining);
+        }
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Not all {} batches completed within 30 seconds", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.batching;
+
+import com.amazonaws.services.dynamodbv2.document.BatchGetItemOutcome;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.ItemUtils;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+
+import java.util.*;
+
+/**
+ * Sends the key lookups of many cycles as BatchGetItem requests of up to 100 keys. Each op completes with
+ * its {@link com.amazonaws.services.dynamodbv2.document.Item}, or with null if there is no item with its key.
+ * Returned items are matched to their ops by the attributes of the requested key, so a projection must
+ * include the key attributes.
+ */
+public class DDBGetBatcher extends DDBBatcher {
+    public final static int MAX_BATCH_ITEMS = 100;
+
+    private final DynamoDB ddb;
+    private final String projection;
+    private final Boolean consistentRead;
+
+    public DDBGetBatcher(NBComponent parent, DynamoDB ddb, String projection, Boolean consistentRead, int maxItems,
+                         long lingerMs, int inflight, int retries, long backoffMs) {
+        super(parent, "BatchGetItem", maxItems, MAX_BATCH_ITEMS, lingerMs, inflight, retries, backoffMs);
+        this.ddb = ddb;
+        this.projection = projection;
+        this.consistentRead = consistentRead;
+    }
+
+    @Override
+    protected List<Entry> submit(List<Entry> entries) {
+        Map<String, KeysAndAttributes> requests = new HashMap<>();
+        for (Entry entry : entries) {
+            requests.computeIfAbsent(entry.key().table(), t -> newKeysAndAttributes())
+                .getKeys().add(entry.key().key());
+        }
+        BatchGetItemOutcome outcome = ddb.batchGetItemUnprocessed(requests);
+
+        Map<TableKey, Map<String, AttributeValue>> found = new HashMap<>();
+        Map<String, List<Map<String, AttributeValue>>> responses = outcome.getBatchGetItemResult().getResponses();
+        if (responses != null) {
+            index(responses, entries, found);
+        }
+        Set<TableKey> unprocessed = new HashSet<>();
+        Map<String, KeysAndAttributes> unprocessedKeys = outcome.getUnprocessedKeys();
+        if (unprocessedKeys != null) {
+            unprocessedKeys.forEach((table, keys) -> keys.getKeys().forEach(key -> unprocessed.add(new TableKey(table, key))));
+        }
+
+        List<Entry> pending = new ArrayList<>(unprocessed.size());
+        for (Entry entry : entries) {
+            if (unprocessed.contains(entry.key())) {
+                pending.add(entry);
+                continue;
+            }
+            Map<String, AttributeValue> item = found.get(entry.key());
+            entry.future().complete(item == null ? null : ItemUtils.toItem(item));
+        }
+        return pending;
+    }
+
+    private KeysAndAttributes newKeysAndAttributes() {
+        KeysAndAttributes keysAndAttributes = new KeysAndAttributes().withKeys(new ArrayList<>());
+        if (projection != null) {
+            keysAndAttributes.setProjectionExpression(projection);
+        }
+        if (consistentRead != null) {
+            keysAndAttributes.setConsistentRead(consistentRead);
+        }
+        return keysAndAttributes;
+    }
+
+    /**
+     * Index the returned items by the key attributes which were requested for their table.
+     */
+    private void index(Map<String, List<Map<String, AttributeValue>>> responses, List<Entry> entries,
+                       Map<TableKey, Map<String, AttributeValue>> found) {
+        Map<String, Set<String>> keyNames = new HashMap<>();
+        for (Entry entry : entries) {
+            keyNames.putIfAbsent(entry.key().table(), entry.key().key().keySet());
+        }
+        responses.forEach((table, items) -> {
+            Set<String> names = keyNames.get(table);
+            if (names == null) {
+                return;
+            }
+            for (Map<String, AttributeValue> item : items) {
+                Map<String, AttributeValue> key = new HashMap<>(names.size() * 2);
+                for (String name : names) {
+                    key.put(name, item.get(name));
+                }
+                found.put(new TableKey(table, key), item);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.batching;
+
+import com.amazonaws.services.dynamodbv2.document.BatchWriteItemOutcome;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends the put items of many cycles as BatchWriteItem requests of up to 25 items. The primary key
+ * attributes of each table are described once, so that unprocessed items can be matched to their ops,
+ * and so that a batch never has two items with the same key.
+ */
+public class DDBWriteBatcher extends DDBBatcher {
+    public final static int MAX_BATCH_ITEMS = 25;
+
+    private final DynamoDB ddb;
+    private final Map<String, List<String>> keyNames = new ConcurrentHashMap<>();
+
+    public DDBWriteBatcher(NBComponent parent, DynamoDB ddb, int maxItems, long lingerMs, int inflight, int retries,
+                           long backoffMs) {
+        super(parent, "BatchWriteItem", maxItems, MAX_BATCH_ITEMS, lingerMs, inflight, retries, backoffMs);
+        this.ddb = ddb;
+    }
+
+    /**
+     * @return The key of an item, as the table and the values of its primary key attributes
+     */
+    public TableKey keyOf(String table, Map<String, AttributeValue> attributes) {
+        List<String> names = keyNames.computeIfAbsent(table, t -> ddb.getTable(t).describe().getKeySchema().stream()
+            .map(KeySchemaElement::getAttributeName).toList());
+        Map<String, AttributeValue> key = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            AttributeValue value = attributes.get(name);
+            if (value == null) {
+                throw new RuntimeException("An item for table '" + table + "' is missing its key attribute '" + name + "'");
+            }
+            key.put(name, value);
+        }
+        return new TableKey(table, key);
+    }
+
+    @Override
+    protected List<Entry> submit(List<Entry> entries) {
+        Map<String, List<WriteRequest>> requests = new HashMap<>();
+        for (Entry entry : entries) {
+            requests.computeIfAbsent(entry.key().table(), t -> new ArrayList<>())
+                .add(new WriteRequest(new PutRequest(entry.attributes())));
+        }
+        BatchWriteItemOutcome outcome = ddb.batchWriteItemUnprocessed(requests);
+        Map<String, List<WriteRequest>> unprocessedItems = outcome.getUnprocessedItems();
+
+        Set<TableKey> unprocessed = new HashSet<>();
+        if (unprocessedItems != null) {
+            unprocessedItems.forEach((table, writes) -> {
+                for (WriteRequest write : writes) {
+                    unprocessed.add(keyOf(table, write.getPutRequest().getItem()));
+                }
+            });
+        }
+        List<Entry> pending = new ArrayList<>(unprocessed.size());
+        for (Entry entry : entries) {
+            if (unprocessed.contains(entry.key())) {
+                pending.add(entry);
+            } else {
+                entry.future().complete(entry.key().key());
+            }
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.opdispensers;
+
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.ItemUtils;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import io.nosqlbench.adapter.dynamodb.DynamoDBSpace;
+import io.nosqlbench.adapter.dynamodb.batching.DDBBatcher;
+import io.nosqlbench.adapter.dynamodb.batching.DDBGetBatcher;
+import io.nosqlbench.adapter.dynamodb.optypes.DDBBatchItemOp;
+import io.nosqlbench.adapter.dynamodb.optypes.DynamoDBOp;
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * Reads one item for each cycle, as in GetItem, but sends the keys of many cycles together in
+ * BatchGetItem requests. See {@link DDBGetBatcher} for how the batches are formed and retried.
+ */
+public class DDBBatchGetItemOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBSpace> {
+
+    private final DynamoDB ddb;
+    private final LongFunction<String> tableNameFunc;
+    private final LongFunction<Map<String, AttributeValue>> keyFunc;
+    private final DDBGetBatcher batcher;
+
+    public DDBBatchGetItemOpDispenser(DriverAdapter adapter, DynamoDB ddb, ParsedOp cmd, LongFunction<?> targetFunc) {
+        super(adapter, cmd);
+        this.ddb = ddb;
+        this.tableNameFunc = l -> targetFunc.apply(l).toString();
+        this.keyFunc = resolveKeyFunc(cmd);
+        this.batcher = new DDBGetBatcher(
+            this,
+            ddb,
+            cmd.getOptionalStaticValue("projection", String.class).orElse(null),
+            cmd.getOptionalStaticValue("ConsistentRead", Boolean.class).orElse(null),
+            cmd.getStaticConfigOr("batch_size", DDBGetBatcher.MAX_BATCH_ITEMS),
+            cmd.getStaticConfigOr("batch_linger_ms", 5),
+            cmd.getStaticConfigOr("batch_inflight", 4),
+            cmd.getStaticConfigOr("batch_retries", 10),
+            cmd.getStaticConfigOr("batch_backoff_ms", 50)
+        );
+    }
+
+    private LongFunction<Map<String, AttributeValue>> resolveKeyFunc(ParsedOp cmd) {
+        Optional<FieldLayout> keyLayout = cmd.getAsOptionalFieldLayout("key");
+        if (keyLayout.isPresent()) {
+            FieldLayout layout = keyLayout.get();
+            return l -> {
+                Map<String, AttributeValue> key = new HashMap<>(layout.size() * 2);
+                layout.forEach(l, (k, v) -> key.put(k, ItemUtils.toAttributeValue(v)));
+                return key;
+            };
+        }
+        LongFunction<? extends Map> keysmap_func = cmd.getAsRequiredFunction("key", Map.class);
+        return l -> {
+            Map<String, AttributeValue> key = new HashMap<>();
+            keysmap_func.apply(l).forEach((k, v) -> key.put(k.toString(), ItemUtils.toAttributeValue(v)));
+            return key;
+        };
+    }
+
+    @Override
+    public DynamoDBOp getOp(long value) {
+        Map<String, AttributeValue> key = keyFunc.apply(value);
+        return new DDBBatchItemOp(ddb, batcher, new DDBBatcher.TableKey(tableNameFunc.apply(value), key), key);
+    }
+
+    @Override
+    protected void teardown() {
+        batcher.close();
+        super.teardown();
+    }
+}
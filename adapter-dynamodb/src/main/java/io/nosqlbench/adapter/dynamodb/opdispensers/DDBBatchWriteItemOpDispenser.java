@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.opdispensers;
+
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.Item;
+import com.amazonaws.services.dynamodbv2.document.ItemUtils;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import io.nosqlbench.adapter.dynamodb.DynamoDBSpace;
+import io.nosqlbench.adapter.dynamodb.batching.DDBWriteBatcher;
+import io.nosqlbench.adapter.dynamodb.optypes.DDBBatchItemOp;
+import io.nosqlbench.adapter.dynamodb.optypes.DynamoDBOp;
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Puts one item for each cycle, as in PutItem, but sends the items of many cycles together in
+ * BatchWriteItem requests. See {@link DDBWriteBatcher} for how the batches are formed and retried.
+ */
+public class DDBBatchWriteItemOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBSpace> {
+
+    private final DynamoDB ddb;
+    private final LongFunction<String> tableNameFunc;
+    private final LongFunction<? extends Item> itemfunc;
+    private final DDBWriteBatcher batcher;
+
+    public DDBBatchWriteItemOpDispenser(DriverAdapter adapter, DynamoDB ddb, ParsedOp cmd, LongFunction<?> targetFunc) {
+        super(adapter, cmd);
+        this.ddb = ddb;
+        this.tableNameFunc = l -> targetFunc.apply(l).toString();
+        this.itemfunc = DDBPutItemOpDispenser.resolveItemFunc(cmd, "BatchWriteItem");
+        this.batcher = new DDBWriteBatcher(
+            this,
+            ddb,
+            cmd.getStaticConfigOr("batch_size", DDBWriteBatcher.MAX_BATCH_ITEMS),
+            cmd.getStaticConfigOr("batch_linger_ms", 5),
+            cmd.getStaticConfigOr("batch_inflight", 4),
+            cmd.getStaticConfigOr("batch_retries", 10),
+            cmd.getStaticConfigOr("batch_backoff_ms", 50)
+        );
+    }
+
+    @Override
+    public DynamoDBOp getOp(long value) {
+        String tablename = tableNameFunc.apply(value);
+        Map<String, AttributeValue> attributes = ItemUtils.toAttributeValues(itemfunc.apply(value));
+        return new DDBBatchItemOp(ddb, batcher, batcher.keyOf(tablename, attributes), attributes);
+    }
+
+    @Override
+    protected void teardown() {
+        batcher.close();
+        super.teardown();
+    }
+}
@@ -26,6 +26,7 @@ import io.nosqlbench.adapter.dynamodb.optypes.DynamoDBOp;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
 
 import java.util.Map;
 import java.util.Optional;
@@ -50,14 +51,25 @@ public class DDBGetItemOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBS
         String projection = null;
         LongFunction<String> projfunc = null;
 
-        LongFunction<? extends Map> keysmap_func = cmd.getAsRequiredFunction("key",Map.class);
-        LongFunction<PrimaryKey> pk_func = l -> {
-            PrimaryKey pk = new PrimaryKey();
-            keysmap_func.apply(l).forEach((k,v) -> {
-                pk.addComponent(k.toString(),v);
-            });
-            return pk;
-        };
+        LongFunction<PrimaryKey> pk_func;
+        Optional<FieldLayout> keyLayout = cmd.getAsOptionalFieldLayout("key");
+        if (keyLayout.isPresent()) {
+            FieldLayout layout = keyLayout.get();
+            pk_func = l -> {
+                PrimaryKey pk = new PrimaryKey();
+                layout.forEach(l, pk::addComponent);
+                return pk;
+            };
+        } else {
+            LongFunction<? extends Map> keysmap_func = cmd.getAsRequiredFunction("key",Map.class);
+            pk_func = l -> {
+                PrimaryKey pk = new PrimaryKey();
+                keysmap_func.apply(l).forEach((k,v) -> {
+                    pk.addComponent(k.toString(),v);
+                });
+                return pk;
+            };
+        }
         LongFunction<GetItemSpec> gis = l -> new GetItemSpec().withPrimaryKey(pk_func.apply(l));
 
         Optional<LongFunction<String>> projection_func = cmd.getAsOptionalFunction("projection",String.class);
@@ -24,9 +24,11 @@ import io.nosqlbench.adapter.dynamodb.optypes.DynamoDBOp;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
 import io.nosqlbench.nb.api.errors.OpConfigError;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.LongFunction;
 
 public class DDBPutItemOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBSpace> {
@@ -39,14 +41,26 @@ public class DDBPutItemOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBS
         super(adapter, cmd);
         this.ddb = ddb;
         this.tableNameFunc = l -> targetFunc.apply(l).toString();
-        if (cmd.isDefined("item")) {
+        this.itemfunc = resolveItemFunc(cmd, "PutItem");
+    }
+
+    static LongFunction<? extends Item> resolveItemFunc(ParsedOp cmd, String opType) {
+        Optional<FieldLayout> itemLayout = cmd.getAsOptionalFieldLayout("item");
+        if (itemLayout.isPresent()) {
+            FieldLayout layout = itemLayout.get();
+            return l -> {
+                Item item = new Item();
+                layout.forEach(l, item::with);
+                return item;
+            };
+        } else if (cmd.isDefined("item")) {
             LongFunction<? extends Map> f1 = cmd.getAsRequiredFunction("item", Map.class);
-            this.itemfunc = l -> Item.fromMap(f1.apply(l));
+            return l -> Item.fromMap(f1.apply(l));
         } else if (cmd.isDefined("json")) {
             LongFunction<? extends String> f1 = cmd.getAsRequiredFunction("json", String.class);
-            this.itemfunc = l -> Item.fromJSON(f1.apply(l));
+            return l -> Item.fromJSON(f1.apply(l));
         } else {
-            throw new OpConfigError("PutItem op templates require either an 'item' map field or a 'json' text field");
+            throw new OpConfigError(opType + " op templates require either an 'item' map field or a 'json' text field");
         }
     }
 
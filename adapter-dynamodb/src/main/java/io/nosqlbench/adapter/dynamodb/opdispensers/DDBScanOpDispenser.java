@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.opdispensers;
+
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.Table;
+import com.amazonaws.services.dynamodbv2.document.spec.ScanSpec;
+import io.nosqlbench.adapter.dynamodb.DynamoDBSpace;
+import io.nosqlbench.adapter.dynamodb.optypes.DDBScanOp;
+import io.nosqlbench.adapter.dynamodb.optypes.DynamoDBOp;
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.nb.api.errors.OpConfigError;
+
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * A parallel scan, with each cycle scanning one of TotalSegments segments of the table. By default,
+ * the segment is the cycle modulo TotalSegments, so that the segments are spread across all threads,
+ * and a cycle range of TotalSegments scans the whole table once.
+ */
+public class DDBScanOpDispenser extends BaseOpDispenser<DynamoDBOp, DynamoDBSpace> {
+
+    private final DynamoDB ddb;
+    private final LongFunction<Table> tableFunc;
+    private final LongFunction<ScanSpec> scanSpecFunc;
+
+    public DDBScanOpDispenser(DriverAdapter adapter, DynamoDB ddb, ParsedOp cmd, LongFunction<?> targetFunc) {
+        super(adapter, cmd);
+        this.ddb = ddb;
+        LongFunction<String> tableNameFunc = l -> targetFunc.apply(l).toString();
+        this.tableFunc = l -> ddb.getTable(tableNameFunc.apply(l));
+        this.scanSpecFunc = resolveScanSpecFunc(cmd);
+    }
+
+    @Override
+    public DDBScanOp getOp(long cycle) {
+        Table table = tableFunc.apply(cycle);
+        ScanSpec scanSpec = scanSpecFunc.apply(cycle);
+        return new DDBScanOp(ddb, table, scanSpec);
+    }
+
+    private LongFunction<ScanSpec> resolveScanSpecFunc(ParsedOp cmd) {
+
+        int totalSegments = cmd.getStaticConfigOr("TotalSegments", 1);
+        if (totalSegments < 1) {
+            throw new OpConfigError("TotalSegments for Scan must be at least 1, but it was " + totalSegments);
+        }
+
+        LongFunction<ScanSpec> func;
+        if (totalSegments == 1) {
+            func = l -> new ScanSpec();
+        } else {
+            Optional<LongFunction<Integer>> segmentFunc = cmd.getAsOptionalFunction("Segment", Integer.class);
+            LongFunction<Integer> sf = segmentFunc.orElse(l -> (int) (l % totalSegments));
+            func = l -> new ScanSpec().withSegment(sf.apply(l)).withTotalSegments(totalSegments);
+        }
+
+        Optional<LongFunction<String>> projFunc = cmd.getAsOptionalFunction("projection", String.class);
+        if (projFunc.isPresent()) {
+            LongFunction<ScanSpec> finalFunc = func;
+            LongFunction<String> pf = projFunc.get();
+            func = l -> finalFunc.apply(l).withProjectionExpression(pf.apply(l));
+        }
+
+        Optional<LongFunction<Boolean>> consistentRead = cmd.getAsOptionalFunction("ConsistentRead", boolean.class);
+        if (consistentRead.isPresent()) {
+            LongFunction<ScanSpec> finalFunc = func;
+            LongFunction<Boolean> consistentReadFunc = consistentRead.get();
+            func = l -> finalFunc.apply(l).withConsistentRead(consistentReadFunc.apply(l));
+        }
+
+        Optional<LongFunction<Integer>> limitFunc = cmd.getAsOptionalFunction("Limit", Integer.class);
+        if (limitFunc.isPresent()) {
+            LongFunction<Integer> limitf = limitFunc.get();
+            LongFunction<ScanSpec> finalFunc = func;
+            func = l -> finalFunc.apply(l).withMaxResultSize(limitf.apply(l));
+        }
+
+        Optional<LongFunction<Integer>> pageSizeFunc = cmd.getAsOptionalFunction("PageSize", Integer.class);
+        if (pageSizeFunc.isPresent()) {
+            LongFunction<Integer> pagef = pageSizeFunc.get();
+            LongFunction<ScanSpec> finalFunc = func;
+            func = l -> finalFunc.apply(l).withMaxPageSize(pagef.apply(l));
+        }
+
+        return func;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.optypes;
+
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import io.nosqlbench.adapter.dynamodb.batching.DDBBatcher;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An item which is written or read as part of a BatchWriteItem or BatchGetItem request, along with
+ * the items of other cycles. The result is the result for this item alone.
+ */
+public class DDBBatchItemOp extends DynamoDBOp implements AsyncCycleOp<Object> {
+    private final DDBBatcher batcher;
+    private final DDBBatcher.TableKey key;
+    private final Map<String, AttributeValue> attributes;
+
+    public DDBBatchItemOp(DynamoDB ddb, DDBBatcher batcher, DDBBatcher.TableKey key, Map<String, AttributeValue> attributes) {
+        super(ddb);
+        this.batcher = batcher;
+        this.key = key;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        return batcher.add(key, attributes);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.optypes;
+
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.Item;
+import com.amazonaws.services.dynamodbv2.document.ItemCollection;
+import com.amazonaws.services.dynamodbv2.document.Page;
+import com.amazonaws.services.dynamodbv2.document.ScanOutcome;
+import com.amazonaws.services.dynamodbv2.document.Table;
+import com.amazonaws.services.dynamodbv2.document.spec.ScanSpec;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpResultSize;
+
+/**
+ * Scans one segment of a table, page by page, to the end of the segment. Pages are not retained,
+ * so the result is the number of items which were scanned.
+ */
+public class DDBScanOp extends DynamoDBOp implements OpResultSize {
+
+    private final Table table;
+    private final ScanSpec scanSpec;
+    private long resultSize = -1;
+
+    public DDBScanOp(DynamoDB ddb, Table table, ScanSpec scanSpec) {
+        super(ddb);
+        this.table = table;
+        this.scanSpec = scanSpec;
+    }
+
+    @Override
+    public Long apply(long value) {
+        ItemCollection<ScanOutcome> result = table.scan(scanSpec);
+        long items = 0;
+        for (Page<Item, ScanOutcome> page : result.pages()) {
+            items += page.size();
+        }
+        this.resultSize = items;
+        return items;
+    }
+
+    @Override
+    public long getResultSize() {
+        return resultSize;
+    }
+}
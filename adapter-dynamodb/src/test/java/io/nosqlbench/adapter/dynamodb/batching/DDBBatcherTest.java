@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.dynamodb.batching;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DDBBatcherTest {
+
+    private final TestComponent parent = new TestComponent("batcher", "test");
+    private FakeBatcher batcher;
+
+    /**
+     * Records each request, and leaves items unprocessed as planned for each request, or always for the
+     * stuck keys. Processed items complete with their key.
+     */
+    private static class FakeBatcher extends DDBBatcher {
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private final Queue<Integer> unprocessedPlan = new ConcurrentLinkedQueue<>();
+        private final Set<String> stuckKeys = ConcurrentHashMap.newKeySet();
+
+        private FakeBatcher(TestComponent parent, int maxItems, long lingerMs, int retries) {
+            super(parent, "Fake", maxItems, 100, lingerMs, 1, retries, 1);
+        }
+
+        @Override
+        protected List<Entry> submit(List<Entry> entries) {
+            requests.add(entries.stream().map(e -> e.key().key().get("id").getS()).toList());
+            Integer planned = unprocessedPlan.poll();
+            int unprocessed = planned == null ? 0 : planned;
+            List<Entry> pending = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                String id = entry.key().key().get("id").getS();
+                if (i >= entries.size() - unprocessed || stuckKeys.contains(id)) {
+                    pending.add(entry);
+                } else {
+                    entry.future().complete(id);
+                }
+            }
+            return pending;
+        }
+
+        private List<Integer> requestSizes() {
+            return requests.stream().map(List::size).toList();
+        }
+    }
+
+    private FakeBatcher batcher(int maxItems, long lingerMs, int retries) {
+        batcher = new FakeBatcher(parent, maxItems, lingerMs, retries);
+        return batcher;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private static DDBBatcher.TableKey key(String id) {
+        return new DDBBatcher.TableKey("table", Map.of("id", new AttributeValue(id)));
+    }
+
+    private static List<CompletableFuture<Object>> addAll(DDBBatcher batcher, int from, int count) {
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            futures.add(batcher.add(key("k" + i), Map.of()));
+        }
+        return futures;
+    }
+
+    private static void await(List<CompletableFuture<Object>> futures) throws Exception {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    }
+
+    // The chunk size is adapted after the request which completes the processed items
+    private static void awaitChunkSize(DDBBatcher batcher, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (batcher.getChunkSize() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(batcher.getChunkSize()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testFullBatchIsSent() throws Exception {
+        FakeBatcher batcher = batcher(3, 60_000, 2);
+        List<CompletableFuture<Object>> futures = addAll(batcher, 0, 3);
+        await(futures);
+        assertThat(futures.get(1).get()).isEqualTo("k1");
+        assertThat(batcher.requests).containsExactly(List.of("k0", "k1", "k2"));
+    }
+
+    @Test
+    public void testDuplicateKeySendsTheOpenBatch() throws Exception {
+        FakeBatcher batcher = batcher(10, 60_000, 2);
+        CompletableFuture<Object> first = batcher.add(key("a"), Map.of());
+        CompletableFuture<Object> second = batcher.add(key("b"), Map.of());
+        CompletableFuture<Object> again = batcher.add(key("a"), Map.of());
+
+        await(List.of(first, second));
+        assertThat(batcher.requests).containsExactly(List.of("a", "b"));
+        assertThat(again).isNotDone();
+    }
+
+    @Test
+    public void testLingeringBatchIsSent() throws Exception {
+        FakeBatcher batcher = batcher(10, 20, 2);
+        await(addAll(batcher, 0, 2));
+        assertThat(batcher.requestSizes()).containsExactly(2);
+    }
+
+    @Test
+    public void testCloseSendsTheOpenBatch() throws Exception {
+        FakeBatcher batcher = batcher(10, 60_000, 2);
+        List<CompletableFuture<Object>> futures = addAll(batcher, 0, 2);
+        assertThat(futures.get(0)).isNotDone();
+
+        batcher.close();
+        assertThat(futures).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(batcher.requestSizes()).containsExactly(2);
+        assertThat(batcher.add(key("late"), Map.of())).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testUnprocessedItemsAreRetried() throws Exception {
+        FakeBatcher batcher = batcher(4, 60_000, 2);
+        batcher.unprocessedPlan.add(2);
+        List<CompletableFuture<Object>> futures = addAll(batcher, 0, 4);
+        await(futures);
+        assertThat(batcher.requests).containsExactly(List.of("k0", "k1", "k2", "k3"), List.of("k2", "k3"));
+    }
+
+    @Test
+    public void testItemsFailOnlyTheirOwnOpsAfterRetries() throws Exception {
+        FakeBatcher batcher = batcher(3, 60_000, 2);
+        batcher.stuckKeys.add("k1");
+        List<CompletableFuture<Object>> futures = addAll(batcher, 0, 3);
+
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("k0");
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("k2");
+        assertThatThrownBy(() -> futures.get(1).get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasMessageContaining("unprocessed after 2 retries");
+        assertThat(batcher.requestSizes()).containsExactly(3, 1, 1);
+    }
+
+    @Test
+    public void testChunkSizeIsHalvedAndGrows() throws Exception {
+        FakeBatcher batcher = batcher(16, 60_000, 2);
+        assertThat(batcher.getChunkSize()).isEqualTo(16);
+
+        // No items processed at first, which halves the chunk size rather than dropping it to one item
+        batcher.unprocessedPlan.add(16);
+        await(addAll(batcher, 0, 16));
+        awaitChunkSize(batcher, 8);
+
+        await(addAll(batcher, 100, 8));
+        awaitChunkSize(batcher, 9);
+
+        batcher.unprocessedPlan.add(1);
+        await(addAll(batcher, 200, 9));
+        awaitChunkSize(batcher, 4);
+
+        batcher.unprocessedPlan.add(1);
+        await(addAll(batcher, 300, 4));
+        awaitChunkSize(batcher, 2);
+
+        // An eighth of 16 is 2 items, which is the floor
+        batcher.unprocessedPlan.add(1);
+        await(addAll(batcher, 400, 2));
+        awaitChunkSize(batcher, 2);
+        assertThat(batcher.requestSizes()).containsExactly(16, 16, 8, 9, 1, 4, 1, 2, 1);
+    }
+
+    @Test
+    public void testChunkSizeFloorIsAnEighthOfTheBatchSize() throws Exception {
+        FakeBatcher batcher = batcher(100, 60_000, 2);
+        for (int round = 0; round < 4; round++) {
+            int chunk = batcher.getChunkSize();
+            batcher.unprocessedPlan.add(chunk);
+            await(addAll(batcher, round * 1000, chunk));
+        }
+        awaitChunkSize(batcher, 12);
+    }
+}
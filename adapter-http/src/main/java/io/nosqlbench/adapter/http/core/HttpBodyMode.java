@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.http.core;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32C;
+
+/**
+ * How the body of each response is read. Only {@link #string} keeps the whole body, so the
+ * other modes avoid buffering and decoding bodies which are not needed as text. The body is
+ * always read to the end, so that the connection can be reused.
+ */
+public enum HttpBodyMode {
+    /**
+     * Read the whole body as a string, decoded with the charset of the response.
+     */
+    string,
+    /**
+     * Read and drop the body. The response body is null.
+     */
+    discard,
+    /**
+     * Compute a CRC32C of the body bytes as they arrive. The response body is the checksum,
+     * as 8 hex digits.
+     */
+    hash,
+    /**
+     * Keep only the first bytes of the body, up to the limit, and drop the rest. The response
+     * body is the kept bytes, decoded with the charset of the response.
+     */
+    limit;
+
+    /**
+     * @param limit The number of bytes to keep, for {@link #limit}
+     * @return A body handler for this mode, which may be shared by requests
+     */
+    public HttpResponse.BodyHandler<String> handler(int limit) {
+        return switch (this) {
+            case string -> HttpResponse.BodyHandlers.ofString();
+            case discard -> HttpResponse.BodyHandlers.replacing(null);
+            case hash -> info -> HttpResponse.BodySubscribers.fromSubscriber(new HashingSubscriber(), HashingSubscriber::result);
+            case limit -> info -> {
+                Charset charset = charsetOf(info);
+                return HttpResponse.BodySubscribers.fromSubscriber(new LimitingSubscriber(limit), s -> s.result(charset));
+            };
+        };
+    }
+
+    private static Charset charsetOf(HttpResponse.ResponseInfo info) {
+        return info.headers().firstValue("content-type")
+            .map(type -> {
+                for (String param : type.split(";")) {
+                    String trimmed = param.trim();
+                    if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                        try {
+                            return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                        } catch (Exception ignored) {
+                        }
+                    }
+                }
+                return StandardCharsets.UTF_8;
+            })
+            .orElse(StandardCharsets.UTF_8);
+    }
+
+    private abstract static class DrainingSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                accept(buffer);
+            }
+        }
+
+        protected abstract void accept(ByteBuffer buffer);
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private final static class HashingSubscriber extends DrainingSubscriber {
+        private final CRC32C crc = new CRC32C();
+
+        @Override
+        protected void accept(ByteBuffer buffer) {
+            crc.update(buffer);
+        }
+
+        private String result() {
+            return String.format("%08x", crc.getValue());
+        }
+    }
+
+    private final static class LimitingSubscriber extends DrainingSubscriber {
+        private final byte[] kept;
+        private int length;
+
+        private LimitingSubscriber(int limit) {
+            this.kept = new byte[limit];
+        }
+
+        @Override
+        protected void accept(ByteBuffer buffer) {
+            int count = Math.min(buffer.remaining(), kept.length - length);
+            if (count > 0) {
+                buffer.get(kept, length, count);
+                length += count;
+            }
+        }
+
+        private String result(Charset charset) {
+            return new String(kept, 0, length, charset);
+        }
+    }
+}
@@ -18,7 +18,7 @@ package io.nosqlbench.adapter.http.core;
 
 import io.nosqlbench.adapter.http.errors.InvalidResponseBodyException;
 import io.nosqlbench.adapter.http.errors.InvalidStatusCodeException;
-import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.RunnableOp;
 import org.apache.logging.log4j.core.tools.picocli.CommandLine;
 import com.google.gson.JsonArray;
@@ -34,11 +34,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
-public class HttpOp implements CycleOp {
+public class HttpOp implements AsyncCycleOp<Object> {
 
     public final Pattern ok_status;
     public final Pattern ok_body;
@@ -47,6 +49,7 @@ public class HttpOp implements CycleOp {
     private final HttpSpace space;
     private final long cycle;
     private final HttpResultType resultType;
+    private final HttpResponse.BodyHandler<String> bodyHandler;
 
     public HttpOp(
         HttpClient client,
@@ -55,7 +58,8 @@ public class HttpOp implements CycleOp {
         Pattern ok_body,
         HttpSpace space,
         long cycle,
-        HttpResultType resultType
+        HttpResultType resultType,
+        HttpResponse.BodyHandler<String> bodyHandler
     ) {
         this.client = client;
         this.request = request;
@@ -64,27 +68,45 @@ public class HttpOp implements CycleOp {
         this.space = space;
         this.cycle = cycle;
         this.resultType = resultType;
+        this.bodyHandler = bodyHandler;
     }
 
     @Override
     public Object apply(long value) {
-        HttpResponse.BodyHandler<String> bodyreader = HttpResponse.BodyHandlers.ofString();
         HttpResponse<String> response = null;
         Exception error = null;
         long startat = System.nanoTime();
         try {
-            CompletableFuture<HttpResponse<String>> responseFuture = client.sendAsync(request, bodyreader);
+            CompletableFuture<HttpResponse<String>> responseFuture = client.sendAsync(request, bodyHandler);
             response = responseFuture.get(space.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-            space.getHttpMetrics().statusCodeHistogram.update(response.statusCode());
+        } catch (Exception e) {
+            error = e;
+        }
+        return handleResponse(response, error, startat);
+    }
+
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        long startat = System.nanoTime();
+        return client.sendAsync(request, bodyHandler)
+            .orTimeout(space.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .handle((response, throwable) -> handleResponse(response, asException(throwable), startat));
+    }
 
-            if (ok_status != null) {
-                if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
-                    throw new InvalidStatusCodeException(ok_status, response.statusCode());
+    private Object handleResponse(HttpResponse<String> response, Exception error, long startat) {
+        try {
+            if (error == null) {
+                space.getHttpMetrics().statusCodeHistogram.update(response.statusCode());
+
+                if (ok_status != null) {
+                    if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
+                        throw new InvalidStatusCodeException(ok_status, response.statusCode());
+                    }
                 }
-            }
-            if (ok_body != null) {
-                if (!ok_body.matcher(response.body()).matches()) {
-                    throw new InvalidResponseBodyException(ok_body, response.body());
+                if (ok_body != null) {
+                    if (!ok_body.matcher(response.body()).matches()) {
+                        throw new InvalidResponseBodyException(ok_body, response.body());
+                    }
                 }
             }
         } catch (Exception e) {
@@ -111,4 +133,14 @@ public class HttpOp implements CycleOp {
             case none -> null;
         };
     }
+
+    private static Exception asException(Throwable throwable) {
+        if (throwable instanceof CompletionException ce && ce.getCause() != null) {
+            throwable = ce.getCause();
+        }
+        if (throwable == null || throwable instanceof Exception) {
+            return (Exception) throwable;
+        }
+        return new RuntimeException(throwable);
+    }
 }
@@ -19,10 +19,13 @@ package io.nosqlbench.adapter.http.core;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.nb.api.errors.OpConfigError;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
@@ -44,12 +47,21 @@ public class HttpOpDispenser extends BaseOpDispenser<HttpOp, HttpSpace> {
     private LongFunction<HttpOp> getOpFunc(LongFunction<HttpSpace> ctxF, ParsedOp op) {
 
         LongFunction<HttpRequest.Builder> builderF = l -> HttpRequest.newBuilder();
-        LongFunction<String> bodyF = op.getAsFunctionOr("body", null);
-        LongFunction<HttpRequest.BodyPublisher> bodyPublisherF =
-            l -> Optional.ofNullable(bodyF.apply(l))
-                .map(s -> s + "\n")  // the elastic _bulk endpoint requires a newline at the end of the body
-                .map(HttpRequest.BodyPublishers::ofString)
-                .orElse(HttpRequest.BodyPublishers.noBody());
+        // The body is rendered directly to bytes, and copied once into the request, since the request
+        // may still be in flight when the next body is rendered on the same thread.
+        LongFunction<HttpRequest.BodyPublisher> bodyPublisherF = op.getAsOptionalEncodedFunction("body")
+            .<LongFunction<HttpRequest.BodyPublisher>>map(bodyF -> l -> {
+                ByteBuffer encoded = bodyF.apply(l);
+                if (encoded == null) {
+                    return HttpRequest.BodyPublishers.noBody();
+                }
+                int length = encoded.remaining();
+                byte[] body = new byte[length + 1];
+                System.arraycopy(encoded.array(), encoded.arrayOffset() + encoded.position(), body, 0, length);
+                body[length] = '\n'; // the elastic _bulk endpoint requires a newline at the end of the body
+                return HttpRequest.BodyPublishers.ofByteArray(body);
+            })
+            .orElse(l -> HttpRequest.BodyPublishers.noBody());
 
         LongFunction<String> methodF = op.getAsFunctionOr("method", "GET");
         LongFunction<HttpRequest.Builder> initBuilderF =
@@ -115,6 +127,20 @@ public class HttpOpDispenser extends BaseOpDispenser<HttpOp, HttpSpace> {
 
         HttpResultType resultType = op.getOptionalEnumFromField(HttpResultType.class,"result-type").orElse(HttpResultType.none);
 
+        HttpBodyMode bodyMode = op.getOptionalEnumFromField(HttpBodyMode.class, "response-body").orElse(HttpBodyMode.string);
+        int bodyLimit = op.getStaticConfigOr("response-body-limit", 1024);
+        if (bodyLimit < 0) {
+            throw new OpConfigError("response-body-limit must not be negative, but it was " + bodyLimit);
+        }
+        if (bodyMode == HttpBodyMode.discard && (ok_body != null || resultType != HttpResultType.none)) {
+            throw new OpConfigError("response-body: discard can not be used with ok-body or a result-type other than none, " +
+                "since they need the body.");
+        }
+        if (resultType == HttpResultType.json_element && bodyMode != HttpBodyMode.string) {
+            throw new OpConfigError("result-type: json_element requires the whole body, but response-body is " + bodyMode);
+        }
+        HttpResponse.BodyHandler<String> bodyHandler = bodyMode.handler(bodyLimit);
+
         LongFunction<HttpOp> opFunc = cycle -> new HttpOp(
             ctxF.apply(cycle).getClient(),
             reqF.apply(cycle),
@@ -122,7 +148,8 @@ public class HttpOpDispenser extends BaseOpDispenser<HttpOp, HttpSpace> {
             ok_body,
             ctxF.apply(cycle),
             cycle,
-            resultType
+            resultType,
+            bodyHandler
         );
         return opFunc;
     }
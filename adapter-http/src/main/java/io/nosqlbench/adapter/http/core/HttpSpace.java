@@ -30,11 +30,18 @@ import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ThreadLocal http clients have been removed from this version, as the built-in
  * HTTP client implementation is meant to be immutable. If shared-state issues
  * occur, thread-local support will be re-added.
+ * <p>
+ * A space may still have more than one client, as set by the {@code clients} parameter.
+ * Each client has its own connections and its own selector thread, so spreading threads
+ * over several clients avoids funneling all responses through one selector thread, and
+ * one HTTP/2 connection per origin. Each thread is assigned one of the clients,
+ * round-robin, the first time it asks for a client.
  */
 public class HttpSpace implements NBLabeledElement {
     private final static Logger logger = LogManager.getLogger(HttpSpace.class);
@@ -46,7 +53,10 @@ public class HttpSpace implements NBLabeledElement {
     private HttpClient.Redirect followRedirects;
     private Duration timeout;
     private long timeoutMillis;
-    private final HttpClient httpclient;
+    private HttpClient.Version clientVersion;
+    private final HttpClient[] httpclients;
+    private final AtomicInteger clientAssignments = new AtomicInteger();
+    private final ThreadLocal<HttpClient> threadClient = ThreadLocal.withInitial(this::assignClient);
     private int hdrDigits;
     private HttpMetrics httpMetrics;
     private boolean diagnosticsEnabled;
@@ -57,11 +67,29 @@ public class HttpSpace implements NBLabeledElement {
         this.name = spaceName;
         this.cfg = cfg;
         applyConfig(cfg);
-        this.httpclient = newClient();
+        int clients = cfg.get("clients", Integer.class);
+        if (clients < 1) {
+            throw new RuntimeException("The number of clients for http space '" + spaceName + "' must be at least 1, but it was " + clients);
+        }
+        this.httpclients = new HttpClient[clients];
+        for (int i = 0; i < clients; i++) {
+            httpclients[i] = newClient();
+        }
     }
 
+    /**
+     * @return The client which is assigned to the current thread
+     */
     public HttpClient getClient() {
-        return this.httpclient;
+        return httpclients.length == 1 ? httpclients[0] : threadClient.get();
+    }
+
+    private HttpClient assignClient() {
+        return httpclients[Math.floorMod(clientAssignments.getAndIncrement(), httpclients.length)];
+    }
+
+    public int getClientCount() {
+        return httpclients.length;
     }
 
     private HttpClient newClient() {
@@ -69,6 +97,9 @@ public class HttpSpace implements NBLabeledElement {
         logger.debug(() -> "follow_redirects=>" + followRedirects);
         builder = builder.followRedirects(this.followRedirects);
         builder = builder.connectTimeout(this.timeout);
+        if (this.clientVersion != null) {
+            builder = builder.version(this.clientVersion);
+        }
         return builder.build();
     }
 
@@ -79,6 +110,9 @@ public class HttpSpace implements NBLabeledElement {
             );
         this.timeout = Duration.ofMillis(cfg.get("timeout", long.class));
         this.timeoutMillis = cfg.get("timeout", long.class);
+        this.clientVersion = cfg.getOptional("client_version")
+            .map(v -> HttpClient.Version.valueOf(v.toUpperCase(Locale.ROOT)))
+            .orElse(null);
         this.httpMetrics = new HttpMetrics(parent, this);
 
         this.console = cfg.getOptional("diag").map(s -> HttpConsoleFormats.apply(s, this.console))
@@ -132,6 +166,13 @@ public class HttpSpace implements NBLabeledElement {
                 .setDescription("How long to wait for requests before timeout out. Default is forever."))
             .add(Param.defaultTo("hdr_digits", 4)
                 .setDescription("number of digits of precision to keep in HDR histograms"))
+            .add(Param.defaultTo("clients", 1)
+                .setDescription("The number of http clients in each space. Threads are assigned to clients round-robin."))
+            .add(Param.optional("client_version", String.class)
+                .setRegex("(?i)http_1_1|http_2")
+                .setDescription("The preferred HTTP version of each client, either http_1_1 or http_2. With http_2, " +
+                    "requests to the same origin are multiplexed over one connection per client. With http_1_1, " +
+                    "each request in flight has its own connection. The version field of an op overrides this."))
             .asReadOnly();
 
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.http.core;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compare the requests per second and the allocation per request of http ops against a local server,
+ * for each way of reading the response body, with 1KB and 1MB bodies, and with one or several clients.
+ * Run the main method to include the GC profiler, which reports the allocation rate and bytes per op.
+ * The server sets TCP_NODELAY, so that small responses are not held back by delayed acks.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(4)
+public class HttpBodyModeJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(HttpBodyModeJMHTest.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"string", "discard", "hash", "limit"})
+    public HttpBodyMode mode;
+
+    @Param({"1024", "1048576"})
+    public int bodySize;
+
+    @Param({"1", "4"})
+    public int clients;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private HttpSpace space;
+    private HttpRequest request;
+    private Pattern okStatus;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] body = new byte[bodySize];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) ('a' + (i % 26));
+        }
+        serverThreads = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 64);
+        server.setExecutor(serverThreads);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        space = new HttpSpace(new TestComponent("httpbench", "httpbench"), "default",
+            HttpSpace.getConfigModel().apply(Map.of("clients", clients, "client_version", "http_1_1")));
+        request = HttpRequest.newBuilder(URI.create(
+            "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/")).GET().build();
+        okStatus = Pattern.compile(HttpOpDispenser.DEFAULT_OK_STATUS);
+    }
+
+    @TearDown
+    public void teardown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Object request() {
+        return new HttpOp(space.getClient(), request, okStatus, null, space, 0L, HttpResultType.none, mode.handler(1024))
+            .apply(0L);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.http.core;
+
+import com.sun.net.httpserver.HttpServer;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpBodyModeTest {
+
+    private static HttpServer server;
+    private static HttpClient client;
+    private static byte[] body;
+    private static String baseUri;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        body = new byte[1024 * 1024];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) ('a' + (i % 26));
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUri = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+    }
+
+    private static HttpResponse<String> send(HttpBodyMode mode, int limit) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri)).GET().build();
+        return client.send(request, mode.handler(limit));
+    }
+
+    @Test
+    public void testStringReadsWholeBody() throws Exception {
+        HttpResponse<String> response = send(HttpBodyMode.string, 0);
+        assertThat(response.body()).isEqualTo(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDiscardDropsBody() throws Exception {
+        HttpResponse<String> response = send(HttpBodyMode.discard, 0);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isNull();
+    }
+
+    @Test
+    public void testHashOfBody() throws Exception {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        HttpResponse<String> response = send(HttpBodyMode.hash, 0);
+        assertThat(response.body()).isEqualTo(String.format("%08x", crc.getValue()));
+    }
+
+    @Test
+    public void testLimitKeepsPrefix() throws Exception {
+        HttpResponse<String> response = send(HttpBodyMode.limit, 100);
+        assertThat(response.body()).isEqualTo(new String(Arrays.copyOf(body, 100), StandardCharsets.UTF_8));
+        // the connection is still usable after the rest of the body is dropped
+        assertThat(send(HttpBodyMode.limit, 10).body()).hasSize(10);
+    }
+
+    @Test
+    public void testClientsAreAssignedRoundRobin() throws Exception {
+        HttpSpace space = new HttpSpace(new TestComponent("parent", "parent"), "default",
+            HttpSpace.getConfigModel().apply(Map.of("clients", 3, "client_version", "http_1_1")));
+        assertThat(space.getClientCount()).isEqualTo(3);
+        assertThat(space.getClient().version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+
+        Set<HttpClient> assigned = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[3];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                HttpClient first = space.getClient();
+                assertThat(space.getClient()).isSameAs(first);
+                assigned.add(first);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(new HashSet<>(assigned)).hasSize(3);
+    }
+}
@@ -19,7 +19,9 @@ package io.nosqlbench.adapter.jdbc;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterInvalidParamException;
+import io.nosqlbench.adapter.jdbc.batching.JDBCRowBatcher;
 import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterUnexpectedException;
+import io.nosqlbench.adapter.jdbc.utils.JDBCPgVector;
 import io.nosqlbench.nb.api.config.standard.ConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfiguration;
@@ -31,8 +33,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 public class JDBCSpace implements AutoCloseable {
@@ -51,6 +55,15 @@ public class JDBCSpace implements AutoCloseable {
     private final static int DEFAULT_DML_BATCH_NUM = 1;
     private int dmlBatchNum = DEFAULT_DML_BATCH_NUM;
 
+    // For DML write statements, how many rows (across cycles) to group into one multi-row statement
+    // - 0 or 1 : no cross-cycle batching (default)
+    // - positive number: rows are grouped by the row batcher, which flushes a batch when it is full,
+    //   or when its first row has waited for 'batch_linger_ms'
+    private final static int DEFAULT_BATCH_ROWS = 0;
+    private int batchRows = DEFAULT_BATCH_ROWS;
+    private final static long DEFAULT_BATCH_LINGER_MS = 5;
+    private long batchLingerMs = DEFAULT_BATCH_LINGER_MS;
+
     private long totalCycleNum;
     private int totalThreadNum;
     private boolean autoCommitCLI;
@@ -65,6 +78,9 @@ public class JDBCSpace implements AutoCloseable {
     }
     private final ConcurrentHashMap<ConnectionCacheKey, Connection> connections = new ConcurrentHashMap<>();
 
+    // Row batchers are flushed and stopped before the connections are closed
+    private final List<JDBCRowBatcher> rowBatchers = new CopyOnWriteArrayList<>();
+
     public JDBCSpace(String spaceName, NBConfiguration cfg) {
         this.spaceName = spaceName;
         this.initializeSpace(cfg);
@@ -75,6 +91,16 @@ public class JDBCSpace implements AutoCloseable {
                 "Using batch, 'dml_batch'(" + this.dmlBatchNum + ") > 1, along with 'autoCommit' ON is not supported!"
             );
         }
+        if ( (this.dmlBatchNum > 1) && useRowBatching() ) {
+            throw new JDBCAdapterInvalidParamException(
+                "'dml_batch'(" + this.dmlBatchNum + ") and 'batch_rows'(" + this.batchRows + ") can not be used together!"
+            );
+        }
+        if ( useRowBatching() && (this.batchLingerMs < 1) ) {
+            throw new JDBCAdapterInvalidParamException(
+                "'batch_linger_ms'(" + this.batchLingerMs + ") must be a positive number when 'batch_rows' is used!"
+            );
+        }
     }
 
     @Override
@@ -87,6 +113,10 @@ public class JDBCSpace implements AutoCloseable {
 
     public int getDmlBatchNum() { return dmlBatchNum; }
 
+    public int getBatchRows() { return batchRows; }
+    public long getBatchLingerMs() { return batchLingerMs; }
+    public boolean useRowBatching() { return batchRows > 1; }
+
     public long getTotalCycleNum() { return totalCycleNum; }
     public int getTotalThreadNum() { return totalThreadNum; }
 
@@ -106,6 +136,49 @@ public class JDBCSpace implements AutoCloseable {
         return connections.computeIfAbsent(key, __ -> connectionSupplier.get());
     }
 
+    /**
+     * Create a new connection, either borrowed from the Hikari pool or directly from the driver.
+     * The caller owns the connection, and should either close it or cache it with
+     * {@link #getConnection(ConnectionCacheKey, Supplier)} so that it is closed with this space.
+     */
+    public Connection createConnection(String connectionName) {
+        try {
+            Connection connection;
+
+            if (useHikariCP) {
+                connection = hikariDataSource.getConnection();
+            }
+            // Use DriverManager directly
+            else {
+                String url = connConfig.getJdbcUrl();
+                Properties props = connConfig.getDataSourceProperties();
+                props.put("user", connConfig.getUsername());
+                props.put("password", connConfig.getPassword());
+                connection = DriverManager.getConnection(url, props);
+            }
+
+            // Register 'vector' type
+            JDBCPgVector.addVectorType(connection);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("A new JDBC connection ({}) is successfully created: {}",
+                    connectionName, connection);
+            }
+
+            return connection;
+        }
+        catch (Exception ex) {
+            String exp = "Exception occurred while attempting to create a connection (useHikariCP=" +
+                useHikariCP + ")";
+            logger.error(exp, ex);
+            throw new JDBCAdapterUnexpectedException(exp);
+        }
+    }
+
+    public void addRowBatcher(JDBCRowBatcher rowBatcher) {
+        rowBatchers.add(rowBatcher);
+    }
+
     private void initializeSpace(NBConfiguration cfg) {
         //
         // NOTE: Although it looks like a good idea to use Hikari Connection Pooling
@@ -123,8 +196,12 @@ public class JDBCSpace implements AutoCloseable {
         this.autoCommitCLI = BooleanUtils.toBoolean(cfg.getOptional("autoCommit").orElse("true"));
         this.dmlBatchNum = NumberUtils.toInt(cfg.getOptional("dml_batch").orElse("1"));
         if (this.dmlBatchNum < 0) dmlBatchNum = 1;
-        logger.info("CLI input parameters -- useHikariCP:{}, autoCommitCLI:{}, dmlBatchNum:{}",
-            useHikariCP, autoCommitCLI, dmlBatchNum);
+        this.batchRows = NumberUtils.toInt(cfg.getOptional("batch_rows").orElse("0"));
+        this.batchLingerMs = NumberUtils.toLong(cfg.getOptional("batch_linger_ms").orElse(String.valueOf(DEFAULT_BATCH_LINGER_MS)));
+        // Size the pool from 'num_conn' now, since the pool is created before any op dispenser adjusts it
+        this.maxNumConn = Math.max(1, NumberUtils.toInt(cfg.getOptional("num_conn").orElse(String.valueOf(DEFAULT_CONN_NUM))));
+        logger.info("CLI input parameters -- useHikariCP:{}, autoCommitCLI:{}, dmlBatchNum:{}, batchRows:{}, batchLingerMs:{}",
+            useHikariCP, autoCommitCLI, dmlBatchNum, batchRows, batchLingerMs);
 
         this.totalCycleNum = NumberUtils.toLong(cfg.getOptional("cycles").orElse("1"));
         this.totalThreadNum = NumberUtils.toInt(cfg.getOptional("threads").orElse("1"));
@@ -193,6 +270,11 @@ public class JDBCSpace implements AutoCloseable {
     }
 
     private void shutdownSpace() {
+        for (JDBCRowBatcher rowBatcher : rowBatchers) {
+            rowBatcher.close();
+        }
+        rowBatchers.clear();
+
         try {
             logger.info("Shutting down JDBCSpace -- total {} of connections is being closed ...", connections.size());
             for (Connection connection : connections.values()) {
@@ -217,6 +299,14 @@ public class JDBCSpace implements AutoCloseable {
             .add(Param.defaultTo("dml_batch", DEFAULT_DML_BATCH_NUM)
                 .setDescription("The number of DML write statements in a batch. Defaults to 1. Ignored by DML read statements!" +
                     DEFAULT_DML_BATCH_NUM + "' (no batch)"))
+            .add(Param.defaultTo("batch_rows", DEFAULT_BATCH_ROWS)
+                .setDescription("The number of DML write rows, across cycles, to group into one multi-row statement. " +
+                    "INSERT and UPSERT statements with a single VALUES tuple are rewritten into one statement with many tuples; " +
+                    "other write statements are sent as a JDBC batch. Defaults to '" + DEFAULT_BATCH_ROWS + "' (no batch). " +
+                    "Can not be used with 'dml_batch'. Use it with the 'async' activity parameter to keep enough rows in flight."))
+            .add(Param.defaultTo("batch_linger_ms", DEFAULT_BATCH_LINGER_MS)
+                .setDescription("When 'batch_rows' is set, how long the first row of a batch may wait for more rows " +
+                    "before the batch is sent as it is. Defaults to '" + DEFAULT_BATCH_LINGER_MS + "'"))
             .add(Param.defaultTo("use_hikaricp", "true")
                 .setDescription("Whether to use Hikari connection pooling (default: true)!"))
             .add(Param.defaultTo("url", "jdbc:postgresql:/")
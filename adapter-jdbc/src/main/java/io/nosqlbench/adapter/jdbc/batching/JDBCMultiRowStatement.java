@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.jdbc.batching;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>The multi-row form of a prepared single-row write statement. An INSERT or UPSERT statement with
+ * one VALUES tuple, such as</p>
+ * <pre>{@code INSERT INTO t (a, b) VALUES (?, ?) ON CONFLICT (a) DO NOTHING}</pre>
+ * <p>is split around its tuple, so that the statement for any number of rows can be built by repeating
+ * the tuple, as in {@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?) ON CONFLICT (a) DO NOTHING}.</p>
+ *
+ * <p>A statement can only be rewritten when all of its placeholders are in the VALUES tuple. Any other
+ * statement is not rewritable, and its rows are sent as a JDBC batch of the original statement instead.</p>
+ *
+ * <p>Placeholders are counted as the PostgreSQL® JDBC driver sees them. A '?' in a quoted literal,
+ * a quoted identifier or a comment is not a placeholder, and neither is the escaped operator '??'.</p>
+ */
+public class JDBCMultiRowStatement {
+    // PostgreSQL® and compatible databases accept at most this many bind parameters in one statement
+    public final static int MAX_BIND_PARAMS = 65535;
+
+    private final static Pattern VALUES_PATTERN = Pattern.compile("\\bvalues\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+    private final String sql;
+    private final String prefix;
+    private final String tuple;
+    private final String suffix;
+    private final int paramsPerRow;
+    private final ConcurrentHashMap<Integer, String> sqlByRows = new ConcurrentHashMap<>();
+
+    public JDBCMultiRowStatement(String sql) {
+        this.sql = sql;
+        this.paramsPerRow = countPlaceholders(sql);
+
+        String[] parts = split(sql, paramsPerRow);
+        this.prefix = parts == null ? null : parts[0];
+        this.tuple = parts == null ? null : parts[1];
+        this.suffix = parts == null ? null : parts[2];
+    }
+
+    private static String[] split(String sql, int paramsPerRow) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (paramsPerRow == 0 || !(head.startsWith("insert") || head.startsWith("upsert"))) {
+            return null;
+        }
+
+        Matcher matcher = VALUES_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return null;
+        }
+        int tupleStart = matcher.end() - 1;
+        int tupleEnd = closingParen(sql, tupleStart);
+        if (tupleEnd < 0) {
+            return null;
+        }
+
+        String tuple = sql.substring(tupleStart, tupleEnd + 1);
+        String suffix = sql.substring(tupleEnd + 1);
+        // Already a multi-row statement, or placeholders outside the tuple
+        if (suffix.stripLeading().startsWith(",") || countPlaceholders(tuple) != paramsPerRow) {
+            return null;
+        }
+        return new String[]{sql.substring(0, tupleStart), tuple, suffix};
+    }
+
+    // The index of the parenthesis which closes the one at 'start', skipping quoted text and comments
+    private static int closingParen(String sql, int start) {
+        int depth = 0;
+        for (int i = start; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            } else {
+                i = skipQuotedOrComment(sql, i);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The number of bind parameter placeholders in the statement text
+     */
+    public static int countPlaceholders(String sql) {
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '?') {
+                    i++;
+                } else {
+                    count++;
+                }
+            } else {
+                i = skipQuotedOrComment(sql, i);
+            }
+        }
+        return count;
+    }
+
+    // If a quoted literal, quoted identifier or comment starts at 'i', the index of its last character.
+    // Otherwise, 'i'. A doubled quote within quoted text is read as two adjacent quoted strings.
+    private static int skipQuotedOrComment(String sql, int i) {
+        char c = sql.charAt(i);
+        int end = -1;
+        if (c == '\'' || c == '"') {
+            end = sql.indexOf(c, i + 1);
+        } else if (c == '-' && sql.startsWith("--", i)) {
+            end = sql.indexOf('\n', i);
+        } else if (c == '/' && sql.startsWith("/*", i)) {
+            end = sql.indexOf("*/", i + 2);
+            end = end < 0 ? -1 : end + 1;
+        } else {
+            return i;
+        }
+        return end < 0 ? sql.length() - 1 : end;
+    }
+
+    public String getSql() { return sql; }
+    public int getParamsPerRow() { return paramsPerRow; }
+
+    public boolean isRewritable() {
+        return tuple != null;
+    }
+
+    /**
+     * @return The most rows which can be bound to one statement, within the bind parameter limit
+     */
+    public int getMaxRows() {
+        return isRewritable() ? Math.max(1, MAX_BIND_PARAMS / paramsPerRow) : 1;
+    }
+
+    /**
+     * @param rows The number of rows, which must not be more than {@link #getMaxRows()}
+     * @return The statement text for the given number of rows
+     */
+    public String sqlFor(int rows) {
+        if (rows == 1 || !isRewritable()) {
+            return sql;
+        }
+        return sqlByRows.computeIfAbsent(rows, r -> {
+            StringBuilder sb = new StringBuilder(prefix.length() + suffix.length() + r * (tuple.length() + 2));
+            sb.append(prefix).append(tuple);
+            for (int i = 1; i < r; i++) {
+                sb.append(", ").append(tuple);
+            }
+            return sb.append(suffix).toString();
+        });
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.jdbc.batching;
+
+import io.nosqlbench.adapter.jdbc.JDBCSpace;
+import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterUnexpectedException;
+import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLBatchedWriteOp;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricHistogram;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Groups the rows of DML write ops across cycles, and writes each group with as few statements
+ * as possible. Rows are grouped by their statement text. A group is sent when it has 'batch_rows' rows,
+ * or when its first row has waited for 'batch_linger_ms', whichever comes first.</p>
+ *
+ * <p>Each group is written by one of 'num_conn' flusher threads. INSERT and UPSERT statements are rewritten
+ * into multi-row statements, as described in {@link JDBCMultiRowStatement}, and any other statement is sent
+ * as a JDBC batch. When Hikari pooling is used, a connection is borrowed from the pool for each group and
+ * returned after it is committed, so the flushers never hold more connections than they are using.
+ * Otherwise, each flusher thread keeps its own connection. The group is committed if the connection is not
+ * in auto-commit mode.</p>
+ *
+ * <p>The time from when a group is sent to when it is committed is measured per group, and the time each
+ * row waited before its group was sent is measured per row. The op result timing of each row covers both.</p>
+ */
+public class JDBCRowBatcher implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(JDBCRowBatcher.class);
+
+    private final JDBCSpace jdbcSpace;
+    private final String name;
+    private final int batchRows;
+    private final long lingerNanos;
+
+    private final NBMetricTimer batchTimer;
+    private final NBMetricTimer rowWaitTimer;
+    private final NBMetricHistogram batchRowsHistogram;
+
+    // Open batches by statement text, guarded by the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    private boolean closed;
+
+    private final Map<String, JDBCMultiRowStatement> statements = new ConcurrentHashMap<>();
+    private final ExecutorService flushers;
+    private final ScheduledExecutorService lingerTimer;
+    private final ThreadLocal<Connection> flusherConnection = new ThreadLocal<>();
+
+    private record Row(JDBCDMLBatchedWriteOp op, CompletableFuture<Integer> future, long addedNanos) {
+    }
+
+    private static final class Batch {
+        private final String sql;
+        private final List<Row> rows;
+        private ScheduledFuture<?> lingerTask;
+
+        private Batch(String sql, int capacity) {
+            this.sql = sql;
+            this.rows = new ArrayList<>(capacity);
+        }
+    }
+
+    public JDBCRowBatcher(NBComponent parent, JDBCSpace jdbcSpace, String name) {
+        this.jdbcSpace = jdbcSpace;
+        this.name = name;
+        this.batchRows = jdbcSpace.getBatchRows();
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(jdbcSpace.getBatchLingerMs());
+
+        this.batchTimer = parent.create().timer(
+            "jdbc_batch",
+            MetricCategory.Driver,
+            "JDBC multi-row batch latency, from when a batch is sent to when it is committed"
+        );
+        this.rowWaitTimer = parent.create().timer(
+            "jdbc_batch_row_wait",
+            MetricCategory.Driver,
+            "JDBC time each row waited for its batch to be sent"
+        );
+        this.batchRowsHistogram = parent.create().histogram(
+            "jdbc_batch_rows",
+            MetricCategory.Driver,
+            "JDBC number of rows in each batch"
+        );
+
+        this.flushers = Executors.newFixedThreadPool(jdbcSpace.getMaxNumConn(), threadFactory(name + "-flush-"));
+        this.lingerTimer = Executors.newSingleThreadScheduledExecutor(threadFactory(name + "-linger-"));
+        jdbcSpace.addRowBatcher(this);
+
+        logger.info("Row batcher {} created with batch_rows: {}, batch_linger_ms: {}, flushers: {}",
+            name, batchRows, jdbcSpace.getBatchLingerMs(), jdbcSpace.getMaxNumConn());
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger idx = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + idx.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Add the row of an op to the open batch for its statement.
+     *
+     * @return A future which is completed when the batch with this row is committed, or failed
+     */
+    public CompletableFuture<Integer> add(JDBCDMLBatchedWriteOp op) {
+        Row row = new Row(op, new CompletableFuture<>(), System.nanoTime());
+        Batch full = null;
+
+        lock.lock();
+        try {
+            if (closed) {
+                row.future.completeExceptionally(
+                    new JDBCAdapterUnexpectedException("The JDBC row batcher " + name + " is already closed"));
+                return row.future;
+            }
+            Batch batch = openBatches.get(op.getSql());
+            if (batch == null) {
+                batch = new Batch(op.getSql(), batchRows);
+                openBatches.put(op.getSql(), batch);
+                Batch lingering = batch;
+                batch.lingerTask = lingerTimer.schedule(() -> sendLingering(lingering), lingerNanos, TimeUnit.NANOSECONDS);
+            }
+            batch.rows.add(row);
+            if (batch.rows.size() >= batchRows) {
+                openBatches.remove(op.getSql());
+                batch.lingerTask.cancel(false);
+                full = batch;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            send(full);
+        }
+        return row.future;
+    }
+
+    private void sendLingering(Batch batch) {
+        lock.lock();
+        try {
+            // The batch may have been filled and sent already
+            if (openBatches.get(batch.sql) != batch) {
+                return;
+            }
+            openBatches.remove(batch.sql);
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        try {
+            flushers.execute(() -> flush(batch));
+        } catch (RejectedExecutionException ree) {
+            fail(batch, new JDBCAdapterUnexpectedException(
+                "The JDBC row batcher " + name + " could not send a batch of " + batch.rows.size() + " rows"));
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<Row> rows = batch.rows;
+        long startNanos = System.nanoTime();
+        for (Row row : rows) {
+            rowWaitTimer.update(startNanos - row.addedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        JDBCMultiRowStatement statement = statements.computeIfAbsent(batch.sql, JDBCMultiRowStatement::new);
+        Connection connection = null;
+        int[] results = null;
+        JDBCAdapterUnexpectedException error = null;
+        try {
+            connection = acquireConnection();
+            results = statement.isRewritable()
+                ? executeMultiRow(connection, statement, rows)
+                : executeBatch(connection, statement, rows);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+
+            batchTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            batchRowsHistogram.update(rows.size());
+            if (logger.isDebugEnabled()) {
+                logger.debug("[row batch - execution] rows: {}, rewritten: {}, stmt: {}",
+                    rows.size(), statement.isRewritable(), batch.sql);
+            }
+        }
+        catch (Exception e) {
+            rollback(connection);
+            error = new JDBCAdapterUnexpectedException(
+                "Failed to execute a batch of " + rows.size() + " rows for the prepared statement: \"" +
+                    batch.sql + "\"", e);
+        }
+        finally {
+            releaseConnection(connection);
+        }
+
+        // The rows are completed only after the connection is released, so that it is free for the next batch
+        if (error != null) {
+            fail(batch, error);
+        } else {
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).future.complete(results[i]);
+            }
+        }
+    }
+
+    // One multi-row statement for each group of rows within the bind parameter limit. A statement reports one
+    // update count for all of its rows, which can not be split between them, so it is the result of the last
+    // row of the statement, and the other rows of the statement have a result of 0.
+    private int[] executeMultiRow(Connection connection, JDBCMultiRowStatement statement, List<Row> rows) throws SQLException {
+        int[] results = new int[rows.size()];
+        int maxRows = statement.getMaxRows();
+        for (int from = 0; from < rows.size(); from += maxRows) {
+            int count = Math.min(maxRows, rows.size() - from);
+            try (PreparedStatement stmt = connection.prepareStatement(statement.sqlFor(count))) {
+                for (int i = 0; i < count; i++) {
+                    rows.get(from + i).op.bindValues(stmt, i * statement.getParamsPerRow());
+                }
+                results[from + count - 1] = stmt.executeUpdate();
+            }
+        }
+        return results;
+    }
+
+    private int[] executeBatch(Connection connection, JDBCMultiRowStatement statement, List<Row> rows) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(statement.getSql())) {
+            for (Row row : rows) {
+                row.op.bindValues(stmt, 0);
+                stmt.addBatch();
+            }
+            int[] counts = stmt.executeBatch();
+            int[] results = new int[rows.size()];
+            for (int i = 0; i < results.length && i < counts.length; i++) {
+                results[i] = Math.max(counts[i], 0);
+            }
+            return results;
+        }
+    }
+
+    private Connection acquireConnection() {
+        if (jdbcSpace.useHikariCP()) {
+            return jdbcSpace.createConnection(name);
+        }
+        Connection connection = flusherConnection.get();
+        if (connection == null) {
+            String connectionName = Thread.currentThread().getName();
+            connection = jdbcSpace.getConnection(
+                new JDBCSpace.ConnectionCacheKey(connectionName),
+                () -> jdbcSpace.createConnection(connectionName));
+            flusherConnection.set(connection);
+        }
+        return connection;
+    }
+
+    // Pooled connections are returned to the pool after each batch. Others are closed with the space.
+    private void releaseConnection(Connection connection) {
+        if (connection != null && jdbcSpace.useHikariCP()) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Failed to return a JDBC connection to the pool: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            if (connection != null && !connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            logger.warn("Failed to roll back a failed batch: {}", e.getMessage());
+        }
+    }
+
+    private void fail(Batch batch, Throwable error) {
+        for (Row row : batch.rows) {
+            row.future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Send any open batches, and wait for all sent batches to be written.
+     */
+    @Override
+    public void close() {
+        List<Batch> remaining;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = new ArrayList<>(openBatches.values());
+            openBatches.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        lingerTimer.shutdownNow();
+        remaining.forEach(this::send);
+        flushers.shutdown();
+        try {
+            if (!flushers.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Row batcher {} did not finish writing its batches within 30 seconds", name);
+                flushers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flushers.shutdownNow();
+        }
+    }
+}
@@ -27,4 +27,7 @@ public class JDBCAdapterUnexpectedException extends RuntimeException {
         super(e);
         printStackTrace();
     }
+    public JDBCAdapterUnexpectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -17,7 +17,9 @@
 package io.nosqlbench.adapter.jdbc.opdispensers;
 
 import io.nosqlbench.adapter.jdbc.JDBCSpace;
+import io.nosqlbench.adapter.jdbc.batching.JDBCRowBatcher;
 import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterInvalidParamException;
+import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLBatchedWriteOp;
 import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLOp;
 import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLReadOp;
 import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLWriteOp;
@@ -38,6 +40,7 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
     private final boolean isReadStatement;
     private final LongFunction<String> pStmtSqlStrFunc;
     private final LongFunction<List<Object>> pStmtValListFunc;
+    private final JDBCRowBatcher rowBatcher;
 
     public JDBCDMLOpDispenser(DriverAdapter<JDBCOp, JDBCSpace> adapter,
                               JDBCSpace jdbcSpace,
@@ -58,7 +61,10 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
 
         // For write workload, avoid thread-safety issue by using a constrained connection number
         // For read workload, it is ok to use more threads than available connections
-        if (!isReadStmt)  {
+        // For batched write workload, the rows are written by 'num_conn' row batcher threads instead,
+        //    so any number of NB threads can add rows
+        boolean useRowBatching = !isReadStmt && jdbcSpace.useRowBatching();
+        if (!isReadStmt && !useRowBatching)  {
             if (threadNum > numConnInput) {
                 throw new JDBCAdapterInvalidParamException(
                     "JDBC connection is NOT thread safe. For write workload, the total NB thread number (" + threadNum +
@@ -66,7 +72,9 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
                 );
             }
         }
-        maxNumConnFinal = Math.min(threadNum, maxNumConnFinal);
+        if (!useRowBatching) {
+            maxNumConnFinal = Math.min(threadNum, maxNumConnFinal);
+        }
         if (maxNumConnFinal < 1) {
             throw new JDBCAdapterInvalidParamException(
                 "'num_conn' NB CLI parameter must be a positive number!"
@@ -75,9 +83,9 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
         jdbcSpace.setMaxNumConn(maxNumConnFinal);
 
         logger.info("Total {} JDBC connections will be created [isReadStmt:{}, threads/{}, num_conn/{}]; " +
-                "dml_batch: {}, autoCommit: {}",
+                "dml_batch: {}, batch_rows: {}, autoCommit: {}",
             maxNumConnFinal, isReadStmt, threadNum, numConnInput,
-            jdbcSpace.getDmlBatchNum(), jdbcSpace.isAutoCommit());
+            jdbcSpace.getDmlBatchNum(), jdbcSpace.getBatchRows(), jdbcSpace.isAutoCommit());
 
         // TODO: this is a current limitation applied by this adapter
         //       improve this behavior by allowing the user to choose
@@ -98,6 +106,8 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
             }
             return pStmtValListObj;
         };
+
+        this.rowBatcher = useRowBatching ? new JDBCRowBatcher(this, jdbcSpace, "jdbc-batch-" + op.getName()) : null;
     }
 
     @Override
@@ -110,6 +120,13 @@ public class JDBCDMLOpDispenser extends JDBCBaseOpDispenser {
                 pStmtValListFunc.apply(cycle),
                 this.verifierKeyName);
         }
+        else if (rowBatcher != null) {
+            return new JDBCDMLBatchedWriteOp(
+                jdbcSpace,
+                pStmtSqlStrFunc.apply(cycle),
+                pStmtValListFunc.apply(cycle),
+                rowBatcher);
+        }
         else {
             int ddlStmtBatchNum = jdbcSpace.getDmlBatchNum();
             return new JDBCDMLWriteOp(
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.jdbc.optypes;
+
+import io.nosqlbench.adapter.jdbc.JDBCSpace;
+import io.nosqlbench.adapter.jdbc.batching.JDBCRowBatcher;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A DML write op which is not run by itself, but is added as one row to the {@link JDBCRowBatcher}
+ * of its op template. The op completes when the batch which includes it is committed, so its result
+ * timing includes the time it waited for the batch to fill.
+ *
+ * <p>A multi-row statement reports one update count for all of its rows. That count is the result of
+ * the last row of each statement, and the other rows have a result of 0, so the results of all rows
+ * add up to the rows written, but the result of one row does not say whether that row was written.
+ * Rows sent as a JDBC batch each have their own update count.</p>
+ */
+public class JDBCDMLBatchedWriteOp extends JDBCDMLOp implements AsyncCycleOp<Object> {
+
+    private final JDBCRowBatcher rowBatcher;
+
+    public JDBCDMLBatchedWriteOp(JDBCSpace jdbcSpace,
+                                 String pStmtSqlStr,
+                                 List<Object> pStmtValList,
+                                 JDBCRowBatcher rowBatcher) {
+        super(jdbcSpace, false, pStmtSqlStr, pStmtValList, false);
+        this.rowBatcher = rowBatcher;
+    }
+
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        return rowBatcher.add(this).thenApply(count -> count);
+    }
+
+    public String getSql() {
+        return pStmtSqlStr;
+    }
+
+    public List<Object> getValues() {
+        return pStmtValList;
+    }
+
+    /**
+     * Bind the values of this row to a statement, after the first 'offset' parameters.
+     */
+    public void bindValues(PreparedStatement stmt, int offset) throws SQLException {
+        setPrepStmtValues(stmt, offset);
+    }
+}
@@ -16,6 +16,7 @@
 package io.nosqlbench.adapter.jdbc.optypes;
 
 import io.nosqlbench.adapter.jdbc.JDBCSpace;
+import io.nosqlbench.adapter.jdbc.batching.JDBCMultiRowStatement;
 import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterInvalidParamException;
 import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterUnexpectedException;
 import io.nosqlbench.adapter.jdbc.utils.JDBCPgVector;
@@ -42,13 +43,21 @@ public abstract class JDBCDMLOp extends JDBCOp {
                      boolean isReadStmt,
                      String pStmtSqlStr,
                      List<Object> pStmtValList) {
-        super(jdbcSpace);
+        this(jdbcSpace, isReadStmt, pStmtSqlStr, pStmtValList, true);
+    }
+
+    protected JDBCDMLOp(JDBCSpace jdbcSpace,
+                        boolean isReadStmt,
+                        String pStmtSqlStr,
+                        List<Object> pStmtValList,
+                        boolean withConnection) {
+        super(jdbcSpace, withConnection);
         assert(StringUtils.isNotBlank(pStmtSqlStr));
 
         this.isReadStmt = isReadStmt;
         this.pStmtSqlStr = pStmtSqlStr;
         this.pStmtValList = pStmtValList;
-        this.isPreparedStmt = StringUtils.contains(pStmtSqlStr, "?");
+        this.isPreparedStmt = JDBCMultiRowStatement.countPlaceholders(pStmtSqlStr) > 0;
 
         // NOTE:
         // - The write DML statement MUST use prepared statement!
@@ -59,7 +68,7 @@ public abstract class JDBCDMLOp extends JDBCOp {
         }
 
         if (isPreparedStmt) {
-            int expectedFiledCnt = StringUtils.countMatches(pStmtSqlStr, "?");
+            int expectedFiledCnt = JDBCMultiRowStatement.countPlaceholders(pStmtSqlStr);
             int actualFieldCnt = pStmtValList.size();
             if (expectedFiledCnt != actualFieldCnt) {
                 throw new JDBCAdapterUnexpectedException(
@@ -73,10 +82,16 @@ public abstract class JDBCDMLOp extends JDBCOp {
 
     // Only applicable to a prepared statement
     protected PreparedStatement setPrepStmtValues(PreparedStatement stmt) throws SQLException {
+        return setPrepStmtValues(stmt, 0);
+    }
+
+    // Only applicable to a prepared statement; the values are bound after the first 'offset' parameters,
+    // so that the values of several ops can be bound to one multi-row statement
+    protected PreparedStatement setPrepStmtValues(PreparedStatement stmt, int offset) throws SQLException {
         assert (stmt != null);
 
         for (int i=0; i<pStmtValList.size(); i++) {
-            int fieldIdx = i + 1;
+            int fieldIdx = offset + i + 1;
             Object fieldValObj = pStmtValList.get(i);
             assert (fieldValObj != null);
 
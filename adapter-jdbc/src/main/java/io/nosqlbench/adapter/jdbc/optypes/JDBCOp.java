@@ -17,17 +17,14 @@
 package io.nosqlbench.adapter.jdbc.optypes;
 
 import io.nosqlbench.adapter.jdbc.JDBCSpace;
-import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterUnexpectedException;
-import io.nosqlbench.adapter.jdbc.utils.JDBCPgVector;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.sql.*;
-import java.util.Properties;
+import java.sql.Connection;
 import java.util.Random;
 
-public abstract class JDBCOp implements CycleOp {
+public abstract class JDBCOp implements CycleOp<Object> {
     private static final Logger LOGGER = LogManager.getLogger(JDBCOp.class);
     protected static final String LOG_COMMIT_SUCCESS =
         "Executed the JDBC statement & committed the connection successfully";
@@ -37,8 +34,17 @@ public abstract class JDBCOp implements CycleOp {
     private final Random random = new Random();
 
     public JDBCOp(JDBCSpace jdbcSpace) {
+        this(jdbcSpace, true);
+    }
+
+    /**
+     * @param withConnection Whether this op runs its statements on its own cached connection. Ops
+     *                       which hand their statements to another stage do not need one, and should
+     *                       not hold a connection out of the pool.
+     */
+    protected JDBCOp(JDBCSpace jdbcSpace, boolean withConnection) {
         this.jdbcSpace = jdbcSpace;
-        this.jdbcConnection = getConnection();
+        this.jdbcConnection = withConnection ? getConnection() : null;
     }
 
     private Connection getConnection() {
@@ -46,38 +52,7 @@ public abstract class JDBCOp implements CycleOp {
         final String connectionName = "jdbc-conn-" + rnd;
 
         return jdbcSpace.getConnection(
-            new JDBCSpace.ConnectionCacheKey(connectionName), () -> {
-            try {
-                Connection connection;
-
-                if (jdbcSpace.useHikariCP()) {
-                    connection = jdbcSpace.getHikariDataSource().getConnection();
-                }
-                // Use DriverManager directly
-                else {
-                    String url = jdbcSpace.getConnConfig().getJdbcUrl();
-                    Properties props = jdbcSpace.getConnConfig().getDataSourceProperties();
-                    props.put("user", jdbcSpace.getConnConfig().getUsername());
-                    props.put("password", jdbcSpace.getConnConfig().getPassword());
-                    connection = DriverManager.getConnection(url, props);
-                }
-
-                // Register 'vector' type
-                JDBCPgVector.addVectorType(connection);
-
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("A new JDBC connection ({}) is successfully created: {}",
-                        connectionName, connection);
-                }
-
-                return connection;
-            }
-            catch (Exception ex) {
-                String exp = "Exception occurred while attempting to create a connection (useHikariCP=" +
-                    jdbcSpace.useHikariCP() + ")";
-                LOGGER.error(exp, ex);
-                throw new JDBCAdapterUnexpectedException(exp);
-            }
-        });
+            new JDBCSpace.ConnectionCacheKey(connectionName),
+            () -> jdbcSpace.createConnection(connectionName));
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.jdbc.batching;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JDBCMultiRowStatementTest {
+
+    @Test
+    public void testValuesTupleIsRepeated() {
+        JDBCMultiRowStatement statement =
+            new JDBCMultiRowStatement("INSERT INTO t (a, b) VALUES (?, ?) ON CONFLICT (a) DO NOTHING");
+        assertThat(statement.isRewritable()).isTrue();
+        assertThat(statement.getParamsPerRow()).isEqualTo(2);
+        assertThat(statement.sqlFor(1)).isEqualTo(statement.getSql());
+        assertThat(statement.sqlFor(3))
+            .isEqualTo("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?) ON CONFLICT (a) DO NOTHING");
+    }
+
+    @Test
+    public void testUpsertAndNestedParensAreRewritten() {
+        JDBCMultiRowStatement statement =
+            new JDBCMultiRowStatement("upsert into t (a, b) values (?, lower(?))");
+        assertThat(statement.isRewritable()).isTrue();
+        assertThat(statement.sqlFor(2)).isEqualTo("upsert into t (a, b) values (?, lower(?)), (?, lower(?))");
+    }
+
+    @Test
+    public void testMaxRowsStaysWithinTheBindParameterLimit() {
+        assertThat(new JDBCMultiRowStatement("INSERT INTO t (a, b) VALUES (?, ?)").getMaxRows())
+            .isEqualTo(32767);
+        JDBCMultiRowStatement statement = new JDBCMultiRowStatement("INSERT INTO t (a, b, c) VALUES (?, ?, ?)");
+        assertThat(statement.getMaxRows()).isEqualTo(21845);
+        assertThat(statement.getMaxRows() * statement.getParamsPerRow())
+            .isLessThanOrEqualTo(JDBCMultiRowStatement.MAX_BIND_PARAMS);
+    }
+
+    @Test
+    public void testOtherStatementsAreNotRewritable() {
+        assertThat(new JDBCMultiRowStatement("UPDATE t SET b = ? WHERE a = ?").isRewritable()).isFalse();
+        assertThat(new JDBCMultiRowStatement("DELETE FROM t WHERE a = ?").isRewritable()).isFalse();
+        assertThat(new JDBCMultiRowStatement("INSERT INTO t (a) SELECT ?").isRewritable()).isFalse();
+        assertThat(new JDBCMultiRowStatement("INSERT INTO t (a) VALUES (1)").isRewritable()).isFalse();
+        assertThat(new JDBCMultiRowStatement("INSERT INTO t (a) VALUES (?), (?)").isRewritable()).isFalse();
+        assertThat(new JDBCMultiRowStatement(
+            "INSERT INTO t (a, b) VALUES (?, 0) ON CONFLICT (a) DO UPDATE SET b = ?").isRewritable()).isFalse();
+
+        JDBCMultiRowStatement statement = new JDBCMultiRowStatement("UPDATE t SET b = ? WHERE a = ?");
+        assertThat(statement.getMaxRows()).isEqualTo(1);
+        assertThat(statement.sqlFor(5)).isEqualTo(statement.getSql());
+    }
+
+    @Test
+    public void testOnlyPlaceholdersOutsideQuotesAreCounted() {
+        assertThat(JDBCMultiRowStatement.countPlaceholders("SELECT 'why?', \"who?\" FROM t WHERE a = ?"))
+            .isEqualTo(1);
+        assertThat(JDBCMultiRowStatement.countPlaceholders("SELECT 'it''s?' FROM t WHERE a = ? AND b = ?"))
+            .isEqualTo(2);
+        assertThat(JDBCMultiRowStatement.countPlaceholders("SELECT a FROM t WHERE j ?? 'k' AND a = ?"))
+            .isEqualTo(1);
+        assertThat(JDBCMultiRowStatement.countPlaceholders("SELECT a -- why?\nFROM t /* who? */ WHERE a = ?"))
+            .isEqualTo(1);
+        assertThat(JDBCMultiRowStatement.countPlaceholders("SELECT 'unterminated ?")).isEqualTo(0);
+    }
+
+    @Test
+    public void testQuotedTextInTheTupleIsKept() {
+        JDBCMultiRowStatement statement =
+            new JDBCMultiRowStatement("INSERT INTO t (a, b) VALUES (?, 'a?b)') RETURNING a");
+        assertThat(statement.isRewritable()).isTrue();
+        assertThat(statement.getParamsPerRow()).isEqualTo(1);
+        assertThat(statement.sqlFor(2)).isEqualTo("INSERT INTO t (a, b) VALUES (?, 'a?b)'), (?, 'a?b)') RETURNING a");
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.jdbc.batching;
+
+import io.nosqlbench.adapter.jdbc.JDBCSpace;
+import io.nosqlbench.adapter.jdbc.exceptions.JDBCAdapterUnexpectedException;
+import io.nosqlbench.adapter.jdbc.optypes.JDBCDMLBatchedWriteOp;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class JDBCRowBatcherTest {
+    private final static String INSERT = "INSERT INTO t (a, b) VALUES (?, ?)";
+
+    private final TestComponent parent = new TestComponent("batcher", "test");
+    private JDBCSpace space;
+    private Connection connection;
+    private PreparedStatement stmt;
+    private JDBCRowBatcher batcher;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        space = mock(JDBCSpace.class);
+        when(space.getMaxNumConn()).thenReturn(1);
+        when(space.useHikariCP()).thenReturn(true);
+
+        connection = mock(Connection.class);
+        stmt = mock(PreparedStatement.class);
+        when(space.createConnection(anyString())).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenReturn(stmt);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private JDBCRowBatcher batcher(int batchRows, long lingerMs) {
+        when(space.getBatchRows()).thenReturn(batchRows);
+        when(space.getBatchLingerMs()).thenReturn(lingerMs);
+        batcher = new JDBCRowBatcher(parent, space, "rows");
+        return batcher;
+    }
+
+    private static JDBCDMLBatchedWriteOp op(String sql) {
+        JDBCDMLBatchedWriteOp op = mock(JDBCDMLBatchedWriteOp.class);
+        when(op.getSql()).thenReturn(sql);
+        return op;
+    }
+
+    private static List<Integer> results(List<CompletableFuture<Integer>> futures) throws Exception {
+        List<Integer> results = new ArrayList<>();
+        for (CompletableFuture<Integer> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @Test
+    public void testFullBatchIsOneMultiRowStatement() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(3);
+        batcher(3, 60_000);
+
+        JDBCDMLBatchedWriteOp op = op(INSERT);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(batcher.add(op));
+        }
+
+        assertThat(results(futures)).containsExactly(0, 0, 3);
+        verify(connection).prepareStatement("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)");
+        verify(op).bindValues(stmt, 0);
+        verify(op).bindValues(stmt, 2);
+        verify(op).bindValues(stmt, 4);
+        verify(connection).commit();
+        // The pooled connection is returned after the batch
+        verify(connection).close();
+    }
+
+    @Test
+    public void testLingeringBatchIsSent() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(1);
+        batcher(100, 10);
+
+        CompletableFuture<Integer> future = batcher.add(op(INSERT));
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        verify(connection).prepareStatement(INSERT);
+    }
+
+    @Test
+    public void testRowsAreSplitAtTheBindParameterLimit() throws Exception {
+        String sql = "INSERT INTO t (a, b, c, d, e, f, g, h, i, j) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        JDBCMultiRowStatement statement = new JDBCMultiRowStatement(sql);
+        int maxRows = statement.getMaxRows();
+        int rows = maxRows + 10;
+        when(stmt.executeUpdate()).thenReturn(maxRows, 10);
+        batcher(rows, 60_000);
+
+        JDBCDMLBatchedWriteOp op = op(sql);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            futures.add(batcher.add(op));
+        }
+
+        List<Integer> results = results(futures);
+        assertThat(results.get(maxRows - 1)).isEqualTo(maxRows);
+        assertThat(results.get(rows - 1)).isEqualTo(10);
+        assertThat(results.stream().mapToInt(Integer::intValue).sum()).isEqualTo(rows);
+        verify(connection).prepareStatement(statement.sqlFor(maxRows));
+        verify(connection).prepareStatement(statement.sqlFor(10));
+        verify(stmt, times(2)).executeUpdate();
+        verify(op, times(2)).bindValues(stmt, 0);
+        verify(op).bindValues(stmt, (maxRows - 1) * 10);
+        verify(op, never()).bindValues(stmt, maxRows * 10);
+    }
+
+    @Test
+    public void testOtherStatementsAreSentAsAJdbcBatch() throws Exception {
+        String sql = "UPDATE t SET b = ? WHERE a = ?";
+        when(stmt.executeBatch()).thenReturn(new int[]{1, 0});
+        batcher(2, 60_000);
+
+        JDBCDMLBatchedWriteOp op = op(sql);
+        List<CompletableFuture<Integer>> futures = List.of(batcher.add(op), batcher.add(op));
+
+        assertThat(results(futures)).containsExactly(1, 0);
+        verify(connection).prepareStatement(sql);
+        verify(stmt, times(2)).addBatch();
+        verify(stmt, never()).executeUpdate();
+        verify(op, times(2)).bindValues(stmt, 0);
+    }
+
+    @Test
+    public void testFailedBatchFailsAllRowsWithTheCause() throws Exception {
+        SQLException error = new SQLException("duplicate key");
+        when(stmt.executeUpdate()).thenThrow(error);
+        batcher(2, 60_000);
+
+        JDBCDMLBatchedWriteOp op = op(INSERT);
+        CompletableFuture<Integer> first = batcher.add(op);
+        CompletableFuture<Integer> second = batcher.add(op);
+
+        for (CompletableFuture<Integer> future : List.of(first, second)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(JDBCAdapterUnexpectedException.class)
+                .hasCause(error);
+        }
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testCloseSendsOpenBatches() throws Exception {
+        when(stmt.executeUpdate()).thenReturn(2);
+        batcher(100, 60_000);
+
+        JDBCDMLBatchedWriteOp op = op(INSERT);
+        CompletableFuture<Integer> first = batcher.add(op);
+        CompletableFuture<Integer> second = batcher.add(op);
+        assertThat(first).isNotDone();
+
+        batcher.close();
+        assertThat(first).isCompletedWithValue(0);
+        assertThat(second).isCompletedWithValue(2);
+        assertThat(batcher.add(op)).isCompletedExceptionally();
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -73,6 +74,12 @@ public class KafkaSpace implements  AutoCloseable {
     // - For multi-topic testing, this means one consumer thread may read from multiple topics.
     private final int consumerGrpNum;
 
+    // Maximum number of messages which are sent without being acknowledged yet, across all producers of this space
+    // - Only relevant for Producer workload with the async activity parameter
+    // - 0 means no limit other than the number of ops in flight for each thread
+    private final int maxInflight;
+    private final Semaphore inflightSends;
+
     private long totalCycleNum;
 
     private AtomicBoolean beingShutdown = new AtomicBoolean(false);
@@ -102,6 +109,9 @@ public class KafkaSpace implements  AutoCloseable {
             NumberUtils.toLong(cfg.getOptional("max_op_time").orElse("0L"));
         this.strictMsgErrorHandling =
             BooleanUtils.toBoolean(cfg.getOptional("strict_msg_error_handling").orElse("false"));
+        this.maxInflight =
+            NumberUtils.toInt(cfg.getOptional("max_inflight").orElse("0"));
+        this.inflightSends = (0 < maxInflight) ? new Semaphore(maxInflight) : null;
         this.kafkaClientConfFileName = cfg.get("config");
         this.kafkaClientConf = new KafkaClientConf(kafkaClientConfFileName);
         this.activityStartTimeMills = System.currentTimeMillis();
@@ -126,6 +136,8 @@ public class KafkaSpace implements  AutoCloseable {
                 .setDescription("Maximum time (in seconds) to run NB Kafka testing scenario."))
             .add(Param.defaultTo("strict_msg_error_handling", false)
                 .setDescription("Whether to do strict error handling which is to stop NB Kafka execution."))
+            .add(Param.defaultTo("max_inflight", 0)
+                .setDescription("Maximum number of unacknowledged messages across all producers when sending with the async activity parameter (0 for no limit)."))
             .asReadOnly();
     }
 
@@ -151,6 +163,23 @@ public class KafkaSpace implements  AutoCloseable {
 
     public boolean isStrictMsgErrorHandling() { return  this.strictMsgErrorHandling; }
 
+    public int getMaxInflight() { return this.maxInflight; }
+
+    /**
+     * Wait until another message can be sent within the max_inflight limit of this space.
+     * Each call must be matched by one call to {@link #releaseInflightSend()} when the send completes.
+     */
+    public void acquireInflightSend() {
+        if (null != inflightSends) {
+            inflightSends.acquireUninterruptibly();
+        }
+    }
+    public void releaseInflightSend() {
+        if (null != inflightSends) {
+            inflightSends.release();
+        }
+    }
+
     public long getTotalCycleNum() { return totalCycleNum; }
     public void setTotalCycleNum(long cycleNum) { totalCycleNum = cycleNum; }
 
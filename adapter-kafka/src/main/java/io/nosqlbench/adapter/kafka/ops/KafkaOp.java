@@ -19,9 +19,11 @@ package io.nosqlbench.adapter.kafka.ops;
 import com.codahale.metrics.Histogram;
 import io.nosqlbench.adapter.kafka.KafkaSpace;
 import io.nosqlbench.adapter.kafka.util.KafkaAdapterMetrics;
-import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
 
-public class KafkaOp implements CycleOp<Object> {
+import java.util.concurrent.CompletionStage;
+
+public class KafkaOp implements AsyncCycleOp<Object> {
     private final KafkaAdapterMetrics kafkaAdapterMetrics;
     protected final KafkaSpace kafkaSpace;
     private final OpTimeTrackKafkaClient opTimeTrackKafkaClient;
@@ -46,4 +48,13 @@ public class KafkaOp implements CycleOp<Object> {
         opTimeTrackKafkaClient.process(value, cycleObj);
         return  null;
     }
+
+    /**
+     * Hand off the message without waiting for it to be acknowledged. This is used when the activity
+     * is run with the async parameter, and the returned stage completes when the send is acknowledged.
+     */
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        return opTimeTrackKafkaClient.processAsync(value, cycleObj);
+    }
 }
@@ -21,6 +21,9 @@ import io.nosqlbench.adapter.kafka.KafkaSpace;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 abstract public class OpTimeTrackKafkaClient {
 
     private final static Logger logger = LogManager.getLogger("OpTimeTrackKafkaClient");
@@ -52,7 +55,23 @@ abstract public class OpTimeTrackKafkaClient {
         }
     }
 
+    public CompletionStage<Object> processAsync(long cycle, Object cycleObj) {
+
+        long timeElapsedMills = System.currentTimeMillis() - activityStartTime;
+
+        if ( (maxOpTimeInSec == 0) || (timeElapsedMills <= (maxOpTimeInSec*1000)) ) {
+            return cycleMsgProcessAsync(cycle, cycleObj);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     abstract void cycleMsgProcess(long cycle, Object cycleObj);
 
+    // Clients which can not hand off a message without waiting for it process it synchronously
+    CompletionStage<Object> cycleMsgProcessAsync(long cycle, Object cycleObj) {
+        cycleMsgProcess(cycle, cycleObj);
+        return CompletableFuture.completedFuture(null);
+    }
+
     abstract public void close();
 }
@@ -22,7 +22,7 @@ import io.nosqlbench.adapter.kafka.util.KafkaAdapterUtil;
 import io.nosqlbench.adapters.api.metrics.MessageSequenceNumberSendingHandler;
 import io.nosqlbench.adapters.api.metrics.EndToEndMetricsAdapterUtil;
 import org.apache.kafka.clients.producer.Callback;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.AuthorizationException;
@@ -35,6 +35,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.apache.kafka.common.errors.TimeoutException;
@@ -69,7 +71,7 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
     private static final ThreadLocal<TxnProcResult>
         txnProcResultTL = ThreadLocal.withInitial(() -> TxnProcResult.SUCCESS);
 
-    private final KafkaProducer<String, String> producer;
+    private final Producer<String, String> producer;
 
     public OpTimeTrackKafkaProducer(final KafkaSpace kafkaSpace,
                                     final boolean asyncMsgAck,
@@ -77,7 +79,7 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
                                     final int txnBatchNum,
                                     final boolean seqTracking,
                                     final Set<EndToEndMetricsAdapterUtil.MSG_SEQ_ERROR_SIMU_TYPE> errSimuTypeSet,
-                                    final KafkaProducer<String, String> producer) {
+                                    final Producer<String, String> producer) {
         super(kafkaSpace);
         this.asyncMsgAck = asyncMsgAck;
         this.transactEnabledConfig = transactEnabledConfig;
@@ -108,7 +110,7 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
         OpTimeTrackKafkaProducer.txnProcResultTL.set(TxnProcResult.SUCCESS);
     }
 
-    private void processMsgTransaction(final long cycle, final KafkaProducer<String, String> producer) {
+    private void processMsgTransaction(final long cycle, final Producer<String, String> producer) {
         TxnProcResult result = TxnProcResult.SUCCESS;
 
         if (this.transactionEnabled) {
@@ -154,8 +156,11 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
         OpTimeTrackKafkaProducer.setTxnProcResultTL(result);
     }
 
-    @Override
-    void cycleMsgProcess(final long cycle, final Object cycleObj) {
+    /**
+     * Advance the transaction of the current thread, and add the sequence number header if enabled.
+     * @return the message to send, or null if no message should be sent for this cycle
+     */
+    private ProducerRecord<String, String> prepareMessage(final long cycle, final Object cycleObj) {
         // For producer, cycleObj represents a "message" (ProducerRecord)
         assert null != cycleObj;
 
@@ -168,7 +173,7 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
             } catch (final Exception e) {
                 e.printStackTrace();
             }
-            return;
+            return null;
         }
 
         this.processMsgTransaction(cycle, this.producer);
@@ -184,40 +189,50 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
         else if (TxnProcResult.UNKNOWN_ERROR == result)
             OpTimeTrackKafkaProducer.logger.debug("Unexpected error when initializing or committing transactions!");
 
+        if (TxnProcResult.SUCCESS != result) {
+            return null;
+        }
+
         final ProducerRecord<String, String> message = (ProducerRecord<String, String>) cycleObj;
         if (this.seqTracking) {
             final long nextSequenceNumber = this.getMessageSequenceNumberSendingHandler(message.topic())
                 .getNextSequenceNumber(this.errSimuTypeSet);
             message.headers().add(KafkaAdapterUtil.MSG_SEQUENCE_NUMBER, String.valueOf(nextSequenceNumber).getBytes(StandardCharsets.UTF_8));
         }
+        return message;
+    }
+
+    @Override
+    void cycleMsgProcess(final long cycle, final Object cycleObj) {
+        final ProducerRecord<String, String> message = this.prepareMessage(cycle, cycleObj);
+        if (null == message) {
+            return;
+        }
         try {
-            if (TxnProcResult.SUCCESS == result) {
-                final Future<RecordMetadata> responseFuture = this.producer.send(message, new Callback() {
-                    @Override
-                    public void onCompletion(final RecordMetadata recordMetadata, final Exception e) {
-                        if (OpTimeTrackKafkaProducer.this.asyncMsgAck)
-                            if (OpTimeTrackKafkaProducer.logger.isDebugEnabled())
-                                OpTimeTrackKafkaProducer.logger.debug("Message sending with async ack. is successful ({}) - {}, {}",
-                                    cycle, OpTimeTrackKafkaProducer.this.producer, recordMetadata);
-                    }
-                });
-
-                if (!this.asyncMsgAck) try {
-                    final RecordMetadata recordMetadata = responseFuture.get();
-                    if (OpTimeTrackKafkaProducer.logger.isDebugEnabled())
-                        OpTimeTrackKafkaProducer.logger.debug("Message sending with sync ack. is successful ({}) - {}, {}",
-                            cycle, this.producer, recordMetadata);
-                } catch (final InterruptedException | ExecutionException e) {
-                    KafkaAdapterUtil.messageErrorHandling(
-                        e,
-                        this.kafkaSpace.isStrictMsgErrorHandling(),
-                        "Unexpected error when waiting to receive message-send ack from the Kafka cluster." +
-                            "\n-----\n" + e);
+            final Future<RecordMetadata> responseFuture = this.producer.send(message, new Callback() {
+                @Override
+                public void onCompletion(final RecordMetadata recordMetadata, final Exception e) {
+                    if (OpTimeTrackKafkaProducer.this.asyncMsgAck)
+                        if (OpTimeTrackKafkaProducer.logger.isDebugEnabled())
+                            OpTimeTrackKafkaProducer.logger.debug("Message sending with async ack. is successful ({}) - {}, {}",
+                                cycle, OpTimeTrackKafkaProducer.this.producer, recordMetadata);
                 }
+            });
 
-                OpTimeTrackKafkaProducer.incTxnBatchTrackingCnt();
+            if (!this.asyncMsgAck) try {
+                final RecordMetadata recordMetadata = responseFuture.get();
+                if (OpTimeTrackKafkaProducer.logger.isDebugEnabled())
+                    OpTimeTrackKafkaProducer.logger.debug("Message sending with sync ack. is successful ({}) - {}, {}",
+                        cycle, this.producer, recordMetadata);
+            } catch (final InterruptedException | ExecutionException e) {
+                KafkaAdapterUtil.messageErrorHandling(
+                    e,
+                    this.kafkaSpace.isStrictMsgErrorHandling(),
+                    "Unexpected error when waiting to receive message-send ack from the Kafka cluster." +
+                        "\n-----\n" + e);
             }
 
+            OpTimeTrackKafkaProducer.incTxnBatchTrackingCnt();
         }
         catch ( final ProducerFencedException | OutOfOrderSequenceException |
                       UnsupportedOperationException | AuthorizationException | IllegalStateException e) {
@@ -231,6 +246,46 @@ public class OpTimeTrackKafkaProducer extends OpTimeTrackKafkaClient {
         }
     }
 
+    /**
+     * Hand the message to the producer and return without waiting for the send to be acknowledged,
+     * so that the producer can batch messages from many cycles. The returned stage is completed from
+     * the producer callback, with the record metadata or with the error from the broker, so that
+     * the error is handled by the activity error handler rather than by strict_msg_error_handling.
+     * When the space has a max_inflight limit, this waits until there is room for another message.
+     */
+    @Override
+    CompletionStage<Object> cycleMsgProcessAsync(final long cycle, final Object cycleObj) {
+        final ProducerRecord<String, String> message = this.prepareMessage(cycle, cycleObj);
+        if (null == message) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Object> sendResult = new CompletableFuture<>();
+        this.kafkaSpace.acquireInflightSend();
+        sendResult.whenComplete((r, t) -> this.kafkaSpace.releaseInflightSend());
+        try {
+            this.producer.send(message, (recordMetadata, e) -> {
+                if (null != e) {
+                    sendResult.completeExceptionally(e);
+                } else {
+                    sendResult.complete(recordMetadata);
+                }
+            });
+            OpTimeTrackKafkaProducer.incTxnBatchTrackingCnt();
+        }
+        catch ( final ProducerFencedException | OutOfOrderSequenceException |
+                      UnsupportedOperationException | AuthorizationException | IllegalStateException e) {
+            if (OpTimeTrackKafkaProducer.logger.isDebugEnabled())
+                OpTimeTrackKafkaProducer.logger.debug("Fatal error when sending a message ({}) - {}, {}",
+                    cycle, this.producer, message);
+            sendResult.completeExceptionally(new KafkaAdapterUnexpectedException(e));
+        }
+        catch (final Exception e) {
+            sendResult.completeExceptionally(new KafkaAdapterUnexpectedException(e));
+        }
+        return sendResult;
+    }
+
     @Override
     public void close() {
         try {
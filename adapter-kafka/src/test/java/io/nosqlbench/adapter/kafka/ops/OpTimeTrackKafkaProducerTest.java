@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.kafka.ops;
+
+import io.nosqlbench.adapter.kafka.KafkaSpace;
+import io.nosqlbench.adapter.kafka.exception.KafkaAdapterUnexpectedException;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class OpTimeTrackKafkaProducerTest {
+
+    private KafkaSpace space;
+    private MockProducer<String, String> producer;
+    private OpTimeTrackKafkaProducer client;
+
+    @BeforeEach
+    public void setUp() {
+        space = new KafkaSpace("test", KafkaSpace.getConfigModel().apply(Map.of(
+            "config", "src/main/resources/conf/kafka_config.properties",
+            "max_inflight", 1
+        )));
+        producer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        client = new OpTimeTrackKafkaProducer(space, true, false, 0, false, Set.of(), producer);
+    }
+
+    private CompletableFuture<Object> send(long cycle) {
+        return client.cycleMsgProcessAsync(cycle, new ProducerRecord<>("topic", "key" + cycle, "value" + cycle))
+            .toCompletableFuture();
+    }
+
+    @Test
+    public void testSendCompletesFromTheCallback() {
+        CompletableFuture<Object> sent = send(0L);
+        assertThat(sent).isNotDone();
+        assertThat(producer.completeNext()).isTrue();
+        assertThat(sent).isCompleted();
+        assertThat(sent.join()).isInstanceOf(RecordMetadata.class);
+
+        CompletableFuture<Object> next = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> send(1L));
+        assertThat(producer.completeNext()).isTrue();
+        assertThat(next).isCompleted();
+    }
+
+    @Test
+    public void testSendErrorCompletesExceptionally() {
+        RuntimeException brokerError = new RuntimeException("not enough replicas");
+        CompletableFuture<Object> sent = send(0L);
+        assertThat(producer.errorNext(brokerError)).isTrue();
+        assertThat(sent).isCompletedExceptionally();
+        assertThatThrownBy(sent::join).isInstanceOf(CompletionException.class).hasCause(brokerError);
+
+        CompletableFuture<Object> next = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> send(1L));
+        assertThat(producer.completeNext()).isTrue();
+        assertThat(next).isCompleted();
+    }
+
+    @Test
+    public void testSendFailureCompletesExceptionally() {
+        producer.close();
+        CompletableFuture<Object> sent = send(0L);
+        assertThat(sent).isCompletedExceptionally();
+        assertThatThrownBy(sent::join).hasCauseInstanceOf(KafkaAdapterUnexpectedException.class);
+
+        CompletableFuture<Object> next = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> send(1L));
+        assertThat(next).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testSendsWaitForRoomWithinMaxInflight() throws Exception {
+        CompletableFuture<Object> first = send(0L);
+        CompletableFuture<CompletableFuture<Object>> second = CompletableFuture.supplyAsync(() -> send(1L));
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+
+        assertThat(producer.completeNext()).isTrue();
+        assertThat(first).isCompleted();
+        CompletableFuture<Object> secondSent = second.get(5, TimeUnit.SECONDS);
+        assertThat(producer.completeNext()).isTrue();
+        assertThat(secondSent).isCompleted();
+    }
+}
@@ -18,14 +18,19 @@ package io.nosqlbench.adapter.mongodb.dispensers;
 
 import io.nosqlbench.adapter.mongodb.core.MongoSpace;
 import io.nosqlbench.adapter.mongodb.ops.MongoDirectCommandOp;
+import io.nosqlbench.adapter.mongodb.templating.BsonCommandTemplate;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.LongFunction;
 
 public class MongoCommandOpDispenser extends BaseOpDispenser<Op, MongoSpace> {
@@ -44,9 +49,24 @@ public class MongoCommandOpDispenser extends BaseOpDispenser<Op, MongoSpace> {
 
         LongFunction<Bson> bsonFunc;
         if (exampleValue instanceof CharSequence) {
-            bsonFunc = l -> Document.parse(payload.apply(l).toString());
+            // with pre_encode, parse the command template once, and encode each command directly from the bound values
+            Optional<BsonCommandTemplate> bsonTemplate = op.getStaticConfigOr("pre_encode", false)
+                ? op.getAsTemplate("stmt").flatMap(BsonCommandTemplate::of)
+                : Optional.empty();
+            if (bsonTemplate.isPresent()) {
+                bsonFunc = encodeFunc(op, bsonTemplate.get());
+            } else {
+                bsonFunc = l -> Document.parse(payload.apply(l).toString());
+            }
         } else if (exampleValue instanceof Map) {
-            bsonFunc = l -> new Document((Map<String, Object>) payload.apply(l));
+            // render the fields directly into the document, rather than into a map which is then copied
+            Optional<FieldLayout> stmtLayout = op.getAsOptionalFieldLayout("stmt");
+            if (stmtLayout.isPresent()) {
+                FieldLayout layout = stmtLayout.get();
+                bsonFunc = l -> layout.renderInto(l, new Document());
+            } else {
+                bsonFunc = l -> new Document((Map<String, Object>) payload.apply(l));
+            }
         } else {
             throw new RuntimeException("You must provide a String or Map for your BSON payload.");
         }
@@ -59,6 +79,16 @@ public class MongoCommandOpDispenser extends BaseOpDispenser<Op, MongoSpace> {
         );
     }
 
+    private LongFunction<Bson> encodeFunc(ParsedOp op, BsonCommandTemplate template) {
+        if (template.getSlotCount() == 0) {
+            RawBsonDocument command = template.encode(new Object[0]);
+            return l -> command;
+        }
+        ParsedTemplateString stmt = op.getAsTemplate("stmt").orElseThrow();
+        LongFunction<Object[]> valuesF = op.newArrayBinderFromBindPoints(stmt.getBindPoints());
+        return l -> template.encode(valuesF.apply(l));
+    }
+
     @Override
     public Op getOp(long cycle) {
         return mongoOpF.apply(cycle);
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.mongodb.templating;
+
+import com.mongodb.MongoClientSettings;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>A command template which is parsed from JSON once, and then encoded directly to BSON for each cycle,
+ * with the bound values written into their slots. This avoids rendering the command to a string, parsing
+ * it as JSON, and building a {@link org.bson.Document} tree for every op, only to have the driver encode
+ * that tree again.</p>
+ *
+ * <p>Bind points are interpreted as they would be if the rendered string were parsed:</p>
+ * <ul>
+ *     <li>A bind point which is a whole JSON value, like <pre>{@code "age": {age}}</pre>, is written as the
+ *     BSON type of the bound value. Integers are written as int32 when they fit, and as int64 otherwise.
+ *     Floats are written as the double of their string form. Strings in this position are JSON values.
+ *     Integers, booleans and null are written directly, and any other string is parsed as JSON for each
+ *     op, as before, so that extended JSON forms keep working.</li>
+ *     <li>A bind point which is a whole JSON string, like <pre>{@code "name": "{name}"}</pre>, is written
+ *     as the string form of the bound value, with its JSON escapes, like <pre>{@code \"}</pre> or
+ *     <pre>{@code \n}</pre>, interpreted.</li>
+ *     <li>A bind point within a longer JSON string is written as part of that string, in the same way.</li>
+ * </ul>
+ *
+ * <p>Bound values which are not strings, numbers or booleans are written with the driver codecs for their
+ * type, where a rendered command would have used their string form. A string value with an unescaped
+ * quote is written as it is, where a rendered command would not parse.</p>
+ *
+ * <p>Templates with bind points in field names, or in extended JSON forms like <pre>{@code {"$date": "{d}"}}</pre>,
+ * can not be parsed ahead of time, and {@link #of(ParsedTemplateString)} returns nothing for them.</p>
+ */
+public class BsonCommandTemplate {
+    private final static Logger logger = LogManager.getLogger(BsonCommandTemplate.class);
+
+    // private use characters, which mark the bind points in the parsed skeleton
+    private final static char SLOT_START = '\uE000';
+    private final static char SLOT_END = '\uE001';
+    private final static EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private final static BsonValueCodec VALUE_CODEC = new BsonValueCodec();
+    private final static CodecRegistry CODECS = MongoClientSettings.getDefaultCodecRegistry();
+
+    private final Node root;
+    private final int slots;
+    private volatile int sizeHint = 256;
+
+    private BsonCommandTemplate(Node root, int slots) {
+        this.root = root;
+        this.slots = slots;
+    }
+
+    /**
+     * Parse a command template ahead of time.
+     *
+     * @param template The command template, as a JSON document with bind points
+     * @return The parsed template, or nothing if the template can only be parsed after it is rendered
+     */
+    public static Optional<BsonCommandTemplate> of(ParsedTemplateString template) {
+        String[] spans = template.getSpans();
+        int slotCount = spans.length / 2;
+        boolean[] inString = new boolean[slotCount];
+        StringBuilder json = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < spans.length; i++) {
+            if (i % 2 == 0) {
+                quoted = scanQuotes(spans[i], quoted);
+                json.append(spans[i]);
+            } else {
+                int slot = i / 2;
+                inString[slot] = quoted;
+                String marker = SLOT_START + String.valueOf(slot) + SLOT_END;
+                json.append(quoted ? marker : '"' + marker + '"');
+            }
+        }
+        try {
+            BsonDocument skeleton = BsonDocument.parse(json.toString());
+            int[] found = new int[1];
+            Node root = compile(skeleton, inString, found);
+            if (found[0] != slotCount) {
+                logger.info(() -> "Only " + found[0] + " of " + slotCount + " bind points could be placed in the BSON template, so it will be parsed for each op: " + template);
+                return Optional.empty();
+            }
+            return Optional.of(new BsonCommandTemplate(root, slotCount));
+        } catch (Exception e) {
+            logger.info(() -> "The command template can not be parsed ahead of time, so it will be parsed for each op (" + e.getMessage() + "): " + template);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return The number of bound values which this template requires
+     */
+    public int getSlotCount() {
+        return slots;
+    }
+
+    /**
+     * Encode the command with the given values.
+     *
+     * @param values The bound values, in the order of the bind points in the template
+     * @return The encoded command
+     */
+    public RawBsonDocument encode(Object[] values) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(sizeHint);
+        BsonBinaryWriter writer = new BsonBinaryWriter(buffer);
+        root.write(writer, values);
+        int size = buffer.getPosition();
+        if (size > sizeHint) {
+            sizeHint = size;
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, size);
+    }
+
+    /**
+     * Track whether the end of a literal span is within a JSON string.
+     */
+    private static boolean scanQuotes(String literal, boolean quoted) {
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (quoted && c == '\\') {
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            }
+        }
+        return quoted;
+    }
+
+    private static Node compile(BsonValue value, boolean[] inString, int[] found) {
+        if (value instanceof BsonDocument document) {
+            List<String> names = new ArrayList<>(document.size());
+            List<Node> nodes = new ArrayList<>(document.size());
+            boolean dynamic = false;
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                if (entry.getKey().indexOf(SLOT_START) >= 0) {
+                    throw new RuntimeException("bind points are not supported in field names");
+                }
+                Node node = compile(entry.getValue(), inString, found);
+                dynamic |= !(node instanceof StaticNode);
+                names.add(entry.getKey());
+                nodes.add(node);
+            }
+            return dynamic ? new DocumentNode(names.toArray(new String[0]), nodes.toArray(new Node[0])) : new StaticNode(value);
+        } else if (value instanceof BsonArray array) {
+            List<Node> nodes = new ArrayList<>(array.size());
+            boolean dynamic = false;
+            for (BsonValue element : array) {
+                Node node = compile(element, inString, found);
+                dynamic |= !(node instanceof StaticNode);
+                nodes.add(node);
+            }
+            return dynamic ? new ArrayNode(nodes.toArray(new Node[0])) : new StaticNode(value);
+        } else if (value instanceof BsonString string && string.getValue().indexOf(SLOT_START) >= 0) {
+            return compileString(string.getValue(), inString, found);
+        } else {
+            return new StaticNode(value);
+        }
+    }
+
+    private static Node compileString(String text, boolean[] inString, int[] found) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        int at = 0;
+        while (true) {
+            int start = text.indexOf(SLOT_START, at);
+            if (start < 0) {
+                literals.add(text.substring(at));
+                break;
+            }
+            int end = text.indexOf(SLOT_END, start);
+            literals.add(text.substring(at, start));
+            indices.add(Integer.parseInt(text.substring(start + 1, end)));
+            at = end + 1;
+        }
+        found[0] += indices.size();
+        if (indices.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            int slot = indices.get(0);
+            return inString[slot] ? new StringSlotNode(slot) : new ValueSlotNode(slot);
+        }
+        for (int slot : indices) {
+            if (!inString[slot]) {
+                throw new RuntimeException("a bind point outside of a string was parsed as part of a string");
+            }
+        }
+        return new InterpolatedNode(literals.toArray(new String[0]), indices.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Write a bound value as the JSON value it would have been parsed as, had it been rendered into the template.
+     */
+    @SuppressWarnings("unchecked")
+    private static void writeValue(BsonWriter writer, Object value) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writer.writeInt32(((Number) value).intValue());
+        } else if (value instanceof Long l) {
+            writeInteger(writer, l);
+        } else if (value instanceof Double d) {
+            writer.writeDouble(d);
+        } else if (value instanceof Float f) {
+            // as rendered, so that 0.1f is written as 0.1
+            writer.writeDouble(Double.parseDouble(f.toString()));
+        } else if (value instanceof Boolean b) {
+            writer.writeBoolean(b);
+        } else if (value instanceof CharSequence json) {
+            writeJson(writer, json.toString());
+        } else if (value instanceof BsonValue bsonValue) {
+            VALUE_CODEC.encode(writer, bsonValue, ENCODER_CONTEXT);
+        } else {
+            Codec<Object> codec = (Codec<Object>) CODECS.get(value.getClass());
+            codec.encode(writer, value, ENCODER_CONTEXT);
+        }
+    }
+
+    private static void writeInteger(BsonWriter writer, long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            writer.writeInt32((int) value);
+        } else {
+            writer.writeInt64(value);
+        }
+    }
+
+    /**
+     * Write a string value as the JSON value it contains. Integers, booleans and null are written directly.
+     * Anything else, like a double, a document or an extended JSON form, is parsed for each value.
+     */
+    private static void writeJson(BsonWriter writer, String json) {
+        switch (json) {
+            case "true" -> writer.writeBoolean(true);
+            case "false" -> writer.writeBoolean(false);
+            case "null" -> writer.writeNull();
+            default -> {
+                if (isInteger(json)) {
+                    try {
+                        writeInteger(writer, Long.parseLong(json));
+                        return;
+                    } catch (NumberFormatException outOfRange) {
+                        // parsed below, as any other number
+                    }
+                }
+                VALUE_CODEC.encode(writer, BsonDocument.parse("{\"v\":" + json + "}").get("v"), ENCODER_CONTEXT);
+            }
+        }
+    }
+
+    // A JSON integer: an optional minus sign, and digits without a leading zero
+    private static boolean isInteger(String json) {
+        int start = json.startsWith("-") ? 1 : 0;
+        if (json.length() == start || json.length() - start > 19 || (json.charAt(start) == '0' && json.length() > start + 1)) {
+            return false;
+        }
+        for (int i = start; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Interpret the JSON escapes in a bound string value, as they would be if the value were rendered
+     * into a JSON string and parsed.
+     */
+    private static String unescape(String text) {
+        int at = text.indexOf('\\');
+        if (at < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        sb.append(text, 0, at);
+        for (int i = at; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            switch (escaped) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 4 < text.length()) {
+                        sb.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    } else {
+                        sb.append(escaped);
+                    }
+                }
+                default -> sb.append(escaped);
+            }
+        }
+        return sb.toString();
+    }
+
+    private interface Node {
+        void write(BsonWriter writer, Object[] values);
+    }
+
+    private record StaticNode(BsonValue value) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            VALUE_CODEC.encode(writer, value, ENCODER_CONTEXT);
+        }
+    }
+
+    private record DocumentNode(String[] names, Node[] nodes) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            writer.writeStartDocument();
+            for (int i = 0; i < names.length; i++) {
+                writer.writeName(names[i]);
+                nodes[i].write(writer, values);
+            }
+            writer.writeEndDocument();
+        }
+    }
+
+    private record ArrayNode(Node[] nodes) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            writer.writeStartArray();
+            for (Node node : nodes) {
+                node.write(writer, values);
+            }
+            writer.writeEndArray();
+        }
+    }
+
+    private record ValueSlotNode(int slot) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            writeValue(writer, values[slot]);
+        }
+    }
+
+    private record StringSlotNode(int slot) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            writer.writeString(unescape(String.valueOf(values[slot])));
+        }
+    }
+
+    private record InterpolatedNode(String[] literals, int[] slots) implements Node {
+        @Override
+        public void write(BsonWriter writer, Object[] values) {
+            StringBuilder sb = new StringBuilder(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                sb.append(unescape(String.valueOf(values[slots[i]]))).append(literals[i + 1]);
+            }
+            writer.writeString(sb.toString());
+        }
+    }
+}
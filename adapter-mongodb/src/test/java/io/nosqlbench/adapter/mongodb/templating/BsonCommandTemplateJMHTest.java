@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.mongodb.templating;
+
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the cost of producing the encoded command for each op, by rendering the command template
+ * to a string which is parsed into a {@link Document} and then encoded by the driver, and by encoding
+ * the bound values directly into a {@link BsonCommandTemplate}. The bound values are generated
+ * ahead of time, so that only the encoding is measured.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class BsonCommandTemplateJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(BsonCommandTemplateJMHTest.class.getSimpleName())
+            .addProfiler("gc")
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private final static String INSERT = """
+        {
+          "insert": "users",
+          "documents": [
+            {
+              "_id": "{id}",
+              "name": "{name}",
+              "email": "{name}@example.com",
+              "age": {age},
+              "score": {score},
+              "active": {active},
+              "tags": ["{tag}", "member"],
+              "address": { "city": "{city}", "zip": {zip} }
+            }
+          ]
+        }""";
+
+    private final static String FIND = """
+        {
+          "find": "users",
+          "filter": { "age": { "$gte": {age} }, "address.city": "{city}" },
+          "projection": { "name": 1, "email": 1 },
+          "sort": { "score": -1 },
+          "limit": 10
+        }""";
+
+    private final static Map<String, String> BINDINGS = Map.of(
+        "id", "ToString()",
+        "name", "ToString()",
+        "age", "Identity()",
+        "score", "Identity()",
+        "active", "Identity()",
+        "tag", "ToString()",
+        "city", "ToString()",
+        "zip", "Identity()"
+    );
+
+    private final static int VALUE_SETS = 1024;
+
+    @Param({"insert", "find"})
+    public String command;
+
+    private ParsedTemplateString parsed;
+    private BsonCommandTemplate template;
+    private Object[][] values;
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private int cycle;
+
+    @Setup
+    public void setup() {
+        parsed = new ParsedTemplateString(command.equals("insert") ? INSERT : FIND, BINDINGS);
+        template = BsonCommandTemplate.of(parsed).orElseThrow();
+        values = new Object[VALUE_SETS][];
+        for (int i = 0; i < VALUE_SETS; i++) {
+            Object[] set = new Object[parsed.getBindPoints().size()];
+            for (int slot = 0; slot < set.length; slot++) {
+                set[slot] = switch (parsed.getBindPoints().get(slot).getAnchor()) {
+                    case "age" -> 18 + (i % 60);
+                    case "score" -> i * 1.5d;
+                    case "active" -> (i & 1) == 0;
+                    case "zip" -> 10000L + i;
+                    case "id" -> "user-" + i;
+                    default -> "value" + i;
+                };
+            }
+            values[i] = set;
+        }
+    }
+
+    private Object[] nextValues() {
+        return values[cycle++ & (VALUE_SETS - 1)];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void parseRendered(Blackhole bh) {
+        Object[] bound = nextValues();
+        String[] spans = parsed.getSpans();
+        StringBuilder sb = new StringBuilder(spans[0]);
+        for (int i = 1; i < spans.length; i += 2) {
+            sb.append(bound[i / 2]).append(spans[i + 1]);
+        }
+        // the driver encodes the parsed document when it sends the command
+        bh.consume(new RawBsonDocument(Document.parse(sb.toString()), documentCodec));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void encodeTemplate(Blackhole bh) {
+        bh.consume(template.encode(nextValues()));
+    }
+}
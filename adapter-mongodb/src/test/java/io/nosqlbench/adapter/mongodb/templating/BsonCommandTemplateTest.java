@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.mongodb.templating;
+
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each command which is encoded from a parsed template must be the same as the command which is
+ * rendered to a string and parsed, as it is when pre_encode is not set.
+ */
+public class BsonCommandTemplateTest {
+
+    private static ParsedTemplateString parse(String json, Map<String, ?> bound) {
+        Map<String, String> bindings = new HashMap<>();
+        bound.keySet().forEach(anchor -> bindings.put(anchor, "Identity()"));
+        return new ParsedTemplateString(json, bindings);
+    }
+
+    private static void assertEncodedAsParsed(String json, Map<String, ?> bound) {
+        ParsedTemplateString parsed = parse(json, bound);
+        Object[] values = parsed.getBindPoints().stream().map(bp -> bound.get(bp.getAnchor())).toArray();
+
+        String[] spans = parsed.getSpans();
+        StringBuilder rendered = new StringBuilder(spans[0]);
+        for (int i = 1; i < spans.length; i += 2) {
+            rendered.append(values[i / 2]).append(spans[i + 1]);
+        }
+        BsonDocument expected = Document.parse(rendered.toString()).toBsonDocument();
+
+        BsonCommandTemplate template = BsonCommandTemplate.of(parsed).orElseThrow();
+        assertThat(template.encode(values)).as(rendered.toString()).isEqualTo(expected);
+        // again, once the buffer size is known
+        assertThat(template.encode(values)).as(rendered.toString()).isEqualTo(expected);
+    }
+
+    private static Map<String, Object> bound(Object... anchorsAndValues) {
+        Map<String, Object> bound = new LinkedHashMap<>();
+        for (int i = 0; i < anchorsAndValues.length; i += 2) {
+            bound.put((String) anchorsAndValues[i], anchorsAndValues[i + 1]);
+        }
+        return bound;
+    }
+
+    @Test
+    public void testIntegers() {
+        String json = "{\"insert\": \"t\", \"documents\": [{\"i\": {i}, \"s\": {s}, \"l\": {l}, \"big\": {big}}]}";
+        assertEncodedAsParsed(json, bound("i", 42, "s", (short) -7, "l", 1234L, "big", 3_000_000_000L));
+        assertEncodedAsParsed(json, bound("i", Integer.MIN_VALUE, "s", (short) 0, "l", (long) Integer.MAX_VALUE,
+            "big", Long.MIN_VALUE));
+        assertEncodedAsParsed(json, bound("i", Integer.MAX_VALUE, "s", (byte) 1, "l", -1L, "big", Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testDoublesAndFloats() {
+        String json = "{\"find\": \"t\", \"filter\": {\"d\": {d}, \"f\": {f}, \"e\": {e}}}";
+        assertEncodedAsParsed(json, bound("d", 1.5d, "f", 0.1f, "e", 1.0E10d));
+        assertEncodedAsParsed(json, bound("d", 3.0d, "f", -2.5f, "e", 1.0E-5d));
+        assertEncodedAsParsed(json, bound("d", -0.25d, "f", 3.4028235E38f, "e", Double.MAX_VALUE));
+    }
+
+    @Test
+    public void testBooleans() {
+        assertEncodedAsParsed("{\"find\": \"t\", \"filter\": {\"a\": {a}, \"b\": {b}}}", bound("a", true, "b", false));
+    }
+
+    @Test
+    public void testStringsWithQuotesAndEscapes() {
+        String json = "{\"insert\": \"t\", \"documents\": [{\"name\": \"{name}\"}]}";
+        assertEncodedAsParsed(json, bound("name", "plain"));
+        assertEncodedAsParsed(json, bound("name", ""));
+        assertEncodedAsParsed(json, bound("name", "say \\\"hi\\\""));
+        assertEncodedAsParsed(json, bound("name", "tab\\there\\nand a new line"));
+        assertEncodedAsParsed(json, bound("name", "back\\\\slash \\/ slash"));
+        assertEncodedAsParsed(json, bound("name", "caf\\u00e9 \\u20ac"));
+        assertEncodedAsParsed(json, bound("name", "single ' quote"));
+        assertEncodedAsParsed(json, bound("name", 42));
+        assertEncodedAsParsed(json, bound("name", 0.1f));
+    }
+
+    @Test
+    public void testInterpolatedStrings() {
+        String json = "{\"insert\": \"t\", \"documents\": [{\"email\": \"{name}@{domain}.com\", " +
+            "\"path\": \"a\\\\b/{name}\\t{n}\"}]}";
+        assertEncodedAsParsed(json, bound("name", "user", "domain", "example", "n", 7));
+        assertEncodedAsParsed(json, bound("name", "o\\\"brien", "domain", "caf\\u00e9", "n", 3_000_000_000L));
+    }
+
+    @Test
+    public void testNestedArraysAndDocuments() {
+        String json = "{\"insert\": \"t\", \"documents\": [{\"m\": [[{a}, \"{b}\"], [[{c}], {\"d\": {d}}]], " +
+            "\"static\": [1, \"two\", {\"three\": 3.0}]}]}";
+        assertEncodedAsParsed(json, bound("a", 1, "b", "two", "c", 2.5d, "d", 5_000_000_000L));
+    }
+
+    @Test
+    public void testJsonStringsInValuePositions() {
+        String json = "{\"find\": \"t\", \"filter\": {\"v\": {v}}}";
+        assertEncodedAsParsed(json, bound("v", "42"));
+        assertEncodedAsParsed(json, bound("v", "-5"));
+        assertEncodedAsParsed(json, bound("v", "0"));
+        assertEncodedAsParsed(json, bound("v", "3000000000"));
+        assertEncodedAsParsed(json, bound("v", "9223372036854775807"));
+        assertEncodedAsParsed(json, bound("v", "1.5"));
+        assertEncodedAsParsed(json, bound("v", "1e3"));
+        assertEncodedAsParsed(json, bound("v", "true"));
+        assertEncodedAsParsed(json, bound("v", "false"));
+        assertEncodedAsParsed(json, bound("v", "null"));
+        assertEncodedAsParsed(json, bound("v", "\"quoted\""));
+        assertEncodedAsParsed(json, bound("v", "{\"x\": 1, \"y\": [1, \"a\"]}"));
+        assertEncodedAsParsed(json, bound("v", "[1, 2.5, \"b\"]"));
+    }
+
+    @Test
+    public void testExtendedJson() {
+        String json = "{\"find\": \"t\", \"filter\": {\"v\": {v}, \"at\": {\"$date\": \"2024-01-01T00:00:00Z\"}, " +
+            "\"n\": {\"$numberLong\": \"12\"}}}";
+        assertEncodedAsParsed(json, bound("v", "{\"$date\": \"2020-01-01T00:00:00Z\"}"));
+        assertEncodedAsParsed(json, bound("v", "{\"$numberLong\": \"12\"}"));
+        assertEncodedAsParsed(json, bound("v", "{\"$numberDecimal\": \"1.5\"}"));
+        assertEncodedAsParsed(json, bound("v", "{\"$oid\": \"5f8d0d55b54764421b7156c3\"}"));
+    }
+
+    @Test
+    public void testTemplatesWhichAreParsedForEachOp() {
+        assertThat(BsonCommandTemplate.of(parse("{\"find\": \"t\", \"filter\": {\"{field}\": 1}}",
+            bound("field", "a")))).isEmpty();
+        assertThat(BsonCommandTemplate.of(parse("{\"find\": \"t\", \"filter\": {\"at\": {\"$date\": \"{d}\"}}}",
+            bound("d", "2020-01-01T00:00:00Z")))).isEmpty();
+        assertThat(BsonCommandTemplate.of(parse("{\"find\": \"t\", \"filter\": {\"_id\": {\"$oid\": \"{id}\"}}}",
+            bound("id", "5f8d0d55b54764421b7156c3")))).isEmpty();
+        assertThat(BsonCommandTemplate.of(parse("{\"find\": \"t\", \"filter\": {\"n\": {\"$numberLong\": \"{n}\"}}}",
+            bound("n", "12")))).isEmpty();
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.nosqlbench.adapter.tcpclient;
 
+import io.nosqlbench.adapter.tcpnio.NioWriteLoop;
 import io.nosqlbench.nb.api.config.standard.ConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfiguration;
@@ -25,23 +26,57 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.net.SocketFactory;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 
-public class TcpClientAdapterSpace {
+public class TcpClientAdapterSpace implements AutoCloseable {
 
     private final static Logger logger = LogManager.getLogger(TcpClientAdapterSpace.class);
     private final NBConfiguration config;
-    Writer writer;
+    OutputStream out;
+    private NioWriteLoop nioLoop;
 
     public TcpClientAdapterSpace(NBConfiguration config) {
         this.config = config;
-        this.writer = createPrintWriter();
+        if (config.getOptional(boolean.class, "nio").orElse(false)) {
+            this.nioLoop = createNioLoop();
+        } else {
+            this.out = createOutputStream();
+        }
     }
 
-    protected PrintWriter createPrintWriter() {
+    /**
+     * Open the configured number of non-blocking connections, which are all written by one selector thread.
+     */
+    protected NioWriteLoop createNioLoop() {
+        if (config.getOptional(boolean.class, "ssl").orElse(false)) {
+            throw new RuntimeException("The nio option of the tcpclient driver does not support ssl");
+        }
+        String host = config.getOptional("host").orElse("localhost");
+        int port = config.getOptional(int.class, "port").orElse(12345);
+        int connections = config.getOptional(int.class, "connections").orElse(1);
+        int bufferSize = config.getOptional(int.class, "buffer_size").orElse(65536);
+        int buffers = config.getOptional(int.class, "buffers").orElse(16);
+
+        NioWriteLoop loop = new NioWriteLoop("tcpclient/" + host + ":" + port, bufferSize, buffers);
+        try {
+            for (int i = 0; i < connections; i++) {
+                loop.connect(SocketChannel.open(new InetSocketAddress(host, port)));
+            }
+        } catch (IOException e) {
+            loop.close();
+            throw new RuntimeException("Error opening socket:" + e, e);
+        }
+        return loop;
+    }
+
+    protected OutputStream createOutputStream() {
 
         SocketFactory socketFactory = SocketFactory.getDefault();
         boolean sslEnabled = config.getOptional(boolean.class, "ssl").orElse(false);
@@ -56,20 +91,48 @@ public class TcpClientAdapterSpace {
         try {
             Socket socket = socketFactory.createSocket(host, port);
             logger.info("connected to " + socket.toString());
-            return new PrintWriter(socket.getOutputStream());
+            return new BufferedOutputStream(socket.getOutputStream());
         } catch (IOException e) {
             throw new RuntimeException("Error opening socket:" + e, e);
         }
     }
 
     public void writeflush(String text) {
+        writeflush(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Write the bytes between the position and limit of an array-backed buffer to the socket, and flush it.
+     * The buffer itself is not modified, so that a shared or reused buffer can be written directly.
+     *
+     * @param bytes The encoded output
+     */
+    public void writeflush(ByteBuffer bytes) {
+        if (nioLoop != null) {
+            nioLoop.write(bytes);
+            return;
+        }
         try {
-            writer.write(text);
-            writer.flush();
+            synchronized (out) {
+                out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                out.flush();
+            }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public void close() throws Exception {
+        if (nioLoop != null) {
+            nioLoop.close();
+        } else if (out != null) {
+            synchronized (out) {
+                out.close();
+            }
+        }
+    }
+
     public static NBConfigModel getConfigModel() {
         return ConfigModel.of(TcpClientAdapterSpace.class)
             .add(SSLKsFactory.get().getConfigModel())
@@ -81,6 +144,22 @@ public class TcpClientAdapterSpace {
                 Param.defaultTo("port",12345)
                     .setDescription("the designated port to connect to on the socket")
             )
+            .add(
+                Param.defaultTo("nio",false)
+                    .setDescription("whether to write through non-blocking connections, which coalesce the output of many ops into each write")
+            )
+            .add(
+                Param.defaultTo("connections",1)
+                    .setDescription("the number of connections to open with the nio option")
+            )
+            .add(
+                Param.defaultTo("buffer_size",65536)
+                    .setDescription("the size in bytes of each write buffer with the nio option")
+            )
+            .add(
+                Param.defaultTo("buffers",16)
+                    .setDescription("the maximum number of write buffers for each connection with the nio option")
+            )
             .add(
                 Param.defaultTo("newline",true)
                     .setDescription("whether to automatically add a missing newline to the end of any output\n")
@@ -18,16 +18,22 @@ package io.nosqlbench.adapter.tcpclient;
 
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.RunnableOp;
 
+import java.nio.ByteBuffer;
+
 public class TcpClientOp implements RunnableOp {
 
     private final TcpClientAdapterSpace ctx;
-    private final String text;
+    private final ByteBuffer bytes;
 
-    public TcpClientOp(TcpClientAdapterSpace ctx, String text) {
+    /**
+     * @param ctx The space holding the socket to write to
+     * @param bytes The encoded output, which may be a reused buffer, so the op must be run before the next op is dispensed on the same thread
+     */
+    public TcpClientOp(TcpClientAdapterSpace ctx, ByteBuffer bytes) {
         this.ctx = ctx;
-        this.text = text;
+        this.bytes = bytes;
     }
     public void run() {
-        ctx.writeflush(text);
+        ctx.writeflush(bytes);
     }
 }
@@ -19,25 +19,24 @@ package io.nosqlbench.adapter.tcpclient;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
 
+import java.nio.ByteBuffer;
 import java.util.function.LongFunction;
 
 public class TcpClientOpDispenser extends BaseOpDispenser<TcpClientOp, TcpClientAdapterSpace> {
 
     private final LongFunction<TcpClientAdapterSpace> ctxFunction;
-    private final LongFunction<String> outFunction;
+    private final LongFunction<ByteBuffer> outFunction;
 
     public TcpClientOpDispenser(TcpClientDriverAdapter adapter, ParsedOp cmd, LongFunction<TcpClientAdapterSpace> ctxfunc) {
         super(adapter,cmd);
         this.ctxFunction = ctxfunc;
-        LongFunction<Object> objectFunction = cmd.getAsRequiredFunction("stmt", Object.class);
-        LongFunction<String> stringFunction = l -> objectFunction.apply(l).toString();
-        this.outFunction = stringFunction;
+        this.outFunction = cmd.getAsRequiredEncodedFunction("stmt");
     }
 
     @Override
     public TcpClientOp getOp(long value) {
         TcpClientAdapterSpace ctx = ctxFunction.apply(value);
-        String output = outFunction.apply(value);
+        ByteBuffer output = outFunction.apply(value);
         return new TcpClientOp(ctx,output);
     }
 }
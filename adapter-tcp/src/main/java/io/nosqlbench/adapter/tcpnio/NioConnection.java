@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.tcpnio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>The write side of one non-blocking socket connection. Ops append their encoded bytes to the current
+ * write buffer of the connection, and the selector thread writes all of the filled buffers with one gather
+ * write when the socket is writable. Many small ops are coalesced into each write this way, and each op only
+ * copies its bytes once, into a direct buffer which the socket can write without another copy.</p>
+ *
+ * <p>The number of buffers per connection is bounded, so ops wait to append when the socket can not keep up.
+ * Appending ops hold an append lock while they wait, so that the bytes of each op stay contiguous.</p>
+ */
+public class NioConnection {
+
+    private final NioWriteLoop loop;
+    private final SocketChannel channel;
+    private final int bufferSize;
+    private final int maxBuffers;
+
+    // held by one appending op at a time, including while it waits on the monitor for a free buffer
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ArrayDeque<ByteBuffer> filled = new ArrayDeque<>();
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+    private ByteBuffer filling;
+    private int allocated;
+    private long pendingBytes;
+    // whether the selector thread has been told to write this connection
+    private boolean scheduled;
+    private volatile IOException error;
+    private volatile SelectionKey key;
+
+    NioConnection(NioWriteLoop loop, SocketChannel channel, int bufferSize, int maxBuffers) {
+        this.loop = loop;
+        this.channel = channel;
+        this.bufferSize = bufferSize;
+        this.maxBuffers = Math.max(2, maxBuffers);
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    /**
+     * Copy the bytes between the position and limit of the source to the write buffers of this connection,
+     * waiting for buffers to be written when all of them are full. The source buffer is not modified.
+     *
+     * @param source The encoded bytes of an op
+     */
+    public void append(ByteBuffer source) {
+        appendLock.lock();
+        try {
+            synchronized (this) {
+                appendBuffered(source);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void appendBuffered(ByteBuffer source) {
+        checkError();
+        int position = source.position();
+        int limit = source.limit();
+        while (position < limit) {
+            if (filling == null || !filling.hasRemaining()) {
+                if (filling != null) {
+                    filling.flip();
+                    filled.addLast(filling);
+                    filling = null;
+                }
+                // this may wait for the selector thread to write and unschedule this connection
+                filling = nextBuffer();
+            }
+            if (!scheduled) {
+                scheduled = true;
+                loop.schedule(this);
+            }
+            int count = Math.min(limit - position, filling.remaining());
+            filling.put(filling.position(), source, position, count);
+            filling.position(filling.position() + count);
+            position += count;
+            pendingBytes += count;
+        }
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (true) {
+            checkError();
+            ByteBuffer buffer = free.pollFirst();
+            if (buffer != null) {
+                return buffer;
+            }
+            if (allocated < maxBuffers) {
+                allocated++;
+                return ByteBuffer.allocateDirect(bufferSize);
+            }
+            try {
+                wait(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a write buffer of " + this, e);
+            }
+        }
+    }
+
+    private void checkError() {
+        if (error != null) {
+            throw new RuntimeException("Error writing to " + this + ": " + error, error);
+        }
+    }
+
+    /**
+     * Write as many of the pending bytes as the socket will take, with one gather write. This is only called
+     * by the selector thread.
+     *
+     * @return true if all pending bytes were written, in which case the connection is no longer scheduled
+     */
+    boolean writePending() throws IOException {
+        ByteBuffer[] toWrite;
+        synchronized (this) {
+            if (filling != null && filling.position() > 0) {
+                filling.flip();
+                filled.addLast(filling);
+                filling = null;
+            }
+            if (filled.isEmpty()) {
+                scheduled = false;
+                return true;
+            }
+            toWrite = filled.toArray(new ByteBuffer[0]);
+        }
+        long written;
+        try {
+            written = channel.write(toWrite);
+        } catch (IOException e) {
+            this.error = e;
+            synchronized (this) {
+                notifyAll();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            pendingBytes -= written;
+            while (!filled.isEmpty() && !filled.peekFirst().hasRemaining()) {
+                free.addLast(filled.pollFirst().clear());
+            }
+            notifyAll();
+            if (pendingBytes == 0) {
+                scheduled = false;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public synchronized long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    @Override
+    public String toString() {
+        return "NioConnection{" + channel + ", pending=" + pendingBytes + "}";
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.tcpnio;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A selector loop which writes the output of ops to a set of non-blocking socket connections, on one
+ * thread for all connections. Ops are spread over the connections in round-robin order, and are appended
+ * to the write buffers of a {@link NioConnection}, so an op returns as soon as its bytes are buffered.</p>
+ *
+ * <p>Connections are either opened by a client and added with {@link #connect(SocketChannel)}, or accepted from
+ * a server socket which is added with {@link #listen(ServerSocketChannel)}. When there are no connections yet,
+ * as for a server which no client has connected to, writes wait until there is one.</p>
+ */
+public class NioWriteLoop implements Runnable, AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(NioWriteLoop.class);
+
+    private final String name;
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final Selector selector;
+    private final Thread thread;
+
+    // server channels and connections which are registered with the selector by the selector thread
+    private final ConcurrentLinkedQueue<Object> toRegister = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<NioConnection> scheduled = new ConcurrentLinkedQueue<>();
+    private final List<NioConnection> connections = new CopyOnWriteArrayList<>();
+    private final List<SelectableChannel> channels = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextConnection = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * @param name The name of the selector thread
+     * @param bufferSize The size of each write buffer, in bytes
+     * @param maxBuffers The maximum number of write buffers for each connection
+     */
+    public NioWriteLoop(String name, int bufferSize, int maxBuffers) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening selector for " + name + ": " + e, e);
+        }
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Add a connected socket to write to.
+     */
+    public NioConnection connect(SocketChannel channel) {
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            throw new RuntimeException("Error configuring " + channel + ": " + e, e);
+        }
+        NioConnection connection = new NioConnection(this, channel, bufferSize, maxBuffers);
+        channels.add(channel);
+        // registration is queued before the connection can be written to, so it is always registered first
+        toRegister.add(connection);
+        selector.wakeup();
+        connections.add(connection);
+        logger.info(() -> name + " connected to " + channel);
+        return connection;
+    }
+
+    /**
+     * Accept connections from a server socket, and write to each of them as they are accepted.
+     */
+    public void listen(ServerSocketChannel serverChannel) {
+        try {
+            serverChannel.configureBlocking(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Error configuring " + serverChannel + ": " + e, e);
+        }
+        channels.add(serverChannel);
+        toRegister.add(serverChannel);
+        selector.wakeup();
+    }
+
+    /**
+     * Buffer the bytes between the position and limit of the source on the next connection. The source
+     * is not modified, and may be reused as soon as this returns.
+     */
+    public void write(ByteBuffer bytes) {
+        nextConnection().append(bytes);
+    }
+
+    private NioConnection nextConnection() {
+        while (true) {
+            List<NioConnection> current = this.connections;
+            int size = current.size();
+            if (size > 0) {
+                try {
+                    return current.get((int) (nextConnection.getAndIncrement() % size));
+                } catch (IndexOutOfBoundsException ignored) {
+                    // a failed connection was removed since the size was read
+                    continue;
+                }
+            }
+            if (!running) {
+                throw new RuntimeException(name + " is closed");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a connection on " + name, e);
+            }
+        }
+    }
+
+    void schedule(NioConnection connection) {
+        scheduled.add(connection);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running || hasPending()) {
+                selector.select(100);
+                registerChannels();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept((ServerSocketChannel) key.channel());
+                    } else if (key.isWritable()) {
+                        write((NioConnection) key.attachment());
+                    }
+                }
+                NioConnection connection;
+                while ((connection = scheduled.poll()) != null) {
+                    write(connection);
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            logger.debug(() -> "selector of " + name + " was closed with output still buffered");
+        } catch (Exception e) {
+            logger.error("Error in selector loop of " + name + ": " + e, e);
+        }
+    }
+
+    private void registerChannels() throws IOException {
+        Object toAdd;
+        while ((toAdd = toRegister.poll()) != null) {
+            if (toAdd instanceof ServerSocketChannel serverChannel) {
+                serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+            } else if (toAdd instanceof NioConnection connection) {
+                connection.setKey(connection.getChannel().register(selector, 0, connection));
+            }
+        }
+    }
+
+    private void accept(ServerSocketChannel serverChannel) {
+        try {
+            SocketChannel accepted = serverChannel.accept();
+            if (accepted != null) {
+                connect(accepted);
+            }
+        } catch (IOException e) {
+            logger.warn("Error accepting a connection on " + serverChannel + ": " + e);
+        }
+    }
+
+    private void write(NioConnection connection) throws IOException {
+        if (connection.getKey() == null) {
+            registerChannels();
+        }
+        SelectionKey key = connection.getKey();
+        try {
+            boolean done = connection.writePending();
+            if (key.isValid()) {
+                key.interestOps(done ? 0 : SelectionKey.OP_WRITE);
+            }
+        } catch (IOException e) {
+            logger.warn("Error writing to " + connection.getChannel() + ", closing it: " + e);
+            connections.remove(connection);
+            key.cancel();
+            try {
+                connection.getChannel().close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        for (NioConnection connection : connections) {
+            if (!connection.isFailed() && connection.getPendingBytes() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop accepting connections, write any buffered bytes, and close all connections.
+     */
+    @Override
+    public void close() {
+        logger.info(() -> name + " is writing buffered output before closing");
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            logger.warn(name + " did not write all buffered output before closing");
+        }
+        for (SelectableChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Error closing " + channel + ": " + e);
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.warn("Error closing selector of " + name + ": " + e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NioWriteLoop{" + name + ", connections=" + connections.size() + "}";
+    }
+}
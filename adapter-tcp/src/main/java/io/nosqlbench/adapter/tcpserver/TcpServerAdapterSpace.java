@@ -16,6 +16,7 @@
 
 package io.nosqlbench.adapter.tcpserver;
 
+import io.nosqlbench.adapter.tcpnio.NioWriteLoop;
 import io.nosqlbench.nb.api.config.standard.ConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfigModel;
 import io.nosqlbench.nb.api.config.standard.NBConfiguration;
@@ -31,9 +32,13 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
@@ -50,10 +55,40 @@ public class TcpServerAdapterSpace implements AutoCloseable {
     private ServerSocket listenerSocket;
     private final List<Shutdown> managedShutdown = new ArrayList<>();
     private int capacity=10;
+    private NioWriteLoop nioLoop;
 
     public TcpServerAdapterSpace(NBConfiguration config) {
         this.config = config;
-        this.writer = createPrintWriter();
+        if (config.getOptional(Boolean.class, "nio").orElse(false)) {
+            this.nioLoop = createNioLoop();
+        } else {
+            this.writer = createPrintWriter();
+        }
+    }
+
+    /**
+     * Listen with a non-blocking server socket, and write to the accepted clients from one selector thread.
+     */
+    private NioWriteLoop createNioLoop() {
+        if (config.getOptional(Boolean.class, "ssl").orElse(false)) {
+            throw new RuntimeException("The nio option of the tcpserver driver does not support ssl");
+        }
+        String host = config.getOptional("host").orElse("localhost");
+        int port = config.getOptional(int.class, "port").orElse(12345);
+        int bufferSize = config.getOptional(int.class, "buffer_size").orElse(65536);
+        int buffers = config.getOptional(int.class, "buffers").orElse(16);
+
+        NioWriteLoop loop = new NioWriteLoop("tcpserver/" + host + ":" + port, bufferSize, buffers);
+        try {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(InetAddress.getByName(host), port), 10);
+            loop.listen(serverChannel);
+            logger.info("listening on " + serverChannel);
+        } catch (IOException e) {
+            loop.close();
+            throw new RuntimeException("Error listening on listenerSocket:" + e, e);
+        }
+        return loop;
     }
 
     private Writer createPrintWriter() {
@@ -98,6 +133,10 @@ public class TcpServerAdapterSpace implements AutoCloseable {
 
     @Override
     public void close() throws Exception {
+        if (nioLoop != null) {
+            nioLoop.close();
+            return;
+        }
         logger.info("TcpServerAdapterSpace is waiting for message queue to empty");
         while(this.queue != null && !this.queue.isEmpty())
         {
@@ -112,7 +151,33 @@ public class TcpServerAdapterSpace implements AutoCloseable {
         }
     }
 
+    /**
+     * @return true if output is written from a selector thread with the nio option, in which case ops should
+     * provide encoded bytes with {@link #writeflush(ByteBuffer)}
+     */
+    public boolean isNio() {
+        return nioLoop != null;
+    }
+
+    /**
+     * Write the bytes between the position and limit of the buffer to one of the connected clients.
+     * The buffer itself is not modified, so that a shared or reused buffer can be written directly.
+     *
+     * @param bytes The encoded output
+     */
+    public void writeflush(ByteBuffer bytes) {
+        if (nioLoop != null) {
+            nioLoop.write(bytes);
+        } else {
+            writeflush(StandardCharsets.UTF_8.decode(bytes.duplicate()).toString());
+        }
+    }
+
     public void writeflush(String text) {
+        if (nioLoop != null) {
+            nioLoop.write(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+            return;
+        }
         try {
             if(this.writer == null)
             {
@@ -139,6 +204,18 @@ public class TcpServerAdapterSpace implements AutoCloseable {
                 Param.defaultTo("port",12345)
                     .setDescription("the designated port to connect to on the socket")
             )
+            .add(
+                Param.defaultTo("nio",false)
+                    .setDescription("whether to write to clients through non-blocking connections, which coalesce the output of many ops into each write")
+            )
+            .add(
+                Param.defaultTo("buffer_size",65536)
+                    .setDescription("the size in bytes of each write buffer with the nio option")
+            )
+            .add(
+                Param.defaultTo("buffers",16)
+                    .setDescription("the maximum number of write buffers for each client with the nio option")
+            )
             .add(
                 Param.defaultTo("newline",true)
                     .setDescription("whether to automatically add a missing newline to the end of any output\n")
@@ -18,15 +18,33 @@ package io.nosqlbench.adapter.tcpserver;
 
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.RunnableOp;
 
+import java.nio.ByteBuffer;
+
 public class TcpServerOp implements RunnableOp {
     private final TcpServerAdapterSpace ctx;
     private final String text;
+    private final ByteBuffer bytes;
 
     public TcpServerOp(TcpServerAdapterSpace ctx, String text) {
         this.ctx = ctx;
         this.text = text;
+        this.bytes = null;
+    }
+
+    /**
+     * @param ctx The space holding the server socket to write to
+     * @param bytes The encoded output, which may be a reused buffer, so the op must be run before the next op is dispensed on the same thread
+     */
+    public TcpServerOp(TcpServerAdapterSpace ctx, ByteBuffer bytes) {
+        this.ctx = ctx;
+        this.text = null;
+        this.bytes = bytes;
     }
     public void run() {
-        ctx.writeflush(text);
+        if (bytes != null) {
+            ctx.writeflush(bytes);
+        } else {
+            ctx.writeflush(text);
+        }
     }
 }
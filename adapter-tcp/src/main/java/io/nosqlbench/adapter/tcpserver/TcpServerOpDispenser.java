@@ -19,12 +19,14 @@ package io.nosqlbench.adapter.tcpserver;
 import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
 
+import java.nio.ByteBuffer;
 import java.util.function.LongFunction;
 
 public class TcpServerOpDispenser extends BaseOpDispenser<TcpServerOp,TcpServerAdapterSpace> {
 
     private final LongFunction<TcpServerAdapterSpace> ctxFunction;
     private final LongFunction<String> outFunction;
+    private final LongFunction<ByteBuffer> encodedFunction;
 
     public TcpServerOpDispenser(TcpServerDriverAdapter adapter, ParsedOp cmd, LongFunction<TcpServerAdapterSpace> ctxfunc) {
         super(adapter,cmd);
@@ -32,11 +34,15 @@ public class TcpServerOpDispenser extends BaseOpDispenser<TcpServerOp,TcpServerA
         LongFunction<Object> objectFunction = cmd.getAsRequiredFunction("stmt", Object.class);
         LongFunction<String> stringFunction = l -> objectFunction.apply(l).toString();
         this.outFunction = stringFunction;
+        this.encodedFunction = cmd.getAsRequiredEncodedFunction("stmt");
     }
 
     @Override
     public TcpServerOp getOp(long value) {
         TcpServerAdapterSpace ctx = ctxFunction.apply(value);
+        if (ctx.isNio()) {
+            return new TcpServerOp(ctx, encodedFunction.apply(value));
+        }
         String output = outFunction.apply(value);
         return new TcpServerOp(ctx,output);
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.tcpclient;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the messages per second and the time per message which are written by the tcpclient space over
+ * loopback, with one blocking socket which is flushed for each op, and with the nio option, which coalesces
+ * the output of ops into writes from a selector thread. A server thread reads and discards everything.
+ * With the nio option, the time per message is the time to buffer it, not the time until it is on the wire.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+public class TcpClientJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(TcpClientJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"false", "true"})
+    public boolean nio;
+
+    @Param({"64", "4096"})
+    public int payloadSize;
+
+    private ServerSocket serverSocket;
+    private TcpClientAdapterSpace space;
+    private ByteBuffer payload;
+
+    @Setup
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+        Thread reader = new Thread(this::readAll, "loopback-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        space = new TcpClientAdapterSpace(TcpClientAdapterSpace.getConfigModel().apply(Map.of(
+            "host", "localhost",
+            "port", serverSocket.getLocalPort(),
+            "nio", nio
+        )));
+        byte[] bytes = new byte[payloadSize];
+        Arrays.fill(bytes, (byte) 'x');
+        bytes[payloadSize - 1] = '\n';
+        payload = ByteBuffer.wrap(bytes);
+    }
+
+    private void readAll() {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                Thread discarder = new Thread(() -> {
+                    byte[] buffer = new byte[1 << 16];
+                    try (InputStream in = socket.getInputStream()) {
+                        while (in.read(buffer) >= 0) {
+                        }
+                    } catch (IOException ignored) {
+                    }
+                }, "loopback-discarder");
+                discarder.setDaemon(true);
+                discarder.start();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    @TearDown
+    public void teardown() throws Exception {
+        space.close();
+        serverSocket.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void writeMessage() {
+        space.writeflush(payload);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapter.tcpnio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.StandardSocketOptions;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NioWriteLoopTest {
+
+    private static final int WRITERS = 4;
+    private static final int LINES = 20_000;
+
+    /**
+     * Each line names its writer and sequence number, and is padded to a length which varies by
+     * sequence, so that a line which was split or interleaved with another one can be detected.
+     */
+    private static String line(int writer, int sequence) {
+        return "w" + writer + ":" + sequence + ":" + "x".repeat(sequence % 97) + "\n";
+    }
+
+    private static List<Thread> startWriters(NioWriteLoop loop, CountDownLatch finished) {
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(Thread.ofPlatform().start(() -> {
+                // one reused source buffer per writer, as for encoded op fields
+                ByteBuffer buffer = ByteBuffer.allocate(256);
+                for (int i = 0; i < LINES; i++) {
+                    buffer.clear().put(line(writer, i).getBytes(StandardCharsets.UTF_8)).flip();
+                    loop.write(buffer);
+                }
+                finished.countDown();
+            }));
+        }
+        return writers;
+    }
+
+    /**
+     * Read lines until the socket is closed, checking that each one is whole and follows the previous
+     * line of the same writer.
+     */
+    private static int readAndVerify(Socket socket) throws IOException {
+        int[] next = new int[WRITERS];
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String read;
+            while ((read = reader.readLine()) != null) {
+                String[] fields = read.split(":", 3);
+                int writer = Integer.parseInt(fields[0].substring(1));
+                int sequence = Integer.parseInt(fields[1]);
+                assertThat(read + "\n").isEqualTo(line(writer, sequence));
+                assertThat(sequence).as("sequence of writer " + writer).isGreaterThanOrEqualTo(next[writer]);
+                next[writer] = sequence + 1;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testLinesArriveWholeAndInOrderWithBackpressure() throws Exception {
+        try (ServerSocket server = new ServerSocket()) {
+            // small socket buffers and two small write buffers, so that writers must wait once the reader stops
+            server.setReceiveBufferSize(4096);
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            SocketChannel channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, 4096);
+            channel.connect(server.getLocalSocketAddress());
+            NioWriteLoop loop = new NioWriteLoop("test-client", 128, 2);
+            NioConnection connection = loop.connect(channel);
+            Socket accepted = server.accept();
+
+            CountDownLatch finished = new CountDownLatch(WRITERS);
+            List<Thread> writers = startWriters(loop, finished);
+
+            // nothing is read yet, so the writers are held back by the bounded buffers
+            assertThat(finished.await(1, TimeUnit.SECONDS)).isFalse();
+            assertThat(connection.getPendingBytes()).isLessThanOrEqualTo(128L * 2);
+
+            CompletableFuture<Integer> reading = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readAndVerify(accepted);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            loop.close();
+            assertThat(reading.get(30, TimeUnit.SECONDS)).isEqualTo(WRITERS * LINES);
+            assertThat(connection.getPendingBytes()).isZero();
+        }
+    }
+
+    @Test
+    public void testLinesAreSpreadOverAcceptedClients() throws Exception {
+        ServerSocketChannel serverChannel = ServerSocketChannel.open()
+            .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        NioWriteLoop loop = new NioWriteLoop("test-server", 4096, 4);
+        loop.listen(serverChannel);
+
+        List<CompletableFuture<Integer>> readers = new ArrayList<>();
+        for (int c = 0; c < 2; c++) {
+            Socket client = new Socket(InetAddress.getLoopbackAddress(), ((InetSocketAddress) serverChannel.getLocalAddress()).getPort());
+            readers.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readAndVerify(client);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+
+        CountDownLatch finished = new CountDownLatch(WRITERS);
+        List<Thread> writers = startWriters(loop, finished);
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        loop.close();
+
+        int total = 0;
+        for (CompletableFuture<Integer> reader : readers) {
+            int count = reader.get(30, TimeUnit.SECONDS);
+            assertThat(count).isGreaterThan(0);
+            total += count;
+        }
+        assertThat(total).isEqualTo(WRITERS * LINES);
+    }
+}
@@ -20,6 +20,7 @@ import com.codahale.metrics.Timer;
 import groovy.lang.Binding;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpInvoker;
 import io.nosqlbench.adapters.api.evalctx.*;
 import io.nosqlbench.adapters.api.metrics.ThreadLocalNamedTimers;
 import io.nosqlbench.adapters.api.templating.ParsedOp;
@@ -76,6 +77,8 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
      */
     private final CycleFunction<Boolean> _verifier;
     private final ThreadLocal<CycleFunction<Boolean>> tlVerifier;
+    private final boolean hasVerifier;
+    private final OpInvoker invoker;
 
     protected BaseOpDispenser(final DriverAdapter<? extends T, ? extends S> adapter, final ParsedOp op) {
         super(adapter);
@@ -99,7 +102,9 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         List<CycleFunction<Boolean>> verifiers = new ArrayList<>();
         verifiers = configureVerifiers(op);
         this._verifier = CycleFunctions.of((a, b) -> a && b, verifiers, true);
+        this.hasVerifier = !verifiers.isEmpty();
         this.tlVerifier = ThreadLocal.withInitial(_verifier::newInstance);
+        this.invoker = OpInvoker.forType(resolveOpType());
         this.verifierTimer = create().timer(
             "verifier",
             3,
@@ -116,6 +121,28 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         return this.tlVerifier.get();
     }
 
+    @Override
+    public boolean hasVerifier() {
+        return this.hasVerifier;
+    }
+
+    @Override
+    public OpInvoker getInvoker() {
+        return this.invoker;
+    }
+
+    /**
+     * Find the most specific type of op produced by this dispenser, from the return type of
+     * {@link #getOp(long)}, which is often narrower than the type parameter of the dispenser.
+     */
+    private Class<?> resolveOpType() {
+        try {
+            return getClass().getMethod("getOp", long.class).getReturnType();
+        } catch (NoSuchMethodException e) {
+            return Op.class;
+        }
+    }
+
     private void configureVerifierImports(ParsedOp op) {
         List imports = op.takeOptionalStaticValue(VERIFIER_IMPORTS, List.class)
             .orElse(List.of());
@@ -203,22 +230,37 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
 
     @Override
     public void onStart(final long cycleValue) {
-        if (null != timerStarts) ThreadLocalNamedTimers.TL_INSTANCE.get().start(this.timerStarts);
+        this.onStart(cycleValue, ThreadLocalNamedTimers.TL_INSTANCE.get());
+    }
+
+    @Override
+    public void onStart(final long cycleValue, final ThreadLocalNamedTimers timers) {
+        if (null != timerStarts) timers.start(this.timerStarts);
     }
 
     @Override
     public void onSuccess(final long cycleValue, final long nanoTime) {
+        this.onSuccess(cycleValue, nanoTime, ThreadLocalNamedTimers.TL_INSTANCE.get());
+    }
+
+    @Override
+    public void onSuccess(final long cycleValue, final long nanoTime, final ThreadLocalNamedTimers timers) {
         if (this.instrument) {
             this.successTimer.update(nanoTime, TimeUnit.NANOSECONDS);
         }
-        if (null != timerStops) ThreadLocalNamedTimers.TL_INSTANCE.get().stop(this.timerStops);
+        if (null != timerStops) timers.stop(this.timerStops);
     }
 
     @Override
     public void onError(final long cycleValue, final long resultNanos, final Throwable t) {
+        this.onError(cycleValue, resultNanos, t, ThreadLocalNamedTimers.TL_INSTANCE.get());
+    }
+
+    @Override
+    public void onError(final long cycleValue, final long resultNanos, final Throwable t, final ThreadLocalNamedTimers timers) {
 
         if (this.instrument) this.errorTimer.update(resultNanos, TimeUnit.NANOSECONDS);
-        if (null != timerStops) ThreadLocalNamedTimers.TL_INSTANCE.get().stop(this.timerStops);
+        if (null != timerStops) timers.stop(this.timerStops);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package io.nosqlbench.adapters.api.activityimpl;
 
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpInvoker;
 import io.nosqlbench.adapters.api.evalctx.CycleFunction;
 
 import java.util.function.LongFunction;
@@ -86,5 +87,21 @@ public interface OpDispenser<T> extends LongFunction<T>, OpResultTracker {
 
     CycleFunction<Boolean> getVerifier();
 
+    /**
+     * @return true, if the op template has any verifiers which need to be applied to results.
+     * When this is false, callers may skip verification entirely.
+     */
+    default boolean hasVerifier() {
+        return true;
+    }
+
     String getOpName();
+
+    /**
+     * @return The invoker which runs the ops of this dispenser, as resolved from the type
+     * of op it produces. By default, the type of each op is determined as it is run.
+     */
+    default OpInvoker getInvoker() {
+        return OpInvoker.DYNAMIC;
+    }
 }
@@ -16,8 +16,32 @@
 
 package io.nosqlbench.adapters.api.activityimpl;
 
+import io.nosqlbench.adapters.api.metrics.ThreadLocalNamedTimers;
+
 public interface OpResultTracker {
     void onStart(long cycleValue);
     void onSuccess(long cycleValue, long nanoTime);
     void onError(long cycleValue, long resultNanos, Throwable t);
+
+    /**
+     * As {@link #onStart(long)}, but with the named timers which are carried with the op, for ops
+     * which may complete on another thread than the one which started them.
+     */
+    default void onStart(long cycleValue, ThreadLocalNamedTimers timers) {
+        onStart(cycleValue);
+    }
+
+    /**
+     * As {@link #onSuccess(long, long)}, with the named timers which were given to {@link #onStart(long, ThreadLocalNamedTimers)}
+     */
+    default void onSuccess(long cycleValue, long nanoTime, ThreadLocalNamedTimers timers) {
+        onSuccess(cycleValue, nanoTime);
+    }
+
+    /**
+     * As {@link #onError(long, long, Throwable)}, with the named timers which were given to {@link #onStart(long, ThreadLocalNamedTimers)}
+     */
+    default void onError(long cycleValue, long resultNanos, Throwable t, ThreadLocalNamedTimers timers) {
+        onError(cycleValue, resultNanos, t);
+    }
 }
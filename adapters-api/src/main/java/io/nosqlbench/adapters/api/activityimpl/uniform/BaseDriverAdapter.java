@@ -167,6 +167,8 @@ public abstract class BaseDriverAdapter<R extends Op, S> extends NBBaseComponent
                 .add(Param.optional("tags", String.class, "tags to be used to filter operations"))
                 .add(Param.defaultTo("errors", "stop", "error handler configuration"))
                 .add(Param.optional("threads").setRegex("\\d+|\\d+x|auto").setDescription("number of concurrent operations, controlled by threadpool"))
+                .add(Param.defaultTo("threadmodel", "platform").setRegex("platform|virtual").setDescription("whether motors run on platform or virtual threads"))
+                .add(Param.optional("async").setRegex("\\d+").setDescription("number of cycles each thread may have in flight, for ops which support async execution"))
                 .add(Param.optional("stride").setRegex("\\d+"))
                 .add(Param.optional("striderate", String.class, "rate limit for strides per second"))
                 .add(Param.optional("cycles").setRegex("\\d+[KMBGTPE]?|\\d+[KMBGTPE]?\\.\\.\\d+[KMBGTPE]?").setDescription("cycle interval to use"))
@@ -174,6 +176,7 @@ public abstract class BaseDriverAdapter<R extends Op, S> extends NBBaseComponent
                 .add(Param.optional(List.of("cyclerate", "targetrate", "rate"), String.class, "rate limit for cycles per second"))
                 .add(Param.optional("seq", String.class, "sequencing algorithm"))
                 .add(Param.optional("instrument", Boolean.class))
+                .add(Param.optional("hdr_stripes").setRegex("\\d+").setDescription("number of recorders each activity timer and histogram spreads its threads over"))
                 .add(Param.optional(List.of("workload", "yaml"), String.class, "location of workload yaml file"))
                 .add(Param.optional("driver", String.class))
                 .add(Param.defaultTo("dryrun", "none").setRegex("(op|jsonnet|emit|none)"))
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <H2>AsyncCycleOp: f(cycle) -> CompletionStage&lt;T&gt;</H2>
+ * <p>An AsyncCycleOp is a {@link CycleOp} which can also be submitted without
+ * waiting for its result. When an activity is run with the <em>async</em> parameter,
+ * the runtime calls {@link #applyAsync(long)} and keeps a bounded number of ops in flight
+ * per thread. Otherwise, {@link #apply(long)} is called as with any other CycleOp.</p>
+ *
+ * <p>Implementations should do all blocking work in the returned stage, so that
+ * submitting an op only costs the hand-off to the native driver. Result processing
+ * which is done in stage callbacks may be run on driver threads, so it must not
+ * depend on thread-local state of the calling thread.</p>
+ *
+ * @param <T> The result type of the operation
+ */
+public interface AsyncCycleOp<T> extends CycleOp<T> {
+
+    /**
+     * Submit the operation for the given cycle.
+     *
+     * @param value The cycle value for which an operation is run
+     * @return A stage which is completed with the result, or completed exceptionally with the error
+     */
+    CompletionStage<T> applyAsync(long value);
+
+    /**
+     * Run the operation synchronously. By default, this waits for the stage returned by
+     * {@link #applyAsync(long)}. Implementations may override this if they have a more direct
+     * or time-limited form of waiting for a result.
+     */
+    @Override
+    default T apply(long value) {
+        try {
+            return applyAsync(value).toCompletableFuture().join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw ce;
+        }
+    }
+}
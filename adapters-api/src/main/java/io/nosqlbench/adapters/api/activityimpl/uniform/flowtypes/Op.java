@@ -27,6 +27,8 @@ package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
  *  the result type from your operation. In some cases preparing a result body to
  *  hand down the chain is more costly, so implementing this interface allows the runtime
  *  to be more optimized.</li>
+ *  <li>{@link AsyncCycleOp}</li> - A {@link CycleOp} which can also be submitted asynchronously
+ *  with a bounded number of ops in flight, when an activity is run with the async parameter.</li>
  *  <li>{@link ChainingOp}</li>
  *  <li>{@link RunnableOp}</li>
  * </ul>
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * <p>An op invoker knows how to run ops of one type, as determined once from the type of op
+ * which an op dispenser produces, rather than for every op. The runtime uses it in place of
+ * testing each op against every {@link Op} flow type for every cycle.</p>
+ *
+ * <p>This only removes the per-op type checks. The runtime still calls {@link #invoke(Op, long, Object)}
+ * from one call site for all op templates, so with more than a couple of invoker types in a sequence,
+ * that call is not inlined or specialized for any one of them.</p>
+ *
+ * <p>The op types are tested in the same order as they would be for each op:
+ * {@link RunnableOp}, then {@link CycleOp}, then {@link ChainingOp}. When the op type
+ * does not implement any of these, as when a dispenser is declared to produce only {@link Op},
+ * the {@link #DYNAMIC} invoker tests each op as it is run.</p>
+ *
+ * <p>The {@link OpGenerator} check is also skipped when the op type is a final class which
+ * does not implement it, since no op of that type can generate another op.</p>
+ */
+public abstract class OpInvoker {
+
+    /**
+     * An invoker which determines how to run each op from its runtime type. This is used for
+     * op types which are not specific enough to resolve in advance, and for any ops which are
+     * generated by other ops.
+     */
+    public static final OpInvoker DYNAMIC = new DynamicInvoker();
+
+    private final boolean mayGenerate;
+
+    protected OpInvoker(boolean mayGenerate) {
+        this.mayGenerate = mayGenerate;
+    }
+
+    /**
+     * Run an op.
+     *
+     * @param op The op to run, which must be of the type this invoker was resolved for
+     * @param cycle The cycle of the op
+     * @param lastResult The result of the previous op in the chain, if any
+     * @return The result of the op, or the last result if the op does not produce one
+     */
+    public abstract Object invoke(Op op, long cycle, Object lastResult);
+
+    /**
+     * @param op The op which was just run
+     * @return The next op which was generated by the op, or null if there is none
+     */
+    public final Op nextOp(Op op) {
+        if (mayGenerate && op instanceof OpGenerator generator) {
+            return generator.getNextOp();
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the invoker for a type of op.
+     *
+     * @param opType The type of op, usually the declared return type of {@link io.nosqlbench.adapters.api.activityimpl.OpDispenser#getOp(long)}
+     * @return An invoker for ops of the given type
+     */
+    public static OpInvoker forType(Class<?> opType) {
+        boolean mayGenerate = OpGenerator.class.isAssignableFrom(opType)
+            || opType.isInterface()
+            || !Modifier.isFinal(opType.getModifiers());
+        if (RunnableOp.class.isAssignableFrom(opType)) {
+            return new RunnableInvoker(mayGenerate);
+        } else if (CycleOp.class.isAssignableFrom(opType)) {
+            return new CycleInvoker(mayGenerate);
+        } else if (ChainingOp.class.isAssignableFrom(opType)) {
+            return new ChainingInvoker(mayGenerate);
+        } else {
+            return DYNAMIC;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + (mayGenerate ? "(generating)" : "");
+    }
+
+    private static final class RunnableInvoker extends OpInvoker {
+        private RunnableInvoker(boolean mayGenerate) {
+            super(mayGenerate);
+        }
+
+        @Override
+        public Object invoke(Op op, long cycle, Object lastResult) {
+            ((RunnableOp) op).run();
+            return lastResult;
+        }
+    }
+
+    private static final class CycleInvoker extends OpInvoker {
+        private CycleInvoker(boolean mayGenerate) {
+            super(mayGenerate);
+        }
+
+        @Override
+        public Object invoke(Op op, long cycle, Object lastResult) {
+            return ((CycleOp<?>) op).apply(cycle);
+        }
+    }
+
+    private static final class ChainingInvoker extends OpInvoker {
+        private ChainingInvoker(boolean mayGenerate) {
+            super(mayGenerate);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Op op, long cycle, Object lastResult) {
+            return ((ChainingOp<Object, ?>) op).apply(lastResult);
+        }
+    }
+
+    private static final class DynamicInvoker extends OpInvoker {
+        private DynamicInvoker() {
+            super(true);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Op op, long cycle, Object lastResult) {
+            if (op instanceof RunnableOp runnableOp) {
+                runnableOp.run();
+                return lastResult;
+            } else if (op instanceof CycleOp<?> cycleOp) {
+                return cycleOp.apply(cycle);
+            } else if (op instanceof ChainingOp chainingOp) {
+                return chainingOp.apply(lastResult);
+            } else {
+                throw new RuntimeException("The op implementation did not implement any active logic. Implement " +
+                    "one of [RunnableOp, CycleOp, or ChainingOp]");
+            }
+        }
+    }
+}
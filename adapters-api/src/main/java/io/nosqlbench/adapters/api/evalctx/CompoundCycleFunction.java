@@ -37,10 +37,11 @@ public class CompoundCycleFunction<T> implements CycleFunction<T> {
 
     @Override
     public T apply(long value) {
-        return functions.stream()
-            .map(f -> f.apply(value))
-            .reduce(reducer)
-            .get();
+        T result = functions.get(0).apply(value);
+        for (int i = 1; i < functions.size(); i++) {
+            result = reducer.apply(result, functions.get(i).apply(value));
+        }
+        return result;
     }
 
     @Override
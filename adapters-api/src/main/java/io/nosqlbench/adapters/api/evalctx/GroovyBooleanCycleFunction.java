@@ -27,9 +27,18 @@ public class GroovyBooleanCycleFunction extends GroovyCycleFunction<Boolean> {
         super(name, template, imports, staticSymbolImports, binding);
     }
 
+    private GroovyBooleanCycleFunction(GroovyBooleanCycleFunction prototype) {
+        super(prototype);
+    }
+
     @Override
     public Boolean apply(long value) {
         return super.apply(value);
     }
 
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new GroovyBooleanCycleFunction(this);
+    }
+
 }
@@ -28,13 +28,27 @@ import io.nosqlbench.virtdata.core.templates.BindPoint;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import groovy.transform.CompileStatic;
+import org.codehaus.groovy.control.CompilationFailedException;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * <p>A cycle function which is evaluated as a Groovy script. The script is compiled once, when
+ * the function is created from the op template. Each instance which is made with {@link #newInstance()}
+ * shares the compiled script class, but has its own script object and variable bindings, so that
+ * each thread can set variables like <em>result</em> and <em>cycle</em> without affecting other threads.</p>
+ *
+ * <p>Per-cycle bindings are set directly into the variable bindings in bind point order, without
+ * building an intermediate map for each cycle.</p>
+ */
 public class GroovyCycleFunction<T> implements CycleFunction<T> {
     private final static Logger logger = LogManager.getLogger(GroovyBooleanCycleFunction.class);
     private final String name;
@@ -46,6 +60,7 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
     protected final Script script; // Groovy Script as compiled
     protected final Binding variableBindings; // Groovy binding layer
     protected final Bindings bindingFunctions; // NB bindings
+    private final String[] bindingNames; // NB binding names, in bindings order
     private final List<Class<?>> staticImports;
 
     /**
@@ -64,13 +79,14 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
         this.imports = imports;
         this.staticImports = staticImports;
 
-        // scripting env variable bindings
-        this.variableBindings = binding!=null? binding : new Binding();
-
         // virtdata bindings to be evaluated at cycle time
         this.bindingFunctions = new BindingsTemplate().addFieldBindings(bindingSpecs).resolveBindings();
+        this.bindingNames = bindingFunctions.getTemplate().getBindPointNames().toArray(new String[0]);
 
         this.script = compileScript(this.scriptText, imports, staticImports, binding);
+
+        // scripting env variable bindings
+        this.variableBindings = script.getBinding();
         addServices();
     }
 
@@ -108,7 +124,30 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
         );
     }
 
+    /**
+     * Create a function from another, sharing the compiled script class and the per-cycle bindings,
+     * but with a new script instance and a copy of the variable bindings.
+     * @param prototype The function to copy
+     */
+    protected GroovyCycleFunction(GroovyCycleFunction<T> prototype) {
+        this.name = prototype.name;
+        this.scriptText = prototype.scriptText;
+        this.imports = prototype.imports;
+        this.staticImports = prototype.staticImports;
+        this.bindingFunctions = prototype.bindingFunctions;
+        this.bindingNames = prototype.bindingNames;
+
+        this.variableBindings = new Binding(new LinkedHashMap<>(prototype.variableBindings.getVariables()));
+        this.script = InvokerHelper.createScript(prototype.script.getClass(), this.variableBindings);
+    }
+
     private Script compileScript(String scriptText, List<String> imports, List<Class<?>> staticImports, Binding binding) {
+        CompilerConfiguration compilerConfiguration = compilerConfiguration(imports, staticImports);
+        GroovyShell gshell = new GroovyShell(binding!=null? binding:new Binding(), compilerConfiguration);
+        return gshell.parse(scriptText);
+    }
+
+    private CompilerConfiguration compilerConfiguration(List<String> imports, List<Class<?>> staticImports) {
         // add classes which are in the imports to the groovy evaluation context
         String[] verifiedClasses = expandClassNames(imports);
         String[] verifiedStaticImports = expandStaticImports(staticImports);
@@ -117,9 +156,29 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
         ImportCustomizer importer = new ImportCustomizer().addImports(verifiedClasses);
         importer.addStaticStars(verifiedStaticImports);
         compilerConfiguration.addCompilationCustomizers(importer);
+        return compilerConfiguration;
+    }
 
-        GroovyShell gshell = new GroovyShell(binding!=null? binding:new Binding(), compilerConfiguration);
-        return gshell.parse(scriptText);
+    /**
+     * Determine whether the script is self-contained, meaning that it has no per-cycle bindings, and that it
+     * compiles with static type checking, which rejects any reference to variables which are not declared
+     * in the script itself. The result of such a script does not depend on the cycle or on any
+     * injected variables.
+     * @return true, if the script can be evaluated once in place of every cycle
+     */
+    protected boolean isSelfContained() {
+        if (bindingNames.length > 0) {
+            return false;
+        }
+        CompilerConfiguration staticConfiguration = compilerConfiguration(imports, staticImports);
+        staticConfiguration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        try {
+            new GroovyShell(new Binding(), staticConfiguration).parse(scriptText);
+            return true;
+        } catch (CompilationFailedException e) {
+            logger.debug(() -> "script for " + name + " is not self-contained: " + e.getMessage());
+            return false;
+        }
     }
 
     private String[] expandStaticImports(List<Class<?>> staticImports) {
@@ -163,32 +222,30 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
 
     @Override
     public T apply(long value) {
-        Map<String, Object> values = bindingFunctions.getAllMap(value);
-        values.forEach((k, v) -> variableBindings.setVariable(k, v));
+        bindCycleValues(value);
         T result = (T) script.run();
         return result;
     }
 
     /**
-     * Create an instance of an executable function which is based on the current one, with all of
-     * the per-cycle bindings as well as the variable bindings duplicated (shared).
-     * @return
+     * Set the values of all per-cycle bindings into the variable bindings of the script.
+     * @param value The cycle
      */
-    @Override
-    public CycleFunction<T> newInstance() {
-        return new GroovyCycleFunction<T>(name, scriptText, bindingFunctions, imports, staticImports, this.variableBindings.getVariables());
+    protected void bindCycleValues(long value) {
+        for (int i = 0; i < bindingNames.length; i++) {
+            variableBindings.setVariable(bindingNames[i], bindingFunctions.get(i, value));
+        }
     }
 
-    private GroovyCycleFunction(String name, String scriptText, Bindings bindingFunctions, List<String> imports, List<Class<?>> staticImports, Map originalBinding) {
-        this.name = name;
-        this.scriptText = scriptText;
-        this.bindingFunctions = bindingFunctions;
-        this.imports = imports;
-        this.staticImports = staticImports;
-
-        this.script = compileScript(scriptText, imports, staticImports, new Binding());
-        this.variableBindings = script.getBinding();
-        originalBinding.forEach((k,v) -> variableBindings.setVariable(k.toString(),v));
+    /**
+     * Create an instance of an executable function which is based on the current one. The compiled
+     * script class and the per-cycle bindings are shared, while the script instance and the variable
+     * bindings are copied, so that the new instance can be used by another thread.
+     * @return A new function for use within one thread
+     */
+    @Override
+    public CycleFunction<T> newInstance() {
+        return new GroovyCycleFunction<>(this);
     }
 
 
@@ -20,7 +20,7 @@ import groovy.lang.Binding;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * This evaluator uses {@link Object#equals(Object)} to compare the results of an operation with
@@ -28,21 +28,36 @@ import java.util.Map;
  * All context variables can be injected into the script context except for one, the <em>result</em>
  * variable. This is intercepted and then used as a basis for comparison to the result of executing the
  * script.
+ * <p>
+ * When the script is self-contained, as with a literal value, it is evaluated once when this function
+ * is created, and each cycle only compares the result with the constructed value.
  */
 public class GroovyObjectEqualityFunction extends GroovyCycleFunction<Boolean> {
 
+    private final boolean isConstant;
+    private final Object expected;
     private Object result;
 
     public GroovyObjectEqualityFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticImports, Binding binding) {
         super(name, template, imports, staticImports, binding);
+        this.isConstant = isSelfContained();
+        this.expected = isConstant ? script.run() : null;
+    }
+
+    private GroovyObjectEqualityFunction(GroovyObjectEqualityFunction prototype) {
+        super(prototype);
+        this.isConstant = prototype.isConstant;
+        this.expected = prototype.expected;
     }
 
     @Override
     public Boolean apply(long value) {
-        Map<String, Object> values = bindingFunctions.getAllMap(value);
-        values.forEach((k,v)-> variableBindings.setVariable(k,v));
+        if (isConstant) {
+            return Objects.equals(expected, result);
+        }
+        bindCycleValues(value);
         Object scriptResult= script.run();
-        return scriptResult.equals(result);
+        return Objects.equals(scriptResult, result);
     }
 
     /**
@@ -56,4 +71,16 @@ public class GroovyObjectEqualityFunction extends GroovyCycleFunction<Boolean> {
 
         super.setVariable(name, value);
     }
+
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new GroovyObjectEqualityFunction(this);
+    }
+
+    /**
+     * @return true, if the expected value was constructed once, rather than for each cycle
+     */
+    public boolean isConstant() {
+        return isConstant;
+    }
 }
@@ -18,30 +18,41 @@ package io.nosqlbench.adapters.api.metrics;
 
 import com.codahale.metrics.Counter;
 
-import java.util.Iterator;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Arrays;
 
 /**
  * Detects message loss, message duplication and out-of-order message delivery
  * based on a monotonic sequence number that each received message contains.
  * <p>
- * Out-of-order messages are detected with a maximum look behind of 1000 sequence number entries.
- * This is currently defined as a constant, {@link ReceivedMessageSequenceTracker#DEFAULT_MAX_TRACK_OUT_OF_ORDER_SEQUENCE_NUMBERS}.
+ * Out-of-order messages are detected with a maximum look ahead of 1000 pending sequence numbers,
+ * and late deliveries of up to 1000 of the most recently skipped sequence numbers are detected.
+ * These are currently defined as constants, {@link ReceivedMessageSequenceTracker#DEFAULT_MAX_TRACK_OUT_OF_ORDER_SEQUENCE_NUMBERS}
+ * and {@link ReceivedMessageSequenceTracker#DEFAULT_MAX_TRACK_SKIPPED_SEQUENCE_NUMBERS}.
+ * <p>
+ * The pending sequence numbers are kept in a circular bitmap which covers a window of
+ * {@link #WINDOW_FACTOR} times the maximum number of pending sequence numbers after the expected one.
+ * A sequence number beyond this window moves the window ahead, counting any sequence numbers which
+ * were not received as lost. The skipped sequence numbers are kept as ranges, since messages are
+ * usually lost in runs. Neither structure boxes sequence numbers, and the memory used by a tracker
+ * is bounded by its limits rather than by the amount of out-of-order delivery.
  */
 public class ReceivedMessageSequenceTracker implements AutoCloseable {
     private static final int DEFAULT_MAX_TRACK_OUT_OF_ORDER_SEQUENCE_NUMBERS = 1000;
     private static final int DEFAULT_MAX_TRACK_SKIPPED_SEQUENCE_NUMBERS = 1000;
+    private static final int WINDOW_FACTOR = 4;
     // message out-of-sequence error counter
     private final Counter msgErrOutOfSeqCounter;
     // duplicate message error counter
     private final Counter msgErrDuplicateCounter;
     // message loss error counter
     private final Counter msgErrLossCounter;
-    private final SortedSet<Long> pendingOutOfSeqNumbers;
     private final int maxTrackOutOfOrderSequenceNumbers;
-    private final SortedSet<Long> skippedSeqNumbers;
     private final int maxTrackSkippedSequenceNumbers;
+    // received sequence numbers after the expected number, indexed by sequence number modulo the window size
+    private final long[] pendingBits;
+    private final long windowSize;
+    private int pendingCount;
+    private final SequenceRanges skippedSeqNumbers;
     private long expectedNumber = -1;
 
     public ReceivedMessageSequenceTracker(final Counter msgErrOutOfSeqCounter, final Counter msgErrDuplicateCounter, final Counter msgErrLossCounter) {
@@ -51,13 +62,19 @@ public class ReceivedMessageSequenceTracker implements AutoCloseable {
 
     public ReceivedMessageSequenceTracker(final Counter msgErrOutOfSeqCounter, final Counter msgErrDuplicateCounter, final Counter msgErrLossCounter,
                                           final int maxTrackOutOfOrderSequenceNumbers, final int maxTrackSkippedSequenceNumbers) {
+        if (maxTrackOutOfOrderSequenceNumbers < 1) {
+            throw new RuntimeException("The maximum number of out-of-order sequence numbers to track must be at least 1, but it was "
+                + maxTrackOutOfOrderSequenceNumbers);
+        }
         this.msgErrOutOfSeqCounter = msgErrOutOfSeqCounter;
         this.msgErrDuplicateCounter = msgErrDuplicateCounter;
         this.msgErrLossCounter = msgErrLossCounter;
         this.maxTrackOutOfOrderSequenceNumbers = maxTrackOutOfOrderSequenceNumbers;
         this.maxTrackSkippedSequenceNumbers = maxTrackSkippedSequenceNumbers;
-        pendingOutOfSeqNumbers = new TreeSet<>();
-        skippedSeqNumbers = new TreeSet<>();
+        final long window = Long.highestOneBit(Math.max(64L, (long) maxTrackOutOfOrderSequenceNumbers * WINDOW_FACTOR) - 1) << 1;
+        this.windowSize = window;
+        this.pendingBits = new long[(int) (window >>> 6)];
+        this.skippedSeqNumbers = new SequenceRanges(maxTrackSkippedSequenceNumbers);
     }
 
     /**
@@ -72,65 +89,123 @@ public class ReceivedMessageSequenceTracker implements AutoCloseable {
         }
 
         if (sequenceNumber < this.expectedNumber) {
-            if (this.skippedSeqNumbers.remove(sequenceNumber)) {
-                // late out-of-order delivery was detected
-                // decrease the loss counter
-                this.msgErrLossCounter.dec();
-                // increment the out-of-order counter
-                this.msgErrOutOfSeqCounter.inc();
-            } else this.msgErrDuplicateCounter.inc();
+            this.lateSequenceNumberReceived(sequenceNumber);
             return;
         }
 
         boolean messagesSkipped = false;
         // sequenceNumber == expectedNumber
         if (sequenceNumber > this.expectedNumber) {
-            if (this.pendingOutOfSeqNumbers.size() == this.maxTrackOutOfOrderSequenceNumbers)
+            if (this.pendingCount == this.maxTrackOutOfOrderSequenceNumbers)
                 messagesSkipped = this.processLowestPendingOutOfSequenceNumber();
-            if (!this.pendingOutOfSeqNumbers.add(sequenceNumber)) this.msgErrDuplicateCounter.inc();
+            if (sequenceNumber - this.expectedNumber >= this.windowSize)
+                messagesSkipped |= this.skipAheadTo(sequenceNumber - this.windowSize + 1);
+
+            if (sequenceNumber < this.expectedNumber) {
+                // this sequence number was just skipped for a lower pending one
+                this.lateSequenceNumberReceived(sequenceNumber);
+            } else if (sequenceNumber == this.expectedNumber) {
+                this.expectedNumber++;
+            } else if (!this.addPending(sequenceNumber)) {
+                this.msgErrDuplicateCounter.inc();
+            }
         } else this.expectedNumber++;
         this.processPendingOutOfSequenceNumbers(messagesSkipped);
-        this.cleanUpTooFarBehindOutOfSequenceNumbers();
+    }
+
+    private void lateSequenceNumberReceived(final long sequenceNumber) {
+        if (this.skippedSeqNumbers.remove(sequenceNumber)) {
+            // late out-of-order delivery was detected
+            // decrease the loss counter
+            this.msgErrLossCounter.dec();
+            // increment the out-of-order counter
+            this.msgErrOutOfSeqCounter.inc();
+        } else this.msgErrDuplicateCounter.inc();
     }
 
     private boolean processLowestPendingOutOfSequenceNumber() {
         // remove the lowest pending out of sequence number
-        final Long lowestOutOfSeqNumber = this.pendingOutOfSeqNumbers.first();
-        this.pendingOutOfSeqNumbers.remove(lowestOutOfSeqNumber);
-        if (lowestOutOfSeqNumber > this.expectedNumber) {
-            // skip the expected number ahead to the number after the lowest sequence number
-            // increment the counter with the amount of sequence numbers that got skipped
-            // keep track of the skipped sequence numbers to detect late out-of-order message delivery
-            for (long l = this.expectedNumber; l < lowestOutOfSeqNumber; l++) {
-                this.msgErrLossCounter.inc();
-                this.skippedSeqNumbers.add(l);
-                if (this.skippedSeqNumbers.size() > this.maxTrackSkippedSequenceNumbers)
-                    this.skippedSeqNumbers.remove(this.skippedSeqNumbers.first());
-            }
-            this.expectedNumber = lowestOutOfSeqNumber + 1;
-            return true;
+        final long lowestOutOfSeqNumber = this.lowestPending();
+        this.removePending(lowestOutOfSeqNumber);
+        // skip the expected number ahead to the number after the lowest sequence number
+        // increment the counter with the amount of sequence numbers that got skipped
+        // keep track of the skipped sequence numbers to detect late out-of-order message delivery
+        this.skip(this.expectedNumber, lowestOutOfSeqNumber);
+        this.expectedNumber = lowestOutOfSeqNumber + 1;
+        return true;
+    }
+
+    /**
+     * Move the expected number ahead, so that the pending window can hold a sequence number which was
+     * beyond it. Pending sequence numbers which are passed over are consumed, and the others are skipped.
+     */
+    private boolean skipAheadTo(final long nextExpectedNumber) {
+        long skipFrom = this.expectedNumber;
+        final long scanTo = Math.min(nextExpectedNumber, this.expectedNumber + this.windowSize);
+        for (long number = this.lowestPendingFrom(this.expectedNumber, scanTo); number < scanTo;
+             number = this.lowestPendingFrom(number + 1, scanTo)) {
+            this.removePending(number);
+            this.skip(skipFrom, number);
+            skipFrom = number + 1;
+        }
+        this.skip(skipFrom, nextExpectedNumber);
+        this.expectedNumber = nextExpectedNumber;
+        return true;
+    }
+
+    private void skip(final long from, final long to) {
+        if (from < to) {
+            this.msgErrLossCounter.inc(to - from);
+            this.skippedSeqNumbers.add(from, to);
         }
-        this.msgErrLossCounter.inc();
-        return false;
     }
 
     private void processPendingOutOfSequenceNumbers(final boolean messagesSkipped) {
         // check if there are previously received out-of-order sequence number that have been received
-        while (this.pendingOutOfSeqNumbers.remove(this.expectedNumber)) {
+        while (0 < this.pendingCount && this.isPending(this.expectedNumber)) {
+            this.removePending(this.expectedNumber);
             this.expectedNumber++;
             if (!messagesSkipped) this.msgErrOutOfSeqCounter.inc();
         }
     }
 
-    private void cleanUpTooFarBehindOutOfSequenceNumbers() {
-        // remove sequence numbers that are too far behind
-        for (final Iterator<Long> iterator = this.pendingOutOfSeqNumbers.iterator(); iterator.hasNext(); ) {
-            final Long number = iterator.next();
-            if (number < (this.expectedNumber - this.maxTrackOutOfOrderSequenceNumbers)) {
-                this.msgErrLossCounter.inc();
-                iterator.remove();
-            } else break;
+    private boolean isPending(final long number) {
+        return 0L != (this.pendingBits[this.wordIndex(number)] & (1L << number));
+    }
+
+    private boolean addPending(final long number) {
+        final int index = this.wordIndex(number);
+        final long bit = 1L << number;
+        if (0L != (this.pendingBits[index] & bit)) return false;
+        this.pendingBits[index] |= bit;
+        this.pendingCount++;
+        return true;
+    }
+
+    private void removePending(final long number) {
+        this.pendingBits[this.wordIndex(number)] &= ~(1L << number);
+        this.pendingCount--;
+    }
+
+    private int wordIndex(final long number) {
+        return (int) ((number >>> 6) & (this.pendingBits.length - 1));
+    }
+
+    private long lowestPending() {
+        return this.lowestPendingFrom(this.expectedNumber + 1, this.expectedNumber + this.windowSize);
+    }
+
+    /**
+     * @return the lowest pending sequence number in [from, to), or to if there is none
+     */
+    private long lowestPendingFrom(final long from, final long to) {
+        long number = from;
+        while (number < to) {
+            final long word = this.pendingBits[this.wordIndex(number)] >>> number;
+            if (0L != word) return Math.min(to, number + Long.numberOfTrailingZeros(word));
+            number += 64 - (number & 63);
         }
+        return to;
     }
 
     /**
@@ -139,7 +214,7 @@ public class ReceivedMessageSequenceTracker implements AutoCloseable {
      */
     @Override
     public void close() {
-        while (!this.pendingOutOfSeqNumbers.isEmpty())
+        while (0 < this.pendingCount)
             this.processPendingOutOfSequenceNumbers(this.processLowestPendingOutOfSequenceNumber());
     }
 
@@ -150,4 +225,99 @@ public class ReceivedMessageSequenceTracker implements AutoCloseable {
     public int getMaxTrackSkippedSequenceNumbers() {
         return this.maxTrackSkippedSequenceNumbers;
     }
+
+    /**
+     * The most recent skipped sequence numbers, up to a limit, as ascending ranges of [start, end).
+     * Ranges are only added after all existing ranges, since the expected number only moves ahead,
+     * so the oldest sequence numbers are always at the front.
+     */
+    private static final class SequenceRanges {
+        private final int limit;
+        private long[] starts = new long[16];
+        private long[] ends = new long[16];
+        private int head;
+        private int size;
+        private long count;
+
+        private SequenceRanges(final int limit) {
+            this.limit = limit;
+        }
+
+        private void add(final long start, final long end) {
+            if (0 >= this.limit) return;
+            final long from = Math.max(start, end - this.limit);
+            if (0 < this.size && this.ends[this.head + this.size - 1] == from) {
+                this.ends[this.head + this.size - 1] = end;
+            } else {
+                this.insert(this.size, from, end);
+            }
+            this.count += end - from;
+            while (this.count > this.limit) {
+                final long excess = this.count - this.limit;
+                final long first = this.ends[this.head] - this.starts[this.head];
+                if (first <= excess) {
+                    this.count -= first;
+                    this.head++;
+                    this.size--;
+                } else {
+                    this.starts[this.head] += excess;
+                    this.count -= excess;
+                }
+            }
+        }
+
+        private boolean remove(final long number) {
+            int low = 0;
+            int high = this.size - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int at = this.head + mid;
+                if (number < this.starts[at]) {
+                    high = mid - 1;
+                } else if (number >= this.ends[at]) {
+                    low = mid + 1;
+                } else {
+                    if (this.starts[at] + 1 == this.ends[at]) {
+                        this.delete(mid);
+                    } else if (this.starts[at] == number) {
+                        this.starts[at]++;
+                    } else if (this.ends[at] - 1 == number) {
+                        this.ends[at]--;
+                    } else {
+                        final long end = this.ends[at];
+                        this.ends[at] = number;
+                        this.insert(mid + 1, number + 1, end);
+                    }
+                    this.count--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void insert(final int position, final long start, final long end) {
+            if (this.head + this.size == this.starts.length) {
+                if (this.size * 2 > this.starts.length) {
+                    this.starts = Arrays.copyOf(this.starts, this.starts.length * 2);
+                    this.ends = Arrays.copyOf(this.ends, this.ends.length * 2);
+                }
+                System.arraycopy(this.starts, this.head, this.starts, 0, this.size);
+                System.arraycopy(this.ends, this.head, this.ends, 0, this.size);
+                this.head = 0;
+            }
+            final int at = this.head + position;
+            System.arraycopy(this.starts, at, this.starts, at + 1, this.size - position);
+            System.arraycopy(this.ends, at, this.ends, at + 1, this.size - position);
+            this.starts[at] = start;
+            this.ends[at] = end;
+            this.size++;
+        }
+
+        private void delete(final int position) {
+            final int at = this.head + position;
+            System.arraycopy(this.starts, at + 1, this.starts, at, this.size - position - 1);
+            System.arraycopy(this.ends, at + 1, this.ends, at, this.size - position - 1);
+            this.size--;
+        }
+    }
 }
@@ -30,6 +30,8 @@ import java.util.Map;
 
 /**
  * Auxiliary thread-local metrics for an activity which are tracked by name.
+ * Ops which may complete on another thread carry their own instance instead of using {@link #TL_INSTANCE},
+ * so that the timers started for an op are stopped by its completion, wherever that runs.
  */
 public class ThreadLocalNamedTimers {
 
@@ -31,6 +31,7 @@ import io.nosqlbench.engine.api.templating.ObjectCache;
 import io.nosqlbench.engine.api.templating.ParsedTemplateMap;
 import io.nosqlbench.engine.api.templating.TypeAndTarget;
 import io.nosqlbench.engine.api.templating.binders.ArrayBinder;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
 import io.nosqlbench.engine.api.templating.binders.ListBinder;
 import io.nosqlbench.engine.api.templating.binders.OrderedMapBinder;
 import io.nosqlbench.virtdata.core.templates.BindPoint;
@@ -39,6 +40,7 @@ import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -404,6 +406,21 @@ public class ParsedOp extends NBBaseComponent implements LongFunction<Map<String
         return tmap.apply(value);
     }
 
+    /**
+     * See {@link ParsedTemplateMap#getFieldLayout()}. Op dispensers which only read some of the op fields, or which
+     * build their own native form of the op fields, should use the layout instead of {@link #apply(long)}.
+     */
+    public FieldLayout getFieldLayout() {
+        return tmap.getFieldLayout();
+    }
+
+    /**
+     * See {@link ParsedTemplateMap#getAsOptionalFieldLayout(String)}.
+     */
+    public Optional<FieldLayout> getAsOptionalFieldLayout(String name) {
+        return tmap.getAsOptionalFieldLayout(name);
+    }
+
     @Override
     public boolean isDynamic(String field) {
         return tmap.isDynamic(field);
@@ -647,6 +664,23 @@ public class ParsedOp extends NBBaseComponent implements LongFunction<Map<String
         return tmap.getAsRequiredFunction(name, type);
     }
 
+    /**
+     * Get the op field as a {@link LongFunction} of UTF-8 encoded bytes, for ops which send the field
+     * text as a payload without needing it as a String.
+     * See {@link ParsedTemplateMap#getAsOptionalEncodedFunction(String)} for how the returned buffers may be used.
+     *
+     * @param name
+     *     The field name which must be defined as static or dynamic
+     * @return A function which can provide the encoded field value
+     */
+    public LongFunction<ByteBuffer> getAsRequiredEncodedFunction(String name) {
+        return tmap.getAsRequiredEncodedFunction(name);
+    }
+
+    public Optional<LongFunction<ByteBuffer>> getAsOptionalEncodedFunction(String name) {
+        return tmap.getAsOptionalEncodedFunction(name);
+    }
+
 
     /**
      * Get a LongFunction which returns either the static value, the dynamic value, or the default value,
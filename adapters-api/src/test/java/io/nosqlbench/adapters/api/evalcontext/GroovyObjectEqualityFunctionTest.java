@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import io.nosqlbench.adapters.api.evalctx.CycleFunction;
+import io.nosqlbench.adapters.api.evalctx.GroovyObjectEqualityFunction;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroovyObjectEqualityFunctionTest {
+
+    @Test
+    public void testConstantExpectedValue() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            "expected";
+            """,
+            Map.of()
+        );
+        GroovyObjectEqualityFunction function = new GroovyObjectEqualityFunction("constant", parsedTemplate, List.of(), List.of(), null);
+        assertThat(function.isConstant()).isTrue();
+        function.setVariable("result", "expected");
+        assertThat(function.apply(1L)).isTrue();
+        function.setVariable("result", "unexpected");
+        assertThat(function.apply(2L)).isFalse();
+    }
+
+    @Test
+    public void testBoundExpectedValue() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            {numbername};
+            """,
+            Map.of("numbername", "NumberNameToString()")
+        );
+        GroovyObjectEqualityFunction function = new GroovyObjectEqualityFunction("bound", parsedTemplate, List.of(), List.of(), null);
+        assertThat(function.isConstant()).isFalse();
+        function.setVariable("result", "three");
+        assertThat(function.apply(3L)).isTrue();
+        assertThat(function.apply(4L)).isFalse();
+    }
+
+    @Test
+    public void testVariableExpectedValue() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            cycle * 2;
+            """,
+            Map.of()
+        );
+        GroovyObjectEqualityFunction function = new GroovyObjectEqualityFunction("variable", parsedTemplate, List.of(), List.of(), null);
+        assertThat(function.isConstant()).isFalse();
+        function.setVariable("cycle", 5L);
+        function.setVariable("result", 10L);
+        assertThat(function.apply(5L)).isTrue();
+    }
+
+    @Test
+    public void testInstancesHaveTheirOwnVariables() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            cycle + 1;
+            """,
+            Map.of()
+        );
+        GroovyObjectEqualityFunction function = new GroovyObjectEqualityFunction("instances", parsedTemplate, List.of(), List.of(), null);
+        CycleFunction<Boolean> first = function.newInstance();
+        CycleFunction<Boolean> second = function.newInstance();
+        assertThat(first).isInstanceOf(GroovyObjectEqualityFunction.class);
+
+        first.setVariable("cycle", 1L);
+        first.setVariable("result", 2L);
+        second.setVariable("cycle", 7L);
+        second.setVariable("result", 8L);
+        assertThat(first.apply(1L)).isTrue();
+        assertThat(second.apply(7L)).isTrue();
+    }
+}
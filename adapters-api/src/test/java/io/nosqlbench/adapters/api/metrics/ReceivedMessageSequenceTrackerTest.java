@@ -212,4 +212,37 @@ class ReceivedMessageSequenceTrackerTest {
         assertEquals(0, this.msgErrDuplicateCounter.getCount());
         assertEquals(0, this.msgErrLossCounter.getCount());
     }
+
+    @Test
+    void shouldDetectLateDeliveryWithinSkippedRange() {
+        // when
+        this.messageSequenceTracker.sequenceNumberReceived(0L);
+        for (long l = 5L; 100L > l; l++) this.messageSequenceTracker.sequenceNumberReceived(l);
+        this.messageSequenceTracker.sequenceNumberReceived(3L);
+        this.messageSequenceTracker.sequenceNumberReceived(2L);
+        this.messageSequenceTracker.sequenceNumberReceived(3L);
+        this.messageSequenceTracker.close();
+
+        // then
+        assertEquals(2, this.msgErrOutOfSeqCounter.getCount());
+        assertEquals(1, this.msgErrDuplicateCounter.getCount());
+        assertEquals(2, this.msgErrLossCounter.getCount());
+    }
+
+    @Test
+    void shouldCountGapBeyondWindowAsLoss() {
+        // when
+        for (long l = 0; 10L > l; l++) this.messageSequenceTracker.sequenceNumberReceived(l);
+        for (long l = 10_000L; 10_100L > l; l++) this.messageSequenceTracker.sequenceNumberReceived(l);
+        // still within the most recent skipped sequence numbers
+        this.messageSequenceTracker.sequenceNumberReceived(9_990L);
+        // too late to be distinguished from a duplicate
+        this.messageSequenceTracker.sequenceNumberReceived(5_000L);
+        this.messageSequenceTracker.close();
+
+        // then
+        assertEquals(1, this.msgErrOutOfSeqCounter.getCount());
+        assertEquals(1, this.msgErrDuplicateCounter.getCount());
+        assertEquals(9_989, this.msgErrLossCounter.getCount());
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.adapters.api.metrics;
+
+import com.codahale.metrics.Timer;
+import io.nosqlbench.adapters.api.activityconfig.yaml.OpData;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.nb.api.config.standard.ConfigModel;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ThreadLocalNamedTimersTest {
+
+    private final TestComponent parent = new TestComponent("timers", "timers");
+
+    private ParsedOp getOp() {
+        return new ParsedOp(
+            new OpData().applyFields(Map.of("op", Map.of("stmt", "test"))),
+            ConfigModel.of(ThreadLocalNamedTimersTest.class).asReadOnly().apply(Map.of()),
+            List.of(),
+            parent
+        );
+    }
+
+    private long count(String name) {
+        return ((Timer) parent.find().metric("name:" + name)).getCount();
+    }
+
+    @Test
+    public void testInstancesStopTheirOwnContexts() {
+        ThreadLocalNamedTimers.addTimer(getOp(), "overlapping");
+        ThreadLocalNamedTimers first = new ThreadLocalNamedTimers();
+        ThreadLocalNamedTimers second = new ThreadLocalNamedTimers();
+        first.start("overlapping");
+        second.start("overlapping");
+        first.stop("overlapping");
+        second.stop("overlapping");
+        assertThat(count("overlapping")).isEqualTo(2);
+    }
+
+    @Test
+    public void testStopOnAnotherThread() {
+        ThreadLocalNamedTimers.addTimer(getOp(), "crossthread");
+        ThreadLocalNamedTimers carried = new ThreadLocalNamedTimers();
+        carried.start("crossthread");
+        CompletableFuture.runAsync(() -> carried.stop("crossthread")).join();
+        assertThat(count("crossthread")).isEqualTo(1);
+    }
+
+    @Test
+    public void testUnmatchedStopFails() {
+        ThreadLocalNamedTimers.addTimer(getOp(), "unmatched");
+        ThreadLocalNamedTimers timers = new ThreadLocalNamedTimers();
+        assertThatThrownBy(() -> timers.stop("unmatched")).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -181,5 +181,14 @@ public interface Activity extends Comparable<Activity>, ActivityDefObserver, Pro
         return this.getParams().getOptionalInteger("hdr_digits").orElse(4);
     }
 
+    /**
+     * @return the number of recorders which each activity timer and histogram spreads its
+     * recording threads over, from the hdr_stripes parameter. The default of 1 means that all
+     * threads record into the same recorder.
+     */
+    default int getHdrStripes() {
+        return this.getParams().getOptionalInteger("hdr_stripes").orElse(1);
+    }
+
     RunStateTally getRunStateTally();
 }
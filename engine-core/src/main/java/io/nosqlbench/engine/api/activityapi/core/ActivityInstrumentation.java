@@ -29,8 +29,11 @@ import java.util.concurrent.Future;
  * All the accessors of the metrics that will be used for each activity instance.
  * Implementors of this interface should ensure that the methods are synchronized
  * to avoid race conditions during lazy init from callers.
- *
- *
+ * <p>
+ * The timers and histograms are updated by every thread of an activity. With the
+ * <em>hdr_stripes</em> activity parameter, each of them records into that many recorders,
+ * which are merged when the metrics are reported, so that threads do not contend on
+ * the same recorder. See {@link Activity#getHdrStripes()}.
  */
 public interface ActivityInstrumentation {
 
@@ -130,6 +133,17 @@ public interface ActivityInstrumentation {
      */
     Timer getOrCreateResultSuccessTimer();
 
+    /**
+     * The result response timer measures each attempt at an operation from the intended start time of its
+     * cycle, as scheduled by the cycle rate limiter, rather than from when the attempt was started. Unlike
+     * the result timer ({@link #getOrCreateResultTimer()}), this includes any time the cycle spent waiting
+     * behind schedule, so it is not subject to coordinated omission when the client falls behind its target
+     * rate. Cycle scheduling is only defined when it is implied by a cycle rate limiter, so this method
+     * should return null if there is no cycles rate limiter.
+     * @return a new or existing {@link Timer} if appropriate, else null
+     */
+    Timer getResultResponseTimerOrNull();
+
     /**
      * The tries histogram tracks how many tries it takes to complete an operation successfully, or not. This histogram
      * does not encode whether operations were successful or not. Ideally, if every attempt to complete an operation succeeds
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.core;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An action which can start a cycle without waiting for it to complete. Motors which
+ * are configured with the <em>async</em> activity parameter use this form to keep
+ * several cycles in flight from a single thread.
+ */
+public interface AsyncCycleAction extends Action {
+
+    /**
+     * <p>Start a cycle, returning a stage which is completed with the int status code of the
+     * cycle, as would be returned by {@link SyncAction#runCycle(long)}.</p>
+     * The returned stage should only be completed exceptionally for errors which must stop the
+     * activity, since all other errors are handled within the cycle.
+     *
+     * @param cycle a long input
+     * @return a stage which completes with the int status
+     */
+    CompletionStage<Integer> runCycleAsync(long cycle);
+
+    /**
+     * <p>Start a cycle, as with {@link #runCycleAsync(long)}, where the cycle was scheduled to start at
+     * the given time. Actions which measure response times should measure them from this time, so that
+     * any time the cycle spent behind schedule is included.</p>
+     *
+     * @param cycle a long input
+     * @param intendedStartNanos the {@link System#nanoTime()} at which the cycle was scheduled to start
+     * @return a stage which completes with the int status
+     */
+    default CompletionStage<Integer> runCycleAsync(long cycle, long intendedStartNanos) {
+        return runCycleAsync(cycle);
+    }
+
+}
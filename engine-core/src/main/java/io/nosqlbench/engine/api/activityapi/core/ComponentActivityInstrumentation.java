@@ -33,6 +33,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     private final ActivityDef def;
     private final ParameterMap params;
     private final int hdrdigits;
+    private final int hdrstripes;
     private NBMetricTimer readInputTimer;
     private NBMetricTimer stridesServiceTimer;
     private NBMetricTimer stridesResponseTimer;
@@ -43,6 +44,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     private NBMetricTimer executeTimer;
     private NBMetricTimer resultTimer;
     private NBMetricTimer resultSuccessTimer;
+    private NBMetricTimer resultResponseTimer;
     private NBMetricHistogram triesHistogram;
     private NBMetricTimer verifierTimer;
 
@@ -57,6 +59,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         def = activity.getActivityDef();
         params = this.def.getParams();
         hdrdigits = activity.getHdrDigits();
+        hdrstripes = activity.getHdrStripes();
         initMetrics();
     }
 
@@ -64,12 +67,14 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         readInputTimer = activity.create().timer(
             "read_input",
             this.hdrdigits,
+            this.hdrstripes,
             MetricCategory.Internals,
             "measures overhead of acquiring a cycle range for an activity thread"
         );
         stridesServiceTimer = activity.create().timer(
             "strides",
             this.hdrdigits,
+            this.hdrstripes,
             MetricCategory.Core,
             "service timer for a stride, which is the same as the op sequence length by default"
         );
@@ -77,6 +82,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
             this.stridesResponseTimer = activity.create().timer(
                 "strides" + ComponentActivityInstrumentation.RESPONSE_TIME,
                 hdrdigits,
+                hdrstripes,
                 MetricCategory.Core,
                 "response timer for a stride, which is the same as the op sequence length by default;" +
                     " response timers include scheduling delays which occur when an activity falls behind its target rate"
@@ -85,6 +91,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         this.cyclesServiceTimer = activity.create().timer(
             "cycles" + ComponentActivityInstrumentation.SERVICE_TIME,
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "service timer for a cycle, including all of bind, execute, result and result_success;" +
                 " service timers measure the time between submitting a request and receiving the response"
@@ -93,6 +100,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
             this.cyclesResponseTimer = activity.create().timer(
                 "cycles" + ComponentActivityInstrumentation.RESPONSE_TIME,
                 hdrdigits,
+                hdrstripes,
                 MetricCategory.Core,
                 "response timer for a cycle, including all of bind, execute, result and result_success;" +
                     " response timers include scheduling delays which occur when an activity falls behind its target rate"
@@ -108,6 +116,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         this.bindTimer = activity.create().timer(
             "bind",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "Time the step within a cycle which binds generated data to an op template to synthesize an executable operation."
         );
@@ -115,12 +124,14 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         this.executeTimer = activity.create().timer(
             "execute",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "Time how long it takes to submit a request and receive a result, including reading the result in the client."
         );
         this.resultTimer = activity.create().timer(
             "result",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "Time how long it takes to submit a request, receive a result, including binding, reading results, " +
                 "and optionally verifying them, including all operations whether successful or not, for each attempted request."
@@ -128,12 +139,24 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         this.resultSuccessTimer = activity.create().timer(
             "result_success",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "The execution time of successful operations, which includes submitting the operation, waiting for a response, and reading the result"
         );
+        if (null != activity.getCycleLimiter()) {
+            this.resultResponseTimer = activity.create().timer(
+                "result" + ComponentActivityInstrumentation.RESPONSE_TIME,
+                hdrdigits,
+                hdrstripes,
+                MetricCategory.Core,
+                "response timer for each attempted request, measured from the scheduled start time of its cycle;" +
+                    " response timers include scheduling delays which occur when an activity falls behind its target rate"
+            );
+        }
         this.triesHistogram = activity.create().histogram(
             "tries",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Core,
             "A histogram of all tries for an activity. Perfect results mean all quantiles return 1." +
                 " Slight saturation is indicated by p99 or p95 returning higher values." +
@@ -142,6 +165,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         this.verifierTimer = activity.create().timer(
             "verifier",
             hdrdigits,
+            hdrstripes,
             MetricCategory.Verification,
             "Time the execution of verifier code, if any"
         );
@@ -278,6 +302,11 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         return resultSuccessTimer;
     }
 
+    @Override
+    public Timer getResultResponseTimerOrNull() {
+        return resultResponseTimer;
+    }
+
     @Override
     public Histogram getOrCreateTriesHistogram() {
         return triesHistogram;
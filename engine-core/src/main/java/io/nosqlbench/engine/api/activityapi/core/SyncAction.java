@@ -30,4 +30,17 @@ public interface SyncAction extends Action {
         return (int) cycle % 100;
     }
 
+    /**
+     * <p>Apply a work function to an input value, as with {@link #runCycle(long)}, where the cycle was
+     * scheduled to start at the given time. Actions which measure response times should measure them
+     * from this time, so that any time the cycle spent behind schedule is included.</p>
+     *
+     * @param cycle a long input
+     * @param intendedStartNanos the {@link System#nanoTime()} at which the cycle was scheduled to start
+     * @return an int status
+     */
+    default int runCycle(long cycle, long intendedStartNanos) {
+        return runCycle(cycle);
+    }
+
 }
@@ -30,11 +30,15 @@ public class CycleResultArray implements CycleResultsSegment, CanSortCycles {
         this.cycleResults = cycleResults;
     }
 
+    /**
+     * Copy the values of a segment into a new array. The values are materialized, since the
+     * results of a segment may be views over storage which is reused once the segment is consumed.
+     */
     public CycleResultArray(CycleResultsSegment segment) {
         cycleResults = new CycleResult[(int) segment.getCount()];
         Iterator<CycleResult> iterator = segment.iterator();
         for (int i = 0; i < cycleResults.length; i++) {
-            cycleResults[i]=iterator.next();
+            cycleResults[i]=Result.of(iterator.next());
         }
     }
 
@@ -59,6 +63,25 @@ public class CycleResultArray implements CycleResultsSegment, CanSortCycles {
         Arrays.sort(cycleResults);
     }
 
+    /**
+     * A (cycle, result) value which does not depend on the storage it was read from.
+     */
+    public record Result(long cycle, int result) implements CycleResult {
+        public static Result of(CycleResult cycleResult) {
+            return new Result(cycleResult.getCycle(), cycleResult.getResult());
+        }
+
+        @Override
+        public long getCycle() {
+            return cycle;
+        }
+
+        @Override
+        public int getResult() {
+            return result;
+        }
+    }
+
     private static class CycleResultArrayIterator implements Iterator<CycleResult> {
         private final CycleResult[] results;
         private int idx;
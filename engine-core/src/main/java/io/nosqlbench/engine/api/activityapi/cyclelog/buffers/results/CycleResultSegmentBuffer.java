@@ -28,17 +28,19 @@ public class CycleResultSegmentBuffer {
     private ByteBuffer buf;
     private final static int BYTES = Long.BYTES + Byte.BYTES;
     private final Sink sink;
+    private final ByteBuffer storage;
+    private final CycleResultsSegmentReadable readable;
 
     public CycleResultSegmentBuffer(Sink sink, int resultCount) {
         this.sink = sink;
-        this.buf = ByteBuffer.allocate(resultCount*BYTES);
+        this.storage = ByteBuffer.allocate(resultCount*BYTES);
+        this.buf = storage;
+        this.readable = new CycleResultsSegmentReadable(storage);
     }
     public CycleResultSegmentBuffer(int resultCount) {
-        this.sink = null;
-        this.buf = ByteBuffer.allocate(resultCount*BYTES);
+        this(null, resultCount);
     }
 
-
     public void append(long cycle, int result) {
         buf.putLong(cycle).put((byte) result);
         if (sink!=null) {
@@ -57,13 +59,33 @@ public class CycleResultSegmentBuffer {
         }
     }
 
+    /**
+     * Get a reader for the results appended so far. No more results may be appended
+     * until {@link #reset()} is called. The reader shares storage with this buffer, so
+     * it is only valid until the buffer is reset.
+     */
     public CycleResultsSegment toReader() {
         buf.flip();
-        CycleResultsSegmentReadable readable = new CycleResultsSegmentReadable(buf);
         buf=null;
         return readable;
     }
 
+    /**
+     * Discard all results and make the storage of this buffer available for appending again,
+     * so that one buffer can be used for any number of segments without allocation.
+     */
+    public void reset() {
+        storage.clear();
+        buf = storage;
+    }
+
+    /**
+     * @return the number of results this buffer can hold
+     */
+    public int getCapacity() {
+        return storage.capacity() / BYTES;
+    }
+
     public boolean hasRemaining() {
         return buf.hasRemaining();
     }
@@ -29,7 +29,7 @@ public interface CycleResultsSegment extends Comparable<CycleResultsSegment>, It
 
     // TODO: Specialize this for push-down performance
     default CycleResultsSegment filter(Predicate<ResultReadable> filter) {
-        CycleResult[] filteredResults = StreamSupport.stream(spliterator(), false).filter(filter).toArray(CycleResult[]::new);
+        CycleResult[] filteredResults = StreamSupport.stream(spliterator(), false).filter(filter).map(CycleResultArray.Result::of).toArray(CycleResult[]::new);
         return new CycleResultArray(filteredResults);
     }
 
@@ -77,7 +77,7 @@ public class CycleResultsSegmentReadable implements CycleResultsSegment {
     // TODO: Make this work with RLE segments
     @Override
     public CycleResultsSegment filter(Predicate<ResultReadable> filter) {
-        CycleResult[] filteredResults = StreamSupport.stream(spliterator(), false).filter(filter).toArray(CycleResult[]::new);
+        CycleResult[] filteredResults = StreamSupport.stream(spliterator(), false).filter(filter).map(CycleResultArray.Result::of).toArray(CycleResult[]::new);
         return new CycleResultArray(filteredResults);
     }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.CycleResultSegmentsReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultsSegment;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Reads the segmented cycle log format, which is written by
+ * {@link io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog.SegmentedCycleLogOutput}.</p>
+ *
+ * <p>A segmented cycle log starts with a header of {@link #HEADER_BYTES}, holding the {@link #MAGIC} value and
+ * the format {@link #VERSION}. This is followed by any number of segments, each of which is an int count of spans,
+ * followed by that many (long,long,byte) RLE spans, as in {@link CycleResultsRLEBufferReadable}. Segments are
+ * appended by many writers at once, so the spans are ordered within each segment, but not across segments.
+ * A count of zero marks the end of the written segments, as in a file which was not closed cleanly.</p>
+ *
+ * <p>Cycle log files which do not start with the magic value are read as a single run of RLE spans,
+ * as they were written before segments were used.</p>
+ */
+public class CycleResultsRLESegmentedReadable implements CycleResultSegmentsReadable {
+
+    public final static long MAGIC = 0x4E42435943534547L; // "NBCYCSEG"
+    public final static int VERSION = 1;
+    public final static int HEADER_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    public final static int SEGMENT_HEADER_BYTES = Integer.BYTES;
+
+    private final ByteBuffer buf;
+
+    /**
+     * @param buf The segments of a cycle log, after the file header
+     */
+    public CycleResultsRLESegmentedReadable(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    /**
+     * Get a readable view of a whole cycle log file, in either the segmented or the original format.
+     *
+     * @param file The contents of the cycle log file. This buffer is not modified.
+     * @return A readable for all of the RLE spans in the file
+     */
+    public static CycleResultSegmentsReadable forFile(ByteBuffer file) {
+        ByteBuffer data = file.duplicate();
+        if (isSegmented(data)) {
+            int version = data.getInt(data.position() + Long.BYTES);
+            if (version != VERSION) {
+                throw new RuntimeException("Unable to read segmented cycle log version " + version
+                    + ", only version " + VERSION + " is supported.");
+            }
+            data.position(data.position() + HEADER_BYTES);
+            return new CycleResultsRLESegmentedReadable(data.slice());
+        }
+        return new CycleResultsRLEBufferReadable(data.slice());
+    }
+
+    public static boolean isSegmented(ByteBuffer file) {
+        return file.remaining() >= HEADER_BYTES && file.getLong(file.position()) == MAGIC;
+    }
+
+    @Override
+    public Iterator<CycleResultsSegment> iterator() {
+        return new SegmentIterator(buf.duplicate());
+    }
+
+    private static class SegmentIterator implements Iterator<CycleResultsSegment> {
+        private final ByteBuffer segments;
+        private Iterator<CycleResultsSegment> spans = Collections.emptyIterator();
+
+        private SegmentIterator(ByteBuffer segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!spans.hasNext() && segments.remaining() >= SEGMENT_HEADER_BYTES) {
+                int count = segments.getInt();
+                if (count <= 0) {
+                    segments.position(segments.limit());
+                    break;
+                }
+                int length = count * CycleResultsRLEBufferReadable.BYTES;
+                if (length > segments.remaining()) {
+                    throw new RuntimeException("Cycle log segment of " + count + " spans is truncated at offset "
+                        + segments.position() + ", with only " + segments.remaining() + " bytes remaining.");
+                }
+                ByteBuffer segment = segments.slice(segments.position(), length);
+                segments.position(segments.position() + length);
+                spans = new CycleResultsRLEBufferReadable(segment).iterator();
+            }
+            return spans.hasNext();
+        }
+
+        @Override
+        public CycleResultsSegment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more segments in this cycle log.");
+            }
+            return spans.next();
+        }
+    }
+}
@@ -43,7 +43,7 @@ public class CycleSpanResults implements CycleResultsSegment, ResultReadable {
 
     @Override
     public long getCount() {
-        return (int) nextMin-min;
+        return nextMin-min;
     }
 
     @Override
@@ -51,6 +51,13 @@ public class CycleSpanResults implements CycleResultsSegment, ResultReadable {
         return min;
     }
 
+    /**
+     * @return the first cycle after this span, which is not included in it
+     */
+    public long getNextMinCycle() {
+        return nextMin;
+    }
+
     @Override
     public int getResult() {
         return result;
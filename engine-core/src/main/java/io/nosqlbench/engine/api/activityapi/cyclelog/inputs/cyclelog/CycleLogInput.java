@@ -18,11 +18,12 @@ package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.cyclelog;
 
 import io.nosqlbench.nb.api.labels.NBLabeledElement;
 import io.nosqlbench.nb.api.labels.NBLabels;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.CycleResultSegmentsReadable;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultsSegment;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegmentBuffer;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.ResultReadable;
-import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLEBufferReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLESegmentedReadable;
 import io.nosqlbench.engine.api.util.SimpleConfig;
 import io.nosqlbench.engine.api.activityapi.core.Activity;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResult;
@@ -35,6 +36,7 @@ import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.function.Predicate;
 
@@ -51,7 +53,7 @@ public class CycleLogInput implements Input, AutoCloseable, Iterable<CycleResult
         SimpleConfig conf = new SimpleConfig(activity, "input");
         mbb = initMappedBuffer(conf.getString("file").orElse(activity.getAlias()) + ".cyclelog");
         cycleResultSegmentIterator = iterator();
-        segmentIter = cycleResultSegmentIterator.next().iterator();
+        segmentIter = Collections.emptyIterator();
         this.parent = activity;
     }
 
@@ -69,8 +71,8 @@ public class CycleLogInput implements Input, AutoCloseable, Iterable<CycleResult
             throw new RuntimeException(e);
         }
         mbb = initMappedBuffer(cycleFile.getPath());
-        cycleResultSegmentIterator = new CycleResultsRLEBufferReadable(mbb).iterator();
-        segmentIter = cycleResultSegmentIterator.next().iterator();
+        cycleResultSegmentIterator = iterator();
+        segmentIter = Collections.emptyIterator();
         this.parent = NBLabeledElement.EMPTY;
     }
 
@@ -150,7 +152,7 @@ public class CycleLogInput implements Input, AutoCloseable, Iterable<CycleResult
 
     @Override
     public Iterator<CycleResultsSegment> iterator() {
-        CycleResultsRLEBufferReadable cycleResultsSegments = new CycleResultsRLEBufferReadable(mbb.duplicate());
+        CycleResultSegmentsReadable cycleResultsSegments = CycleResultsRLESegmentedReadable.forFile(mbb);
         if (cycleResultsSegments instanceof CanFilterResultValue) {
             ((CanFilterResultValue)cycleResultsSegments).setFilter(filter);
         }
@@ -17,7 +17,7 @@
 package io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog;
 
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultsSegment;
-import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLEBufferReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLESegmentedReadable;
 import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResult;
 
 import java.io.File;
@@ -51,36 +51,24 @@ public class CycleLogDumperUtility {
                 }
             }
         }
-        try {
-            RandomAccessFile raf = new RandomAccessFile(filepath, "rw");
+        try (RandomAccessFile raf = new RandomAccessFile(filepath, "r")) {
             mbb = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
 
-        int readsize = 100;
-
-        if (mbb.remaining() > 0) {
-            CycleResultsRLEBufferReadable readable = null;
-            while (mbb.remaining() > 0) {
-                readable = new CycleResultsRLEBufferReadable(readsize, mbb);
-
-                for (CycleResultsSegment segment : readable) {
-                    switch (displayType) {
-                        case cycles:
-                            for (CycleResult cycleResult : segment) {
-                                System.out.println(cycleResult);
-                            }
-                            break;
-                        case spans:
-                            System.out.println(segment.toString());
-                            break;
-
+        for (CycleResultsSegment segment : CycleResultsRLESegmentedReadable.forFile(mbb)) {
+            switch (displayType) {
+                case cycles:
+                    for (CycleResult cycleResult : segment) {
+                        System.out.println(cycleResult);
                     }
+                    break;
+                case spans:
+                    System.out.println(segment.toString());
+                    break;
 
-                }
             }
-
         }
 
     }
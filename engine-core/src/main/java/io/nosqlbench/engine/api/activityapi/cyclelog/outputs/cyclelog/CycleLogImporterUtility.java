@@ -42,7 +42,7 @@ public class CycleLogImporterUtility {
     }
 
     private void convert(String infile, String outfile) throws Exception {
-        CycleLogOutput output = new CycleLogOutput(new File(outfile), 1024);
+        SegmentedCycleLogOutput output = new SegmentedCycleLogOutput(new File(outfile), 1024);
         BufferedReader reader = new BufferedReader(new FileReader(infile));
         String line = reader.readLine();
         while (line != null) {
@@ -22,6 +22,7 @@ import io.nosqlbench.engine.api.activityapi.input.Input;
 import io.nosqlbench.engine.api.activityapi.output.Output;
 import io.nosqlbench.engine.api.activityapi.output.OutputDispenser;
 import io.nosqlbench.engine.api.activityapi.output.OutputType;
+import io.nosqlbench.engine.api.util.SimpleConfig;
 import io.nosqlbench.nb.annotations.Service;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,9 +40,21 @@ public class CycleLogOutputType implements OutputType {
 
         private final Output output;
         private final Activity activity;
+        private final SegmentedCycleLogOutput segmentedOutput;
 
         public Dispenser(Activity activity) {
             this.activity = activity;
+            String format = new SimpleConfig(activity, "output").getString("format").orElse("segmented");
+            if (format.equals("segmented")) {
+                logger.debug("writing segmented cycle log with a segment buffer for each slot");
+                this.segmentedOutput = new SegmentedCycleLogOutput(activity);
+                this.output = segmentedOutput;
+                activity.registerAutoCloseable(output);
+                return;
+            } else if (!format.equals("rle")) {
+                throw new RuntimeException("Unknown cyclelog output format '" + format + "', use 'segmented' or 'rle'");
+            }
+            this.segmentedOutput = null;
             Input input = activity.getInputDispenserDelegate().getInput(0);
             CycleLogOutput rleFileWriter = new CycleLogOutput(activity);
 
@@ -63,6 +76,9 @@ public class CycleLogOutputType implements OutputType {
 
         @Override
         public Output getOutput(long slot) {
+            if (segmentedOutput != null) {
+                return segmentedOutput.forSlot(slot);
+            }
             return output;
         }
     }
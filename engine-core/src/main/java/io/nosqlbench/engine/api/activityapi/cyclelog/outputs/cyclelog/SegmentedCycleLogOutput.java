@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog;
+
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResult;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultsSegment;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.ResultReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLEBufferReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleResultsRLESegmentedReadable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleSpanResults;
+import io.nosqlbench.engine.api.activityapi.cyclelog.inputs.cyclelog.CanFilterResultValue;
+import io.nosqlbench.engine.api.activityapi.output.Output;
+import io.nosqlbench.engine.api.util.SimpleConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * <p>An {@link Output} that appends cycles and results to a segmented RLE cycle log,
+ * as described in {@link CycleResultsRLESegmentedReadable}.</p>
+ *
+ * <p>Each motor slot writes through its own view of this output, from {@link #forSlot(long)}, which
+ * run-length encodes its results into a segment buffer of its own. When a segment buffer is full, its
+ * file space is reserved with one atomic increment, and it is written at that position with the file
+ * channel. No part of the file is re-mapped or re-written, and writers for different slots never wait
+ * on each other. The file is synced to disk in the background on a fixed interval and when it is closed,
+ * rather than for each segment.</p>
+ *
+ * <p>Since segments from different slots are interleaved in the file, the order of cycles is only
+ * preserved within each segment. Readers of the cycle log do not depend on the order of cycles.</p>
+ */
+public class SegmentedCycleLogOutput implements Output, CanFilterResultValue {
+
+    private final static Logger logger = LogManager.getLogger(SegmentedCycleLogOutput.class);
+
+    private final File outputFile;
+    private final int extentSizeInSpans;
+    private final FileChannel channel;
+    private final AtomicLong nextPosition = new AtomicLong(CycleResultsRLESegmentedReadable.HEADER_BYTES);
+    private final List<Slot> slots = new CopyOnWriteArrayList<>();
+    private final Slot direct;
+    private final ScheduledExecutorService syncer;
+    private Predicate<ResultReadable> filter;
+    private volatile boolean closed;
+
+    public SegmentedCycleLogOutput(Activity activity) {
+        this(activity, new SimpleConfig(activity, "output"));
+    }
+
+    private SegmentedCycleLogOutput(Activity activity, SimpleConfig conf) {
+        this(
+            new File(conf.getString("file").orElse(activity.getAlias()) + ".cyclelog"),
+            conf.getInteger("extentSize").orElse(1000),
+            conf.getLong("syncMillis").orElse(1000L)
+        );
+    }
+
+    /**
+     * @param outputFile The cycle log file, which is replaced if it exists
+     * @param extentSizeInSpans The number of RLE spans buffered for each segment
+     * @param syncMillis The interval between background syncs, or 0 to sync only on close
+     */
+    public SegmentedCycleLogOutput(File outputFile, int extentSizeInSpans, long syncMillis) {
+        if (extentSizeInSpans < 1) {
+            throw new RuntimeException("The extent size for a cycle log must be at least 1 span, but it was " + extentSizeInSpans);
+        }
+        this.outputFile = outputFile;
+        this.extentSizeInSpans = extentSizeInSpans;
+        try {
+            if (Files.deleteIfExists(outputFile.toPath())) {
+                logger.warn("removed extant file '" + outputFile + "'");
+            }
+            this.channel = FileChannel.open(outputFile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(CycleResultsRLESegmentedReadable.HEADER_BYTES)
+                .putLong(CycleResultsRLESegmentedReadable.MAGIC)
+                .putInt(CycleResultsRLESegmentedReadable.VERSION)
+                .putInt(0)
+                .flip();
+            write(header, 0L);
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening cycle log '" + outputFile + "': " + e, e);
+        }
+        this.direct = new Slot();
+        this.slots.add(direct);
+        if (syncMillis > 0) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "cyclelog-sync-" + outputFile.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.syncer.scheduleWithFixedDelay(this::sync, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    public SegmentedCycleLogOutput(File outputFile, int extentSizeInSpans) {
+        this(outputFile, extentSizeInSpans, 0L);
+    }
+
+    /**
+     * Get a writer for one motor slot. Each writer buffers its own segments, so it should only be
+     * used by one thread at a time. All writers are flushed when this output is closed.
+     *
+     * @param slot The motor slot
+     * @return An output which appends to this cycle log
+     */
+    public Output forSlot(long slot) {
+        Slot writer = new Slot();
+        writer.setFilter(filter);
+        slots.add(writer);
+        return writer;
+    }
+
+    @Override
+    public boolean onCycleResult(long completedCycle, int result) {
+        synchronized (direct) {
+            return direct.onCycleResult(completedCycle, result);
+        }
+    }
+
+    @Override
+    public void onCycleResultSegment(CycleResultsSegment segment) {
+        synchronized (direct) {
+            direct.onCycleResultSegment(segment);
+        }
+    }
+
+    @Override
+    public void setFilter(Predicate<ResultReadable> filter) {
+        this.filter = filter;
+        slots.forEach(s -> s.setFilter(filter));
+    }
+
+    private void append(ByteBuffer segment) {
+        if (closed) {
+            throw new RuntimeException("Unable to append to closed cycle log '" + outputFile + "'");
+        }
+        long position = nextPosition.getAndAdd(segment.remaining());
+        try {
+            write(segment, position);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing cycle log '" + outputFile + "': " + e, e);
+        }
+    }
+
+    private void write(ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+    }
+
+    private void sync() {
+        try {
+            if (!closed) {
+                channel.force(false);
+            }
+        } catch (Exception e) {
+            logger.warn("Error while syncing cycle log '" + outputFile + "': " + e, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws Exception {
+        if (closed) {
+            return;
+        }
+        try {
+            for (Slot slot : slots) {
+                synchronized (slot) {
+                    slot.flush();
+                }
+            }
+            closed = true;
+            if (syncer != null) {
+                syncer.shutdown();
+                syncer.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            channel.force(true);
+            channel.close();
+        } catch (Throwable t) {
+            logger.error("Error while closing SegmentedCycleLogOutput: " + t, t);
+            throw t;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentedCycleLogOutput{" +
+            "file=" + outputFile +
+            ", bytes=" + nextPosition.get() +
+            ", slots=" + slots.size() +
+            ", closed=" + closed +
+            '}';
+    }
+
+    /**
+     * A writer which run-length encodes the results of one slot into its own segment buffer.
+     */
+    private final class Slot implements Output, CanFilterResultValue {
+        private final ByteBuffer segment = ByteBuffer.allocate(
+            CycleResultsRLESegmentedReadable.SEGMENT_HEADER_BYTES + extentSizeInSpans * CycleResultsRLEBufferReadable.BYTES
+        ).position(CycleResultsRLESegmentedReadable.SEGMENT_HEADER_BYTES);
+        private Predicate<ResultReadable> filter;
+        private long runStart;
+        private long runEnd = Long.MIN_VALUE;
+        private int runResult;
+
+        @Override
+        public boolean onCycleResult(long completedCycle, int result) {
+            if (filter != null && !filter.test(() -> result)) {
+                return true;
+            }
+            append(completedCycle, completedCycle + 1, result);
+            return true;
+        }
+
+        @Override
+        public void onCycleResultSegment(CycleResultsSegment results) {
+            if (results instanceof CycleSpanResults span) {
+                // already run-length encoded, so it is appended as a whole
+                if (filter == null || filter.test(span)) {
+                    append(span.getMinCycle(), span.getNextMinCycle(), span.getResult());
+                }
+                return;
+            }
+            for (CycleResult cycleResult : results) {
+                if (filter == null || filter.test(cycleResult)) {
+                    append(cycleResult.getCycle(), cycleResult.getCycle() + 1, cycleResult.getResult());
+                }
+            }
+        }
+
+        private void append(long start, long end, int result) {
+            if (start < 0) {
+                throw new RuntimeException("Unable to encode cycle values less than 0");
+            }
+            if (start == runEnd && result == runResult) {
+                runEnd = end;
+                return;
+            }
+            if (result > Byte.MAX_VALUE) {
+                throw new RuntimeException("Unable to encode result values greater than Byte.MAX_VALUE.");
+            }
+            checkpoint();
+            runStart = start;
+            runEnd = end;
+            runResult = result;
+        }
+
+        private void checkpoint() {
+            if (runEnd == Long.MIN_VALUE) {
+                return;
+            }
+            if (segment.remaining() < CycleResultsRLEBufferReadable.BYTES) {
+                writeSegment();
+            }
+            segment.putLong(runStart).putLong(runEnd).put((byte) runResult);
+            runEnd = Long.MIN_VALUE;
+        }
+
+        private void writeSegment() {
+            int spans = (segment.position() - CycleResultsRLESegmentedReadable.SEGMENT_HEADER_BYTES) / CycleResultsRLEBufferReadable.BYTES;
+            if (spans == 0) {
+                return;
+            }
+            segment.putInt(0, spans).flip();
+            SegmentedCycleLogOutput.this.append(segment);
+            segment.clear().position(CycleResultsRLESegmentedReadable.SEGMENT_HEADER_BYTES);
+        }
+
+        private void flush() {
+            checkpoint();
+            writeSegment();
+        }
+
+        @Override
+        public void close() {
+            // Slots are flushed when the cycle log is closed.
+        }
+
+        @Override
+        public void setFilter(Predicate<ResultReadable> filter) {
+            this.filter = filter;
+        }
+    }
+}
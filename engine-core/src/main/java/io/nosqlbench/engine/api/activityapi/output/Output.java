@@ -41,6 +41,13 @@ public interface Output extends AutoCloseable {
         return this.onCycleResult(result.getCycle(),result.getResult());
     }
 
+    /**
+     * Mark the results of a segment of cycles. The segment may be backed by storage which
+     * the caller reuses after this method returns, so implementations which keep results
+     * beyond this call must copy them.
+     *
+     * @param segment The results of the completed cycles
+     */
     default void onCycleResultSegment(CycleResultsSegment segment) {
         segment.forEach(s -> onCycleResult(s.getCycle(),s.getResult()));
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.simrate;
+
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A lock-free rate limiter which keeps the schedule as a cursor of nanosecond time, rather than
+ * as a pool of time tokens which must be replenished by a filler thread like {@link SimRate}.</P>
+ *
+ * <H2>Scheduling</H2>
+ * <UL>
+ * <LI>The <EM>schedule cursor</EM> is the ideal start time of the next op. Each caller claims
+ * a slot by advancing it by exactly one op interval with a single atomic add, so the schedule never
+ * drifts, no matter how late any caller wakes up.</LI>
+ * <LI>The <EM>burst cursor</EM> is the earliest start time of the next op when catching up.
+ * It advances by one op interval divided by the burst ratio, but never from a time earlier than
+ * now, so that time which was not used can not be spent all at once.</LI>
+ * <LI>An op starts at the later of the two cursors. When the caller is ahead of schedule, it parks until
+ * its scheduled time. When it is behind schedule, it may go up to the burst rate until it catches up.</LI>
+ * </UL>
+ *
+ * <P>The wait time is how far the schedule cursor is behind the current time, which is the same
+ * measure of lost time as the waiting pool in {@link SimRate}.</P>
+ *
+ * <H2>Reconfiguration</H2>
+ * <P>A rate spec with the {@link SimRateSpec.Verb#restart} verb re-initializes both cursors, so the current
+ * wait time starts again from zero, and the wait time up to the restart is added to the total wait time.
+ * Any other verb only changes the op intervals, so the schedule continues from where it was and any time
+ * behind schedule is kept.</P>
+ */
+public class CursorRate extends NBBaseComponent implements RateLimiter {
+    private final static Logger logger = LogManager.getLogger(CursorRate.class);
+
+    private final AtomicLong scheduleCursor = new AtomicLong(0L);
+    private final AtomicLong burstCursor = new AtomicLong(0L);
+    private final AtomicLong cumulativeWaitTimeNanos = new AtomicLong(0L);
+    private final LongAdder blocks = new LongAdder();
+
+    private volatile SimRateSpec spec;
+    private volatile long nanosPerOp;
+    private volatile long burstNanosPerOp;
+    private volatile long startTime;
+
+    public CursorRate(NBComponent parent, SimRateSpec spec) {
+        super(parent, NBLabels.forKV().and("rateType",
+            (spec instanceof CycleRateSpec ? "cycle" : "stride")));
+        this.spec = spec;
+        initMetrics();
+        initCursors(spec);
+    }
+
+    private void initMetrics() {
+        String rateType = getLabels().valueOf("rateType");
+        create().gauge(
+            rateType + "s_waittime",
+            () -> (double) getWaitTimeDuration().get(ChronoUnit.NANOS),
+            MetricCategory.Core,
+            "The cumulative scheduling delay which accrues when" +
+                " an activity is not able to execute operations as fast as requested."
+        );
+        create().gauge(
+            "config_" + rateType + "rate",
+            () -> spec.opsPerSec,
+            MetricCategory.Config,
+            "The configured cycle rate in ops/s"
+        );
+        create().gauge(
+            rateType + "_config_burstrate",
+            () -> spec.burstRatio,
+            MetricCategory.Config,
+            "the configured burst rate as a multiplier to the configured cycle rate. ex: 1.05 means 5% faster is allowed."
+        );
+    }
+
+    private void initIntervals(SimRateSpec simRateSpec) {
+        this.nanosPerOp = Math.max(1L, (long) (1_000_000_000d / simRateSpec.getRate()));
+        this.burstNanosPerOp = Math.max(1L, (long) (nanosPerOp / simRateSpec.getBurstRatio()));
+    }
+
+    private void initCursors(SimRateSpec simRateSpec) {
+        initIntervals(simRateSpec);
+        long now = System.nanoTime();
+        this.startTime = now;
+        // Allow the first op to start immediately
+        this.scheduleCursor.set(now);
+        this.burstCursor.set(now);
+    }
+
+    @Override
+    public long block() {
+        long scheduledAt = blockUntilScheduled();
+        return Math.max(0L, System.nanoTime() - scheduledAt);
+    }
+
+    @Override
+    public long blockUntilScheduled() {
+        this.blocks.increment();
+        long scheduledAt = scheduleCursor.getAndAdd(nanosPerOp);
+        long calledAt = System.nanoTime();
+        long startAt = scheduledAt;
+        if (scheduledAt < calledAt) {
+            long burstNanos = burstNanosPerOp;
+            long burstAt = burstCursor.getAndUpdate(b -> Math.max(b, calledAt) + burstNanos);
+            startAt = Math.max(burstAt, calledAt);
+        }
+
+        long now = calledAt;
+        while (now < startAt) {
+            LockSupport.parkNanos(startAt - now);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            now = System.nanoTime();
+        }
+        return scheduledAt;
+    }
+
+    @Override
+    public Duration getTotalWaitTimeDuration() {
+        return getWaitTimeDuration().plusNanos(cumulativeWaitTimeNanos.get());
+    }
+
+    @Override
+    public Duration getWaitTimeDuration() {
+        return Duration.ofNanos(Math.max(0L, System.nanoTime() - scheduleCursor.get()));
+    }
+
+    @Override
+    public double getWaitTimeSeconds() {
+        Duration wait = getWaitTimeDuration();
+        return (double) wait.getSeconds() + (wait.getNano() / 1_000_000_000d);
+    }
+
+    @Override
+    public void applyRateSpec(SimRateSpec updatingSimRateSpec) {
+        if (null == updatingSimRateSpec) throw new RuntimeException("RateSpec must be defined");
+        logger.info("rate spec:\n" + updatingSimRateSpec);
+        if (updatingSimRateSpec.getRate() == 0d) {
+            logger.warn("setting a rate of 0 will yield undefined results");
+        }
+        synchronized (this) {
+            this.spec = updatingSimRateSpec;
+            if (updatingSimRateSpec.verb == SimRateSpec.Verb.restart) {
+                this.cumulativeWaitTimeNanos.addAndGet(getWaitTimeDuration().toNanos());
+                initCursors(updatingSimRateSpec);
+            } else {
+                initIntervals(updatingSimRateSpec);
+            }
+        }
+    }
+
+    @Override
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public SimRateSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "{ rate:%f, limiter:cursor, nanos_per_op:%,d, burst_nanos_per_op:%,d, wait_ns:%,d, blocks:%,d }",
+            this.spec.getRate(), this.nanosPerOp, this.burstNanosPerOp,
+            getWaitTimeDuration().toNanos(), this.blocks.sum()
+        );
+    }
+}
@@ -27,6 +27,10 @@ public class CycleRateSpec extends SimRateSpec {
         super(opsPerSec, burstRatio, type);
     }
 
+    public CycleRateSpec(double opsPerSec, double burstRatio, Verb type, Limiter limiter) {
+        super(opsPerSec, burstRatio, type, limiter);
+    }
+
     public CycleRateSpec(ParameterMap.NamedParameter tuple) {
         super(tuple);
     }
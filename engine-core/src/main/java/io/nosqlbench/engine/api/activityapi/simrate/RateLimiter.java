@@ -36,6 +36,24 @@ public interface RateLimiter {
      */
     long block();
 
+    /**
+     * <P>Block until it is time for the next operation, as with {@link #block()}, but return
+     * the {@link System#nanoTime()} at which the operation was scheduled to start.</P>
+     *
+     * <P>Response times which are measured from this intended start time, rather than from when
+     * the operation was actually started, include any time that the caller was behind schedule.
+     * This avoids coordinated omission, where a client which falls behind its target rate hides the
+     * queueing delay it would have imposed on real users.</P>
+     *
+     * <P>By default, this is derived from the value returned by {@link #block()}, so it is only
+     * as accurate as that value.</P>
+     * @return the intended start time of the operation in system nanos
+     */
+    default long blockUntilScheduled() {
+        long behind = block();
+        return System.nanoTime() - behind;
+    }
+
     /**
      * Return the total number of nanoseconds behind schedule
      * that this rate limiter is, including the full history across all
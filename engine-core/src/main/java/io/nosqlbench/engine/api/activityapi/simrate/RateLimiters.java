@@ -26,15 +26,27 @@ public enum RateLimiters {
 
     public static synchronized RateLimiter createOrUpdate(final NBComponent parent, final RateLimiter extant, final SimRateSpec spec) {
 
-        if (null == extant) {
-            final RateLimiter rateLimiter= new SimRate(parent, spec);
-
-            RateLimiters.logger.info(() -> "Using rate limiter: " + rateLimiter);
-            return rateLimiter;
+        if (null != extant && extant.getSpec().getLimiter() != spec.getLimiter()) {
+            RateLimiters.logger.info(() -> "Replacing rate limiter " + extant + " to use limiter " + spec.getLimiter());
+            if (extant instanceof NBComponent component) {
+                component.close();
+            }
+        } else if (null != extant) {
+            extant.applyRateSpec(spec);
+            RateLimiters.logger.info(() -> "Updated rate limiter: " + extant);
+            return extant;
         }
-        extant.applyRateSpec(spec);
-        RateLimiters.logger.info(() -> "Updated rate limiter: " + extant);
-        return extant;
+
+        final RateLimiter rateLimiter = create(parent, spec);
+        RateLimiters.logger.info(() -> "Using rate limiter: " + rateLimiter);
+        return rateLimiter;
+    }
+
+    private static RateLimiter create(final NBComponent parent, final SimRateSpec spec) {
+        return switch (spec.getLimiter()) {
+            case simrate -> new SimRate(parent, spec);
+            case cursor -> new CursorRate(parent, spec);
+        };
     }
 
 
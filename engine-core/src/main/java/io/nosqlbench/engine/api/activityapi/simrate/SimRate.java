@@ -285,6 +285,17 @@ public class SimRate extends NBBaseComponent implements RateLimiter, Thread.Unca
         return this.waitingPool.get() + this.activePool.availablePermits();
     }
 
+    /**
+     * The schedule of a token bucket is not tracked per op, so the intended start time is estimated
+     * from the time in the waiting pool, which is how far behind schedule the rate limiter is overall.
+     */
+    @Override
+    public long blockUntilScheduled() {
+        block();
+        long behindTicks = Math.max(this.waitingPool.get(), 0L);
+        return System.nanoTime() - spec.ticksToNanos(behindTicks);
+    }
+
     @Override
     public void uncaughtException(Thread t, Throwable e) {
         logger.error("SimRate filler thread threw an error, and will be stopped:" + e, e);
@@ -393,4 +404,10 @@ public class SimRate extends NBBaseComponent implements RateLimiter, Thread.Unca
     public long getStartTime() {
         return startTime;
     }
+
+    @Override
+    protected void teardown() {
+        stopFiller();
+        super.teardown();
+    }
 }
@@ -46,6 +46,7 @@ import java.time.temporal.ChronoUnit;
  * <LI>&lt;rate&gt;</LI>
  * <LI>&lt;rate&gt;,&lt;burst ratio&gt;</LI>
  * <LI>&lt;rate&gt;,&lt;burst ratio&gt;,&lt;verb&gt;</LI>
+ * <LI>&lt;rate&gt;,&lt;burst ratio&gt;,&lt;verb&gt;,&lt;limiter&gt;</LI>
  * </UL>
  * <p>
  * Where:
@@ -54,6 +55,8 @@ import java.time.temporal.ChronoUnit;
  * <EM>burst ratio</EM> is a floating point value greater than 1.0 which determines how much faster
  * the rate limiter may go to catch up to the overall.
  * <EM>verb</EM> is one of configure, start, or restart, as explained below.
+ * <EM>limiter</EM> is the rate limiter implementation, either simrate (the default) or cursor, as
+ * described in {@link Limiter}.
  * <p>
  * For example:
  * <UL>
@@ -64,6 +67,8 @@ import java.time.temporal.ChronoUnit;
  * <LI>1000,1.05,restart - Allow up to 1000 ops per second on average, but allow 1050 ops per second
  * if the workload gets behind. If the rate limiter was already running, restart it, clearing any
  * previous backlog (wait time) and resource pools.</LI>
+ * <LI>1M,1.1,start,cursor - Allow up to 1000000 ops per second on average, using the lock-free
+ * {@link CursorRate} implementation.</LI>
  * </UL>
  *
  * <H2>Rate Limiter Life Cycle</H2>
@@ -128,6 +133,7 @@ public class SimRateSpec {
     public static final double DEFAULT_RATE_OPS_S = 1.0D;
     public static final double DEFAULT_BURST_RATIO = 1.1D;
     public static Verb DEFAULT_VERB = Verb.start;
+    public static final Limiter DEFAULT_LIMITER = Limiter.simrate;
 
     public ChronoUnit unit;
 
@@ -137,6 +143,7 @@ public class SimRateSpec {
     public double opsPerSec = DEFAULT_RATE_OPS_S;
     public double burstRatio = DEFAULT_BURST_RATIO;
     public Verb verb = Verb.start;
+    public Limiter limiter = DEFAULT_LIMITER;
 
     public double burstRatio() {
         return this.burstRatio;
@@ -165,7 +172,7 @@ public class SimRateSpec {
         };
     }
 
-    public long ticksToNanos(int newTicks) {
+    public long ticksToNanos(long newTicks) {
         return switch (unit) {
             case NANOS -> newTicks;
             case MICROS -> newTicks*1_000L;
@@ -209,18 +216,41 @@ public class SimRateSpec {
         stop
     }
 
+    /**
+     * The rate limiter implementations which a rate spec can select. Changing the limiter
+     * of a running rate limiter replaces it with a new one, so any accumulated wait time
+     * is not carried over.
+     */
+    public enum Limiter {
+        /**
+         * A semaphore-based token bucket which is replenished by a filler thread. See {@link SimRate}.
+         */
+        simrate,
+        /**
+         * A lock-free scheduled-time cursor which callers advance with atomic updates, with no
+         * filler thread. This has less contention and less schedule jitter at high rates. See
+         * {@link CursorRate}.
+         */
+        cursor
+    }
+
     public SimRateSpec(double opsPerSec, double burstRatio) {
         this(opsPerSec, burstRatio, DEFAULT_VERB);
     }
 
     public SimRateSpec(double opsPerSec, double burstRatio, Verb type) {
-        apply(opsPerSec, burstRatio, verb);
+        apply(opsPerSec, burstRatio, verb, DEFAULT_LIMITER);
+    }
+
+    public SimRateSpec(double opsPerSec, double burstRatio, Verb type, Limiter limiter) {
+        apply(opsPerSec, burstRatio, type, limiter);
     }
 
-    private void apply(double opsPerSec, double burstRatio, Verb verb) {
+    private void apply(double opsPerSec, double burstRatio, Verb verb, Limiter limiter) {
         this.opsPerSec = opsPerSec;
         this.burstRatio = burstRatio;
         this.verb = verb;
+        this.limiter = limiter;
         this.unit = chronoUnitFor(opsPerSec);
 
         // TODO: include burst into ticks calculation
@@ -246,9 +276,13 @@ public class SimRateSpec {
     public SimRateSpec(String spec) {
         String[] specs = spec.split("[,:;]");
         Verb verb = Verb.start;
+        Limiter limiter = DEFAULT_LIMITER;
         double burstRatio = DEFAULT_BURST_RATIO;
         double opsPerSec;
         switch (specs.length) {
+            case 4:
+                limiter = Limiter.valueOf(specs[3].toLowerCase());
+                logger.debug("selected rate limiter implementation: " + limiter);
             case 3:
                 verb = Verb.valueOf(specs[2].toLowerCase());
                 logger.debug("selected rate limiter type: " + verb);
@@ -263,7 +297,7 @@ public class SimRateSpec {
             default:
                 throw new RuntimeException("Rate specs must be either '<rate>' or '<rate>:<burstRatio>' as in 5000.0 or 5000.0:1.0");
         }
-        apply(opsPerSec, burstRatio, verb);
+        apply(opsPerSec, burstRatio, verb, limiter);
     }
 
     public String toString() {
@@ -274,7 +308,7 @@ public class SimRateSpec {
         double burstPortion = Math.abs(br - ((long) br));
         String burstfmt = (burstPortion > 0.001D) ? String.format("%,.3f", br) : String.format("%,d", (long) br);
 
-        return String.format("{ rate:'%s', burstRatio:'%.3f', SOPSS:'%s', BOPSS:'%s', verb:'%s' }", ratefmt, burstRatio, ratefmt, burstfmt, verb);
+        return String.format("{ rate:'%s', burstRatio:'%.3f', SOPSS:'%s', BOPSS:'%s', verb:'%s', limiter:'%s' }", ratefmt, burstRatio, ratefmt, burstfmt, verb, limiter);
     }
 
     public double getRate() {
@@ -285,6 +319,10 @@ public class SimRateSpec {
         return this.burstRatio;
     }
 
+    public Limiter getLimiter() {
+        return this.limiter;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -293,7 +331,8 @@ public class SimRateSpec {
         SimRateSpec simRateSpec = (SimRateSpec) o;
 
         if (Double.compare(simRateSpec.opsPerSec, opsPerSec) != 0) return false;
-        return Double.compare(simRateSpec.burstRatio, burstRatio) == 0;
+        if (Double.compare(simRateSpec.burstRatio, burstRatio) != 0) return false;
+        return limiter == simRateSpec.limiter;
     }
 
     @Override
@@ -304,6 +343,7 @@ public class SimRateSpec {
         result = (int) (temp ^ (temp >>> 32));
         temp = Double.doubleToLongBits(burstRatio);
         result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + limiter.hashCode();
         return result;
     }
 
@@ -27,6 +27,10 @@ public class StrideRateSpec extends SimRateSpec {
         super(opsPerSec, burstRatio, type);
     }
 
+    public StrideRateSpec(double opsPerSec, double burstRatio, Verb type, Limiter limiter) {
+        super(opsPerSec, burstRatio, type, limiter);
+    }
+
     public StrideRateSpec(ParameterMap.NamedParameter tuple) {
         super(tuple);
     }
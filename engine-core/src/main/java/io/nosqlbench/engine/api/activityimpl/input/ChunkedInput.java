@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.nb.api.components.core.NBBaseComponent;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.nb.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>This input provides the same cycles and recycles as {@link AtomicInput}, but without
+ * making every motor contend on one shared counter for every stride.</p>
+ *
+ * <p>Each motor slot has its own view of this input, which claims a chunk of cycles from the
+ * shared cursor at a time, and then splits that chunk into strides locally. The shared cursor
+ * is only updated once per chunk, and the counter of each chunk is normally only updated by the
+ * motor which owns it, so it stays in that motor's cache.</p>
+ *
+ * <p>When the shared cursor is exhausted, a motor which has finished its own chunk takes strides
+ * from the unfinished chunks of other motors. Every stride of every chunk is claimed with an atomic
+ * increment of that chunk's counter, so each cycle is still dispatched exactly once, whichever motor
+ * takes it. The last stride of a chunk is shortened when the cycle count is not a multiple of the
+ * stride, and chunks never span more than one recycle.</p>
+ *
+ * <p>Since the cycles are dispatched in chunks, the order of cycles across motors is not contiguous,
+ * so this input can not be used with outputs which require a contiguous input.</p>
+ *
+ * <p>As with {@link AtomicInput}, changing the end of the cycle or recycle interval of a running activity
+ * keeps the progress made so far, and chunks which were already claimed are cut short at the new end.
+ * Changing the start of either interval starts over from the beginning.</p>
+ */
+public class ChunkedInput extends NBBaseComponent implements ActivityDefObserver {
+    private final static Logger logger = LogManager.getLogger(ChunkedInput.class);
+    public final static long DEFAULT_CHUNK_SIZE = 10_000L;
+
+    private final ActivityDef activityDef;
+    private final long chunkSize;
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    // the interval and the position in the sequence of all cycles of all recycles, updated together
+    private final AtomicReference<Cursor> cursor = new AtomicReference<>();
+
+    public ChunkedInput(NBComponent parent, ActivityDef activityDef, long chunkSize) {
+        super(parent);
+        if (chunkSize < 1) {
+            throw new RuntimeException("The chunk size for a chunked input must be at least 1, but it was " + chunkSize);
+        }
+        this.activityDef = activityDef;
+        this.chunkSize = chunkSize;
+        onActivityDefUpdate(activityDef);
+        create().gauge(
+            "input_cycles_first",
+            () -> (double) interval().cyclesMin,
+            MetricCategory.Config,
+            "The first cycle of the cycle interval, inclusive"
+        );
+        create().gauge(
+            "input_cycles_last",
+            () -> (double) interval().cyclesMax,
+            MetricCategory.Config,
+            "The last cycle of the cycle interval, exclusive"
+        );
+        create().gauge(
+            "input_cycle",
+            () -> (double) interval().cycleAt(lastClaimablePosition()),
+            MetricCategory.Core,
+            "The next input cycle that will be claimed as part of a chunk by a thread"
+        );
+        create().gauge(
+            "input_cycles_total",
+            () -> (double) interval().cycleCount(),
+            MetricCategory.Config,
+            "The total number of cycles to be executed"
+        );
+        create().gauge(
+            "input_recycles_first",
+            () -> (double) interval().recyclesMin,
+            MetricCategory.Config,
+            "The first recycle value, inclusive"
+        );
+        create().gauge(
+            "input_recycles_last",
+            () -> (double) interval().recyclesMax,
+            MetricCategory.Config,
+            "The last recycle value, exclusive"
+        );
+        create().gauge(
+            "input_recycle",
+            () -> (double) interval().recycleAt(lastClaimablePosition()),
+            MetricCategory.Core,
+            "The next recycle value that will be claimed as part of a chunk by a thread"
+        );
+        create().gauge(
+            "input_recycles_total",
+            () -> (double) (interval().recyclesMax - interval().recyclesMin),
+            MetricCategory.Config,
+            "The total number of recycles to be executed, within which each set of cycles will be executed"
+        );
+    }
+
+    private Interval interval() {
+        return cursor.get().interval();
+    }
+
+    private long lastClaimablePosition() {
+        Cursor current = cursor.get();
+        return Math.max(0L, Math.min(current.position(), current.interval().total() - 1));
+    }
+
+    /**
+     * Get the view of this input for a motor slot. The same view is returned for the same slot,
+     * so that a chunk which is claimed by a motor remains available to any motor which replaces it.
+     *
+     * @param slot The motor slot
+     * @return An {@link Input} which should only be used by the motor of the given slot
+     */
+    public Input forSlot(long slot) {
+        return slots.computeIfAbsent(slot, s -> new Slot());
+    }
+
+    /**
+     * Claim the next chunk of cycles from the shared cursor, never spanning a recycle boundary.
+     *
+     * @return the claimed chunk, or null if all cycles of all recycles have been claimed
+     */
+    private Chunk claimChunk() {
+        while (true) {
+            Cursor current = cursor.get();
+            Interval interval = current.interval();
+            long start = current.position();
+            if (start >= interval.total()) {
+                return null;
+            }
+            long cycleCount = interval.cycleCount();
+            long recycleEnd = ((start / cycleCount) + 1) * cycleCount;
+            long end = Math.min(Math.min(start + chunkSize, recycleEnd), interval.total());
+            if (cursor.compareAndSet(current, new Cursor(interval, end))) {
+                long cycle = interval.cycleAt(start);
+                return new Chunk(interval, interval.recycleAt(start), cycle, cycle + (end - start));
+            }
+        }
+    }
+
+    /**
+     * Take a stride from the unfinished chunk of another slot, once there are no more chunks to claim.
+     */
+    private CycleSegment steal(Slot thief, int stride) {
+        for (Slot victim : slots.values()) {
+            if (victim == thief) {
+                continue;
+            }
+            Chunk chunk = victim.chunk;
+            if (chunk != null) {
+                CycleSegment segment = chunk.take(stride);
+                if (segment != null) {
+                    return segment;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Apply the cycle and recycle intervals of the activity. Each slot forwards updates here, so every update
+     * after the first one which changes the intervals does nothing.
+     */
+    @Override
+    public synchronized void onActivityDefUpdate(ActivityDef activityDef) {
+        CyclesSpec recyclesSpec = activityDef.getRecyclesSpec();
+        CyclesSpec cyclesSpec = activityDef.getCyclesSpec();
+        Interval updated = new Interval(
+            cyclesSpec.first_inclusive(), cyclesSpec.last_exclusive(),
+            recyclesSpec.first_inclusive(), recyclesSpec.last_exclusive()
+        );
+        while (true) {
+            Cursor current = cursor.get();
+            if (current != null && current.interval().equals(updated)) {
+                return;
+            }
+            long position = 0L;
+            if (current != null && current.interval().hasSameStart(updated)) {
+                position = current.positionIn(updated);
+                logger.info(() -> "changing chunked input interval for " + activityDef.getAlias() + " to " + updated);
+            } else if (current != null) {
+                logger.info(() -> "resetting chunked input for " + activityDef.getAlias() + " to " + updated);
+            }
+            if (cursor.compareAndSet(current, new Cursor(updated, position))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        Cursor current = cursor.get();
+        return "ChunkedInput{" +
+            "interval=" + current.interval() +
+            ", position=" + current.position() +
+            ", chunk=" + chunkSize +
+            ", slots=" + slots.size() +
+            ", activity=" + activityDef.getAlias() +
+            '}';
+    }
+
+    private record Cursor(Interval interval, long position) {
+        /**
+         * The position of the same cycle and recycle in another interval with the same start. A position at the
+         * end of a recycle stays at the end of that recycle, so that extending the cycles continues it.
+         */
+        private long positionIn(Interval other) {
+            long cycleCount = interval.cycleCount();
+            if (position == 0L || cycleCount == 0L) {
+                return 0L;
+            }
+            long recycle = (position - 1) / cycleCount;
+            long cycle = ((position - 1) % cycleCount) + 1;
+            return (recycle * other.cycleCount()) + Math.min(cycle, other.cycleCount());
+        }
+    }
+
+    private record Interval(long cyclesMin, long cyclesMax, long recyclesMin, long recyclesMax) {
+        private boolean hasSameStart(Interval other) {
+            return cyclesMin == other.cyclesMin && recyclesMin == other.recyclesMin;
+        }
+
+        private long cycleCount() {
+            return Math.max(cyclesMax - cyclesMin, 0L);
+        }
+
+        private long total() {
+            return cycleCount() * Math.max(recyclesMax - recyclesMin, 0L);
+        }
+
+        private long cycleAt(long position) {
+            return cycleCount() == 0 ? cyclesMin : cyclesMin + (position % cycleCount());
+        }
+
+        private long recycleAt(long position) {
+            return cycleCount() == 0 ? recyclesMin : recyclesMin + (position / cycleCount());
+        }
+    }
+
+    /**
+     * A range of cycles within one recycle. Strides are claimed from the front of the range by the
+     * owning slot, or by any other slot once the shared cursor is exhausted. If the interval was changed
+     * since the chunk was claimed, the chunk ends at the end of the new interval.
+     */
+    private final class Chunk {
+        private final Interval interval;
+        private final long recycle;
+        private final long end;
+        private final AtomicLong next;
+
+        private Chunk(Interval interval, long recycle, long start, long end) {
+            this.interval = interval;
+            this.recycle = recycle;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        private long limit() {
+            Interval current = interval();
+            if (current == interval) {
+                return end;
+            }
+            if (!current.hasSameStart(interval) || recycle >= current.recyclesMax()) {
+                return Long.MIN_VALUE;
+            }
+            return Math.min(end, current.cyclesMax());
+        }
+
+        private CycleSegment take(int stride) {
+            long limit = limit();
+            if (next.get() >= limit) {
+                return null;
+            }
+            long start = next.getAndAdd(stride);
+            if (start >= limit) {
+                return null;
+            }
+            return new InputInterval.Segment(recycle, start, Math.min(start + stride, limit));
+        }
+    }
+
+    /**
+     * The view of this input for one motor slot. Motors only forward activity updates to their own input,
+     * so each slot passes them on to the shared input.
+     */
+    private final class Slot implements Input, ActivityDefObserver {
+        private volatile Chunk chunk;
+
+        @Override
+        public CycleSegment getInputSegment(int stride) {
+            while (true) {
+                Chunk current = this.chunk;
+                if (current != null) {
+                    CycleSegment segment = current.take(stride);
+                    if (segment != null) {
+                        return segment;
+                    }
+                }
+                Chunk claimed = claimChunk();
+                if (claimed == null) {
+                    this.chunk = null;
+                    return steal(this, stride);
+                }
+                this.chunk = claimed;
+            }
+        }
+
+        @Override
+        public void onActivityDefUpdate(ActivityDef activityDef) {
+            ChunkedInput.this.onActivityDefUpdate(activityDef);
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkedInput.Slot{chunk=" + (chunk == null ? "none" : chunk.next.get() + ".." + chunk.end) + "}";
+        }
+    }
+}
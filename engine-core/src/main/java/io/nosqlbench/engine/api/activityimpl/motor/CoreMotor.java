@@ -30,7 +30,11 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.nosqlbench.engine.api.activityapi.core.RunState.*;
 
@@ -43,7 +47,8 @@ import static io.nosqlbench.engine.api.activityapi.core.RunState.*;
  *
  * This motor implementation splits the handling of sync and async actions with a hard
  * fork in the middle to limit potential breakage of the prior sync implementation
- * with new async logic.
+ * with new async logic. Async actions are only used when the <em>async</em> activity
+ * parameter is set, in which case it is the number of cycles each motor may have in flight.
  */
 public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
 
@@ -188,6 +193,7 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
             inputTimer = activity.getInstrumentation().getOrCreateInputTimer();
             strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
             stridesResponseTimer = activity.getInstrumentation().getStridesResponseTimerOrNull();
+            cycleResponseTimer = activity.getInstrumentation().getCyclesResponseTimerOrNull();
 
             strideRateLimiter = activity.getStrideLimiter();
             cycleRateLimiter = activity.getCycleLimiter();
@@ -208,22 +214,23 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                 strideRateLimiter.block();
             }
 
-            long strideDelay = 0L;
-            long cycleDelay = 0L;
-
-            if (action instanceof SyncAction sync) {
+            if (activity.getActivityDef().getParams().containsKey("async")) {
+                if (action instanceof AsyncCycleAction asyncAction) {
+                    runAsyncCycles(asyncAction);
+                } else {
+                    throw new RuntimeException("The async parameter was given for this activity, but it does not seem to know how to do async.");
+                }
+            } else if (action instanceof SyncAction sync) {
                 cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer();
                 strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
 
-                if (activity.getActivityDef().getParams().containsKey("async")) {
-                    throw new RuntimeException("The async parameter was given for this activity, but it does not seem to know how to do async.");
-                }
+                // Reused for every stride, and only needed when there is an output to feed
+                CycleResultSegmentBuffer segBuffer = null;
 
                 motorState.enterState(Running);
                 while (motorState.get() == Running) {
 
                     CycleSegment cycleSegment = null;
-                    CycleResultSegmentBuffer segBuffer = new CycleResultSegmentBuffer(stride);
 
                     try (Timer.Context inputTime = inputTimer.time()) {
                         cycleSegment = input.getInputSegment(stride);
@@ -235,13 +242,27 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                         continue;
                     }
 
+                    if (output != null) {
+                        if (segBuffer == null || segBuffer.getCapacity() < stride) {
+                            segBuffer = new CycleResultSegmentBuffer(stride);
+                        } else {
+                            segBuffer.reset();
+                        }
+                    }
 
+                    long strideIntended = 0L;
                     if (strideRateLimiter != null) {
                         // block for strides rate limiter
-                        strideDelay = strideRateLimiter.block();
+                        strideIntended = strideRateLimiter.blockUntilScheduled();
                     }
 
+                    // The end of the last cycle serves as the end of the stride. Each cycle reads the
+                    // clock immediately before the op call, so service time excludes the loop overhead.
                     long strideStart = System.nanoTime();
+                    long now = strideStart;
+                    if (strideRateLimiter == null) {
+                        strideIntended = strideStart;
+                    }
                     try {
 
                         while (!cycleSegment.isExhausted()) {
@@ -255,36 +276,51 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                             }
 
                             if (motorState.get() != Running) {
-                                logger.trace(() -> "motor stopped after input (input " + cyclenum + "), stopping motor thread " + slotId);
+                                if (logger.isTraceEnabled()) {
+                                    logger.trace("motor stopped after input (input " + cyclenum + "), stopping motor thread " + slotId);
+                                }
                                 continue;
                             }
                             int result = -1;
 
+                            long cycleIntended = 0L;
                             if (cycleRateLimiter != null) {
                                 // Block for cycle rate limiter
-                                cycleDelay = cycleRateLimiter.block();
+                                cycleIntended = cycleRateLimiter.blockUntilScheduled();
                             }
 
+                            if (logger.isTraceEnabled()) {
+                                logger.trace("cycle " + cyclenum);
+                            }
                             long cycleStart = System.nanoTime();
+                            if (cycleRateLimiter == null) {
+                                cycleIntended = cycleStart;
+                            }
                             try {
-                                logger.trace(()->"cycle " + cyclenum);
-                                result = sync.runCycle(cyclenum);
+                                result = sync.runCycle(cyclenum, cycleIntended);
                             } catch (Exception e) {
                                 motorState.enterState(Errored);
                                 throw e;
                             } finally {
-                                long cycleEnd = System.nanoTime();
-                                cycleServiceTimer.update((cycleEnd - cycleStart) + cycleDelay, TimeUnit.NANOSECONDS);
+                                now = System.nanoTime();
+                                cycleServiceTimer.update(now - cycleStart, TimeUnit.NANOSECONDS);
+                                if (cycleResponseTimer != null) {
+                                    cycleResponseTimer.update(now - cycleIntended, TimeUnit.NANOSECONDS);
+                                }
+                            }
+                            if (segBuffer != null) {
+                                segBuffer.append(cyclenum, result);
                             }
-                            segBuffer.append(cyclenum, result);
                         }
 
                     } finally {
-                        long strideEnd = System.nanoTime();
-                        strideServiceTimer.update((strideEnd - strideStart) + strideDelay, TimeUnit.NANOSECONDS);
+                        strideServiceTimer.update(now - strideStart, TimeUnit.NANOSECONDS);
+                        if (stridesResponseTimer != null) {
+                            stridesResponseTimer.update(now - strideIntended, TimeUnit.NANOSECONDS);
+                        }
                     }
 
-                    if (output != null) {
+                    if (segBuffer != null) {
                         CycleResultsSegment outputBuffer = segBuffer.toReader();
                         try {
                             output.onCycleResultSegment(outputBuffer);
@@ -315,6 +351,183 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
         }
     }
 
+    /**
+     * <p>Run cycles through an async action, keeping up to <em>async</em> cycles in flight for this motor.
+     * Each cycle holds a permit from the in-flight window from when it is started until it completes,
+     * so the motor blocks only when the window is full. Cycle service times and stride results are
+     * recorded when the cycles complete, which may be on driver threads.</p>
+     *
+     * <p>Before the motor leaves the running state, all in-flight cycles are awaited. Any error which
+     * escapes the error handler of a completed cycle stops the motor at the next cycle.</p>
+     */
+    private void runAsyncCycles(AsyncCycleAction asyncAction) {
+        int inflightLimit = activity.getActivityDef().getParams().getOptionalInteger("async").orElse(1);
+        if (inflightLimit < 1) {
+            throw new RuntimeException("The async parameter must be at least 1, but it was " + inflightLimit);
+        }
+        Semaphore inflight = new Semaphore(inflightLimit);
+        AtomicReference<Throwable> asyncError = new AtomicReference<>();
+
+        cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer();
+        strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
+
+        motorState.enterState(Running);
+        try {
+            while (motorState.get() == Running) {
+
+                CycleSegment cycleSegment = null;
+
+                try (Timer.Context inputTime = inputTimer.time()) {
+                    cycleSegment = input.getInputSegment(stride);
+                }
+
+                if (cycleSegment == null) {
+                    logger.trace(() -> "input exhausted (input " + input + ") via null segment, stopping motor thread " + slotId);
+                    motorState.enterState(Finished);
+                    continue;
+                }
+
+                long strideIntended = 0L;
+                if (strideRateLimiter != null) {
+                    // block for strides rate limiter
+                    strideIntended = strideRateLimiter.blockUntilScheduled();
+                }
+
+                AsyncStride asyncStride = new AsyncStride(strideIntended, asyncError);
+
+                while (!cycleSegment.isExhausted()) {
+                    long cyclenum = cycleSegment.nextCycle();
+                    if (cyclenum < 0) {
+                        if (cycleSegment.isExhausted()) {
+                            logger.trace(() -> "input exhausted (input " + input + ") via negative read, stopping motor thread " + slotId);
+                            motorState.enterState(Finished);
+                            continue;
+                        }
+                    }
+
+                    if (motorState.get() != Running) {
+                        logger.trace(() -> "motor stopped after input (input " + cyclenum + "), stopping motor thread " + slotId);
+                        continue;
+                    }
+
+                    long cycleIntended = 0L;
+                    if (cycleRateLimiter != null) {
+                        // Block for cycle rate limiter
+                        cycleIntended = cycleRateLimiter.blockUntilScheduled();
+                    }
+
+                    inflight.acquireUninterruptibly();
+                    throwIfFailed(asyncError);
+
+                    long cycleStart = System.nanoTime();
+                    long intended = (cycleRateLimiter != null) ? cycleIntended : cycleStart;
+                    CompletionStage<Integer> cycleStage;
+                    try {
+                        asyncStride.started();
+                        cycleStage = asyncAction.runCycleAsync(cyclenum, intended);
+                    } catch (Exception e) {
+                        inflight.release();
+                        motorState.enterState(Errored);
+                        throw e;
+                    }
+                    cycleStage.whenComplete((result, error) -> {
+                        try {
+                            long cycleEnd = System.nanoTime();
+                            cycleServiceTimer.update(cycleEnd - cycleStart, TimeUnit.NANOSECONDS);
+                            if (cycleResponseTimer != null) {
+                                cycleResponseTimer.update(cycleEnd - intended, TimeUnit.NANOSECONDS);
+                            }
+                            if (error != null) {
+                                asyncError.compareAndSet(null, error);
+                            }
+                            asyncStride.completed(cyclenum, error == null ? result : -1);
+                        } catch (Throwable t) {
+                            asyncError.compareAndSet(null, t);
+                        } finally {
+                            inflight.release();
+                        }
+                    });
+                }
+                asyncStride.dispatched();
+            }
+        } finally {
+            // wait for all in-flight cycles, even if stopping
+            inflight.acquireUninterruptibly(inflightLimit);
+            inflight.release(inflightLimit);
+        }
+        throwIfFailed(asyncError);
+    }
+
+    private void throwIfFailed(AtomicReference<Throwable> asyncError) {
+        Throwable error = asyncError.get();
+        if (error != null) {
+            motorState.enterState(Errored);
+            if (error instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new RuntimeException(error);
+        }
+    }
+
+    /**
+     * Tracks the cycles of one stride which are in flight, so that the stride timer and
+     * any result output can be handled when the last of its cycles completes.
+     */
+    private final class AsyncStride {
+        private final long strideStart = System.nanoTime();
+        private final long strideIntended;
+        private final AtomicReference<Throwable> asyncError;
+        private final CycleResultSegmentBuffer segBuffer;
+        // starts at one, for the dispatching thread, so the stride can't complete before it is dispatched
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private AsyncStride(long strideIntended, AtomicReference<Throwable> asyncError) {
+            this.strideIntended = (strideRateLimiter != null) ? strideIntended : strideStart;
+            this.asyncError = asyncError;
+            this.segBuffer = (output != null) ? new CycleResultSegmentBuffer(stride) : null;
+        }
+
+        private void started() {
+            pending.incrementAndGet();
+        }
+
+        private void completed(long cycle, int result) {
+            if (segBuffer != null) {
+                synchronized (segBuffer) {
+                    segBuffer.append(cycle, result);
+                }
+            }
+            finish();
+        }
+
+        private void dispatched() {
+            finish();
+        }
+
+        private void finish() {
+            if (pending.decrementAndGet() != 0) {
+                return;
+            }
+            long strideEnd = System.nanoTime();
+            strideServiceTimer.update(strideEnd - strideStart, TimeUnit.NANOSECONDS);
+            if (stridesResponseTimer != null) {
+                stridesResponseTimer.update(strideEnd - strideIntended, TimeUnit.NANOSECONDS);
+            }
+            if (segBuffer != null && asyncError.get() == null) {
+                CycleResultsSegment outputBuffer;
+                synchronized (segBuffer) {
+                    outputBuffer = segBuffer.toReader();
+                }
+                try {
+                    output.onCycleResultSegment(outputBuffer);
+                } catch (Exception t) {
+                    logger.error(() -> "Error while feeding result segment " + outputBuffer + " to output '" + output + "', error:" + t);
+                    asyncError.compareAndSet(null, t);
+                }
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return this.activity.getAlias() + ": slot:" + this.slotId + "; state:" + motorState.get();
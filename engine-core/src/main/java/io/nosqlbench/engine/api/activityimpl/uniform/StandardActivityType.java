@@ -56,9 +56,6 @@ public class StandardActivityType<A extends StandardActivity<?,?>> implements Ac
 
     @Override
     public A getActivity(final ActivityDef activityDef, final NBComponent parent) {
-        if (activityDef.getParams().getOptionalString("async").isPresent())
-            throw new RuntimeException("This driver does not support async mode yet.");
-
         return (A) new StandardActivity(parent, activityDef);
     }
 
@@ -16,14 +16,17 @@
 
 package io.nosqlbench.engine.api.activityimpl.uniform.actions;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.*;
 import io.nosqlbench.adapters.api.evalctx.CycleFunction;
+import io.nosqlbench.adapters.api.metrics.ThreadLocalNamedTimers;
 import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.nb.api.errors.ResultVerificationError;
 import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
+import io.nosqlbench.engine.api.activityapi.core.AsyncCycleAction;
 import io.nosqlbench.engine.api.activityapi.core.SyncAction;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorDetail;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.NBErrorHandler;
@@ -32,7 +35,11 @@ import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * This is the generified version of an Action. All driver adapters us this, as opposed
@@ -40,23 +47,36 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * This allows the API to be consolidated so that the internal machinery of NB
  * works in a very consistent and uniform way for all users and drivers.
+ * <p>
+ * When an activity is run with the <em>async</em> parameter, cycles are started with
+ * {@link #runCycleAsync(long)}. Ops which implement {@link AsyncCycleOp} are then submitted
+ * without blocking, and their timers, verifiers, retries and error handling are applied
+ * when they complete. Any other op types are run synchronously as usual.
+ * <p>
+ * When the motor provides the intended start time of a cycle, as it does when a cycle rate limiter
+ * is in effect, each attempt at an op is also recorded in the result response timer, measured from
+ * that intended time, so that response times include any time the client spent behind schedule.
  *
  * @param <A>
  *     The type of activity
  * @param <R>
  *     The type of operation
  */
-public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> implements SyncAction, ActivityDefObserver {
+public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> implements SyncAction, AsyncCycleAction, ActivityDefObserver {
     private final static Logger logger = LogManager.getLogger("ACTION");
     private final Timer executeTimer;
     private final Histogram triesHistogram;
     private final Timer resultSuccessTimer;
     private final Timer resultTimer;
+    private final Timer resultResponseTimer;
     private final Timer bindTimer;
     private final NBErrorHandler errorHandler;
     private final OpSequence<OpDispenser<? extends Op>> opsequence;
     private final int maxTries;
     private final Timer verifierTimer;
+    private final Counter pendingOpsCounter;
+    // reused for every synchronous cycle, since an action is only used by one motor thread
+    private final OpChain syncChain = new OpChain(0, null, 0L, null);
 
     public StandardAction(A activity, int slot) {
         this.opsequence = activity.getOpSequence();
@@ -66,12 +86,19 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
         triesHistogram = activity.getInstrumentation().getOrCreateTriesHistogram();
         resultTimer = activity.getInstrumentation().getOrCreateResultTimer();
         resultSuccessTimer = activity.getInstrumentation().getOrCreateResultSuccessTimer();
+        resultResponseTimer = activity.getInstrumentation().getResultResponseTimerOrNull();
         errorHandler = activity.getErrorHandler();
         verifierTimer = activity.getInstrumentation().getOrCreateVerifierTimer();
+        pendingOpsCounter = activity.getInstrumentation().getOrCreatePendingOpCounter();
     }
 
     @Override
     public int runCycle(long cycle) {
+        return runCycle(cycle, System.nanoTime());
+    }
+
+    @Override
+    public int runCycle(long cycle, long intendedStartNanos) {
 
         OpDispenser<? extends Op> dispenser=null;
         Op op = null;
@@ -84,8 +111,20 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
                 "': " + e.getMessage(), e);
         }
 
-        int code = 0;
-        Object result = null;
+        syncChain.code = 0;
+        syncChain.result = null;
+        syncChain.intendedStart = intendedStartNanos;
+        syncChain.timers = ThreadLocalNamedTimers.TL_INSTANCE.get();
+        return runOps(dispenser, dispenser.getInvoker(), op, cycle, syncChain).code;
+    }
+
+    /**
+     * Run each op for a cycle in turn, including any which are generated by prior ops. The invoker
+     * is resolved once for the ops of each dispenser, while generated ops are checked as they are run.
+     */
+    private OpChain runOps(OpDispenser<? extends Op> dispenser, OpInvoker invoker, Op op, long cycle, OpChain chain) {
+        Object result = chain.result;
+        int code = chain.code;
         while (op != null) {
 
             int tries = 0;
@@ -93,45 +132,32 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
                 Throwable error = null;
                 long startedAt = System.nanoTime();
 
-                dispenser.onStart(cycle);
+                dispenser.onStart(cycle, chain.timers);
 
                 try (Timer.Context ct = executeTimer.time()) {
-                    if (op instanceof RunnableOp runnableOp) {
-                        runnableOp.run();
-                    } else if (op instanceof CycleOp<?> cycleOp) {
-                        result = cycleOp.apply(cycle);
-                    } else if (op instanceof ChainingOp chainingOp) {
-                        result = chainingOp.apply(result);
-                    } else {
-                        throw new RuntimeException("The op implementation did not implement any active logic. Implement " +
-                            "one of [RunnableOp, CycleOp, or ChainingOp]");
-                    }
+                    result = invoker.invoke(op, cycle, result);
                     // TODO: break out validation timer from execute
-                    try (Timer.Context ignored = verifierTimer.time()) {
-                        CycleFunction<Boolean> verifier = dispenser.getVerifier();
-                        try {
-                            verifier.setVariable("result", result);
-                            verifier.setVariable("cycle",cycle);
-                            Boolean isGood = verifier.apply(cycle);
-                            if (!isGood) {
-                                throw new ResultVerificationError("result verification failed", maxTries - tries, verifier.getExpressionDetails());
-                            }
-                        } catch (Exception e) {
-                            throw new ResultVerificationError(e, maxTries - tries, verifier.getExpressionDetails());
+                    if (dispenser.hasVerifier()) {
+                        try (Timer.Context ignored = verifierTimer.time()) {
+                            verify(dispenser, result, cycle, tries);
                         }
                     }
                 } catch (Exception e) {
                     error = e;
                 } finally {
-                    long nanos = System.nanoTime() - startedAt;
+                    long endedAt = System.nanoTime();
+                    long nanos = endedAt - startedAt;
                     resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+                    if (resultResponseTimer != null) {
+                        resultResponseTimer.update(endedAt - chain.intendedStart, TimeUnit.NANOSECONDS);
+                    }
                     if (error == null) {
                         resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
-                        dispenser.onSuccess(cycle, nanos);
+                        dispenser.onSuccess(cycle, nanos, chain.timers);
                         break;
                     } else {
                         ErrorDetail detail = errorHandler.handleError(error, cycle, nanos);
-                        dispenser.onError(cycle, nanos, error);
+                        dispenser.onError(cycle, nanos, error, chain.timers);
                         code = detail.resultCode;
                         if (!detail.isRetryable()) {
                             break;
@@ -141,15 +167,147 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
             }
             triesHistogram.update(tries);
 
-            if (op instanceof OpGenerator) {
-                logger.trace(() -> "GEN OP for cycle(" + cycle + ")");
-                op = ((OpGenerator) op).getNextOp();
-            } else {
-                op = null;
+            op = nextOp(invoker, op, cycle);
+            invoker = OpInvoker.DYNAMIC;
+        }
+
+        chain.code = code;
+        chain.result = result;
+        return chain;
+    }
+
+    @Override
+    public CompletionStage<Integer> runCycleAsync(long cycle) {
+        return runCycleAsync(cycle, System.nanoTime());
+    }
+
+    @Override
+    public CompletionStage<Integer> runCycleAsync(long cycle, long intendedStartNanos) {
+
+        OpDispenser<? extends Op> dispenser=null;
+        Op op = null;
+
+        try (Timer.Context ct = bindTimer.time()) {
+            dispenser = opsequence.apply(cycle);
+            op = dispenser.getOp(cycle);
+        } catch (Exception e) {
+            throw new RuntimeException("while binding request in cycle " + cycle + " for op template named '" + (dispenser!=null?dispenser.getOpName():"NULL")+
+                "': " + e.getMessage(), e);
+        }
+
+        return runOpsAsync(dispenser, dispenser.getInvoker(), op, cycle, new OpChain(0, null, intendedStartNanos, new ThreadLocalNamedTimers())).thenApply(chain -> chain.code);
+    }
+
+    /**
+     * Run each op for a cycle in turn, including any which are generated by prior ops. Async ops are
+     * chained on the completion of the prior op, while all other op types are run in place.
+     */
+    private CompletionStage<OpChain> runOpsAsync(OpDispenser<? extends Op> dispenser, OpInvoker invoker, Op op, long cycle, OpChain chain) {
+        if (op == null) {
+            return CompletableFuture.completedFuture(chain);
+        }
+        if (op instanceof AsyncCycleOp<?> asyncOp) {
+            return attemptAsync(dispenser, asyncOp, cycle, 1, chain)
+                .thenCompose(next -> runOpsAsync(dispenser, OpInvoker.DYNAMIC, nextOp(invoker, op, cycle), cycle, next));
+        }
+        return CompletableFuture.completedFuture(runOps(dispenser, invoker, op, cycle, chain));
+    }
+
+    /**
+     * Submit one try of an async op, and handle the result when it completes. Retryable errors
+     * cause another try to be submitted from the completion, up to the configured max tries.
+     * The execute timer measures only the submission of the op, while the result timers measure
+     * the time until completion.
+     */
+    private CompletionStage<OpChain> attemptAsync(OpDispenser<? extends Op> dispenser, AsyncCycleOp<?> op, long cycle, int tries, OpChain chain) {
+        long startedAt = System.nanoTime();
+        dispenser.onStart(cycle, chain.timers);
+
+        CompletionStage<?> stage;
+        try (Timer.Context ct = executeTimer.time()) {
+            stage = op.applyAsync(cycle);
+        } catch (Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        pendingOpsCounter.inc();
+
+        return stage.handle((result, throwable) -> {
+            pendingOpsCounter.dec();
+            Throwable error = (throwable instanceof CompletionException ce && ce.getCause() != null) ? ce.getCause() : throwable;
+            if (error == null && dispenser.hasVerifier()) {
+                try (Timer.Context ignored = verifierTimer.time()) {
+                    verify(dispenser, result, cycle, tries);
+                } catch (Exception e) {
+                    error = e;
+                }
+            }
+
+            long endedAt = System.nanoTime();
+            long nanos = endedAt - startedAt;
+            resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+            if (resultResponseTimer != null) {
+                resultResponseTimer.update(endedAt - chain.intendedStart, TimeUnit.NANOSECONDS);
             }
+            if (error == null) {
+                resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
+                dispenser.onSuccess(cycle, nanos, chain.timers);
+                triesHistogram.update(tries);
+                chain.result = result;
+                return CompletableFuture.completedFuture(chain);
+            }
+
+            ErrorDetail detail = errorHandler.handleError(error, cycle, nanos);
+            dispenser.onError(cycle, nanos, error, chain.timers);
+            chain.code = detail.resultCode;
+            if (detail.isRetryable() && tries < maxTries) {
+                return attemptAsync(dispenser, op, cycle, tries + 1, chain);
+            }
+            triesHistogram.update(tries);
+            chain.result = result;
+            return CompletableFuture.completedFuture(chain);
+        }).thenCompose(Function.identity());
+    }
+
+    private void verify(OpDispenser<? extends Op> dispenser, Object result, long cycle, int tries) {
+        CycleFunction<Boolean> verifier = dispenser.getVerifier();
+        try {
+            verifier.setVariable("result", result);
+            verifier.setVariable("cycle",cycle);
+            Boolean isGood = verifier.apply(cycle);
+            if (!isGood) {
+                throw new ResultVerificationError("result verification failed", maxTries - tries, verifier.getExpressionDetails());
+            }
+        } catch (Exception e) {
+            throw new ResultVerificationError(e, maxTries - tries, verifier.getExpressionDetails());
         }
+    }
 
-        return code;
+    private Op nextOp(OpInvoker invoker, Op op, long cycle) {
+        Op next = invoker.nextOp(op);
+        if (next != null) {
+            logger.trace(() -> "GEN OP for cycle(" + cycle + ")");
+        }
+        return next;
+    }
+
+    /**
+     * The result code and last op result of the ops run so far for a cycle, along with the
+     * intended start time of the cycle, and the named timers which its ops start and stop.
+     * Async cycles have their own named timers, since their ops complete on other threads,
+     * and other cycles may start the same timers while they are in flight.
+     */
+    private static final class OpChain {
+        private int code;
+        private Object result;
+        private long intendedStart;
+        private ThreadLocalNamedTimers timers;
+
+        private OpChain(int code, Object result, long intendedStart, ThreadLocalNamedTimers timers) {
+            this.code = code;
+            this.result = result;
+            this.intendedStart = intendedStart;
+            this.timers = timers;
+        }
     }
 
     @Override
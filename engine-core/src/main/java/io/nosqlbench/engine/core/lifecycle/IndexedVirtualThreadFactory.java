@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A named and indexed thread factory for virtual threads. Virtual threads can not be
+ * subclassed, so the index is carried only in the thread name, using the same
+ * <em>name:index</em> format as {@link IndexedThreadFactory}. Functions which derive a
+ * thread number from the thread name will see the same values as with platform threads.
+ */
+public class IndexedVirtualThreadFactory implements ThreadFactory {
+
+    private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+    private final String name;
+    private final AtomicInteger threadIndexer = new AtomicInteger(0);
+
+    public IndexedVirtualThreadFactory(String name, Thread.UncaughtExceptionHandler exceptionHandler) {
+        this.name = name;
+        this.uncaughtExceptionHandler = exceptionHandler;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        int threadIndex = threadIndexer.incrementAndGet();
+        Thread.Builder.OfVirtual builder = Thread.ofVirtual().name(name + String.format(":%03d", threadIndex));
+        if (uncaughtExceptionHandler != null) {
+            builder.uncaughtExceptionHandler(uncaughtExceptionHandler);
+        }
+        return builder.unstarted(r);
+    }
+}
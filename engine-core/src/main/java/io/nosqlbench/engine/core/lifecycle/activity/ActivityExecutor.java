@@ -33,6 +33,7 @@ import io.nosqlbench.engine.api.activityimpl.motor.RunStateImage;
 import io.nosqlbench.engine.api.activityimpl.motor.RunStateTally;
 import io.nosqlbench.engine.core.annotation.Annotators;
 import io.nosqlbench.engine.core.lifecycle.ExecutionResult;
+import io.nosqlbench.engine.core.lifecycle.IndexedVirtualThreadFactory;
 import io.nosqlbench.virtdata.userlibs.apps.valuechecker.IndexedThreadFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -519,14 +520,45 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
     }
 
     private void startMotorExecutorService() {
-        this.executorService = new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            0L, TimeUnit.SECONDS,
-            new SynchronousQueue<>(),
-            new IndexedThreadFactory(activity.getAlias(), new ActivityExceptionHandler(this))
+        ThreadModel threadModel = activityDef.getParams().getOptionalString("threadmodel")
+            .map(ThreadModel::valueOfParam)
+            .orElse(ThreadModel.platform);
+        logger.debug(() -> "using " + threadModel + " threads for motors of activity " + activity.getAlias());
+        this.executorService = createMotorExecutorService(
+            threadModel, activity.getAlias(), new ActivityExceptionHandler(this)
         );
     }
 
+    /**
+     * Create the executor service which runs motors. Either thread model starts a new thread for each
+     * motor submitted, so that motors can be added and removed dynamically without any pool sizing.
+     *
+     * @param threadModel
+     *     the type of threads to run motors on
+     * @param name
+     *     the base name for indexed motor threads
+     * @param exceptionHandler
+     *     the handler for uncaught exceptions in motor threads
+     * @return an {@link ExecutorService} which starts a thread for each submitted motor
+     */
+    static ExecutorService createMotorExecutorService(
+        ThreadModel threadModel,
+        String name,
+        Thread.UncaughtExceptionHandler exceptionHandler
+    ) {
+        return switch (threadModel) {
+            case platform -> new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE,
+                0L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new IndexedThreadFactory(name, exceptionHandler)
+            );
+            case virtual -> Executors.newThreadPerTaskExecutor(
+                new IndexedVirtualThreadFactory(name, exceptionHandler)
+            );
+        };
+    }
+
 
     /**
      * <p>True-up the number of motor instances known to the executor. Start all non-running motors.
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+/**
+ * The kind of threads which an {@link ActivityExecutor} uses to run motors, as selected
+ * by the <em>threadmodel</em> activity parameter.
+ */
+public enum ThreadModel {
+    /**
+     * One platform (OS) thread per motor, from a cached thread pool. This is the default.
+     */
+    platform,
+    /**
+     * One virtual thread per motor. Blocking calls within a motor release the carrier thread,
+     * so very high thread counts can be used without a matching number of OS threads.
+     */
+    virtual;
+
+    public static ThreadModel valueOfParam(String spec) {
+        try {
+            return ThreadModel.valueOf(spec.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid threadmodel '" + spec + "', must be one of platform or virtual");
+        }
+    }
+}
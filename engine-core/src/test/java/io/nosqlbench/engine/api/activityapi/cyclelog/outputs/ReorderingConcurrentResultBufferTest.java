@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.outputs;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleResultSegmentBuffer;
+import io.nosqlbench.engine.api.activityapi.output.Output;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReorderingConcurrentResultBufferTest {
+
+    private final List<String> received = new ArrayList<>();
+    private final Output collector = (completedCycle, result) -> received.add(completedCycle + "->" + result);
+
+    @Test
+    public void testRetainedSegmentsSurviveBufferReuse() throws Exception {
+        ReorderingConcurrentResultBuffer reordering = new ReorderingConcurrentResultBuffer(collector);
+        pushStrides(reordering);
+        reordering.close();
+
+        assertThat(received).containsExactly("0->1", "1->0", "2->1", "3->0", "4->1", "5->0");
+    }
+
+    @Test
+    public void testFilteredSegmentsSurviveBufferReuse() throws Exception {
+        ReorderingConcurrentResultBuffer reordering = new ReorderingConcurrentResultBuffer(collector);
+        reordering.setFilter(r -> r.getResult() == 1);
+        pushStrides(reordering);
+        reordering.close();
+
+        assertThat(received).containsExactly("0->1", "2->1", "4->1");
+    }
+
+    /**
+     * Push two strides through one reused buffer, the same way the motor does, with the
+     * second stride written over the storage which the first segment was read from.
+     */
+    private void pushStrides(ReorderingConcurrentResultBuffer reordering) {
+        CycleResultSegmentBuffer buffer = new CycleResultSegmentBuffer(3);
+        buffer.append(3L, 0);
+        buffer.append(4L, 1);
+        buffer.append(5L, 0);
+        reordering.onCycleResultSegment(buffer.toReader());
+
+        buffer.reset();
+        buffer.append(2L, 1);
+        buffer.append(0L, 1);
+        buffer.append(1L, 0);
+        reordering.onCycleResultSegment(buffer.toReader());
+    }
+
+}
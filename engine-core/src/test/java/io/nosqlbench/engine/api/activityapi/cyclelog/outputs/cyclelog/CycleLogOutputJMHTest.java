@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleSpanResults;
+import io.nosqlbench.engine.api.activityapi.output.Output;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the sustained write throughput of cycle logs, for the original RLE format which grows and
+ * re-maps the whole file for each extent, and the segmented format which appends each extent at a
+ * reserved position. Results change every 100 cycles, so there is one RLE span for every 100 cycles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class CycleLogOutputJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(CycleLogOutputJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"1000000000"})
+    public long cycles;
+
+    @Param({"rle", "segmented"})
+    public String format;
+
+    private File cyclefile;
+
+    @Setup(Level.Invocation)
+    public void setup() throws IOException {
+        cyclefile = File.createTempFile("cycle-log-jmh", ".cyclelog");
+        cyclefile.delete();
+    }
+
+    @TearDown(Level.Invocation)
+    public void teardown() {
+        cyclefile.delete();
+    }
+
+    @Benchmark
+    public long writeCycles() throws Exception {
+        SegmentedCycleLogOutput segmented = null;
+        Output output;
+        if (format.equals("rle")) {
+            output = new CycleLogOutput(cyclefile, 1000);
+        } else {
+            segmented = new SegmentedCycleLogOutput(cyclefile, 1000, 1000L);
+            output = segmented.forSlot(0);
+        }
+        for (long start = 0; start < cycles; start += 100) {
+            output.onCycleResultSegment(new CycleSpanResults(start, Math.min(start + 100, cycles), (int) ((start / 100) & 1)));
+        }
+        if (segmented != null) {
+            segmented.close();
+        } else {
+            output.close();
+        }
+        return cyclefile.length();
+    }
+}
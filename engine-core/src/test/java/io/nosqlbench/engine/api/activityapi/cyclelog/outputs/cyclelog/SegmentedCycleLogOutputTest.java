@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results_rle.CycleSpanResults;
+import io.nosqlbench.engine.api.activityapi.cyclelog.inputs.cyclelog.CycleLogInput;
+import io.nosqlbench.engine.api.activityapi.output.Output;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentedCycleLogOutputTest {
+
+    @Test
+    public void testConcurrentSlotsWriteEveryCycleOnce() throws Exception {
+        File cyclefile = File.createTempFile("segmented-cycle-log-test", ".cyclelog");
+        cyclefile.deleteOnExit();
+        int threads = 4;
+        int cyclesPerThread = 10_000;
+
+        SegmentedCycleLogOutput out = new SegmentedCycleLogOutput(cyclefile, 7, 1L);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Output slot = out.forSlot(t);
+            long base = (long) t * cyclesPerThread;
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (long cycle = base; cycle < base + cyclesPerThread; cycle += 10) {
+                    // runs of 10 cycles, with results which change every 3 cycles
+                    for (long c = cycle; c < cycle + 10; c++) {
+                        slot.onCycleResult(c, (int) ((c / 3) % 5));
+                    }
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        out.close();
+
+        BitSet seen = new BitSet();
+        CycleLogInput input = new CycleLogInput(cyclefile.getPath());
+        CycleSegment segment;
+        while ((segment = input.getInputSegment(100)) != null) {
+            while (!segment.isExhausted()) {
+                long cycle = segment.nextCycle();
+                assertThat(seen.get((int) cycle)).isFalse();
+                seen.set((int) cycle);
+            }
+        }
+        input.close();
+        assertThat(seen.cardinality()).isEqualTo(threads * cyclesPerThread);
+        assertThat(seen.nextClearBit(0)).isEqualTo(threads * cyclesPerThread);
+    }
+
+    @Test
+    public void testSpansAndFilterAcrossSegments() throws Exception {
+        File cyclefile = File.createTempFile("segmented-cycle-log-test", ".cyclelog");
+        cyclefile.deleteOnExit();
+
+        SegmentedCycleLogOutput out = new SegmentedCycleLogOutput(cyclefile, 2);
+        out.setFilter(r -> r.getResult() != 9);
+        out.onCycleResultSegment(new CycleSpanResults(0L, 5L, 1));
+        out.onCycleResult(5L, 2);
+        out.onCycleResult(6L, 9);
+        out.onCycleResult(7L, 3);
+        out.onCycleResultSegment(new CycleSpanResults(8L, 10L, 3));
+        out.close();
+
+        CycleLogInput input = new CycleLogInput(cyclefile.getPath());
+        List<String> spans = new ArrayList<>();
+        input.iterator().forEachRemaining(s -> spans.add(s.toString()));
+        input.close();
+        assertThat(spans).containsExactly("[0,5)->1", "[5,6)->2", "[7,10)->3");
+    }
+}
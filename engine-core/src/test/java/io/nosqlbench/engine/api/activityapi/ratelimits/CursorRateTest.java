@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.engine.api.activityapi.simrate.CursorRate;
+import io.nosqlbench.engine.api.activityapi.simrate.SimRateSpec;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CursorRateTest {
+
+    @Test
+    public void testScheduledTimesFollowTheRate() {
+        CursorRate rl = new CursorRate(new TestComponent("rltest", "rltest"),
+            new SimRateSpec(1000, 1.1, SimRateSpec.Verb.start, SimRateSpec.Limiter.cursor));
+        long first = rl.blockUntilScheduled();
+        long second = rl.blockUntilScheduled();
+        long third = rl.blockUntilScheduled();
+        assertThat(second - first).isEqualTo(1_000_000L);
+        assertThat(third - second).isEqualTo(1_000_000L);
+        assertThat(System.nanoTime()).isGreaterThanOrEqualTo(third);
+    }
+
+    @Test
+    public void testIntendedTimeIncludesTimeBehindSchedule() throws InterruptedException {
+        CursorRate rl = new CursorRate(new TestComponent("rltest", "rltest"),
+            new SimRateSpec(100, 1.1, SimRateSpec.Verb.start, SimRateSpec.Limiter.cursor));
+        long first = rl.blockUntilScheduled();
+        Thread.sleep(100);
+        long late = rl.blockUntilScheduled();
+        assertThat(late - first).isEqualTo(10_000_000L);
+        assertThat(System.nanoTime() - late).isGreaterThanOrEqualTo(90_000_000L);
+        assertThat(rl.getWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(80L);
+    }
+
+    @Test
+    public void testConfigureKeepsTheSchedule() throws InterruptedException {
+        CursorRate rl = new CursorRate(new TestComponent("rltest", "rltest"),
+            new SimRateSpec(100, 1.1, SimRateSpec.Verb.start, SimRateSpec.Limiter.cursor));
+        long first = rl.blockUntilScheduled();
+        Thread.sleep(100);
+        rl.applyRateSpec(new SimRateSpec(1000, 1.1, SimRateSpec.Verb.configure, SimRateSpec.Limiter.cursor));
+        long second = rl.blockUntilScheduled();
+        long third = rl.blockUntilScheduled();
+        assertThat(second - first).isEqualTo(10_000_000L);
+        assertThat(third - second).isEqualTo(1_000_000L);
+        assertThat(rl.getWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(80L);
+        assertThat(rl.getStartTime()).isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    public void testRestartResetsTheSchedule() throws InterruptedException {
+        CursorRate rl = new CursorRate(new TestComponent("rltest", "rltest"),
+            new SimRateSpec(100, 1.1, SimRateSpec.Verb.start, SimRateSpec.Limiter.cursor));
+        long first = rl.blockUntilScheduled();
+        Thread.sleep(100);
+        long restartedAt = System.nanoTime();
+        rl.applyRateSpec(new SimRateSpec(1000, 1.1, SimRateSpec.Verb.restart, SimRateSpec.Limiter.cursor));
+        long second = rl.blockUntilScheduled();
+        assertThat(second).isGreaterThanOrEqualTo(restartedAt);
+        assertThat(rl.getStartTime()).isGreaterThan(first);
+        assertThat(rl.getWaitTimeDuration().toMillis()).isLessThan(50L);
+        assertThat(rl.getTotalWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(80L);
+    }
+}
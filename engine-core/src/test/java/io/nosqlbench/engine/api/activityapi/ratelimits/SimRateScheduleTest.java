@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.engine.api.activityapi.simrate.SimRate;
+import io.nosqlbench.engine.api.activityapi.simrate.SimRateSpec;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimRateScheduleTest {
+
+    @Test
+    public void testIntendedTimeIncludesMoreThanIntRangeOfTicksBehind() throws InterruptedException {
+        SimRate rl = new SimRate(new TestComponent("rltest", "rltest"),
+            new SimRateSpec(2, 1.01, SimRateSpec.Verb.start));
+        rl.blockUntilScheduled();
+        Thread.sleep(4_500);
+        long scheduled = rl.blockUntilScheduled();
+        assertThat(rl.getWaitTimeDuration().toMillis()).isGreaterThan(3_000L);
+        assertThat(System.nanoTime() - scheduled).isGreaterThan(3_000_000_000L);
+    }
+
+}
@@ -46,4 +46,14 @@ public class SimRateSpecTest {
         SimRateSpec c = new SimRateSpec("12345,1.1");
         assertThat(c.verb).isEqualTo(SimRateSpec.Verb.start);
     }
+
+    @Test
+    public void testLimiterSelection() {
+        SimRateSpec a = new SimRateSpec("12345,1.4,start,cursor");
+        assertThat(a.getLimiter()).isEqualTo(SimRateSpec.Limiter.cursor);
+        assertThat(a.getVerb()).isEqualTo(SimRateSpec.Verb.start);
+        SimRateSpec b = new SimRateSpec("12345,1.4,start");
+        assertThat(b.getLimiter()).isEqualTo(SimRateSpec.Limiter.simrate);
+        assertThat(a).isNotEqualTo(b);
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
+import io.nosqlbench.engine.api.activityapi.core.SyncAction;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityimpl.SimpleActivity;
+import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedInputTest {
+
+    @Test
+    public void testThatNoCyclesAndNoRecyclesMeansZero() {
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef("alias=foo;cycles=0;recycles=0"), 100);
+        CycleSegment inputSegment = input.forSlot(0).getInputSegment(1);
+        assertThat(inputSegment).isNull();
+    }
+
+    @Test
+    public void testThatStridesAreSplitFromChunks() {
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef("alias=foo;cycles=25"), 10);
+        Input slot0 = input.forSlot(0);
+        Input slot1 = input.forSlot(1);
+
+        assertThat(slot0.getInputSegment(4).nextCycle()).isEqualTo(0L);
+        assertThat(slot1.getInputSegment(4).nextCycle()).isEqualTo(10L);
+        assertThat(slot0.getInputSegment(4).nextCycle()).isEqualTo(4L);
+
+        CycleSegment shortened = slot0.getInputSegment(4);
+        assertThat(shortened.nextCycle()).isEqualTo(8L);
+        assertThat(shortened.nextCycle()).isEqualTo(9L);
+        assertThat(shortened.isExhausted()).isTrue();
+
+        assertThat(slot0.getInputSegment(4).nextCycle()).isEqualTo(20L);
+    }
+
+    @Test
+    public void testThatTailsAreStolenOnceTheIntervalIsClaimed() {
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef("alias=foo;cycles=20"), 10);
+        Input slot0 = input.forSlot(0);
+        Input slot1 = input.forSlot(1);
+
+        assertThat(slot0.getInputSegment(2).nextCycle()).isEqualTo(0L);
+        assertThat(slot1.getInputSegment(2).nextCycle()).isEqualTo(10L);
+        for (int i = 0; i < 4; i++) {
+            slot1.getInputSegment(2);
+        }
+        assertThat(slot1.getInputSegment(2).nextCycle()).isEqualTo(2L);
+        assertThat(slot0.getInputSegment(2).nextCycle()).isEqualTo(4L);
+    }
+
+    @Test
+    public void testThatCycleAndRecycleOffsetsWork() {
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef("alias=foo;cycles=310..330;recycles=37..39"), 100);
+        Input slot = input.forSlot(0);
+        long[][] expected = {{310, 37}, {320, 37}, {310, 38}, {320, 38}};
+        for (long[] cycleAndRecycle : expected) {
+            CycleSegment segment = slot.getInputSegment(10);
+            assertThat(segment.nextRecycle()).isEqualTo(cycleAndRecycle[1]);
+            assertThat(segment.nextCycle()).isEqualTo(cycleAndRecycle[0]);
+        }
+        assertThat(slot.getInputSegment(10)).isNull();
+    }
+
+    @Test
+    public void testThatConcurrentSlotsDispatchEachCycleExactlyOnce() throws InterruptedException {
+        int cycles = 100_003;
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef("alias=foo;cycles=" + cycles), 1000);
+        AtomicIntegerArray seen = new AtomicIntegerArray(cycles);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Input slot = input.forSlot(t);
+            threads.add(Thread.ofPlatform().start(() -> {
+                CycleSegment segment;
+                while ((segment = slot.getInputSegment(3)) != null) {
+                    while (!segment.isExhausted()) {
+                        seen.incrementAndGet((int) segment.nextCycle());
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < cycles; i++) {
+            assertThat(seen.get(i)).as("dispatch count of cycle " + i).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testThatChangingTheEndKeepsProgress() {
+        ActivityDef def = ActivityDef.parseActivityDef("alias=foo;cycles=25");
+        ChunkedInput input = new ChunkedInput(new TestComponent("testing","chunkedinput"), def, 10);
+        Input slot0 = input.forSlot(0);
+        Input slot1 = input.forSlot(1);
+        assertThat(slot0).isInstanceOf(ActivityDefObserver.class);
+
+        assertThat(slot0.getInputSegment(4).nextCycle()).isEqualTo(0L);
+        assertThat(slot1.getInputSegment(4).nextCycle()).isEqualTo(10L);
+
+        def.setCycles("12");
+        ((ActivityDefObserver) slot0).onActivityDefUpdate(def);
+        ((ActivityDefObserver) slot1).onActivityDefUpdate(def);
+
+        assertThat(slot1.getInputSegment(4).nextCycle()).isEqualTo(4L);
+        CycleSegment shortened = slot0.getInputSegment(4);
+        assertThat(shortened.nextCycle()).isEqualTo(8L);
+        assertThat(shortened.nextCycle()).isEqualTo(9L);
+        assertThat(shortened.isExhausted()).isTrue();
+        assertThat(slot0.getInputSegment(4)).isNull();
+
+        def.setCycles("30");
+        ((ActivityDefObserver) slot0).onActivityDefUpdate(def);
+        assertThat(slot0.getInputSegment(4).nextCycle()).isEqualTo(12L);
+        assertThat(slot1.getInputSegment(4).nextCycle()).isEqualTo(22L);
+    }
+
+    @Test
+    public void testThatChangingCyclesOnARunningActivityDispatchesEachCycleOnce() throws InterruptedException {
+        SimpleActivity activity = new SimpleActivity(
+            new TestComponent("testing", "chunkedinput"),
+            ActivityDef.parseActivityDef("alias=foo;cycles=100;stride=5")
+        );
+        ChunkedInput input = new ChunkedInput(activity, activity.getActivityDef(), 10);
+        AtomicIntegerArray seen = new AtomicIntegerArray(300);
+        CountDownLatch running = new CountDownLatch(4);
+        CountDownLatch updated = new CountDownLatch(1);
+
+        List<CoreMotor> motors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int slot = 0; slot < 4; slot++) {
+            CoreMotor motor = new CoreMotor(activity, slot, input.forSlot(slot), new SyncAction() {
+                private boolean started;
+
+                @Override
+                public int runCycle(long cycle) {
+                    if (!started) {
+                        started = true;
+                        running.countDown();
+                        try {
+                            updated.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    seen.incrementAndGet((int) cycle);
+                    return 0;
+                }
+            });
+            motors.add(motor);
+            threads.add(Thread.ofPlatform().start(motor));
+        }
+
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        activity.getActivityDef().setCycles("300");
+        for (CoreMotor motor : motors) {
+            motor.onActivityDefUpdate(activity.getActivityDef());
+        }
+        updated.countDown();
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+            assertThat(thread.isAlive()).isFalse();
+        }
+        for (int i = 0; i < 300; i++) {
+            assertThat(seen.get(i)).as("dispatch count of cycle " + i).isEqualTo(1);
+        }
+    }
+}
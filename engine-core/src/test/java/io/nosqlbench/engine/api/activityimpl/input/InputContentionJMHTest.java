@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compare the cost of taking strides of one cycle from {@link AtomicInput}, where every stride is
+ * a CAS on one shared counter, with {@link ChunkedInput}, where each thread splits strides from
+ * its own chunk. The thread count is varied from 1 to 256 by {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+public class InputContentionJMHTest {
+
+    private final static String CYCLES = "alias=contention;cycles=1000000000000";
+
+    public static void main(String[] args) {
+        for (int threads : new int[]{1, 4, 16, 64, 256}) {
+            Options jmhOptions = new OptionsBuilder()
+                .include(InputContentionJMHTest.class.getSimpleName())
+                .threads(threads)
+                .forks(1)
+                .build();
+            try {
+                new Runner(jmhOptions).run();
+            } catch (RunnerException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Param({"atomicseq", "chunkedseq"})
+    public String input;
+
+    private AtomicInput atomicInput;
+    private ChunkedInput chunkedInput;
+    private final AtomicLong slots = new AtomicLong(0L);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ActivityDef activityDef = ActivityDef.parseActivityDef(CYCLES);
+        atomicInput = new AtomicInput(new TestComponent("benchmark", "atomicinput"), activityDef);
+        chunkedInput = new ChunkedInput(new TestComponent("benchmark", "chunkedinput"), activityDef, ChunkedInput.DEFAULT_CHUNK_SIZE);
+    }
+
+    @State(Scope.Thread)
+    public static class Motor {
+        private Input input;
+
+        @Setup(Level.Trial)
+        public void setup(InputContentionJMHTest bench) {
+            input = bench.input.equals("atomicseq")
+                ? bench.atomicInput
+                : bench.chunkedInput.forSlot(bench.slots.getAndIncrement());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 2, timeUnit = TimeUnit.SECONDS, time = 3)
+    @Measurement(iterations = 3, timeUnit = TimeUnit.SECONDS, time = 5)
+    public long takeStrideOfOne(Motor motor) {
+        CycleSegment segment = motor.input.getInputSegment(1);
+        return segment.nextCycle();
+    }
+}
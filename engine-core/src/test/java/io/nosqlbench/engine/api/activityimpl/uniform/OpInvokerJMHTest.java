@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform;
+
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.*;
+import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
+import io.nosqlbench.engine.api.activityapi.planning.SequencePlanner;
+import io.nosqlbench.engine.api.activityapi.planning.SequencerType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the dispatch of ops over a mixed op sequence, by testing each op against every
+ * op flow type as it is run, and by using the {@link OpInvoker} which is resolved once for each
+ * op template. The ops themselves do almost nothing, so the difference is the dispatch overhead.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class OpInvokerJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(OpInvokerJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private OpSequence<OpTemplate> sequence;
+    private long cycle;
+
+    @Setup
+    public void setup() {
+        SequencePlanner<OpTemplate> planner = new SequencePlanner<>(SequencerType.bucket);
+        planner.addOp(new OpTemplate(new NoopRunnableOp()), 1);
+        planner.addOp(new OpTemplate(new CountingCycleOp()), 1);
+        planner.addOp(new OpTemplate(new EchoChainingOp()), 1);
+        planner.addOp(new OpTemplate(new OtherCycleOp()), 1);
+        planner.addOp(new OpTemplate(new GeneratingCycleOp()), 1);
+        this.sequence = planner.resolve();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void instanceofChain(Blackhole bh) {
+        long value = cycle++;
+        Op op = sequence.apply(value).op;
+        Object result = null;
+        while (op != null) {
+            if (op instanceof RunnableOp runnableOp) {
+                runnableOp.run();
+            } else if (op instanceof CycleOp<?> cycleOp) {
+                result = cycleOp.apply(value);
+            } else if (op instanceof ChainingOp chainingOp) {
+                result = chainingOp.apply(result);
+            } else {
+                throw new RuntimeException("unknown op type");
+            }
+            op = (op instanceof OpGenerator generator) ? generator.getNextOp() : null;
+        }
+        bh.consume(result);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void resolvedInvoker(Blackhole bh) {
+        long value = cycle++;
+        OpTemplate template = sequence.apply(value);
+        OpInvoker invoker = template.invoker;
+        Op op = template.op;
+        Object result = null;
+        while (op != null) {
+            result = invoker.invoke(op, value, result);
+            op = invoker.nextOp(op);
+            invoker = OpInvoker.DYNAMIC;
+        }
+        bh.consume(result);
+    }
+
+    /**
+     * Stands in for an op dispenser, with the invoker resolved as it is for a dispenser.
+     */
+    private static final class OpTemplate {
+        private final Op op;
+        private final OpInvoker invoker;
+
+        private OpTemplate(Op op) {
+            this.op = op;
+            this.invoker = OpInvoker.forType(op.getClass());
+        }
+    }
+
+    private static final class NoopRunnableOp implements RunnableOp {
+        private long runs;
+
+        @Override
+        public void run() {
+            runs++;
+        }
+    }
+
+    private static final class CountingCycleOp implements CycleOp<Long> {
+        @Override
+        public Long apply(long value) {
+            return value;
+        }
+    }
+
+    private static final class OtherCycleOp implements CycleOp<Boolean> {
+        @Override
+        public Boolean apply(long value) {
+            return (value & 1L) == 0L;
+        }
+    }
+
+    private static final class EchoChainingOp implements ChainingOp<Object, Object> {
+        @Override
+        public Object apply(Object lastResult) {
+            return lastResult;
+        }
+    }
+
+    private static final class GeneratingCycleOp implements CycleOp<String>, OpGenerator {
+        private final EchoChainingOp next = new EchoChainingOp();
+        private boolean generate = true;
+
+        @Override
+        public String apply(long value) {
+            return "generated";
+        }
+
+        @Override
+        public Op getNextOp() {
+            generate = !generate;
+            return generate ? next : null;
+        }
+    }
+}
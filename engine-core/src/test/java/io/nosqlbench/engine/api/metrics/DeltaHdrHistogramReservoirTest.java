@@ -18,9 +18,45 @@ package io.nosqlbench.engine.api.metrics;
 
 import com.codahale.metrics.Snapshot;
 import io.nosqlbench.nb.api.engine.metrics.DeltaHdrHistogramReservoir;
+import io.nosqlbench.nb.api.labels.NBLabels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class DeltaHdrHistogramReservoirTest {
 
+    @Test
+    public void testStripedSnapshotsMergeAllThreads() throws InterruptedException {
+        DeltaHdrHistogramReservoir dhhr = new DeltaHdrHistogramReservoir(NBLabels.forKV("name", "striped"), 3, 6);
+        assertThat(dhhr.getStripes()).isEqualTo(8);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            long value = (t + 1) * 100L;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    dhhr.update(value);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Snapshot snapshot = dhhr.getSnapshot();
+        assertThat(snapshot.size()).isEqualTo(16_000);
+        assertThat(snapshot.getMin()).isEqualTo(100L);
+        assertThat(snapshot.getMax()).isBetween(1600L, 1601L);
+
+        dhhr.update(5L);
+        Snapshot next = dhhr.getSnapshot();
+        assertThat(next.size()).isEqualTo(1);
+        assertThat(next.getMax()).isEqualTo(5L);
+    }
+
 //    @Test
 //    public void testStartAndEndTimes() throws IOException {
 ////        File tempFile = new File("/tmp/test.hdr");
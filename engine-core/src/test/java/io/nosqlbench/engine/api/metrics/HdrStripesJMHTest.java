@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.metrics;
+
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import io.nosqlbench.nb.api.engine.metrics.instruments.MetricCategory;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricHistogram;
+import io.nosqlbench.nb.api.engine.metrics.instruments.NBMetricTimer;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the metrics overhead of each op, by updating the same timers and histogram that the
+ * standard action updates for each op, with all threads recording into one shared recorder
+ * per metric, or into striped recorders as set with the hdr_stripes activity parameter.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 2, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class HdrStripesJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(HdrStripesJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"1", "64"})
+    public int stripes;
+
+    private NBComponent parent;
+    private NBMetricTimer bindTimer;
+    private NBMetricTimer executeTimer;
+    private NBMetricTimer resultTimer;
+    private NBMetricTimer resultSuccessTimer;
+    private NBMetricTimer verifierTimer;
+    private NBMetricHistogram triesHistogram;
+
+    @Setup
+    public void setup() {
+        parent = new TestComponent("metricstest", "stripes" + stripes);
+        bindTimer = parent.create().timer("bind", 3, stripes, MetricCategory.Core, "bind");
+        executeTimer = parent.create().timer("execute", 3, stripes, MetricCategory.Core, "execute");
+        resultTimer = parent.create().timer("result", 3, stripes, MetricCategory.Core, "result");
+        resultSuccessTimer = parent.create().timer("result_success", 3, stripes, MetricCategory.Core, "result_success");
+        verifierTimer = parent.create().timer("verifier", 3, stripes, MetricCategory.Verification, "verifier");
+        triesHistogram = parent.create().histogram("tries", 3, stripes, MetricCategory.Core, "tries");
+    }
+
+    @TearDown
+    public void teardown() {
+        parent.close();
+    }
+
+    private void recordOp() {
+        long nanos = System.nanoTime() & 0xFFFFL;
+        bindTimer.update(nanos, TimeUnit.NANOSECONDS);
+        executeTimer.update(nanos, TimeUnit.NANOSECONDS);
+        resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+        resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
+        verifierTimer.update(nanos, TimeUnit.NANOSECONDS);
+        triesHistogram.update(1);
+    }
+
+    @Benchmark
+    @Group("threads8")
+    @GroupThreads(8)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Disabled
+    public void threads8() {
+        recordOp();
+    }
+
+    @Benchmark
+    @Group("threads64")
+    @GroupThreads(64)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Disabled
+    public void threads64() {
+        recordOp();
+    }
+
+    @Benchmark
+    @Group("threads512")
+    @GroupThreads(512)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Disabled
+    public void threads512() {
+        recordOp();
+    }
+
+}
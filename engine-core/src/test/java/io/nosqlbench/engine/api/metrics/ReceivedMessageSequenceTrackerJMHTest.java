@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.metrics;
+
+import com.codahale.metrics.Counter;
+import io.nosqlbench.adapters.api.metrics.ReceivedMessageSequenceTracker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Feed shuffled sequence numbers to the received message sequence tracker, and to a tracker which keeps
+ * its pending and skipped sequence numbers in sorted sets of boxed longs as the tracker previously did.
+ * Sequence numbers are shuffled within blocks of {@link #BLOCK} messages, with some messages lost and some duplicated.
+ * The main method also reports the heap retained by trackers which are in the middle of such a sequence.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ReceivedMessageSequenceTrackerJMHTest {
+
+    private static final int MESSAGES = 1 << 20;
+    private static final int BLOCK = 512;
+
+    public static void main(String[] args) {
+        long[] sequence = shuffledSequence(new Random(42));
+        System.out.println("bytes retained per tracker, bitmap: " + retainedBytes(BitmapTracker::new, sequence));
+        System.out.println("bytes retained per tracker, sorted sets: " + retainedBytes(SortedSetTracker::new, sequence));
+        Options jmhOptions = new OptionsBuilder()
+            .include(ReceivedMessageSequenceTrackerJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"bitmap", "sortedsets"})
+    public String tracker;
+
+    private long[] sequence;
+
+    @Setup
+    public void setup() {
+        sequence = shuffledSequence(new Random(42));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(MESSAGES)
+    public LongConsumer feedShuffled() {
+        LongConsumer consumer = tracker.equals("bitmap") ? new BitmapTracker() : new SortedSetTracker();
+        for (long number : sequence) {
+            consumer.accept(number);
+        }
+        return consumer;
+    }
+
+    /**
+     * Sequence numbers in order by block, shuffled within each block, with 1 in 1000 lost and 1 in 1000 duplicated.
+     */
+    private static long[] shuffledSequence(Random random) {
+        long[] numbers = new long[MESSAGES];
+        int count = 0;
+        for (long block = 0; count < MESSAGES; block += BLOCK) {
+            int blockStart = count;
+            for (long number = block; number < block + BLOCK && count < MESSAGES; number++) {
+                int roll = random.nextInt(1000);
+                if (roll == 0) {
+                    continue;
+                }
+                numbers[count++] = number;
+                if (roll == 1 && count < MESSAGES) {
+                    numbers[count++] = number;
+                }
+            }
+            for (int i = count - 1; i > blockStart; i--) {
+                int j = blockStart + random.nextInt(i - blockStart + 1);
+                long swap = numbers[i];
+                numbers[i] = numbers[j];
+                numbers[j] = swap;
+            }
+        }
+        return numbers;
+    }
+
+    private static long retainedBytes(Supplier<LongConsumer> trackers, long[] sequence) {
+        int count = 100;
+        Runtime runtime = Runtime.getRuntime();
+        List<LongConsumer> retained = new ArrayList<>(count);
+        long before = usedHeap(runtime);
+        for (int i = 0; i < count; i++) {
+            LongConsumer consumer = trackers.get();
+            // stop in the middle of a block, so that out-of-order sequence numbers are pending
+            for (int n = 0; n < sequence.length - BLOCK / 2; n++) {
+                consumer.accept(sequence[n]);
+            }
+            retained.add(consumer);
+        }
+        long after = usedHeap(runtime);
+        if (retained.size() != count) {
+            throw new RuntimeException("trackers were not retained");
+        }
+        return (after - before) / count;
+    }
+
+    private static long usedHeap(Runtime runtime) {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class BitmapTracker implements LongConsumer {
+        private final ReceivedMessageSequenceTracker tracker =
+            new ReceivedMessageSequenceTracker(new Counter(), new Counter(), new Counter());
+
+        @Override
+        public void accept(long number) {
+            tracker.sequenceNumberReceived(number);
+        }
+    }
+
+    /**
+     * The previous tracking structure, for comparison.
+     */
+    private static final class SortedSetTracker implements LongConsumer {
+        private final Counter msgErrOutOfSeqCounter = new Counter();
+        private final Counter msgErrDuplicateCounter = new Counter();
+        private final Counter msgErrLossCounter = new Counter();
+        private final SortedSet<Long> pendingOutOfSeqNumbers = new TreeSet<>();
+        private final SortedSet<Long> skippedSeqNumbers = new TreeSet<>();
+        private final int maxTrackOutOfOrderSequenceNumbers = 1000;
+        private final int maxTrackSkippedSequenceNumbers = 1000;
+        private long expectedNumber = -1;
+
+        @Override
+        public void accept(long sequenceNumber) {
+            if (-1 == expectedNumber) {
+                this.expectedNumber = sequenceNumber + 1;
+                return;
+            }
+            if (sequenceNumber < this.expectedNumber) {
+                if (this.skippedSeqNumbers.remove(sequenceNumber)) {
+                    this.msgErrLossCounter.dec();
+                    this.msgErrOutOfSeqCounter.inc();
+                } else this.msgErrDuplicateCounter.inc();
+                return;
+            }
+            boolean messagesSkipped = false;
+            if (sequenceNumber > this.expectedNumber) {
+                if (this.pendingOutOfSeqNumbers.size() == this.maxTrackOutOfOrderSequenceNumbers)
+                    messagesSkipped = this.processLowestPendingOutOfSequenceNumber();
+                if (!this.pendingOutOfSeqNumbers.add(sequenceNumber)) this.msgErrDuplicateCounter.inc();
+            } else this.expectedNumber++;
+            this.processPendingOutOfSequenceNumbers(messagesSkipped);
+            this.cleanUpTooFarBehindOutOfSequenceNumbers();
+        }
+
+        private boolean processLowestPendingOutOfSequenceNumber() {
+            final Long lowestOutOfSeqNumber = this.pendingOutOfSeqNumbers.first();
+            this.pendingOutOfSeqNumbers.remove(lowestOutOfSeqNumber);
+            if (lowestOutOfSeqNumber > this.expectedNumber) {
+                for (long l = this.expectedNumber; l < lowestOutOfSeqNumber; l++) {
+                    this.msgErrLossCounter.inc();
+                    this.skippedSeqNumbers.add(l);
+                    if (this.skippedSeqNumbers.size() > this.maxTrackSkippedSequenceNumbers)
+                        this.skippedSeqNumbers.remove(this.skippedSeqNumbers.first());
+                }
+                this.expectedNumber = lowestOutOfSeqNumber + 1;
+                return true;
+            }
+            this.msgErrLossCounter.inc();
+            return false;
+        }
+
+        private void processPendingOutOfSequenceNumbers(final boolean messagesSkipped) {
+            while (this.pendingOutOfSeqNumbers.remove(this.expectedNumber)) {
+                this.expectedNumber++;
+                if (!messagesSkipped) this.msgErrOutOfSeqCounter.inc();
+            }
+        }
+
+        private void cleanUpTooFarBehindOutOfSequenceNumbers() {
+            for (final Iterator<Long> iterator = this.pendingOutOfSeqNumbers.iterator(); iterator.hasNext(); ) {
+                final Long number = iterator.next();
+                if (number < (this.expectedNumber - this.maxTrackOutOfOrderSequenceNumbers)) {
+                    this.msgErrLossCounter.inc();
+                    iterator.remove();
+                } else break;
+            }
+        }
+    }
+}
@@ -115,6 +115,40 @@ class ActivityExecutorTest {
         assertThat(inputDispenser.getInput(10).getInputSegment(3)).isNull();
     }
 
+    @Test
+    synchronized void testVirtualThreadModel() {
+
+        ActivityDef activityDef = ActivityDef.parseActivityDef("driver=diag;alias=test-virtual-threads;cycles=1000;threadmodel=virtual;");
+        new ActivityTypeLoader().load(activityDef, TestComponent.INSTANCE);
+
+        Activity activity = new SimpleActivity(TestComponent.INSTANCE, activityDef);
+        final InputDispenser inputDispenser = new CoreInputDispenser(activity);
+        final ActionDispenser actionDispenser = new CoreActionDispenser(activity);
+        final OutputDispenser outputDispenser = CoreServices.getOutputDispenser(activity).orElse(null);
+
+        MotorDispenser<?> motorDispenser = new CoreMotorDispenser(activity, inputDispenser, actionDispenser, outputDispenser);
+        activity.setActionDispenserDelegate(actionDispenser);
+        activity.setOutputDispenserDelegate(outputDispenser);
+        activity.setInputDispenserDelegate(inputDispenser);
+        activity.setMotorDispenserDelegate(motorDispenser);
+
+        ActivityExecutor activityExecutor = new ActivityExecutor(activity);
+        activityDef.setThreads(50);
+
+        ExecutorService testExecutor = Executors.newCachedThreadPool();
+        Future<ExecutionResult> future = testExecutor.submit(activityExecutor);
+
+        try {
+            ExecutionResult result = future.get();
+            testExecutor.shutdownNow();
+            assertThat(result.getException()).isNull();
+        } catch (final Exception e) {
+            fail("Unexpected exception", e);
+        }
+
+        assertThat(inputDispenser.getInput(10).getInputSegment(3)).isNull();
+    }
+
     @Test
     synchronized void testNewActivityExecutor() {
 
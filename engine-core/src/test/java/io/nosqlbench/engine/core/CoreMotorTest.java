@@ -20,6 +20,7 @@ import io.nosqlbench.nb.api.config.standard.TestComponent;
 import io.nosqlbench.nb.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.engine.api.activityapi.core.Action;
 import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.core.AsyncCycleAction;
 import io.nosqlbench.engine.api.activityapi.core.Motor;
 import io.nosqlbench.engine.api.activityapi.core.SyncAction;
 import io.nosqlbench.engine.api.activityimpl.SimpleActivity;
@@ -27,6 +28,10 @@ import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
 import io.nosqlbench.engine.core.fortesting.BlockingSegmentInput;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Predicate;
@@ -85,6 +90,57 @@ public class CoreMotorTest {
 
     }
 
+    @Test
+    public void testAsyncInflightWindow() {
+        final Activity activity = new SimpleActivity(
+            new TestComponent("testing", "asyncmotor"),
+            ActivityDef.parseActivityDef("alias=asyncmotor;stride=8;async=4")
+        );
+        final BlockingSegmentInput lockstepper = new BlockingSegmentInput();
+        final Motor cm = new CoreMotor(activity, 1L, lockstepper);
+        final LinkedBlockingQueue<CompletableFuture<Integer>> pending = new LinkedBlockingQueue<>();
+        final AtomicLong submitted = new AtomicLong(0L);
+        cm.setAction(this.getTestAsyncAction(pending, submitted));
+
+        final Thread t = new Thread(cm);
+        t.setName("TestAsyncMotor");
+        t.start();
+        try {
+            Thread.sleep(500); // allow action time to be waiting in monitor for test fixture
+        } catch (final InterruptedException ignored) {
+        }
+
+        lockstepper.publishSegment(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        this.awaitCondition(s -> 4L == s.get(), submitted, 5000, 10);
+        try {
+            Thread.sleep(100); // the motor should not exceed the window while ops are pending
+        } catch (final InterruptedException ignored) {
+        }
+        assertThat(submitted.get()).isEqualTo(4L);
+
+        for (int i = 0; i < 8; i++) {
+            try {
+                final CompletableFuture<Integer> op = pending.poll(5, TimeUnit.SECONDS);
+                assertThat(op).isNotNull();
+                op.complete(0);
+            } catch (final InterruptedException ignored) {
+            }
+        }
+        assertThat(submitted.get()).isEqualTo(8L);
+    }
+
+    private AsyncCycleAction getTestAsyncAction(LinkedBlockingQueue<CompletableFuture<Integer>> pending, AtomicLong submitted) {
+        return new AsyncCycleAction() {
+            @Override
+            public CompletionStage<Integer> runCycleAsync(final long cycle) {
+                final CompletableFuture<Integer> op = new CompletableFuture<>();
+                submitted.incrementAndGet();
+                pending.add(op);
+                return op;
+            }
+        };
+    }
+
     private SyncAction getTestArrayConsumer(AtomicLongArray ary) {
         return new SyncAction() {
             private int offset;
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compare the motor executor for each {@link ThreadModel} when many motors are blocked on
+ * in-flight operations at the same time. Each motor parks a number of times to emulate
+ * waiting on a response, so the measured time is dominated by thread creation and scheduling.
+ * Run with {@code -XX:NativeMemoryTracking=summary} to compare thread stack reservations as well.
+ */
+@State(Scope.Benchmark)
+public class ThreadModelJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(ThreadModelJMHTest.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"platform", "virtual"})
+    public String threadmodel;
+
+    @Param({"1000", "10000"})
+    public int motors;
+
+    @Param({"10"})
+    public int opsPerMotor;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = ActivityExecutor.createMotorExecutorService(ThreadModel.valueOfParam(threadmodel), "jmh", null);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime})
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1, timeUnit = TimeUnit.SECONDS, time = 10)
+    @Measurement(iterations = 3, timeUnit = TimeUnit.SECONDS, time = 10)
+    public void concurrentBlockingMotors() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(motors);
+        for (int i = 0; i < motors; i++) {
+            executor.execute(() -> {
+                for (int op = 0; op < opsPerMotor; op++) {
+                    LockSupport.parkNanos(1_000_000L);
+                }
+                finished.countDown();
+            });
+        }
+        finished.await();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.engine.api.activityapi.simrate.RateLimiter;
+import io.nosqlbench.engine.api.activityapi.simrate.RateLimiters;
+import io.nosqlbench.engine.api.activityapi.simrate.SimRateSpec;
+import io.nosqlbench.nb.api.components.core.NBComponent;
+import io.nosqlbench.nb.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the {@link SimRateSpec.Limiter#simrate} and {@link SimRateSpec.Limiter#cursor} rate limiters
+ * at 1M ops/s across many threads. The throughput score shows how close each gets to the target rate,
+ * and the sample time percentiles show the acquire latency as seen by each caller.
+ */
+@State(Scope.Group)
+@Measurement(time = 10,timeUnit = TimeUnit.SECONDS)
+public class CursorRateSanityTest {
+
+    private final NBComponent parent = new TestComponent("rltest","rltest");
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(CursorRateSanityTest.class.getSimpleName())
+            .forks(1)
+            .warmupBatchSize(1)
+            .warmupIterations(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"simrate", "cursor"})
+    public String limiter;
+
+    private RateLimiter rl;
+
+    @Setup
+    public void setup() {
+        SimRateSpec spec = new SimRateSpec(1_000_000, 1.1, SimRateSpec.Verb.start, SimRateSpec.Limiter.valueOf(limiter));
+        rl = RateLimiters.createOrUpdate(parent, null, spec);
+    }
+
+    @TearDown
+    public void teardown() {
+        if (rl instanceof NBComponent component) {
+            component.close();
+        }
+    }
+
+    @Benchmark
+    @Group("at1Mops64threads")
+    @GroupThreads(64)
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Disabled
+    public long at1Mops64threads() {
+        return rl.block();
+    }
+
+    @Benchmark
+    @Group("at1Mops256threads")
+    @GroupThreads(256)
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Disabled
+    public long at1Mops256threads() {
+        return rl.block();
+    }
+
+}
@@ -60,10 +60,18 @@ public class NBCreators {
     }
 
     public NBMetricTimer timer(String metricFamilyName, int hdrdigits, MetricCategory category, String description) {
+        return timer(metricFamilyName, hdrdigits, 1, category, description);
+    }
+
+    /**
+     * Create a timer which records into the given number of histogram stripes, as described
+     * in {@link DeltaHdrHistogramReservoir}.
+     */
+    public NBMetricTimer timer(String metricFamilyName, int hdrdigits, int stripes, MetricCategory category, String description) {
         NBLabels labels = base.getLabels().and("name", metricFamilyName);
         NBMetricTimer timer = new NBMetricTimer(
             labels,
-            new DeltaHdrHistogramReservoir(labels, hdrdigits),
+            new DeltaHdrHistogramReservoir(labels, hdrdigits, stripes),
             description, category
         );
         base.addComponentMetric(timer, category, description);
@@ -114,8 +122,16 @@ public class NBCreators {
         return histogram(metricFamilyName,4, category, description);
     }
     public NBMetricHistogram histogram(String metricFamilyName, int hdrdigits, MetricCategory category, String description) {
+        return histogram(metricFamilyName, hdrdigits, 1, category, description);
+    }
+
+    /**
+     * Create a histogram which records into the given number of histogram stripes, as described
+     * in {@link DeltaHdrHistogramReservoir}.
+     */
+    public NBMetricHistogram histogram(String metricFamilyName, int hdrdigits, int stripes, MetricCategory category, String description) {
         NBLabels labels = base.getLabels().and("name", metricFamilyName);
-        NBMetricHistogram histogram = new NBMetricHistogram(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits), description, category);
+        NBMetricHistogram histogram = new NBMetricHistogram(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits, stripes), description, category);
         base.addComponentMetric(histogram, category, description);
         return histogram;
     }
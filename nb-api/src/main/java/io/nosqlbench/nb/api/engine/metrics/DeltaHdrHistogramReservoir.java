@@ -34,11 +34,19 @@ import org.apache.logging.log4j.Logger;
  *
  * <p>This implementation also supports attaching a single log writer. If a log writer is attached, each
  * time an interval is snapshotted internally, the data will also be written to an hdr log via the writer.</p>
+ *
+ * <p>By default, all threads record values into one recorder. When this reservoir is created with more than one
+ * stripe, each thread records into one of several recorders, chosen by its thread id, so that threads do not
+ * contend on the same recorder state. The interval histograms of all stripes are merged when a snapshot is taken.
+ * Each stripe keeps its own histograms, so memory use grows with the number of stripes.</p>
  */
 public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledElement {
     private static final Logger logger = LogManager.getLogger(DeltaHdrHistogramReservoir.class);
 
     private final Recorder recorder;
+    private final Recorder[] stripes;
+    private final Histogram[] stripeIntervals;
+    private final int stripeMask;
     private Histogram lastHistogram;
 
     private Histogram intervalHistogram;
@@ -53,8 +61,36 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
      * @param significantDigits how many significant digits to track in the reservoir
      */
     public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits) {
+        this(labels, significantDigits, 1);
+    }
+
+    /**
+     * Create a reservoir with one or more recorders.
+     *
+     * @param labels              the labels to give to the reservoir, for logging purposes
+     * @param significantDigits how many significant digits to track in the reservoir
+     * @param stripes           how many recorders to spread recording threads over, rounded up to a power of two
+     */
+    public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits, int stripes) {
+        if (stripes < 1) {
+            throw new RuntimeException("The number of histogram stripes must be at least 1, but it was " + stripes);
+        }
         this.labels = labels;
         this.recorder = new Recorder(significantDigits);
+        if (stripes > 1) {
+            int stripeCount = Integer.highestOneBit(stripes - 1) << 1;
+            this.stripes = new Recorder[stripeCount];
+            this.stripeIntervals = new Histogram[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                this.stripes[i] = new Recorder(significantDigits);
+                this.stripeIntervals[i] = this.stripes[i].getIntervalHistogram();
+            }
+            this.stripeMask = stripeCount - 1;
+        } else {
+            this.stripes = null;
+            this.stripeIntervals = null;
+            this.stripeMask = 0;
+        }
 
         /*
          * Start by flipping the recorder's interval histogram.
@@ -75,7 +111,18 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
 
     @Override
     public void update(long value) {
-        recorder.recordValue(value);
+        if (null == stripes) {
+            recorder.recordValue(value);
+        } else {
+            stripes[(int) (Thread.currentThread().threadId() & stripeMask)].recordValue(value);
+        }
+    }
+
+    /**
+     * @return the number of recorders which values are recorded into
+     */
+    public int getStripes() {
+        return null == stripes ? 1 : stripes.length;
     }
 
     /**
@@ -104,6 +151,12 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
      */
     private synchronized Histogram getDataSinceLastSnapshotAndUpdate() {
         intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        if (null != stripes) {
+            for (int i = 0; i < stripes.length; i++) {
+                stripeIntervals[i] = stripes[i].getIntervalHistogram(stripeIntervals[i]);
+                intervalHistogram.add(stripeIntervals[i]);
+            }
+        }
         long intervalHistogramStartTime = intervalHistogramEndTime;
         intervalHistogramEndTime = System.currentTimeMillis();
 
@@ -130,7 +183,7 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
     }
 
     public DeltaHdrHistogramReservoir copySettings() {
-        return new DeltaHdrHistogramReservoir(this.labels, intervalHistogram.getNumberOfSignificantValueDigits());
+        return new DeltaHdrHistogramReservoir(this.labels, intervalHistogram.getNumberOfSignificantValueDigits(), getStripes());
     }
 
     public void attachLogWriter(HistogramLogWriter logWriter) {
@@ -17,6 +17,7 @@
 package io.nosqlbench.engine.api.templating;
 
 import io.nosqlbench.engine.api.templating.binders.ArrayBinder;
+import io.nosqlbench.engine.api.templating.binders.FieldLayout;
 import io.nosqlbench.engine.api.templating.binders.ListBinder;
 import io.nosqlbench.engine.api.templating.binders.OrderedMapBinder;
 import io.nosqlbench.nb.api.config.fieldreaders.DynamicFieldReader;
@@ -32,9 +33,12 @@ import io.nosqlbench.virtdata.core.templates.BindPoint;
 import io.nosqlbench.virtdata.core.templates.CapturePoint;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 import io.nosqlbench.virtdata.core.templates.StringBindings;
+import io.nosqlbench.virtdata.core.templates.TextBuffer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.LongFunction;
@@ -85,6 +89,12 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
      */
     private final LinkedHashMap<String, Object> protomap = new LinkedHashMap<>();
 
+    /**
+     * The compiled form of the protomap and dynamic fields, which is created when first needed, and
+     * discarded whenever a field is taken from this template.
+     */
+    private volatile FieldLayout fieldLayout;
+
     /**
      * Any auxiliary source of values to be applied beyond what is specified directly in the op fields.
      * This includes, for example, the activity parameters which are allowed by the config model on
@@ -237,9 +247,59 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
      */
     @Override
     public Map<String, Object> apply(long value) {
-        LinkedHashMap<String, Object> map = new LinkedHashMap<>(protomap);
-        dynamics.forEach((k, v) -> map.put(k, v.apply(value)));
-        return map;
+        return getFieldLayout().asMap(value);
+    }
+
+    /**
+     * Get the compiled {@link FieldLayout} of the static and dynamic op fields, in template order.
+     * Op dispensers should get the layout after they have taken any fields which are handled separately,
+     * since taking a field from this template changes the layout. The layout which was already returned
+     * is not affected.
+     *
+     * @return The field layout
+     */
+    public FieldLayout getFieldLayout() {
+        FieldLayout layout = this.fieldLayout;
+        if (layout == null) {
+            synchronized (this) {
+                layout = this.fieldLayout;
+                if (layout == null) {
+                    layout = compileFieldLayout();
+                    this.fieldLayout = layout;
+                }
+            }
+        }
+        return layout;
+    }
+
+    private FieldLayout compileFieldLayout() {
+        Set<String> fieldNames = new LinkedHashSet<>(protomap.keySet());
+        fieldNames.addAll(dynamics.keySet());
+        String[] names = fieldNames.toArray(new String[0]);
+        Object[] values = new Object[names.length];
+        LongFunction<?>[] functions = new LongFunction<?>[names.length];
+        for (int i = 0; i < names.length; i++) {
+            functions[i] = dynamics.get(names[i]);
+            values[i] = (functions[i] == null) ? protomap.get(names[i]) : null;
+        }
+        return new FieldLayout(names, values, functions);
+    }
+
+    /**
+     * Get the {@link FieldLayout} of an op field which is a map template, so that the fields of the sub-map
+     * can be read individually for each cycle instead of through a new {@link Map}.
+     *
+     * @param name The field name
+     * @return The layout of the sub-map, or empty if the field is not defined as a static or dynamic map
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<FieldLayout> getAsOptionalFieldLayout(String name) {
+        if (dynamics.get(name) instanceof ParsedTemplateMap submap) {
+            return Optional.of(submap.getFieldLayout());
+        } else if (statics.get(name) instanceof Map<?, ?> staticmap) {
+            return Optional.of(FieldLayout.ofStatic((Map<String, ?>) staticmap));
+        }
+        return Optional.empty();
     }
 
     public Map<String, Object> applyFull(long value) {
@@ -317,6 +377,7 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
     public <T> T takeStaticValue(String field, Class<T> classOfT) {
         if (statics.containsKey(field)) {
             protomap.remove(field);
+            fieldLayout = null;
             T value = (T) statics.remove(field);
             return value;
         } else if (isConfig(field)) {
@@ -412,6 +473,7 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
         if (statics.containsKey(name)) {
             Object value = statics.remove(name);
             protomap.remove(name);
+            fieldLayout = null;
             return NBTypeConverter.convertOr(value, defaultValue);
         }
         for (Map<String, Object> cfgsource : cfgsources) {
@@ -594,6 +656,57 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
     }
 
 
+    /**
+     * Get the op field as a {@link LongFunction} of UTF-8 encoded bytes, for clients which send the text of
+     * a field as a payload. Static values are encoded once. String templates are rendered and encoded into
+     * reused per-thread buffers, without creating an intermediate String. Dynamic values which are already
+     * a {@link ByteBuffer} or byte array are passed through, null values are returned as null, and any other
+     * values are encoded from their String form.
+     *
+     * The returned buffers are shared, and must not be modified. They should be read by their array and offsets,
+     * or through {@link ByteBuffer#duplicate()}, and only until the next call to the function on the same thread.
+     *
+     * @param name The field name which may be defined as static, dynamic, or config
+     * @return A function which can provide the encoded field value, if the field is defined
+     */
+    public Optional<LongFunction<ByteBuffer>> getAsOptionalEncodedFunction(String name) {
+        if (isDynamic(name)) {
+            LongFunction<?> f = dynamics.get(name);
+            if (f instanceof StringBindings stringBindings) {
+                return Optional.of(stringBindings::encode);
+            }
+            ThreadLocal<TextBuffer> buffers = ThreadLocal.withInitial(() -> new TextBuffer(1024));
+            return Optional.of(l -> {
+                Object value = f.apply(l);
+                if (value == null) {
+                    return null;
+                } else if (value instanceof ByteBuffer byteBuffer) {
+                    return byteBuffer;
+                } else if (value instanceof byte[] bytes) {
+                    return ByteBuffer.wrap(bytes);
+                } else if (value instanceof CharSequence text) {
+                    return buffers.get().encode(text);
+                } else {
+                    return buffers.get().encode(String.valueOf(value));
+                }
+            });
+        }
+        Object value = isStatic(name) ? getStaticValue(name) : isConfig(name) ? getConfig(name) : null;
+        if (value == null) {
+            return Optional.empty();
+        }
+        ByteBuffer encoded = (value instanceof byte[] bytes)
+            ? ByteBuffer.wrap(bytes) : ByteBuffer.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
+        return Optional.of(l -> encoded);
+    }
+
+    public LongFunction<ByteBuffer> getAsRequiredEncodedFunction(String name) {
+        return getAsOptionalEncodedFunction(name)
+            .orElseThrow(() -> new OpConfigError("The op field '" + name + "' is required, but it wasn't found " +
+                "in the op template named '" + this.getName() + "'"));
+    }
+
+
     /**
      * Get a LongFunction which returns either the static value, the dynamic value, or the default value,
      * in that order, depending on where it is found first.
@@ -746,11 +859,13 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
         if (dynamics.containsKey(name)) {
             Object value = statics.remove(name);
             protomap.remove(name);
+            fieldLayout = null;
             return (Optional<V>) Optional.of(value);
         }
         if (statics.containsKey(name)) {
             Object value = statics.remove(name);
             protomap.remove(name);
+            fieldLayout = null;
             return (Optional<V>) Optional.of(value);
         }
         return Optional.empty();
@@ -770,6 +885,7 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
             dynamics.remove(fieldname);
             statics.remove(fieldname);
             protomap.remove(fieldname);
+            fieldLayout = null;
         }
 
         if (entry==null) {
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.templating.binders;
+
+import io.nosqlbench.nb.api.errors.OpConfigError;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * <p>A field layout is the compiled form of a map template. The field names are fixed in template order
+ * when the layout is created, and each field is addressed by its index, with either a static value or a
+ * function which provides the value for each cycle.</p>
+ *
+ * <p>Op dispensers which only need some of the fields of a map-shaped op, or which build their own
+ * native representation from the fields, should resolve the indices of the fields they need once, and
+ * then read them from {@link #apply(long)} for each cycle. Only the fields which are read are generated,
+ * and each one at most once per cycle. The {@link Map} form is only built when it is asked for, with
+ * {@link Fields#asMap()} or {@link #renderInto(long, Map)}.</p>
+ *
+ * <p>The {@link Fields} which are returned by {@link #apply(long)} are a per-thread flyweight, which is
+ * rebound to the next cycle on the same thread. They should be read while the op is being built, and
+ * must not be retained by the op itself.</p>
+ */
+public class FieldLayout implements LongFunction<FieldLayout.Fields> {
+
+    private final String[] names;
+    private final Object[] statics;
+    private final LongFunction<?>[] functions;
+    private final Map<String, Integer> indices;
+    private final ThreadLocal<Fields> flyweights = ThreadLocal.withInitial(Fields::new);
+
+    /**
+     * @param names     The field names, in template order
+     * @param statics   The static value of each field, or null for dynamic fields
+     * @param functions The function for each dynamic field, or null for static fields
+     */
+    public FieldLayout(String[] names, Object[] statics, LongFunction<?>[] functions) {
+        if (names.length != statics.length || names.length != functions.length) {
+            throw new OpConfigError("field layout arrays must all be the same length, but they were "
+                + names.length + ", " + statics.length + ", and " + functions.length);
+        }
+        this.names = names.clone();
+        this.statics = statics.clone();
+        this.functions = functions.clone();
+        Map<String, Integer> indexMap = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexMap.put(names[i], i);
+        }
+        this.indices = Collections.unmodifiableMap(indexMap);
+    }
+
+    /**
+     * Create a layout of static fields only.
+     *
+     * @param values The field values, in iteration order
+     * @return A layout which always provides the same values
+     */
+    public static FieldLayout ofStatic(Map<String, ?> values) {
+        String[] names = new String[values.size()];
+        Object[] statics = new Object[values.size()];
+        int index = 0;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            names[index] = entry.getKey();
+            statics[index++] = entry.getValue();
+        }
+        return new FieldLayout(names, statics, new LongFunction<?>[names.length]);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public List<String> getNames() {
+        return List.of(names);
+    }
+
+    /**
+     * @param name The field name
+     * @return The index of the named field, or -1 if it is not in this layout
+     */
+    public int indexOf(String name) {
+        Integer index = indices.get(name);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @param name The field name
+     * @return The index of the named field
+     * @throws OpConfigError if the field is not in this layout
+     */
+    public int requireIndex(String name) {
+        Integer index = indices.get(name);
+        if (index == null) {
+            throw new OpConfigError("The field '" + name + "' is required, but it is not in the field layout " + indices.keySet());
+        }
+        return index;
+    }
+
+    public boolean isDynamic(int index) {
+        return functions[index] != null;
+    }
+
+    public boolean isStatic() {
+        for (LongFunction<?> function : functions) {
+            if (function != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generate the value of one field for a cycle, without binding the flyweight.
+     *
+     * @param index The field index
+     * @param cycle The cycle
+     * @return The field value
+     */
+    public Object get(int index, long cycle) {
+        LongFunction<?> function = functions[index];
+        return (function == null) ? statics[index] : function.apply(cycle);
+    }
+
+    /**
+     * Bind the per-thread {@link Fields} flyweight to a cycle. No field values are generated until they are read.
+     *
+     * @param cycle The cycle
+     * @return The fields for the cycle, which are only valid until the next call on the same thread
+     */
+    @Override
+    public Fields apply(long cycle) {
+        Fields fields = flyweights.get();
+        fields.bind(cycle);
+        return fields;
+    }
+
+    /**
+     * Generate every field for a cycle into the provided map, in template order. This is for clients which
+     * have their own {@link Map} type for a document, so that the fields do not need to be copied from an
+     * intermediate map.
+     *
+     * @param cycle  The cycle
+     * @param target The map to put the fields into
+     * @param <M>    The type of map
+     * @return The target map
+     */
+    public <M extends Map<String, Object>> M renderInto(long cycle, M target) {
+        for (int i = 0; i < names.length; i++) {
+            target.put(names[i], get(i, cycle));
+        }
+        return target;
+    }
+
+    /**
+     * Generate every field for a cycle, in template order, and provide it to the consumer.
+     *
+     * @param cycle    The cycle
+     * @param consumer The consumer of each field name and value
+     */
+    public void forEach(long cycle, BiConsumer<String, Object> consumer) {
+        for (int i = 0; i < names.length; i++) {
+            consumer.accept(names[i], get(i, cycle));
+        }
+    }
+
+    /**
+     * @param cycle The cycle
+     * @return A new {@link LinkedHashMap} with every field for the cycle, in template order
+     */
+    public Map<String, Object> asMap(long cycle) {
+        return renderInto(cycle, new LinkedHashMap<>(capacityFor(names.length)));
+    }
+
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FieldLayout{");
+        for (int i = 0; i < names.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(names[i]).append(isDynamic(i) ? "=<dynamic>" : "=" + statics[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The fields of a {@link FieldLayout} for one cycle. Each dynamic field is generated when it is first
+     * read, and then kept until the flyweight is bound to another cycle.
+     */
+    public final class Fields {
+        private final Object[] values = new Object[names.length];
+        private final int[] generatedAt = new int[names.length];
+        private int generation = 0;
+        private long cycle;
+
+        private void bind(long cycle) {
+            this.cycle = cycle;
+            if (++generation == 0) {
+                Arrays.fill(generatedAt, 0);
+                generation = 1;
+            }
+        }
+
+        public long getCycle() {
+            return cycle;
+        }
+
+        public FieldLayout getLayout() {
+            return FieldLayout.this;
+        }
+
+        /**
+         * @param index The field index, as from {@link FieldLayout#requireIndex(String)}
+         * @param <T>   The type of the value, inferred from the calling context
+         * @return The field value for the bound cycle
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(int index) {
+            LongFunction<?> function = functions[index];
+            if (function == null) {
+                return (T) statics[index];
+            }
+            if (generatedAt[index] != generation) {
+                values[index] = function.apply(cycle);
+                generatedAt[index] = generation;
+            }
+            return (T) values[index];
+        }
+
+        /**
+         * @param name The field name
+         * @param <T>  The type of the value, inferred from the calling context
+         * @return The field value for the bound cycle, or null if the field is not in the layout
+         */
+        public <T> T get(String name) {
+            int index = indexOf(name);
+            return (index < 0) ? null : get(index);
+        }
+
+        public void forEach(BiConsumer<String, Object> consumer) {
+            for (int i = 0; i < names.length; i++) {
+                consumer.accept(names[i], get(i));
+            }
+        }
+
+        /**
+         * @return A new {@link LinkedHashMap} with every field for the bound cycle, in template order
+         */
+        public Map<String, Object> asMap() {
+            LinkedHashMap<String, Object> map = new LinkedHashMap<>(capacityFor(names.length));
+            for (int i = 0; i < names.length; i++) {
+                map.put(names[i], get(i));
+            }
+            return map;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package io.nosqlbench.virtdata.core.bindings;
 
 import io.nosqlbench.virtdata.core.composers.FunctionAssembly;
+import io.nosqlbench.virtdata.core.composers.FunctionFuser;
 import io.nosqlbench.virtdata.lang.ast.FunctionCall;
 import io.nosqlbench.virtdata.lang.ast.VirtDataFlow;
 import io.nosqlbench.virtdata.lang.parser.VirtDataDSL;
@@ -213,6 +214,17 @@ public class VirtDataComposer {
                 return diagnostics.error(new RuntimeException("FUNCTION resolution failed: '" + flowdata + "': " + e,e));
             }
         }
+        if (FunctionFuser.isEnabled()) {
+            Optional<Object> fused = FunctionFuser.fuse(
+                flattenedFuncs.stream().map(ResolvedFunction::getFunctionObject).collect(Collectors.toList())
+            );
+            if (fused.isPresent()) {
+                diagnostics.trace("FUNCTION resolution succeeded (fused): '" + flow + "'");
+                return diagnostics.setResolvedFunction(
+                    new ResolvedFunction(fused.get(), isThreadSafe, null, null, null, null)
+                );
+            }
+        }
         ResolvedFunction composedFunction = assembly.getResolvedFunction(isThreadSafe);
         diagnostics.trace("FUNCTION resolution succeeded (lambda): '" + flow + "'");
         return diagnostics.setResolvedFunction(composedFunction);
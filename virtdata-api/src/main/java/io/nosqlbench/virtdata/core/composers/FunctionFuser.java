@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.composers;
+
+import io.nosqlbench.virtdata.core.bindings.FunctionType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.*;
+
+/**
+ * <p>Compile a chain of binding functions into one function object which has its own class.</p>
+ *
+ * <p>The lambdas which are created by the composers are instances of a few shared classes, one for each
+ * pairing of function types. When a workload has many bindings, the call sites within those shared classes
+ * see many different function types, and the JIT can not inline through them. A fused chain is instead a
+ * {@link MethodHandle} tree over the stage functions, which is held as a constant by a hidden class
+ * defined only for that chain. The JIT can then inline every stage of the chain into the one call site,
+ * with primitive values passed directly between stages.</p>
+ *
+ * <p>Only chains which take a long input, and which do not need to convert an object value to a primitive
+ * value between stages, are fused. The conversions between primitive stages are the same Java casts which
+ * the composers use, and primitive values are boxed when they are passed to an object function. Any
+ * other chain is left to the composers.</p>
+ *
+ * <p>Fusion is off by default, and is enabled with {@code -Dvirtdata.fused=true}.</p>
+ */
+public class FunctionFuser {
+
+    public final static String FUSED_PROPERTY = "virtdata.fused";
+
+    private final static MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final static Map<Class<?>, byte[]> templates = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(FUSED_PROPERTY, "false"));
+    }
+
+    /**
+     * @param stages The function objects of the chain, from the first (inner) function to the last (outer) function
+     * @return A fused function object, of the primitive function type which matches the input and output of the chain,
+     * or empty if the chain can not be fused
+     */
+    public static Optional<Object> fuse(List<Object> stages) {
+        if (stages.size() < 2 || FunctionType.valueOf(stages.get(0)).getInputClass() != long.class) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandle chain = null;
+            for (Object stage : stages) {
+                MethodHandle stageHandle = handleFor(stage);
+                if (chain == null) {
+                    chain = stageHandle;
+                    continue;
+                }
+                Class<?> value = chain.type().returnType();
+                Class<?> input = stageHandle.type().parameterType(0);
+                if (!value.isPrimitive() && input.isPrimitive()) {
+                    return Optional.empty();
+                }
+                if (value == double.class && FunctionType.valueOf(stage) == FunctionType.long_int) {
+                    // the composers pass a double to a long_int function through an int cast
+                    stageHandle = MethodHandles.explicitCastArguments(stageHandle, stageHandle.type().changeParameterType(0, int.class));
+                }
+                stageHandle = MethodHandles.explicitCastArguments(stageHandle, stageHandle.type().changeParameterType(0, value));
+                chain = MethodHandles.filterReturnValue(chain, stageHandle);
+            }
+            return Optional.of(define(chain, describe(stages)));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to fuse function chain " + stages + ": " + e, e);
+        }
+    }
+
+    private static MethodHandle handleFor(Object function) throws ReflectiveOperationException {
+        FunctionType functionType = FunctionType.valueOf(function);
+        Class<?> input = functionType.getInputClass();
+        Class<?> output = functionType.getReturnClass();
+        String methodName = switch (functionType) {
+            case long_long, int_long, double_long -> "applyAsLong";
+            case long_int, int_int, double_int -> "applyAsInt";
+            case long_double, int_double, double_double -> "applyAsDouble";
+            case long_T, int_T, double_T, R_T -> "apply";
+        };
+        return lookup.findVirtual(functionType.getFunctionClass(), methodName, MethodType.methodType(output, input))
+            .bindTo(function);
+    }
+
+    private static String describe(List<Object> stages) {
+        StringBuilder sb = new StringBuilder("fused:");
+        for (int i = 0; i < stages.size(); i++) {
+            sb.append(i == 0 ? "" : "; ").append(stages.get(i));
+        }
+        return sb.toString();
+    }
+
+    private static Object define(MethodHandle chain, String description) throws ReflectiveOperationException {
+        Class<?> output = chain.type().returnType();
+        Class<?> template;
+        if (output == long.class) {
+            template = FusedLongUnaryOperator.class;
+        } else if (output == int.class) {
+            template = FusedLongToIntFunction.class;
+        } else if (output == double.class) {
+            template = FusedLongToDoubleFunction.class;
+        } else {
+            template = FusedLongFunction.class;
+            chain = chain.asType(MethodType.methodType(Object.class, long.class));
+        }
+        MethodHandles.Lookup fused = lookup.defineHiddenClassWithClassData(templateBytes(template), List.of(chain, description), true);
+        MethodHandle constructor = fused.findConstructor(fused.lookupClass(), MethodType.methodType(void.class));
+        try {
+            return constructor.invoke();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static byte[] templateBytes(Class<?> template) {
+        return templates.computeIfAbsent(template, t -> {
+            try (InputStream stream = t.getResourceAsStream(t.getSimpleName() + ".class")) {
+                if (stream == null) {
+                    throw new RuntimeException("Unable to find the class file for " + t.getName());
+                }
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Get the chain of a fused function class. This is only called when a fused class is initialized.
+     */
+    static MethodHandle chainOf(MethodHandles.Lookup fusedLookup) {
+        return classDataAt(fusedLookup, MethodHandle.class, 0);
+    }
+
+    /**
+     * Get the description of a fused function class. This is only called when a fused class is initialized.
+     */
+    static String descriptionOf(MethodHandles.Lookup fusedLookup) {
+        return classDataAt(fusedLookup, String.class, 1);
+    }
+
+    private static <T> T classDataAt(MethodHandles.Lookup fusedLookup, Class<T> type, int index) {
+        if (!fusedLookup.lookupClass().isHidden()) {
+            return null; // the template class itself is never used as a function
+        }
+        try {
+            return MethodHandles.classDataAt(fusedLookup, ConstantDescs.DEFAULT_NAME, type, index);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (t instanceof Error error) {
+            throw error;
+        }
+        throw new RuntimeException(t);
+    }
+}
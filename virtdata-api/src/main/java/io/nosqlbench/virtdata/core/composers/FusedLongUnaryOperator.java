@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.composers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The template for fused chains which are a {@link LongUnaryOperator}. Each fused chain is a hidden
+ * copy of this class, with its own constant chain. See {@link FunctionFuser}.
+ */
+final class FusedLongUnaryOperator implements LongUnaryOperator {
+    private static final MethodHandle CHAIN = FunctionFuser.chainOf(MethodHandles.lookup());
+    private static final String DESCRIPTION = FunctionFuser.descriptionOf(MethodHandles.lookup());
+
+    @Override
+    public long applyAsLong(long value) {
+        try {
+            return (long) CHAIN.invokeExact(value);
+        } catch (Throwable t) {
+            throw FunctionFuser.rethrow(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION;
+    }
+}
@@ -19,6 +19,7 @@ package io.nosqlbench.virtdata.core.templates;
 import io.nosqlbench.virtdata.core.bindings.Binder;
 import io.nosqlbench.virtdata.core.bindings.BindingsTemplate;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 /**
@@ -64,6 +65,17 @@ public class StringBindings implements Binder<String> {
         return compositor.apply(value);
     }
 
+    /**
+     * Render the string binding as UTF-8 bytes, without creating an intermediate String.
+     *
+     * @param value a long input value
+     * @return a reused buffer holding the rendered bytes, valid until the next call on the same thread
+     * @see StringCompositor#encode(long)
+     */
+    public ByteBuffer encode(long value) {
+        return compositor.encode(value);
+    }
+
     @Override
     public String toString() {
         return "StringBindings{" +
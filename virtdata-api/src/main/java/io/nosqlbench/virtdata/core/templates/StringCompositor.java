@@ -19,6 +19,7 @@ package io.nosqlbench.virtdata.core.templates;
 import io.nosqlbench.virtdata.core.bindings.DataMapper;
 import io.nosqlbench.virtdata.core.bindings.VirtData;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,13 +31,19 @@ import java.util.function.LongFunction;
  * string template and bindings set. It employs a few simplistic optimizations
  * to avoid re-generating duplicate values, as well as lower allocation
  * rate of buffer data.
+ *
+ * Each thread renders into its own reusable {@link TextBuffer}, so that the
+ * text of a template can be appended to a caller's builder with {@link #renderInto(long, StringBuilder)},
+ * or taken as UTF-8 bytes with {@link #encode(long)}, without an intermediate String.
  */
 public class StringCompositor implements LongFunction<String> {
 
     private final String[] spans;
     private final DataMapper<?>[] mappers;
     private final int[] LUT;
-    private final int bufsize;
+    private final boolean distinct;
+    private volatile int bufsize = 1024;
+    private final ThreadLocal<TextBuffer> buffers = ThreadLocal.withInitial(() -> new TextBuffer(bufsize));
 
     private final Function<Object, String> stringfunc;
 
@@ -60,6 +67,7 @@ public class StringCompositor implements LongFunction<String> {
         }
         spans[spans.length - 1] = even_odd_spans[even_odd_spans.length - 1];
         this.stringfunc = stringfunc;
+        this.distinct = (mappers.length == LUT.length);
 
         int minsize = 0;
         for (int i = 0; i < 100; i++) {
@@ -68,7 +76,7 @@ public class StringCompositor implements LongFunction<String> {
                 minsize = Math.max(minsize,result.length());
             }
         }
-        bufsize = spans.length*1024;
+        bufsize = Math.max(16, minsize << 1);
     }
 
     public StringCompositor(ParsedTemplateString template, Map<String, Object> fconfig) {
@@ -77,17 +85,45 @@ public class StringCompositor implements LongFunction<String> {
 
     @Override
     public String apply(long value) {
-        StringBuilder sb = new StringBuilder(bufsize);
-        String[] ary = new String[mappers.length];
-        for (int i = 0; i < ary.length; i++) {
-            DataMapper<?> mapperType = mappers[i];
-            Object object = mapperType.apply(value);
-            ary[i] = stringfunc.apply(object);
-        }
-        for (int i = 0; i < LUT.length; i++) {
-            sb.append(spans[i]).append(ary[LUT[i]]);
+        return renderInto(value, buffers.get().text()).toString();
+    }
+
+    /**
+     * Render the template for the given input value into the UTF-8 bytes of a reused buffer.
+     * The returned buffer is only valid until the next call to this compositor on the same thread,
+     * as described in {@link TextBuffer#encode(CharSequence)}.
+     *
+     * @param value the input value for the bindings
+     * @return a reused buffer holding the rendered bytes
+     */
+    public ByteBuffer encode(long value) {
+        TextBuffer buffer = buffers.get();
+        renderInto(value, buffer.text());
+        return buffer.encodeText();
+    }
+
+    /**
+     * Append the rendered template for the given input value to a builder.
+     *
+     * @param value the input value for the bindings
+     * @param sb the builder to append to
+     * @return the same builder
+     */
+    public StringBuilder renderInto(long value, StringBuilder sb) {
+        if (distinct) {
+            for (int i = 0; i < LUT.length; i++) {
+                sb.append(spans[i]).append(stringfunc.apply(mappers[LUT[i]].apply(value)));
+            }
+        } else {
+            String[] ary = new String[mappers.length];
+            for (int i = 0; i < ary.length; i++) {
+                ary[i] = stringfunc.apply(mappers[i].apply(value));
+            }
+            for (int i = 0; i < LUT.length; i++) {
+                sb.append(spans[i]).append(ary[LUT[i]]);
+            }
         }
         sb.append(spans[spans.length - 1]);
-        return sb.toString();
+        return sb;
     }
 }
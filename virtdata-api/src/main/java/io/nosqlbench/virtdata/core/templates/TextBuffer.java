@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.virtdata.core.templates;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>A set of reusable buffers for rendering text and encoding it as UTF-8, so that rendered
+ * templates can be handed to a client as bytes without creating a new String and byte array
+ * for every cycle. The buffers grow as needed, and are kept at their largest size.</p>
+ *
+ * <p>A text buffer is not thread safe. It is meant to be held in a {@link ThreadLocal}, with
+ * each thread rendering into its own buffers.</p>
+ */
+public final class TextBuffer {
+
+    private final StringBuilder text;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private char[] chars;
+    private CharBuffer charBuffer;
+    private ByteBuffer bytes;
+
+    public TextBuffer(int initialSize) {
+        int size = Math.max(16, initialSize);
+        this.text = new StringBuilder(size);
+        this.chars = new char[size];
+        this.charBuffer = CharBuffer.wrap(chars);
+        this.bytes = ByteBuffer.allocate(size * 3);
+    }
+
+    /**
+     * @return the text builder of this buffer, cleared
+     */
+    public StringBuilder text() {
+        text.setLength(0);
+        return text;
+    }
+
+    /**
+     * Encode the current contents of {@link #text()} as UTF-8.
+     *
+     * @return the encoded bytes, as described in {@link #encode(CharSequence)}
+     */
+    public ByteBuffer encodeText() {
+        return encode(text);
+    }
+
+    /**
+     * Encode the given text as UTF-8 into the byte buffer of this text buffer. The returned buffer is
+     * array-backed, and holds the encoded bytes between its position and limit. It is only valid until
+     * the next call to this text buffer, and must not be modified by callers. Clients should read it by its
+     * array and offsets, or through {@link ByteBuffer#duplicate()}, so that it may be read again on a retry.
+     *
+     * @param value the text to encode
+     * @return a reused buffer holding the encoded bytes
+     */
+    public ByteBuffer encode(CharSequence value) {
+        int length = value.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length << 1)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        if (value instanceof String s) {
+            s.getChars(0, length, chars, 0);
+        } else if (value instanceof StringBuilder sb) {
+            sb.getChars(0, length, chars, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[i] = value.charAt(i);
+            }
+        }
+        charBuffer.clear().limit(length);
+
+        // sized for the worst case, so that encoding always completes in one pass
+        int maxBytes = (int) (length * encoder.maxBytesPerChar());
+        if (bytes.capacity() < maxBytes) {
+            bytes = ByteBuffer.allocate(Math.max(maxBytes, bytes.capacity() << 1));
+        }
+        bytes.clear();
+        encoder.reset();
+        CoderResult result = encoder.encode(charBuffer, bytes, true);
+        if (!result.isUnderflow()) {
+            throw new RuntimeException("Unable to encode rendered text as UTF-8: " + result);
+        }
+        encoder.flush(bytes);
+        bytes.flip();
+        return bytes;
+    }
+}
@@ -34,6 +34,24 @@ public class ParsedTemplateMapTest {
         assertThat(ptm.getOpFieldNames()).isEqualTo(Set.of("string1"));
     }
 
+    @Test
+    public void testFieldLayoutFollowsTakenFields() {
+        Map<String, Object> template = new LinkedHashMap<>();
+        template.put("first", "one");
+        template.put("second", Map.of("inner", "two"));
+        template.put("third", "three");
+        ParsedTemplateMap ptm = new ParsedTemplateMap("layout", template, Map.of(), List.of(Map.of()));
+
+        assertThat(ptm.getFieldLayout().getNames()).isEqualTo(List.of("first", "second", "third"));
+        assertThat(ptm.apply(1L)).containsExactlyEntriesOf(template);
+        assertThat(ptm.getAsOptionalFieldLayout("second").orElseThrow().apply(1L).<String>get("inner")).isEqualTo("two");
+        assertThat(ptm.getAsOptionalFieldLayout("first")).isEmpty();
+
+        assertThat(ptm.takeStaticValue("first", String.class)).isEqualTo("one");
+        assertThat(ptm.getFieldLayout().getNames()).isEqualTo(List.of("second", "third"));
+        assertThat(ptm.apply(1L).keySet()).containsExactly("second", "third");
+    }
+
     @Test
     public void testTakeAsNamedTemplates() {
         ParsedTemplateMap ptm = new ParsedTemplateMap(
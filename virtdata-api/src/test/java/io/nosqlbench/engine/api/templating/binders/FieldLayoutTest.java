@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.engine.api.templating.binders;
+
+import io.nosqlbench.nb.api.errors.OpConfigError;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FieldLayoutTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private FieldLayout layout() {
+        return new FieldLayout(
+            new String[]{"a", "b", "c"},
+            new Object[]{"static-a", null, null},
+            new LongFunction<?>[]{null, l -> {
+                calls.incrementAndGet();
+                return "b-" + l;
+            }, l -> l * 2}
+        );
+    }
+
+    @Test
+    public void testOnlyReadFieldsAreGeneratedOncePerCycle() {
+        FieldLayout layout = layout();
+        int b = layout.requireIndex("b");
+
+        FieldLayout.Fields fields = layout.apply(3L);
+        assertThat(fields.<String>get(b)).isEqualTo("b-3");
+        assertThat(fields.<String>get("b")).isEqualTo("b-3");
+        assertThat(fields.<String>get("a")).isEqualTo("static-a");
+        assertThat(calls.get()).isEqualTo(1);
+
+        fields = layout.apply(4L);
+        assertThat(fields.<String>get(b)).isEqualTo("b-4");
+        assertThat(fields.<Long>get("c")).isEqualTo(8L);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testMapFormsKeepTemplateOrder() {
+        FieldLayout layout = layout();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", "static-a");
+        expected.put("b", "b-5");
+        expected.put("c", 10L);
+
+        assertThat(layout.asMap(5L)).containsExactlyEntriesOf(expected);
+        assertThat(layout.apply(5L).asMap()).containsExactlyEntriesOf(expected);
+        assertThat(layout.renderInto(5L, new LinkedHashMap<>())).containsExactlyEntriesOf(expected);
+        assertThat(layout.getNames()).isEqualTo(List.of("a", "b", "c"));
+    }
+
+    @Test
+    public void testMissingFields() {
+        FieldLayout layout = layout();
+        assertThat(layout.indexOf("d")).isEqualTo(-1);
+        assertThat(layout.apply(1L).<Object>get("d")).isNull();
+        assertThatThrownBy(() -> layout.requireIndex("d")).isInstanceOf(OpConfigError.class);
+    }
+
+    @Test
+    public void testStaticLayout() {
+        FieldLayout layout = FieldLayout.ofStatic(Map.of("k", "v"));
+        assertThat(layout.isStatic()).isTrue();
+        assertThat(layout.apply(7L).<String>get("k")).isEqualTo("v");
+        assertThat(layout().isStatic()).isFalse();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core.composers;
+
+import io.nosqlbench.virtdata.core.bindings.DataMapper;
+import io.nosqlbench.virtdata.core.bindings.DataMapperFunctionMapper;
+import io.nosqlbench.virtdata.core.bindings.FunctionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FunctionFuserTest {
+
+    private final static long[] inputs = {0L, 1L, 7L, -3L, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE + 5};
+
+    private static List<Object> stages() {
+        List<Object> stages = new ArrayList<>();
+        stages.add((LongUnaryOperator) l -> l * 31 + 7);
+        stages.add((LongToIntFunction) l -> (int) (l >>> 3));
+        stages.add((LongToDoubleFunction) l -> l / 3.0d);
+        stages.add((LongFunction<String>) l -> "L" + l);
+        stages.add((IntUnaryOperator) i -> i * 17);
+        stages.add((IntToLongFunction) i -> (long) i << 20);
+        stages.add((IntToDoubleFunction) i -> i * 1.5d);
+        stages.add((IntFunction<String>) i -> "I" + i);
+        stages.add((DoubleUnaryOperator) d -> d * 2.25d);
+        stages.add((DoubleToLongFunction) d -> (long) (d * 1000));
+        stages.add((DoubleToIntFunction) d -> (int) d);
+        stages.add((DoubleFunction<String>) d -> "D" + d);
+        stages.add((Function<Object, String>) o -> o.getClass().getSimpleName() + ":" + o);
+        return stages;
+    }
+
+    private static Object assembled(List<Object> chain) {
+        FunctionComposer<?> assembly = new FunctionAssembly();
+        for (Object stage : chain) {
+            assembly = assembly.andThen(stage);
+        }
+        return assembly.getFunctionObject();
+    }
+
+    private static void assertSameValues(List<Object> chain, Object fused) {
+        Object assembled = assembled(chain);
+        assertThat(FunctionType.valueOf(fused)).isEqualTo(FunctionType.valueOf(assembled));
+        DataMapper<Object> fusedMapper = DataMapperFunctionMapper.map(fused);
+        DataMapper<Object> assembledMapper = DataMapperFunctionMapper.map(assembled);
+        for (long input : inputs) {
+            assertThat(fusedMapper.get(input)).as(chain + " at " + input).isEqualTo(assembledMapper.get(input));
+        }
+    }
+
+    @Test
+    public void testFusedPairsMatchComposedPairs() {
+        List<Object> stages = stages();
+        int fusedCount = 0;
+        for (Object first : stages) {
+            if (FunctionType.valueOf(first).getInputClass() != long.class) {
+                continue;
+            }
+            for (Object second : stages) {
+                List<Object> chain = List.of(first, second);
+                Optional<Object> fused = FunctionFuser.fuse(chain);
+                if (fused.isPresent()) {
+                    fusedCount++;
+                    assertSameValues(chain, fused.get());
+                } else {
+                    assertThat(first).isInstanceOf(LongFunction.class);
+                    assertThat(FunctionType.valueOf(second).getInputClass()).isNotEqualTo(Object.class);
+                }
+            }
+        }
+        assertThat(fusedCount).isEqualTo(3 * stages.size() + 1);
+    }
+
+    @Test
+    public void testFusedTriplesMatchComposedTriples() {
+        List<Object> stages = stages();
+        for (Object first : stages) {
+            if (FunctionType.valueOf(first).getInputClass() != long.class) {
+                continue;
+            }
+            for (Object second : stages) {
+                for (Object third : stages) {
+                    List<Object> chain = List.of(first, second, third);
+                    FunctionFuser.fuse(chain).ifPresent(fused -> assertSameValues(chain, fused));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFusedFunctionsHaveTheirOwnClasses() {
+        List<Object> chain = List.of((LongUnaryOperator) l -> l + 1, (LongFunction<String>) String::valueOf);
+        Object fused1 = FunctionFuser.fuse(chain).orElseThrow();
+        Object fused2 = FunctionFuser.fuse(chain).orElseThrow();
+        assertThat(fused1.getClass().isHidden()).isTrue();
+        assertThat(fused1.getClass()).isNotEqualTo(fused2.getClass());
+        assertThat(((LongFunction<?>) fused1).apply(41L)).isEqualTo("42");
+        assertThat(fused1.toString()).startsWith("fused:");
+    }
+
+    @Test
+    public void testUnfusableChains() {
+        assertThat(FunctionFuser.fuse(List.of((LongUnaryOperator) l -> l))).isEmpty();
+        assertThat(FunctionFuser.fuse(List.of((IntUnaryOperator) i -> i, (IntUnaryOperator) i -> i))).isEmpty();
+        assertThat(FunctionFuser.fuse(List.of((LongFunction<Long>) l -> l, (LongUnaryOperator) l -> l))).isEmpty();
+    }
+}
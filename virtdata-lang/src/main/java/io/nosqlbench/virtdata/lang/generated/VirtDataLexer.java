@@ -0,0 +1,284 @@
+// Generated from VirtData.g4 by ANTLR 4.13.1
+package io.nosqlbench.virtdata.lang.generated;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue", "this-escape"})
+public class VirtDataLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, LONG=7, DOUBLE=8, INTEGER=9, 
+		FLOAT=10, BOOLEAN=11, NEWLINE=12, COMPOSE=13, TYPEARROW=14, ASSIGN=15, 
+		SSTRING_LITERAL=16, DSTRING_LITERAL=17, ID=18, IDPART=19, WS=20;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "LONG", "DOUBLE", "INTEGER", 
+			"FLOAT", "BOOLEAN", "INT", "ZINT", "EXP", "NEWLINE", "COMPOSE", "TYPEARROW", 
+			"ASSIGN", "SSTRING_LITERAL", "DSTRING_LITERAL", "ID", "IDPART", "WS"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "';'", "'('", "','", "')'", "'$'", "';;'", null, null, null, null, 
+			null, null, "'compose'", "'->'", "'='"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, "LONG", "DOUBLE", "INTEGER", 
+			"FLOAT", "BOOLEAN", "NEWLINE", "COMPOSE", "TYPEARROW", "ASSIGN", "SSTRING_LITERAL", 
+			"DSTRING_LITERAL", "ID", "IDPART", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public VirtDataLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "VirtData.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\u0014\u00f2\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
+		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
+		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
+		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
+		"\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e"+
+		"\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011"+
+		"\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014"+
+		"\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0001\u0000\u0001\u0000"+
+		"\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
+		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006"+
+		"\u0003\u0006>\b\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0007"+
+		"\u0003\u0007D\b\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0005\u0007"+
+		"I\b\u0007\n\u0007\f\u0007L\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007"+
+		"P\b\u0007\u0001\u0007\u0003\u0007S\b\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0003\u0007Y\b\u0007\u0001\u0007\u0003\u0007\\\b\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0003\ba\b\b\u0001\b\u0001\b\u0001\t"+
+		"\u0003\tf\b\t\u0001\t\u0001\t\u0001\t\u0005\tk\b\t\n\t\f\tn\t\t\u0001"+
+		"\t\u0001\t\u0003\tr\b\t\u0001\t\u0003\tu\b\t\u0001\t\u0001\t\u0001\t\u0001"+
+		"\t\u0003\t{\b\t\u0001\t\u0003\t~\b\t\u0001\t\u0003\t\u0081\b\t\u0001\n"+
+		"\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0003"+
+		"\n\u008c\b\n\u0001\u000b\u0001\u000b\u0001\u000b\u0005\u000b\u0091\b\u000b"+
+		"\n\u000b\f\u000b\u0094\t\u000b\u0003\u000b\u0096\b\u000b\u0001\f\u0005"+
+		"\f\u0099\b\f\n\f\f\f\u009c\t\f\u0001\r\u0001\r\u0003\r\u00a0\b\r\u0001"+
+		"\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u00a7\b\u000e"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011"+
+		"\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0003\u0012\u00bb\b\u0012\u0005\u0012\u00bd\b\u0012\n\u0012\f\u0012\u00c0"+
+		"\t\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
+		"\u0013\u0001\u0013\u0003\u0013\u00c9\b\u0013\u0005\u0013\u00cb\b\u0013"+
+		"\n\u0013\f\u0013\u00ce\t\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0005\u0014\u00d5\b\u0014\n\u0014\f\u0014\u00d8\t\u0014"+
+		"\u0001\u0015\u0001\u0015\u0005\u0015\u00dc\b\u0015\n\u0015\f\u0015\u00df"+
+		"\t\u0015\u0001\u0015\u0001\u0015\u0005\u0015\u00e3\b\u0015\n\u0015\f\u0015"+
+		"\u00e6\t\u0015\u0001\u0015\u0001\u0015\u0003\u0015\u00ea\b\u0015\u0001"+
+		"\u0016\u0004\u0016\u00ed\b\u0016\u000b\u0016\f\u0016\u00ee\u0001\u0016"+
+		"\u0001\u0016\u0000\u0000\u0017\u0001\u0001\u0003\u0002\u0005\u0003\u0007"+
+		"\u0004\t\u0005\u000b\u0006\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b"+
+		"\u0017\u0000\u0019\u0000\u001b\u0000\u001d\f\u001f\r!\u000e#\u000f%\u0010"+
+		"\'\u0011)\u0012+\u0013-\u0014\u0001\u0000\u000f\u0002\u0000LLll\u0002"+
+		"\u0000DDdd\u0002\u0000FFff\u0001\u000019\u0001\u000009\u0002\u0000EEe"+
+		"e\u0002\u0000++--\u0002\u0000\n\n\r\r\u0004\u0000\n\n\r\r\'\'\\\\\u0002"+
+		"\u0000\'\'\\\\\u0004\u0000\n\n\r\r\"\"\\\\\u0002\u0000\"\"\\\\\u0002\u0000"+
+		"AZaz\u0004\u000009AZ__az\u0003\u0000\t\n\f\f  \u0110\u0000\u0001\u0001"+
+		"\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005\u0001"+
+		"\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\t\u0001\u0000"+
+		"\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000"+
+		"\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011\u0001\u0000\u0000"+
+		"\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015\u0001\u0000\u0000"+
+		"\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000"+
+		"\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000"+
+		"%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
+		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
+		"\u0000\u0001/\u0001\u0000\u0000\u0000\u00031\u0001\u0000\u0000\u0000\u0005"+
+		"3\u0001\u0000\u0000\u0000\u00075\u0001\u0000\u0000\u0000\t7\u0001\u0000"+
+		"\u0000\u0000\u000b9\u0001\u0000\u0000\u0000\r=\u0001\u0000\u0000\u0000"+
+		"\u000f[\u0001\u0000\u0000\u0000\u0011`\u0001\u0000\u0000\u0000\u0013}"+
+		"\u0001\u0000\u0000\u0000\u0015\u008b\u0001\u0000\u0000\u0000\u0017\u0095"+
+		"\u0001\u0000\u0000\u0000\u0019\u009a\u0001\u0000\u0000\u0000\u001b\u009d"+
+		"\u0001\u0000\u0000\u0000\u001d\u00a6\u0001\u0000\u0000\u0000\u001f\u00a8"+
+		"\u0001\u0000\u0000\u0000!\u00b0\u0001\u0000\u0000\u0000#\u00b3\u0001\u0000"+
+		"\u0000\u0000%\u00b5\u0001\u0000\u0000\u0000\'\u00c3\u0001\u0000\u0000"+
+		"\u0000)\u00d1\u0001\u0000\u0000\u0000+\u00e9\u0001\u0000\u0000\u0000-"+
+		"\u00ec\u0001\u0000\u0000\u0000/0\u0005;\u0000\u00000\u0002\u0001\u0000"+
+		"\u0000\u000012\u0005(\u0000\u00002\u0004\u0001\u0000\u0000\u000034\u0005"+
+		",\u0000\u00004\u0006\u0001\u0000\u0000\u000056\u0005)\u0000\u00006\b\u0001"+
+		"\u0000\u0000\u000078\u0005$\u0000\u00008\n\u0001\u0000\u0000\u00009:\u0005"+
+		";\u0000\u0000:;\u0005;\u0000\u0000;\f\u0001\u0000\u0000\u0000<>\u0005"+
+		"-\u0000\u0000=<\u0001\u0000\u0000\u0000=>\u0001\u0000\u0000\u0000>?\u0001"+
+		"\u0000\u0000\u0000?@\u0003\u0017\u000b\u0000@A\u0007\u0000\u0000\u0000"+
+		"A\u000e\u0001\u0000\u0000\u0000BD\u0005-\u0000\u0000CB\u0001\u0000\u0000"+
+		"\u0000CD\u0001\u0000\u0000\u0000DE\u0001\u0000\u0000\u0000EF\u0003\u0017"+
+		"\u000b\u0000FJ\u0005.\u0000\u0000GI\u00050\u0000\u0000HG\u0001\u0000\u0000"+
+		"\u0000IL\u0001\u0000\u0000\u0000JH\u0001\u0000\u0000\u0000JK\u0001\u0000"+
+		"\u0000\u0000KM\u0001\u0000\u0000\u0000LJ\u0001\u0000\u0000\u0000MO\u0003"+
+		"\u0017\u000b\u0000NP\u0003\u001b\r\u0000ON\u0001\u0000\u0000\u0000OP\u0001"+
+		"\u0000\u0000\u0000P\\\u0001\u0000\u0000\u0000QS\u0005-\u0000\u0000RQ\u0001"+
+		"\u0000\u0000\u0000RS\u0001\u0000\u0000\u0000ST\u0001\u0000\u0000\u0000"+
+		"TU\u0003\u0017\u000b\u0000UV\u0003\u001b\r\u0000V\\\u0001\u0000\u0000"+
+		"\u0000WY\u0005-\u0000\u0000XW\u0001\u0000\u0000\u0000XY\u0001\u0000\u0000"+
+		"\u0000YZ\u0001\u0000\u0000\u0000Z\\\u0003\u0017\u000b\u0000[C\u0001\u0000"+
+		"\u0000\u0000[R\u0001\u0000\u0000\u0000[X\u0001\u0000\u0000\u0000\\]\u0001"+
+		"\u0000\u0000\u0000]^\u0007\u0001\u0000\u0000^\u0010\u0001\u0000\u0000"+
+		"\u0000_a\u0005-\u0000\u0000`_\u0001\u0000\u0000\u0000`a\u0001\u0000\u0000"+
+		"\u0000ab\u0001\u0000\u0000\u0000bc\u0003\u0017\u000b\u0000c\u0012\u0001"+
+		"\u0000\u0000\u0000df\u0005-\u0000\u0000ed\u0001\u0000\u0000\u0000ef\u0001"+
+		"\u0000\u0000\u0000fg\u0001\u0000\u0000\u0000gh\u0003\u0017\u000b\u0000"+
+		"hl\u0005.\u0000\u0000ik\u00050\u0000\u0000ji\u0001\u0000\u0000\u0000k"+
+		"n\u0001\u0000\u0000\u0000lj\u0001\u0000\u0000\u0000lm\u0001\u0000\u0000"+
+		"\u0000mo\u0001\u0000\u0000\u0000nl\u0001\u0000\u0000\u0000oq\u0003\u0017"+
+		"\u000b\u0000pr\u0003\u001b\r\u0000qp\u0001\u0000\u0000\u0000qr\u0001\u0000"+
+		"\u0000\u0000r~\u0001\u0000\u0000\u0000su\u0005-\u0000\u0000ts\u0001\u0000"+
+		"\u0000\u0000tu\u0001\u0000\u0000\u0000uv\u0001\u0000\u0000\u0000vw\u0003"+
+		"\u0017\u000b\u0000wx\u0003\u001b\r\u0000x~\u0001\u0000\u0000\u0000y{\u0005"+
+		"-\u0000\u0000zy\u0001\u0000\u0000\u0000z{\u0001\u0000\u0000\u0000{|\u0001"+
+		"\u0000\u0000\u0000|~\u0003\u0017\u000b\u0000}e\u0001\u0000\u0000\u0000"+
+		"}t\u0001\u0000\u0000\u0000}z\u0001\u0000\u0000\u0000~\u0080\u0001\u0000"+
+		"\u0000\u0000\u007f\u0081\u0007\u0002\u0000\u0000\u0080\u007f\u0001\u0000"+
+		"\u0000\u0000\u0080\u0081\u0001\u0000\u0000\u0000\u0081\u0014\u0001\u0000"+
+		"\u0000\u0000\u0082\u0083\u0005t\u0000\u0000\u0083\u0084\u0005r\u0000\u0000"+
+		"\u0084\u0085\u0005u\u0000\u0000\u0085\u008c\u0005e\u0000\u0000\u0086\u0087"+
+		"\u0005f\u0000\u0000\u0087\u0088\u0005a\u0000\u0000\u0088\u0089\u0005l"+
+		"\u0000\u0000\u0089\u008a\u0005s\u0000\u0000\u008a\u008c\u0005e\u0000\u0000"+
+		"\u008b\u0082\u0001\u0000\u0000\u0000\u008b\u0086\u0001\u0000\u0000\u0000"+
+		"\u008c\u0016\u0001\u0000\u0000\u0000\u008d\u0096\u00050\u0000\u0000\u008e"+
+		"\u0092\u0007\u0003\u0000\u0000\u008f\u0091\u0007\u0004\u0000\u0000\u0090"+
+		"\u008f\u0001\u0000\u0000\u0000\u0091\u0094\u0001\u0000\u0000\u0000\u0092"+
+		"\u0090\u0001\u0000\u0000\u0000\u0092\u0093\u0001\u0000\u0000\u0000\u0093"+
+		"\u0096\u0001\u0000\u0000\u0000\u0094\u0092\u0001\u0000\u0000\u0000\u0095"+
+		"\u008d\u0001\u0000\u0000\u0000\u0095\u008e\u0001\u0000\u0000\u0000\u0096"+
+		"\u0018\u0001\u0000\u0000\u0000\u0097\u0099\u0007\u0004\u0000\u0000\u0098"+
+		"\u0097\u0001\u0000\u0000\u0000\u0099\u009c\u0001\u0000\u0000\u0000\u009a"+
+		"\u0098\u0001\u0000\u0000\u0000\u009a\u009b\u0001\u0000\u0000\u0000\u009b"+
+		"\u001a\u0001\u0000\u0000\u0000\u009c\u009a\u0001\u0000\u0000\u0000\u009d"+
+		"\u009f\u0007\u0005\u0000\u0000\u009e\u00a0\u0007\u0006\u0000\u0000\u009f"+
+		"\u009e\u0001\u0000\u0000\u0000\u009f\u00a0\u0001\u0000\u0000\u0000\u00a0"+
+		"\u00a1\u0001\u0000\u0000\u0000\u00a1\u00a2\u0003\u0017\u000b\u0000\u00a2"+
+		"\u001c\u0001\u0000\u0000\u0000\u00a3\u00a4\u0005\r\u0000\u0000\u00a4\u00a7"+
+		"\u0005\n\u0000\u0000\u00a5\u00a7\u0007\u0007\u0000\u0000\u00a6\u00a3\u0001"+
+		"\u0000\u0000\u0000\u00a6\u00a5\u0001\u0000\u0000\u0000\u00a7\u001e\u0001"+
+		"\u0000\u0000\u0000\u00a8\u00a9\u0005c\u0000\u0000\u00a9\u00aa\u0005o\u0000"+
+		"\u0000\u00aa\u00ab\u0005m\u0000\u0000\u00ab\u00ac\u0005p\u0000\u0000\u00ac"+
+		"\u00ad\u0005o\u0000\u0000\u00ad\u00ae\u0005s\u0000\u0000\u00ae\u00af\u0005"+
+		"e\u0000\u0000\u00af \u0001\u0000\u0000\u0000\u00b0\u00b1\u0005-\u0000"+
+		"\u0000\u00b1\u00b2\u0005>\u0000\u0000\u00b2\"\u0001\u0000\u0000\u0000"+
+		"\u00b3\u00b4\u0005=\u0000\u0000\u00b4$\u0001\u0000\u0000\u0000\u00b5\u00be"+
+		"\u0005\'\u0000\u0000\u00b6\u00bd\b\b\u0000\u0000\u00b7\u00ba\u0005\\\u0000"+
+		"\u0000\u00b8\u00bb\u0007\t\u0000\u0000\u00b9\u00bb\t\u0000\u0000\u0000"+
+		"\u00ba\u00b8\u0001\u0000\u0000\u0000\u00ba\u00b9\u0001\u0000\u0000\u0000"+
+		"\u00bb\u00bd\u0001\u0000\u0000\u0000\u00bc\u00b6\u0001\u0000\u0000\u0000"+
+		"\u00bc\u00b7\u0001\u0000\u0000\u0000\u00bd\u00c0\u0001\u0000\u0000\u0000"+
+		"\u00be\u00bc\u0001\u0000\u0000\u0000\u00be\u00bf\u0001\u0000\u0000\u0000"+
+		"\u00bf\u00c1\u0001\u0000\u0000\u0000\u00c0\u00be\u0001\u0000\u0000\u0000"+
+		"\u00c1\u00c2\u0005\'\u0000\u0000\u00c2&\u0001\u0000\u0000\u0000\u00c3"+
+		"\u00cc\u0005\"\u0000\u0000\u00c4\u00cb\b\n\u0000\u0000\u00c5\u00c8\u0005"+
+		"\\\u0000\u0000\u00c6\u00c9\u0007\u000b\u0000\u0000\u00c7\u00c9\t\u0000"+
+		"\u0000\u0000\u00c8\u00c6\u0001\u0000\u0000\u0000\u00c8\u00c7\u0001\u0000"+
+		"\u0000\u0000\u00c9\u00cb\u0001\u0000\u0000\u0000\u00ca\u00c4\u0001\u0000"+
+		"\u0000\u0000\u00ca\u00c5\u0001\u0000\u0000\u0000\u00cb\u00ce\u0001\u0000"+
+		"\u0000\u0000\u00cc\u00ca\u0001\u0000\u0000\u0000\u00cc\u00cd\u0001\u0000"+
+		"\u0000\u0000\u00cd\u00cf\u0001\u0000\u0000\u0000\u00ce\u00cc\u0001\u0000"+
+		"\u0000\u0000\u00cf\u00d0\u0005\"\u0000\u0000\u00d0(\u0001\u0000\u0000"+
+		"\u0000\u00d1\u00d6\u0003+\u0015\u0000\u00d2\u00d3\u0005.\u0000\u0000\u00d3"+
+		"\u00d5\u0003+\u0015\u0000\u00d4\u00d2\u0001\u0000\u0000\u0000\u00d5\u00d8"+
+		"\u0001\u0000\u0000\u0000\u00d6\u00d4\u0001\u0000\u0000\u0000\u00d6\u00d7"+
+		"\u0001\u0000\u0000\u0000\u00d7*\u0001\u0000\u0000\u0000\u00d8\u00d6\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00dd\u0007\f\u0000\u0000\u00da\u00dc\u0007\r"+
+		"\u0000\u0000\u00db\u00da\u0001\u0000\u0000\u0000\u00dc\u00df\u0001\u0000"+
+		"\u0000\u0000\u00dd\u00db\u0001\u0000\u0000\u0000\u00dd\u00de\u0001\u0000"+
+		"\u0000\u0000\u00de\u00ea\u0001\u0000\u0000\u0000\u00df\u00dd\u0001\u0000"+
+		"\u0000\u0000\u00e0\u00e4\u0007\f\u0000\u0000\u00e1\u00e3\u0007\r\u0000"+
+		"\u0000\u00e2\u00e1\u0001\u0000\u0000\u0000\u00e3\u00e6\u0001\u0000\u0000"+
+		"\u0000\u00e4\u00e2\u0001\u0000\u0000\u0000\u00e4\u00e5\u0001\u0000\u0000"+
+		"\u0000\u00e5\u00e7\u0001\u0000\u0000\u0000\u00e6\u00e4\u0001\u0000\u0000"+
+		"\u0000\u00e7\u00e8\u0005-\u0000\u0000\u00e8\u00ea\u0007\r\u0000\u0000"+
+		"\u00e9\u00d9\u0001\u0000\u0000\u0000\u00e9\u00e0\u0001\u0000\u0000\u0000"+
+		"\u00ea,\u0001\u0000\u0000\u0000\u00eb\u00ed\u0007\u000e\u0000\u0000\u00ec"+
+		"\u00eb\u0001\u0000\u0000\u0000\u00ed\u00ee\u0001\u0000\u0000\u0000\u00ee"+
+		"\u00ec\u0001\u0000\u0000\u0000\u00ee\u00ef\u0001\u0000\u0000\u0000\u00ef"+
+		"\u00f0\u0001\u0000\u0000\u0000\u00f0\u00f1\u0006\u0016\u0000\u0000\u00f1"+
+		".\u0001\u0000\u0000\u0000!\u0000=CJORX[`elqtz}\u0080\u008b\u0092\u0095"+
+		"\u009a\u009f\u00a6\u00ba\u00bc\u00be\u00c8\u00ca\u00cc\u00d6\u00dd\u00e4"+
+		"\u00e9\u00ee\u0001\u0000\u0001\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1304 @@
+// Generated from VirtData.g4 by ANTLR 4.13.1
+package io.nosqlbench.virtdata.lang.generated;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue"})
+public class VirtDataParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.13.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, LONG=7, DOUBLE=8, INTEGER=9, 
+		FLOAT=10, BOOLEAN=11, NEWLINE=12, COMPOSE=13, TYPEARROW=14, ASSIGN=15, 
+		SSTRING_LITERAL=16, DSTRING_LITERAL=17, ID=18, IDPART=19, WS=20;
+	public static final int
+		RULE_virtdataRecipe = 0, RULE_virtdataFlow = 1, RULE_expression = 2, RULE_virtdataCall = 3, 
+		RULE_lvalue = 4, RULE_inputType = 5, RULE_funcName = 6, RULE_outputType = 7, 
+		RULE_cmdParam = 8, RULE_ref = 9, RULE_value = 10, RULE_stringValue = 11, 
+		RULE_longValue = 12, RULE_doubleValue = 13, RULE_integerValue = 14, RULE_floatValue = 15, 
+		RULE_booleanValue = 16, RULE_specend = 17;
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"virtdataRecipe", "virtdataFlow", "expression", "virtdataCall", "lvalue", 
+			"inputType", "funcName", "outputType", "cmdParam", "ref", "value", "stringValue", 
+			"longValue", "doubleValue", "integerValue", "floatValue", "booleanValue", 
+			"specend"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "';'", "'('", "','", "')'", "'$'", "';;'", null, null, null, null, 
+			null, null, "'compose'", "'->'", "'='"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, null, null, null, null, null, null, "LONG", "DOUBLE", "INTEGER", 
+			"FLOAT", "BOOLEAN", "NEWLINE", "COMPOSE", "TYPEARROW", "ASSIGN", "SSTRING_LITERAL", 
+			"DSTRING_LITERAL", "ID", "IDPART", "WS"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "VirtData.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public VirtDataParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class VirtdataRecipeContext extends ParserRuleContext {
+		public List<VirtdataFlowContext> virtdataFlow() {
+			return getRuleContexts(VirtdataFlowContext.class);
+		}
+		public VirtdataFlowContext virtdataFlow(int i) {
+			return getRuleContext(VirtdataFlowContext.class,i);
+		}
+		public TerminalNode EOF() { return getToken(VirtDataParser.EOF, 0); }
+		public List<SpecendContext> specend() {
+			return getRuleContexts(SpecendContext.class);
+		}
+		public SpecendContext specend(int i) {
+			return getRuleContext(SpecendContext.class,i);
+		}
+		public VirtdataRecipeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_virtdataRecipe; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterVirtdataRecipe(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitVirtdataRecipe(this);
+		}
+	}
+
+	public final VirtdataRecipeContext virtdataRecipe() throws RecognitionException {
+		VirtdataRecipeContext _localctx = new VirtdataRecipeContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_virtdataRecipe);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(36);
+			virtdataFlow();
+			setState(43);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__5 || _la==NEWLINE) {
+				{
+				{
+				setState(37);
+				specend();
+				setState(39);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==COMPOSE || _la==ID) {
+					{
+					setState(38);
+					virtdataFlow();
+					}
+				}
+
+				}
+				}
+				setState(45);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(46);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class VirtdataFlowContext extends ParserRuleContext {
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public TerminalNode COMPOSE() { return getToken(VirtDataParser.COMPOSE, 0); }
+		public VirtdataFlowContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_virtdataFlow; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterVirtdataFlow(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitVirtdataFlow(this);
+		}
+	}
+
+	public final VirtdataFlowContext virtdataFlow() throws RecognitionException {
+		VirtdataFlowContext _localctx = new VirtdataFlowContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_virtdataFlow);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(49);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==COMPOSE) {
+				{
+				setState(48);
+				match(COMPOSE);
+				}
+			}
+
+			setState(51);
+			expression();
+			setState(58);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__0) {
+				{
+				{
+				setState(52);
+				match(T__0);
+				setState(54);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==ID) {
+					{
+					setState(53);
+					expression();
+					}
+				}
+
+				}
+				}
+				setState(60);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionContext extends ParserRuleContext {
+		public VirtdataCallContext virtdataCall() {
+			return getRuleContext(VirtdataCallContext.class,0);
+		}
+		public LvalueContext lvalue() {
+			return getRuleContext(LvalueContext.class,0);
+		}
+		public TerminalNode ASSIGN() { return getToken(VirtDataParser.ASSIGN, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitExpression(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_expression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(64);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			case 1:
+				{
+				setState(61);
+				lvalue();
+				setState(62);
+				match(ASSIGN);
+				}
+				break;
+			}
+			setState(66);
+			virtdataCall();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class VirtdataCallContext extends ParserRuleContext {
+		public FuncNameContext funcName() {
+			return getRuleContext(FuncNameContext.class,0);
+		}
+		public InputTypeContext inputType() {
+			return getRuleContext(InputTypeContext.class,0);
+		}
+		public List<TerminalNode> TYPEARROW() { return getTokens(VirtDataParser.TYPEARROW); }
+		public TerminalNode TYPEARROW(int i) {
+			return getToken(VirtDataParser.TYPEARROW, i);
+		}
+		public OutputTypeContext outputType() {
+			return getRuleContext(OutputTypeContext.class,0);
+		}
+		public List<TerminalNode> WS() { return getTokens(VirtDataParser.WS); }
+		public TerminalNode WS(int i) {
+			return getToken(VirtDataParser.WS, i);
+		}
+		public List<CmdParamContext> cmdParam() {
+			return getRuleContexts(CmdParamContext.class);
+		}
+		public CmdParamContext cmdParam(int i) {
+			return getRuleContext(CmdParamContext.class,i);
+		}
+		public VirtdataCallContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_virtdataCall; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterVirtdataCall(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitVirtdataCall(this);
+		}
+	}
+
+	public final VirtdataCallContext virtdataCall() throws RecognitionException {
+		VirtdataCallContext _localctx = new VirtdataCallContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_virtdataCall);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(71);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
+				{
+				setState(68);
+				inputType();
+				setState(69);
+				match(TYPEARROW);
+				}
+				break;
+			}
+			{
+			setState(73);
+			funcName();
+			setState(74);
+			match(T__1);
+			setState(95);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+			case 1:
+				{
+				setState(76);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				if (_la==WS) {
+					{
+					setState(75);
+					match(WS);
+					}
+				}
+
+				setState(78);
+				cmdParam();
+				setState(89);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(80);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==WS) {
+							{
+							setState(79);
+							match(WS);
+							}
+						}
+
+						setState(82);
+						match(T__2);
+						setState(84);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==WS) {
+							{
+							setState(83);
+							match(WS);
+							}
+						}
+
+						setState(86);
+						cmdParam();
+						}
+						} 
+					}
+					setState(91);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+				}
+				setState(93);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
+				case 1:
+					{
+					setState(92);
+					match(WS);
+					}
+					break;
+				}
+				}
+				break;
+			}
+			setState(98);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==WS) {
+				{
+				setState(97);
+				match(WS);
+				}
+			}
+
+			setState(100);
+			match(T__3);
+			}
+			setState(104);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==TYPEARROW) {
+				{
+				setState(102);
+				match(TYPEARROW);
+				setState(103);
+				outputType();
+				}
+			}
+
+			setState(107);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			case 1:
+				{
+				setState(106);
+				match(WS);
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class LvalueContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(VirtDataParser.ID, 0); }
+		public LvalueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lvalue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterLvalue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitLvalue(this);
+		}
+	}
+
+	public final LvalueContext lvalue() throws RecognitionException {
+		LvalueContext _localctx = new LvalueContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_lvalue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(109);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class InputTypeContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(VirtDataParser.ID, 0); }
+		public InputTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inputType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterInputType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitInputType(this);
+		}
+	}
+
+	public final InputTypeContext inputType() throws RecognitionException {
+		InputTypeContext _localctx = new InputTypeContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_inputType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(111);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FuncNameContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(VirtDataParser.ID, 0); }
+		public FuncNameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_funcName; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterFuncName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitFuncName(this);
+		}
+	}
+
+	public final FuncNameContext funcName() throws RecognitionException {
+		FuncNameContext _localctx = new FuncNameContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_funcName);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(113);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class OutputTypeContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(VirtDataParser.ID, 0); }
+		public OutputTypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_outputType; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterOutputType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitOutputType(this);
+		}
+	}
+
+	public final OutputTypeContext outputType() throws RecognitionException {
+		OutputTypeContext _localctx = new OutputTypeContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_outputType);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(115);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class CmdParamContext extends ParserRuleContext {
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public VirtdataCallContext virtdataCall() {
+			return getRuleContext(VirtdataCallContext.class,0);
+		}
+		public RefContext ref() {
+			return getRuleContext(RefContext.class,0);
+		}
+		public CmdParamContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cmdParam; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterCmdParam(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitCmdParam(this);
+		}
+	}
+
+	public final CmdParamContext cmdParam() throws RecognitionException {
+		CmdParamContext _localctx = new CmdParamContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_cmdParam);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(120);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case LONG:
+			case DOUBLE:
+			case INTEGER:
+			case FLOAT:
+			case BOOLEAN:
+			case SSTRING_LITERAL:
+			case DSTRING_LITERAL:
+				{
+				setState(117);
+				value();
+				}
+				break;
+			case ID:
+				{
+				setState(118);
+				virtdataCall();
+				}
+				break;
+			case T__4:
+				{
+				setState(119);
+				ref();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class RefContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(VirtDataParser.ID, 0); }
+		public RefContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ref; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterRef(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitRef(this);
+		}
+	}
+
+	public final RefContext ref() throws RecognitionException {
+		RefContext _localctx = new RefContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_ref);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(122);
+			match(T__4);
+			setState(123);
+			match(ID);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class ValueContext extends ParserRuleContext {
+		public FloatValueContext floatValue() {
+			return getRuleContext(FloatValueContext.class,0);
+		}
+		public DoubleValueContext doubleValue() {
+			return getRuleContext(DoubleValueContext.class,0);
+		}
+		public IntegerValueContext integerValue() {
+			return getRuleContext(IntegerValueContext.class,0);
+		}
+		public LongValueContext longValue() {
+			return getRuleContext(LongValueContext.class,0);
+		}
+		public StringValueContext stringValue() {
+			return getRuleContext(StringValueContext.class,0);
+		}
+		public BooleanValueContext booleanValue() {
+			return getRuleContext(BooleanValueContext.class,0);
+		}
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitValue(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_value);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(131);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case FLOAT:
+				{
+				setState(125);
+				floatValue();
+				}
+				break;
+			case DOUBLE:
+				{
+				setState(126);
+				doubleValue();
+				}
+				break;
+			case INTEGER:
+				{
+				setState(127);
+				integerValue();
+				}
+				break;
+			case LONG:
+				{
+				setState(128);
+				longValue();
+				}
+				break;
+			case SSTRING_LITERAL:
+			case DSTRING_LITERAL:
+				{
+				setState(129);
+				stringValue();
+				}
+				break;
+			case BOOLEAN:
+				{
+				setState(130);
+				booleanValue();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class StringValueContext extends ParserRuleContext {
+		public TerminalNode SSTRING_LITERAL() { return getToken(VirtDataParser.SSTRING_LITERAL, 0); }
+		public TerminalNode DSTRING_LITERAL() { return getToken(VirtDataParser.DSTRING_LITERAL, 0); }
+		public StringValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stringValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterStringValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitStringValue(this);
+		}
+	}
+
+	public final StringValueContext stringValue() throws RecognitionException {
+		StringValueContext _localctx = new StringValueContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_stringValue);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(133);
+			_la = _input.LA(1);
+			if ( !(_la==SSTRING_LITERAL || _la==DSTRING_LITERAL) ) {
+			_errHandler.recoverInline(this);
+			}
+			else {
+				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+				_errHandler.reportMatch(this);
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class LongValueContext extends ParserRuleContext {
+		public TerminalNode LONG() { return getToken(VirtDataParser.LONG, 0); }
+		public LongValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_longValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterLongValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitLongValue(this);
+		}
+	}
+
+	public final LongValueContext longValue() throws RecognitionException {
+		LongValueContext _localctx = new LongValueContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_longValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(135);
+			match(LONG);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class DoubleValueContext extends ParserRuleContext {
+		public TerminalNode DOUBLE() { return getToken(VirtDataParser.DOUBLE, 0); }
+		public DoubleValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_doubleValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterDoubleValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitDoubleValue(this);
+		}
+	}
+
+	public final DoubleValueContext doubleValue() throws RecognitionException {
+		DoubleValueContext _localctx = new DoubleValueContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_doubleValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(137);
+			match(DOUBLE);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class IntegerValueContext extends ParserRuleContext {
+		public TerminalNode INTEGER() { return getToken(VirtDataParser.INTEGER, 0); }
+		public IntegerValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_integerValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterIntegerValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitIntegerValue(this);
+		}
+	}
+
+	public final IntegerValueContext integerValue() throws RecognitionException {
+		IntegerValueContext _localctx = new IntegerValueContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_integerValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(139);
+			match(INTEGER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class FloatValueContext extends ParserRuleContext {
+		public TerminalNode FLOAT() { return getToken(VirtDataParser.FLOAT, 0); }
+		public FloatValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_floatValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterFloatValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitFloatValue(this);
+		}
+	}
+
+	public final FloatValueContext floatValue() throws RecognitionException {
+		FloatValueContext _localctx = new FloatValueContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_floatValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(141);
+			match(FLOAT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class BooleanValueContext extends ParserRuleContext {
+		public TerminalNode BOOLEAN() { return getToken(VirtDataParser.BOOLEAN, 0); }
+		public BooleanValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_booleanValue; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterBooleanValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitBooleanValue(this);
+		}
+	}
+
+	public final BooleanValueContext booleanValue() throws RecognitionException {
+		BooleanValueContext _localctx = new BooleanValueContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_booleanValue);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(143);
+			match(BOOLEAN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class SpecendContext extends ParserRuleContext {
+		public List<TerminalNode> NEWLINE() { return getTokens(VirtDataParser.NEWLINE); }
+		public TerminalNode NEWLINE(int i) {
+			return getToken(VirtDataParser.NEWLINE, i);
+		}
+		public SpecendContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_specend; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).enterSpecend(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof VirtDataListener ) ((VirtDataListener)listener).exitSpecend(this);
+		}
+	}
+
+	public final SpecendContext specend() throws RecognitionException {
+		SpecendContext _localctx = new SpecendContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_specend);
+		try {
+			int _alt;
+			setState(157);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				{
+				setState(145);
+				match(T__5);
+				setState(147); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(146);
+						match(NEWLINE);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(149); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(151);
+				match(T__5);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(153); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(152);
+						match(NEWLINE);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(155); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\u0004\u0001\u0014\u00a0\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001"+
+		"\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004"+
+		"\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007"+
+		"\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b"+
+		"\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002\u000f\u0007"+
+		"\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0003\u0000(\b\u0000\u0005\u0000*\b\u0000\n\u0000\f"+
+		"\u0000-\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0003\u00012\b\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0001\u0003\u00017\b\u0001\u0005\u0001"+
+		"9\b\u0001\n\u0001\f\u0001<\t\u0001\u0001\u0002\u0001\u0002\u0001\u0002"+
+		"\u0003\u0002A\b\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
+		"\u0001\u0003\u0003\u0003H\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003"+
+		"\u0003\u0003M\b\u0003\u0001\u0003\u0001\u0003\u0003\u0003Q\b\u0003\u0001"+
+		"\u0003\u0001\u0003\u0003\u0003U\b\u0003\u0001\u0003\u0005\u0003X\b\u0003"+
+		"\n\u0003\f\u0003[\t\u0003\u0001\u0003\u0003\u0003^\b\u0003\u0003\u0003"+
+		"`\b\u0003\u0001\u0003\u0003\u0003c\b\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0003\u0003i\b\u0003\u0001\u0003\u0003\u0003l\b\u0003"+
+		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0003\by\b\b\u0001\t"+
+		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0003"+
+		"\n\u0084\b\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\r\u0001\r\u0001"+
+		"\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001"+
+		"\u0011\u0001\u0011\u0004\u0011\u0094\b\u0011\u000b\u0011\f\u0011\u0095"+
+		"\u0001\u0011\u0001\u0011\u0004\u0011\u009a\b\u0011\u000b\u0011\f\u0011"+
+		"\u009b\u0003\u0011\u009e\b\u0011\u0001\u0011\u0000\u0000\u0012\u0000\u0002"+
+		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
+		" \"\u0000\u0001\u0001\u0000\u0010\u0011\u00a8\u0000$\u0001\u0000\u0000"+
+		"\u0000\u00021\u0001\u0000\u0000\u0000\u0004@\u0001\u0000\u0000\u0000\u0006"+
+		"G\u0001\u0000\u0000\u0000\bm\u0001\u0000\u0000\u0000\no\u0001\u0000\u0000"+
+		"\u0000\fq\u0001\u0000\u0000\u0000\u000es\u0001\u0000\u0000\u0000\u0010"+
+		"x\u0001\u0000\u0000\u0000\u0012z\u0001\u0000\u0000\u0000\u0014\u0083\u0001"+
+		"\u0000\u0000\u0000\u0016\u0085\u0001\u0000\u0000\u0000\u0018\u0087\u0001"+
+		"\u0000\u0000\u0000\u001a\u0089\u0001\u0000\u0000\u0000\u001c\u008b\u0001"+
+		"\u0000\u0000\u0000\u001e\u008d\u0001\u0000\u0000\u0000 \u008f\u0001\u0000"+
+		"\u0000\u0000\"\u009d\u0001\u0000\u0000\u0000$+\u0003\u0002\u0001\u0000"+
+		"%\'\u0003\"\u0011\u0000&(\u0003\u0002\u0001\u0000\'&\u0001\u0000\u0000"+
+		"\u0000\'(\u0001\u0000\u0000\u0000(*\u0001\u0000\u0000\u0000)%\u0001\u0000"+
+		"\u0000\u0000*-\u0001\u0000\u0000\u0000+)\u0001\u0000\u0000\u0000+,\u0001"+
+		"\u0000\u0000\u0000,.\u0001\u0000\u0000\u0000-+\u0001\u0000\u0000\u0000"+
+		"./\u0005\u0000\u0000\u0001/\u0001\u0001\u0000\u0000\u000002\u0005\r\u0000"+
+		"\u000010\u0001\u0000\u0000\u000012\u0001\u0000\u0000\u000023\u0001\u0000"+
+		"\u0000\u00003:\u0003\u0004\u0002\u000046\u0005\u0001\u0000\u000057\u0003"+
+		"\u0004\u0002\u000065\u0001\u0000\u0000\u000067\u0001\u0000\u0000\u0000"+
+		"79\u0001\u0000\u0000\u000084\u0001\u0000\u0000\u00009<\u0001\u0000\u0000"+
+		"\u0000:8\u0001\u0000\u0000\u0000:;\u0001\u0000\u0000\u0000;\u0003\u0001"+
+		"\u0000\u0000\u0000<:\u0001\u0000\u0000\u0000=>\u0003\b\u0004\u0000>?\u0005"+
+		"\u000f\u0000\u0000?A\u0001\u0000\u0000\u0000@=\u0001\u0000\u0000\u0000"+
+		"@A\u0001\u0000\u0000\u0000AB\u0001\u0000\u0000\u0000BC\u0003\u0006\u0003"+
+		"\u0000C\u0005\u0001\u0000\u0000\u0000DE\u0003\n\u0005\u0000EF\u0005\u000e"+
+		"\u0000\u0000FH\u0001\u0000\u0000\u0000GD\u0001\u0000\u0000\u0000GH\u0001"+
+		"\u0000\u0000\u0000HI\u0001\u0000\u0000\u0000IJ\u0003\f\u0006\u0000J_\u0005"+
+		"\u0002\u0000\u0000KM\u0005\u0014\u0000\u0000LK\u0001\u0000\u0000\u0000"+
+		"LM\u0001\u0000\u0000\u0000MN\u0001\u0000\u0000\u0000NY\u0003\u0010\b\u0000"+
+		"OQ\u0005\u0014\u0000\u0000PO\u0001\u0000\u0000\u0000PQ\u0001\u0000\u0000"+
+		"\u0000QR\u0001\u0000\u0000\u0000RT\u0005\u0003\u0000\u0000SU\u0005\u0014"+
+		"\u0000\u0000TS\u0001\u0000\u0000\u0000TU\u0001\u0000\u0000\u0000UV\u0001"+
+		"\u0000\u0000\u0000VX\u0003\u0010\b\u0000WP\u0001\u0000\u0000\u0000X[\u0001"+
+		"\u0000\u0000\u0000YW\u0001\u0000\u0000\u0000YZ\u0001\u0000\u0000\u0000"+
+		"Z]\u0001\u0000\u0000\u0000[Y\u0001\u0000\u0000\u0000\\^\u0005\u0014\u0000"+
+		"\u0000]\\\u0001\u0000\u0000\u0000]^\u0001\u0000\u0000\u0000^`\u0001\u0000"+
+		"\u0000\u0000_L\u0001\u0000\u0000\u0000_`\u0001\u0000\u0000\u0000`b\u0001"+
+		"\u0000\u0000\u0000ac\u0005\u0014\u0000\u0000ba\u0001\u0000\u0000\u0000"+
+		"bc\u0001\u0000\u0000\u0000cd\u0001\u0000\u0000\u0000de\u0005\u0004\u0000"+
+		"\u0000eh\u0001\u0000\u0000\u0000fg\u0005\u000e\u0000\u0000gi\u0003\u000e"+
+		"\u0007\u0000hf\u0001\u0000\u0000\u0000hi\u0001\u0000\u0000\u0000ik\u0001"+
+		"\u0000\u0000\u0000jl\u0005\u0014\u0000\u0000kj\u0001\u0000\u0000\u0000"+
+		"kl\u0001\u0000\u0000\u0000l\u0007\u0001\u0000\u0000\u0000mn\u0005\u0012"+
+		"\u0000\u0000n\t\u0001\u0000\u0000\u0000op\u0005\u0012\u0000\u0000p\u000b"+
+		"\u0001\u0000\u0000\u0000qr\u0005\u0012\u0000\u0000r\r\u0001\u0000\u0000"+
+		"\u0000st\u0005\u0012\u0000\u0000t\u000f\u0001\u0000\u0000\u0000uy\u0003"+
+		"\u0014\n\u0000vy\u0003\u0006\u0003\u0000wy\u0003\u0012\t\u0000xu\u0001"+
+		"\u0000\u0000\u0000xv\u0001\u0000\u0000\u0000xw\u0001\u0000\u0000\u0000"+
+		"y\u0011\u0001\u0000\u0000\u0000z{\u0005\u0005\u0000\u0000{|\u0005\u0012"+
+		"\u0000\u0000|\u0013\u0001\u0000\u0000\u0000}\u0084\u0003\u001e\u000f\u0000"+
+		"~\u0084\u0003\u001a\r\u0000\u007f\u0084\u0003\u001c\u000e\u0000\u0080"+
+		"\u0084\u0003\u0018\f\u0000\u0081\u0084\u0003\u0016\u000b\u0000\u0082\u0084"+
+		"\u0003 \u0010\u0000\u0083}\u0001\u0000\u0000\u0000\u0083~\u0001\u0000"+
+		"\u0000\u0000\u0083\u007f\u0001\u0000\u0000\u0000\u0083\u0080\u0001\u0000"+
+		"\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000\u0083\u0082\u0001\u0000"+
+		"\u0000\u0000\u0084\u0015\u0001\u0000\u0000\u0000\u0085\u0086\u0007\u0000"+
+		"\u0000\u0000\u0086\u0017\u0001\u0000\u0000\u0000\u0087\u0088\u0005\u0007"+
+		"\u0000\u0000\u0088\u0019\u0001\u0000\u0000\u0000\u0089\u008a\u0005\b\u0000"+
+		"\u0000\u008a\u001b\u0001\u0000\u0000\u0000\u008b\u008c\u0005\t\u0000\u0000"+
+		"\u008c\u001d\u0001\u0000\u0000\u0000\u008d\u008e\u0005\n\u0000\u0000\u008e"+
+		"\u001f\u0001\u0000\u0000\u0000\u008f\u0090\u0005\u000b\u0000\u0000\u0090"+
+		"!\u0001\u0000\u0000\u0000\u0091\u0093\u0005\u0006\u0000\u0000\u0092\u0094"+
+		"\u0005\f\u0000\u0000\u0093\u0092\u0001\u0000\u0000\u0000\u0094\u0095\u0001"+
+		"\u0000\u0000\u0000\u0095\u0093\u0001\u0000\u0000\u0000\u0095\u0096\u0001"+
+		"\u0000\u0000\u0000\u0096\u009e\u0001\u0000\u0000\u0000\u0097\u009e\u0005"+
+		"\u0006\u0000\u0000\u0098\u009a\u0005\f\u0000\u0000\u0099\u0098\u0001\u0000"+
+		"\u0000\u0000\u009a\u009b\u0001\u0000\u0000\u0000\u009b\u0099\u0001\u0000"+
+		"\u0000\u0000\u009b\u009c\u0001\u0000\u0000\u0000\u009c\u009e\u0001\u0000"+
+		"\u0000\u0000\u009d\u0091\u0001\u0000\u0000\u0000\u009d\u0097\u0001\u0000"+
+		"\u0000\u0000\u009d\u0099\u0001\u0000\u0000\u0000\u009e#\u0001\u0000\u0000"+
+		"\u0000\u0015\'+16:@GLPTY]_bhkx\u0083\u0095\u009b\u009d";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
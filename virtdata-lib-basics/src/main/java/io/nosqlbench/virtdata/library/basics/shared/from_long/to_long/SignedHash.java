@@ -21,7 +21,6 @@ import io.nosqlbench.virtdata.api.annotations.Category;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
 import io.nosqlbench.virtdata.murmur.Murmur3F;
 
-import java.nio.ByteBuffer;
 import java.util.function.LongUnaryOperator;
 
 /**
@@ -37,21 +36,8 @@ import java.util.function.LongUnaryOperator;
 @Categories({Category.general})
 public class SignedHash implements LongUnaryOperator {
 
-    // TODO: Bench this against the non-state based TL implementations
-    private final ThreadLocal<State> state_TL = ThreadLocal.withInitial(State::new);
-
     @Override
     public long applyAsLong(long value) {
-        State state = state_TL.get();
-        state.murmur3F.reset();
-        state.bb.putLong(0,value);
-        state.murmur3F.update(state.bb.array(),0,Long.BYTES);
-        long result= state.murmur3F.getValue();
-        return result;
-    }
-
-    private static class State {
-        public ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
-        public Murmur3F murmur3F = new Murmur3F();
+        return Murmur3F.hashLong(value);
     }
 }
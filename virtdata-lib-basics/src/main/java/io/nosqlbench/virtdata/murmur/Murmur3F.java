@@ -67,6 +67,47 @@ public class Murmur3F implements Checksum128 {
         this(seed,false);
     }
 
+    /**
+     * Hash a long value as its 8 big-endian bytes, with no allocation nor hashing state. This returns the
+     * same value as {@link #getValue()} after {@link #update(byte[], int, int)} with the bytes of
+     * {@link java.nio.ByteBuffer#putLong(long)} on a new or {@link #reset()} instance with a seed of 0.
+     *
+     * @param value The value to hash
+     * @return The lower 64 bits of the 128 bit hash
+     */
+    public static long hashLong(long value) {
+        return hashLong(value, 0);
+    }
+
+    /**
+     * Hash a long value as its 8 big-endian bytes, as in {@link #hashLong(long)}, for an instance with the given seed.
+     *
+     * @param value The value to hash
+     * @param seed The seed, as given to {@link #Murmur3F(int)}
+     * @return The lower 64 bits of the 128 bit hash
+     */
+    public static long hashLong(long value, int seed) {
+        long h1 = seed & 0xffffffffL;
+        long h2 = h1;
+
+        // 8 bytes only fill the first partial block, as k1 in little endian order
+        long k1 = Long.reverseBytes(value) * C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+
+        h1 ^= Long.BYTES;
+        h2 ^= Long.BYTES;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        return h1 + h2;
+    }
+
     @Override
     public void update(int b) {
         finished = false;
@@ -242,7 +283,7 @@ public class Murmur3F implements Checksum128 {
         }
     }
 
-    private long fmix64(long k) {
+    private static long fmix64(long k) {
         k ^= k >>> 33;
         k *= 0xff51afd7ed558ccdL;
         k ^= k >>> 33;
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.murmur;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Murmur3FTest {
+
+    private static long streamed(Murmur3F murmur3F, long value) {
+        ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
+        murmur3F.reset();
+        bb.putLong(0, value);
+        murmur3F.update(bb.array(), 0, Long.BYTES);
+        return murmur3F.getValue();
+    }
+
+    @Test
+    public void testHashLongMatchesStreamedHash() {
+        Murmur3F murmur3F = new Murmur3F();
+        long[] edges = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (long edge : edges) {
+            assertThat(Murmur3F.hashLong(edge)).isEqualTo(streamed(murmur3F, edge));
+        }
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong();
+            assertThat(Murmur3F.hashLong(value)).isEqualTo(streamed(murmur3F, value));
+            assertThat(Murmur3F.hashLong(i)).isEqualTo(streamed(murmur3F, i));
+        }
+    }
+
+    @Test
+    public void testSeededHashLongMatchesStreamedHash() {
+        SplittableRandom random = new SplittableRandom(43L);
+        int[] seeds = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, random.nextInt(), random.nextInt()};
+        for (int seed : seeds) {
+            Murmur3F murmur3F = new Murmur3F(seed);
+            for (int i = 0; i < 10_000; i++) {
+                long value = random.nextLong();
+                assertThat(Murmur3F.hashLong(value, seed)).isEqualTo(streamed(murmur3F, value));
+            }
+        }
+    }
+
+    @Test
+    public void testHashLongOfRepeatedIntMatchesStreamedHash() {
+        Murmur3F murmur3F = new Murmur3F();
+        SplittableRandom random = new SplittableRandom(44L);
+        for (int i = 0; i < 10_000; i++) {
+            int operand = random.nextInt();
+            ByteBuffer bb = ByteBuffer.allocate(Long.BYTES);
+            bb.putInt(0, operand);
+            bb.putInt(4, operand);
+            murmur3F.reset();
+            murmur3F.update(bb.array());
+            long packed = ((long) operand << 32) | (operand & 0xFFFFFFFFL);
+            assertThat(Murmur3F.hashLong(packed)).isEqualTo(murmur3F.getValue());
+        }
+    }
+}
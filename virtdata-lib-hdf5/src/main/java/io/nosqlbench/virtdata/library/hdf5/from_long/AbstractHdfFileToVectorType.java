@@ -19,17 +19,40 @@ package io.nosqlbench.virtdata.library.hdf5.from_long;
 import io.jhdf.HdfFile;
 import io.jhdf.api.Dataset;
 import io.nosqlbench.nb.api.nbio.NBIO;
+import io.nosqlbench.virtdata.library.hdf5.helpers.VectorCache;
+
+import java.lang.ref.Cleaner;
+import java.nio.file.Path;
 
 public abstract class AbstractHdfFileToVectorType {
+    private static final Cleaner cleaner = Cleaner.create();
+
+
     protected final HdfFile hdfFile;
     protected final Dataset dataset;
     protected final int[] dims;
+    protected final VectorCache cache;
 
     public AbstractHdfFileToVectorType(String filename, String datasetName) {
         hdfFile = new HdfFile(NBIO.all().search(filename).one().asPath());
         //TODO: implement a function to get the dataset by name only without needing the full path
         dataset = hdfFile.getDatasetByPath(datasetName);
         dims = dataset.getDimensions();
+        cache = null;
+    }
+
+    /**
+     * Read vectors through an off-heap {@link VectorCache} of the dataset, rather than reading each vector
+     * from the dataset as it is needed. The cache is shared with other functions for the same dataset, and
+     * is released once this function is no longer reachable.
+     */
+    public AbstractHdfFileToVectorType(String filename, String datasetName, int blockRows, String budget) {
+        Path path = NBIO.all().search(filename).one().asPath();
+        hdfFile = new HdfFile(path);
+        dataset = hdfFile.getDatasetByPath(datasetName);
+        dims = dataset.getDimensions();
+        cache = VectorCache.acquire(path, dataset, blockRows, budget);
+        cleaner.register(this, cache::release);
     }
 
     protected Object getDataFrom(long l) {
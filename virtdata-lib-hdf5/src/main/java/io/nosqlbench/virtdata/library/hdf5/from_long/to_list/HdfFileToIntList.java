@@ -18,6 +18,7 @@ package io.nosqlbench.virtdata.library.hdf5.from_long.to_list;
 
 import io.nosqlbench.virtdata.api.annotations.Categories;
 import io.nosqlbench.virtdata.api.annotations.Category;
+import io.nosqlbench.virtdata.api.annotations.Example;
 import io.nosqlbench.virtdata.api.annotations.ThreadSafeMapper;
 import io.nosqlbench.virtdata.library.hdf5.from_long.AbstractHdfFileToVectorType;
 import io.nosqlbench.virtdata.library.hdf5.helpers.EmbeddingGenerator;
@@ -45,8 +46,30 @@ public class HdfFileToIntList extends AbstractHdfFileToVectorType implements Lon
         super(filename, datasetName);
         embeddingGenerator = EmbeddingGeneratorFactory.getGenerator(dataset.getJavaType().getSimpleName().toLowerCase());
     }
+
+    /**
+     * Read the vectors through an off-heap cache of the dataset, which is read from the file in blocks of rows
+     * as they are first needed, and kept in a memory-mapped file within the given memory budget.
+     * @param filename The HDF5 file
+     * @param datasetName The path of the dataset within the file
+     * @param blockRows The number of rows which are read from the dataset at once
+     * @param budget The memory budget for the mapped blocks, like '512MB' or '4GB'
+     */
+    @Example({"HdfFileToIntList('train.hdf5','/train',4096,'4GB')","Read vectors of dataset /train through a cache of 4096 row blocks, mapping up to 4GB at once"})
+    public HdfFileToIntList(String filename, String datasetName, int blockRows, String budget) {
+        super(filename, datasetName, blockRows, budget);
+        embeddingGenerator = EmbeddingGeneratorFactory.getGenerator(dataset.getJavaType().getSimpleName().toLowerCase());
+    }
     @Override
     public List<Integer> apply(long l) {
+        if (cache != null) {
+            int[] vector = cache.getInts(l);
+            Integer[] boxed = new Integer[vector.length];
+            for (int i = 0; i < vector.length; i++) {
+                boxed[i] = vector[i];
+            }
+            return List.of(boxed);
+        }
         Object data = getDataFrom(l);
         return embeddingGenerator.generateIntListEmbeddingFrom(data, dims);
     }
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.hdf5.helpers;
+
+import io.jhdf.api.Dataset;
+import io.nosqlbench.nb.api.engine.util.Unit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>A cache of the vectors of a 2 dimensional HDF5 dataset, held off-heap in a row-major, memory-mapped
+ * file, so that vectors can be read without decoding them from the HDF5 file for every cycle.</p>
+ *
+ * <p>The rows of the dataset are grouped into blocks of a fixed number of rows. Each block is read from
+ * the dataset with one call the first time any of its rows is needed, and is written into a temporary file
+ * of the decoded values. Only as many blocks as fit into the memory budget are mapped at any time. When another
+ * block is needed, the block which was mapped first is released. A released block is mapped again from the
+ * temporary file when it is needed, without reading it from the dataset again.</p>
+ *
+ * <p>Float and double datasets are cached with their own element type, and int and short datasets are cached as
+ * ints. Values are converted to the requested vector type as they are read, with the same Java casts as the
+ * embedding generators use.</p>
+ *
+ * <p>One cache is shared by all users of the same dataset of the same file, with the layout which was given when
+ * it was first acquired. When every user has released it, the temporary file is closed and deleted.</p>
+ */
+public class VectorCache {
+    private final static Logger logger = LogManager.getLogger(VectorCache.class);
+    private final static Map<Key, VectorCache> shared = new HashMap<>();
+
+    private record Key(Path file, String dataset) {
+    }
+
+    private enum Elements {
+        FLOAT(Float.BYTES),
+        DOUBLE(Double.BYTES),
+        INT(Integer.BYTES);
+
+        private final int bytes;
+
+        Elements(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private final Key key;
+    private final Dataset dataset;
+    private final Elements elements;
+    private final long rows;
+    private final int dimensions;
+    private final int blockRows;
+    private final int blockBytes;
+    private final int maxMappedBlocks;
+    private final Path cachePath;
+    private final FileChannel channel;
+
+    // a float, double or int view of each mapped block, by the type of the dataset
+    private final AtomicReferenceArray<Buffer> mapped;
+    private final boolean[] decoded;
+    private final ArrayDeque<Integer> mappedOrder = new ArrayDeque<>();
+    private int references;
+
+    /**
+     * Acquire the cache of a dataset, which is created the first time it is acquired. Each call must be
+     * matched by a call to {@link #release()} when the cache is no longer used.
+     *
+     * @param file The file which contains the dataset
+     * @param dataset The dataset, which must have 2 dimensions of rows and vector elements
+     * @param blockRows The number of rows which are read from the dataset and mapped together
+     * @param budget The maximum size of all mapped blocks, as a byte size like '512MB' or '4GB'
+     * @return the shared cache of the dataset
+     */
+    public static synchronized VectorCache acquire(Path file, Dataset dataset, int blockRows, String budget) {
+        Key key = new Key(file.toAbsolutePath().normalize(), dataset.getPath());
+        VectorCache cache = shared.get(key);
+        if (cache == null) {
+            cache = new VectorCache(key, dataset, blockRows, budget);
+            shared.put(key, cache);
+        } else {
+            logger.debug("sharing the existing cache " + cache + " for " + blockRows + " row blocks with a budget of " + budget);
+        }
+        cache.references++;
+        return cache;
+    }
+
+    /**
+     * Release this cache. When it has been released as many times as it was acquired, its temporary file is
+     * closed and deleted, and it can not be read any more.
+     */
+    public void release() {
+        synchronized (VectorCache.class) {
+            if (--references > 0) {
+                return;
+            }
+            shared.remove(key);
+        }
+        synchronized (this) {
+            for (int i = 0; i < mapped.length(); i++) {
+                mapped.set(i, null);
+            }
+            mappedOrder.clear();
+            try {
+                channel.close();
+                Files.deleteIfExists(cachePath);
+            } catch (IOException e) {
+                logger.warn("Unable to remove the vector cache file " + cachePath + ": " + e);
+            }
+        }
+        logger.debug(() -> "released vector cache " + this);
+    }
+
+    private VectorCache(Key key, Dataset dataset, int blockRows, String budget) {
+        this.key = key;
+        this.dataset = dataset;
+        int[] dims = dataset.getDimensions();
+        if (dims.length != 2) {
+            throw new RuntimeException("Only datasets with 2 dimensions can be cached, but dataset '" +
+                dataset.getPath() + "' has " + dims.length);
+        }
+        String type = dataset.getJavaType().getSimpleName().toLowerCase();
+        this.elements = switch (type) {
+            case "float" -> Elements.FLOAT;
+            case "double" -> Elements.DOUBLE;
+            case "int", "short" -> Elements.INT;
+            default -> throw new RuntimeException("Only float, double, int, and short datasets can be cached, but dataset '" +
+                dataset.getPath() + "' is of type " + type);
+        };
+        if (blockRows < 1) {
+            throw new RuntimeException("The number of rows in each cached block must be at least 1, but it was " + blockRows);
+        }
+        this.rows = dims[0];
+        this.dimensions = dims[1];
+        this.blockRows = (int) Math.min(blockRows, rows);
+        long bytes = (long) this.blockRows * dimensions * elements.bytes;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new RuntimeException("A block of " + blockRows + " rows of " + dimensions + " elements is larger than " +
+                "can be mapped at once. Use fewer rows for each block.");
+        }
+        this.blockBytes = (int) bytes;
+        long budgetBytes = Unit.bytesFor(budget)
+            .orElseThrow(() -> new RuntimeException("Unable to parse memory budget '" + budget + "'")).longValue();
+        if (budgetBytes < blockBytes) {
+            throw new RuntimeException("The memory budget of " + budget + " is smaller than one block of " + blockBytes + " bytes");
+        }
+        int blocks = (int) ((rows + this.blockRows - 1) / this.blockRows);
+        this.maxMappedBlocks = (int) Math.min(blocks, budgetBytes / blockBytes);
+        this.mapped = new AtomicReferenceArray<>(blocks);
+        this.decoded = new boolean[blocks];
+
+        try {
+            this.cachePath = Files.createTempFile("nb-hdf5-vectors-", ".bin");
+            this.cachePath.toFile().deleteOnExit();
+            this.channel = FileChannel.open(cachePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        logger.info(() -> "caching " + rows + "x" + dimensions + " vectors of dataset '" + dataset.getPath() + "' in " +
+            blocks + " blocks of " + this.blockRows + " rows, with up to " + maxMappedBlocks + " blocks mapped at once, in " + cachePath);
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @param value The input value, which selects a row modulo the number of rows
+     * @return the vector of the selected row as floats
+     */
+    public float[] getFloats(long value) {
+        long row = value % rows;
+        Buffer block = block((int) (row / blockRows));
+        int index = (int) (row % blockRows) * dimensions;
+        float[] vector = new float[dimensions];
+        switch (elements) {
+            case FLOAT -> ((FloatBuffer) block).get(index, vector);
+            case DOUBLE -> {
+                DoubleBuffer doubles = (DoubleBuffer) block;
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = (float) doubles.get(index + i);
+                }
+            }
+            case INT -> {
+                IntBuffer ints = (IntBuffer) block;
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = ints.get(index + i);
+                }
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * @param value The input value, which selects a row modulo the number of rows
+     * @return the vector of the selected row as ints
+     */
+    public int[] getInts(long value) {
+        long row = value % rows;
+        Buffer block = block((int) (row / blockRows));
+        int index = (int) (row % blockRows) * dimensions;
+        int[] vector = new int[dimensions];
+        switch (elements) {
+            case FLOAT -> {
+                FloatBuffer floats = (FloatBuffer) block;
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = (int) floats.get(index + i);
+                }
+            }
+            case DOUBLE -> {
+                DoubleBuffer doubles = (DoubleBuffer) block;
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = (int) doubles.get(index + i);
+                }
+            }
+            case INT -> ((IntBuffer) block).get(index, vector);
+        }
+        return vector;
+    }
+
+    private Buffer block(int blockIdx) {
+        Buffer block = mapped.get(blockIdx);
+        return (block != null) ? block : map(blockIdx);
+    }
+
+    private synchronized Buffer map(int blockIdx) {
+        Buffer block = mapped.get(blockIdx);
+        if (block != null) {
+            return block;
+        }
+        if (mappedOrder.size() >= maxMappedBlocks) {
+            mapped.set(mappedOrder.removeFirst(), null);
+        }
+        MappedByteBuffer bytes;
+        try {
+            bytes = channel.map(FileChannel.MapMode.READ_WRITE, (long) blockIdx * blockBytes, blockBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        bytes.order(ByteOrder.nativeOrder());
+        block = switch (elements) {
+            case FLOAT -> bytes.asFloatBuffer();
+            case DOUBLE -> bytes.asDoubleBuffer();
+            case INT -> bytes.asIntBuffer();
+        };
+        if (!decoded[blockIdx]) {
+            decode(blockIdx, block);
+            decoded[blockIdx] = true;
+        }
+        mappedOrder.addLast(blockIdx);
+        mapped.set(blockIdx, block);
+        return block;
+    }
+
+    private void decode(int blockIdx, Buffer block) {
+        long firstRow = (long) blockIdx * blockRows;
+        int count = (int) Math.min(blockRows, rows - firstRow);
+        Object data = dataset.getData(new long[]{firstRow, 0L}, new int[]{count, dimensions});
+        if (data instanceof float[][] values) {
+            FloatBuffer buffer = (FloatBuffer) block;
+            for (int i = 0; i < count; i++) {
+                buffer.put(i * dimensions, values[i]);
+            }
+        } else if (data instanceof double[][] values) {
+            DoubleBuffer buffer = (DoubleBuffer) block;
+            for (int i = 0; i < count; i++) {
+                buffer.put(i * dimensions, values[i]);
+            }
+        } else if (data instanceof int[][] values) {
+            IntBuffer buffer = (IntBuffer) block;
+            for (int i = 0; i < count; i++) {
+                buffer.put(i * dimensions, values[i]);
+            }
+        } else if (data instanceof short[][] values) {
+            IntBuffer buffer = (IntBuffer) block;
+            for (int i = 0; i < count; i++) {
+                for (int j = 0; j < dimensions; j++) {
+                    buffer.put(i * dimensions + j, values[i][j]);
+                }
+            }
+        } else {
+            throw new RuntimeException("Unexpected data of type " + data.getClass().getSimpleName() +
+                " read from dataset '" + dataset.getPath() + "'");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VectorCache{" + dataset.getPath() + ", " + rows + "x" + dimensions + ", blockRows=" + blockRows +
+            ", maxMappedBlocks=" + maxMappedBlocks + ", path=" + cachePath + "}";
+    }
+}
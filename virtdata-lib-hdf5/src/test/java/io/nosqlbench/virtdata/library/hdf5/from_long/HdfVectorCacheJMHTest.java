@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.hdf5.from_long;
+
+import io.nosqlbench.virtdata.library.hdf5.from_long.to_array.HdfFileToFloatArray;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the vectors per second which are read by {@link HdfFileToFloatArray} from the dataset for each cycle,
+ * and through the off-heap vector cache. The file and dataset are given with the hdf5.file and hdf5.dataset
+ * system properties, like a local 1M x 768 dataset, and default to the small test dataset.
+ * The cycles visit the rows of the dataset in a scattered order, as hashed bindings would.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class HdfVectorCacheJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(HdfVectorCacheJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"4096"})
+    public int blockRows;
+
+    @Param({"4GB"})
+    public String budget;
+
+    private HdfFileToFloatArray vectors;
+    private long cycle;
+
+    @Setup
+    public void setup() {
+        String filename = System.getProperty("hdf5.file", "src/test/resources/h5ex_t_float.h5");
+        String datasetName = System.getProperty("hdf5.dataset", "/DS1");
+        vectors = cached
+            ? new HdfFileToFloatArray(filename, datasetName, blockRows, budget)
+            : new HdfFileToFloatArray(filename, datasetName);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void readVector(Blackhole bh) {
+        bh.consume(vectors.apply((cycle++ * 0x9E3779B97F4A7C15L) >>> 1));
+    }
+}
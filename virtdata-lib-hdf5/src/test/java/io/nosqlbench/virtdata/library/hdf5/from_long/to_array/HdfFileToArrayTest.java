@@ -18,6 +18,8 @@ package io.nosqlbench.virtdata.library.hdf5.from_long.to_array;
 
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class HdfFileToArrayTest {
 
     @Test
@@ -41,4 +43,18 @@ public class HdfFileToArrayTest {
             }
         }
     }
+
+    @Test
+    public void testCachedHdfFileToVector() {
+        HdfFileToFloatArray reader = new HdfFileToFloatArray("src/test/resources/h5ex_t_float.h5", "/DS1");
+        // one row per block, with only two blocks mapped at once
+        HdfFileToFloatArray cached = new HdfFileToFloatArray("src/test/resources/h5ex_t_float.h5", "/DS1", 1, "112");
+        HdfFileToIntArray cachedInts = new HdfFileToIntArray("src/test/resources/h5ex_t_float.h5", "/DS1", 3, "1MB");
+        HdfFileToIntArray readerInts = new HdfFileToIntArray("src/test/resources/h5ex_t_float.h5", "/DS1");
+
+        for (long i = 0; i < 12; i++) {
+            assertThat(cached.apply(i)).containsExactly(reader.apply(i));
+            assertThat(cachedInts.apply(i)).containsExactly(readerInts.apply(i));
+        }
+    }
 }
@@ -20,6 +20,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class HdfFileToVectorTest {
 
     @Test
@@ -43,4 +45,15 @@ public class HdfFileToVectorTest {
             }
         }
     }
+
+    @Test
+    public void testCachedHdfFileToVector() {
+        HdfFileToFloatList reader = new HdfFileToFloatList("src/test/resources/h5ex_t_float.h5", "/DS1");
+        HdfFileToFloatList cached = new HdfFileToFloatList("src/test/resources/h5ex_t_float.h5", "/DS1", 2, "112");
+
+        for (long i = 0; i < 12; i++) {
+            assertThat(cached.apply(i)).isEqualTo(reader.apply(i));
+            assertThat(cached.apply(i).toString()).isEqualTo(reader.apply(i).toString());
+        }
+    }
 }
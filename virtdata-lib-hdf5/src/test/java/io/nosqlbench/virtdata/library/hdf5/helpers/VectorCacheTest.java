@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.library.hdf5.helpers;
+
+import io.jhdf.HdfFile;
+import io.jhdf.api.Dataset;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VectorCacheTest {
+
+    private final Path file = Path.of("src/test/resources/h5ex_t_float.h5");
+
+    @Test
+    public void testCacheIsSharedUntilReleased() {
+        Dataset dataset = new HdfFile(file).getDatasetByPath("/DS1");
+        VectorCache first = VectorCache.acquire(file, dataset, 1, "1MB");
+        VectorCache second = VectorCache.acquire(file.toAbsolutePath(), new HdfFile(file).getDatasetByPath("/DS1"), 2, "1MB");
+        assertThat(second).isSameAs(first);
+
+        first.release();
+        VectorCache third = VectorCache.acquire(file, dataset, 1, "1MB");
+        assertThat(third).isSameAs(first);
+        third.release();
+        second.release();
+
+        VectorCache fresh = VectorCache.acquire(file, dataset, 1, "1MB");
+        assertThat(fresh).isNotSameAs(first);
+        assertThat(fresh.getFloats(1L)).containsExactly(readFloats(dataset, 1));
+        fresh.release();
+    }
+
+    @Test
+    public void testDoubleValuesAreConvertedDirectly() {
+        Dataset dataset = new HdfFile(file).getDatasetByPath("/DS1");
+        assertThat(dataset.getJavaType()).isEqualTo(double.class);
+        VectorCache cache = VectorCache.acquire(file, dataset, 2, "1MB");
+        try {
+            for (long row = 0; row < cache.getRows(); row++) {
+                double[] expected = ((double[][]) dataset.getData(new long[]{row, 0L}, new int[]{1, cache.getDimensions()}))[0];
+                int[] ints = cache.getInts(row);
+                float[] floats = cache.getFloats(row);
+                for (int i = 0; i < expected.length; i++) {
+                    assertThat(ints[i]).isEqualTo((int) expected[i]);
+                    assertThat(floats[i]).isEqualTo((float) expected[i]);
+                }
+            }
+        } finally {
+            cache.release();
+        }
+    }
+
+    private float[] readFloats(Dataset dataset, long row) {
+        double[] values = ((double[][]) dataset.getData(new long[]{row, 0L}, new int[]{1, dataset.getDimensions()[1]}))[0];
+        float[] floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nosqlbench.virtdata.core;
+
+import io.nosqlbench.virtdata.core.bindings.DataMapper;
+import io.nosqlbench.virtdata.core.bindings.VirtData;
+import io.nosqlbench.virtdata.core.composers.FunctionFuser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare binding chains which are composed from lambdas to chains which are fused by {@link FunctionFuser},
+ * over binding recipes from the bundled workloads. All of the bindings are called for each cycle, as they
+ * would be for an op template with many bindings, so that the composed lambdas see many function types.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class FusedBindingsJMHTest {
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(FusedBindingsJMHTest.class.getSimpleName())
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private final static String[] recipes = {
+        "Hash(); Mod(1000000000); ToString() -> String",
+        "Mod(10000000); ToString() -> String",
+        "Hash(); Uniform(0,1000000000)->int; ToString() -> String",
+        "Uniform(0,10000000); ToString() -> String",
+        "Div(10000); Mod(100); ToHashedUUID() -> java.util.UUID",
+        "Mod(10000); ToHashedUUID() -> java.util.UUID",
+        "Hash(); Uniform(0,100)->int; ToString() -> String",
+        "Div(1000000); ToString() -> String",
+        "Hash() -> long; Uniform(-180d, 180d)",
+        "Add(-1); ToHashedUUID(); ToString() -> String",
+        "Hash(); Add(1); Uniform(0,1000000)->int; ToString() -> String",
+        "Mod(5); ToString(); Prefix(\"key-\")",
+        "Mod(100); Div(10); ToString(); Prefix(\"tnt\")",
+        "Mul(100L); Div(10000L); Mul(1000L)",
+        "Normal(0.0,5.0); Add(100.0) -> double",
+        "ToHashedUUID(); ToString();",
+        "Div(2L); Hash(); HashRangeScaled(1.0d); Hash(); ToString();"
+    };
+
+    @Param({"true", "false"})
+    public String fused;
+
+    private DataMapper<?>[] mappers;
+    private long cycle;
+
+    @Setup
+    public void setup() {
+        System.setProperty(FunctionFuser.FUSED_PROPERTY, fused);
+        mappers = new DataMapper<?>[recipes.length];
+        for (int i = 0; i < recipes.length; i++) {
+            mappers[i] = VirtData.getOptionalMapper(recipes[i])
+                .orElseThrow(() -> new RuntimeException("unable to resolve a binding for a recipe"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void allBindings(Blackhole bh) {
+        long value = cycle++;
+        for (DataMapper<?> mapper : mappers) {
+            bh.consume(mapper.get(value));
+        }
+    }
+}
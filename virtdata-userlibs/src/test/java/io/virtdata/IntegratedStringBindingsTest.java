@@ -22,6 +22,9 @@ import io.nosqlbench.virtdata.core.templates.StringBindings;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class IntegratedStringBindingsTest {
@@ -73,4 +76,21 @@ public class IntegratedStringBindingsTest {
         assertThat(s).isEqualTo("A2C");
     }
 
+    @Test
+    public void testEncodeMatchesBind() {
+        StringBindings repeated = new StringBindings("A{ident}B{ident}C{mod5}\u00e9\u20ac", template);
+        StringBindings distinct = new StringBindings("{ident}-{mod5}", template);
+        for (long cycle = 0; cycle < 1000; cycle++) {
+            assertThat(decode(repeated.encode(cycle))).isEqualTo(repeated.bind(cycle));
+            assertThat(decode(distinct.encode(cycle))).isEqualTo(distinct.bind(cycle));
+        }
+        assertThat(decode(repeated.encode(7L))).isEqualTo("A7B7C2\u00e9\u20ac");
+    }
+
+    private static String decode(ByteBuffer encoded) {
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
 }